@@ -37,4 +37,8 @@ abstract public class AbstractBenchmark {
 	protected static void run(Class<? extends AbstractBenchmark> benchmarkClass) throws RunnerException, IOException, InterruptedException {
 		new JmhRunner(benchmarkClass).run();
 	}
+
+	protected static void runWithGcProfiler(Class<? extends AbstractBenchmark> benchmarkClass) throws RunnerException, IOException, InterruptedException {
+		new JmhRunner(benchmarkClass, true).run();
+	}
 }
@@ -0,0 +1,140 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2023 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.jmh;
+
+import java.io.IOException;
+
+import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.arithmetic.BulkArithmetic;
+import org.decimal4j.jmh.state.BulkArithmeticBenchmarkState;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.runner.RunnerException;
+
+/**
+ * Micro benchmarks for bulk operations on unscaled arrays of different sizes
+ * comparing {@link BulkArithmetic} with element by element loops. Vector API
+ * kernels are only used on Java 17 and later if the JVM is started with
+ * {@code --add-modules jdk.incubator.vector}.
+ */
+public class BulkArithmeticBenchmark extends AbstractBenchmark {
+
+	@Benchmark
+	public final long[] addLoop(BulkArithmeticBenchmarkState state) {
+		final DecimalArithmetic arith = state.arithmetic;
+		final long[] a = state.a, b = state.b, result = state.result;
+		for (int i = 0; i < result.length; i++) {
+			result[i] = arith.add(a[i], b[i]);
+		}
+		return result;
+	}
+
+	@Benchmark
+	public final long[] addBulk(BulkArithmeticBenchmarkState state) {
+		BulkArithmetic.add(state.arithmetic, state.a, state.b, state.result);
+		return state.result;
+	}
+
+	@Benchmark
+	public final long[] addCheckedLoop(BulkArithmeticBenchmarkState state) {
+		final DecimalArithmetic arith = state.checkedArithmetic;
+		final long[] a = state.a, b = state.b, result = state.result;
+		for (int i = 0; i < result.length; i++) {
+			result[i] = arith.add(a[i], b[i]);
+		}
+		return result;
+	}
+
+	@Benchmark
+	public final long[] addCheckedBulk(BulkArithmeticBenchmarkState state) {
+		BulkArithmetic.add(state.checkedArithmetic, state.a, state.b, state.result);
+		return state.result;
+	}
+
+	@Benchmark
+	public final long[] subtractCheckedLoop(BulkArithmeticBenchmarkState state) {
+		final DecimalArithmetic arith = state.checkedArithmetic;
+		final long[] a = state.a, b = state.b, result = state.result;
+		for (int i = 0; i < result.length; i++) {
+			result[i] = arith.subtract(a[i], b[i]);
+		}
+		return result;
+	}
+
+	@Benchmark
+	public final long[] subtractCheckedBulk(BulkArithmeticBenchmarkState state) {
+		BulkArithmetic.subtract(state.checkedArithmetic, state.a, state.b, state.result);
+		return state.result;
+	}
+
+	@Benchmark
+	public final long[] multiplyByPowerOf10CheckedLoop(BulkArithmeticBenchmarkState state) {
+		final DecimalArithmetic arith = state.checkedArithmetic;
+		final long[] a = state.a, result = state.result;
+		for (int i = 0; i < result.length; i++) {
+			result[i] = arith.multiplyByPowerOf10(a[i], 2);
+		}
+		return result;
+	}
+
+	@Benchmark
+	public final long[] multiplyByPowerOf10CheckedBulk(BulkArithmeticBenchmarkState state) {
+		BulkArithmetic.multiplyByPowerOf10(state.checkedArithmetic, state.a, 2, state.result);
+		return state.result;
+	}
+
+	@Benchmark
+	public final long[] maxLoop(BulkArithmeticBenchmarkState state) {
+		final long[] a = state.a, b = state.b, result = state.result;
+		for (int i = 0; i < result.length; i++) {
+			result[i] = Math.max(a[i], b[i]);
+		}
+		return result;
+	}
+
+	@Benchmark
+	public final long[] maxBulk(BulkArithmeticBenchmarkState state) {
+		BulkArithmetic.max(state.a, state.b, state.result);
+		return state.result;
+	}
+
+	@Benchmark
+	public final int[] compareLoop(BulkArithmeticBenchmarkState state) {
+		final long[] a = state.a, b = state.b;
+		final int[] result = state.comparison;
+		for (int i = 0; i < result.length; i++) {
+			result[i] = Long.compare(a[i], b[i]);
+		}
+		return result;
+	}
+
+	@Benchmark
+	public final int[] compareBulk(BulkArithmeticBenchmarkState state) {
+		BulkArithmetic.compare(state.a, state.b, state.comparison);
+		return state.comparison;
+	}
+
+	public static void main(String[] args) throws RunnerException, IOException, InterruptedException {
+		run(BulkArithmeticBenchmark.class);
+	}
+}
@@ -0,0 +1,69 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2023 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.jmh;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.immutable.Decimal2f;
+import org.decimal4j.immutable.Decimal4f;
+import org.decimal4j.immutable.Decimal8f;
+import org.decimal4j.mutable.MutableDecimal2f;
+import org.decimal4j.scale.ScaleMetrics;
+import org.decimal4j.scale.Scales;
+
+/**
+ * Training workload for class data sharing. Runs typical operations once so
+ * that the classes loaded for them are recorded in the CDS archive created by
+ * the {@code cdsArchive} gradle task.
+ */
+public class CdsTraining {
+
+	public static void main(String[] args) {
+		for (final StartupBenchmark.Scenario scenario : StartupBenchmark.Scenario.values()) {
+			print(scenario.run());
+		}
+		final Decimal2f price = Decimal2f.valueOf("19.99");
+		final Decimal4f rate = Decimal4f.valueOf(0.0725);
+		final Decimal8f fx = Decimal8f.valueOf(new BigDecimal("1.08375"));
+		print(price.multiplyBy(rate, RoundingMode.HALF_EVEN));
+		print(price.divide(3, RoundingMode.HALF_EVEN).toBigDecimal());
+		print(fx.multiply(fx).doubleValue());
+		print(fx.compareTo(Decimal8f.ONE));
+		final MutableDecimal2f total = MutableDecimal2f.zero();
+		for (int i = 1; i <= 10; i++) {
+			total.add(price).multiply(i);
+		}
+		print(total.toString());
+		for (final ScaleMetrics scaleMetrics : Scales.VALUES) {
+			final DecimalArithmetic arith = scaleMetrics.getDefaultCheckedArithmetic();
+			print(arith.toString(arith.divide(arith.one(), arith.fromLong(7))));
+		}
+	}
+
+	private static void print(Object result) {
+		System.out.println(result);
+	}
+}
@@ -0,0 +1,105 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2023 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.jmh;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+
+import org.decimal4j.jmh.state.ConvertToBigDecimalBenchmarkState;
+import org.decimal4j.jmh.state.Values;
+import org.decimal4j.scale.ScaleMetrics;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.RunnerException;
+
+/**
+ * Micro benchmarks for to-BigDecimal conversion and repeated conversions of
+ * immutable decimals with and without BigDecimal cache. Run with the gc
+ * profiler to report the allocation savings of the cache.
+ */
+public class ConvertToBigDecimalBenchmark extends AbstractBenchmark {
+
+	@Benchmark
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	public final void immutableDecimals(ConvertToBigDecimalBenchmarkState state, Blackhole blackhole) {
+		for (int i = 0; i < OPERATIONS_PER_INVOCATION; i++) {
+			blackhole.consume(immutableDecimals(state, state.values[i]));
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	@Fork(jvmArgsAppend = "-Ddecimal4j.bigDecimalCache=true")
+	public final void immutableDecimalsCached(ConvertToBigDecimalBenchmarkState state, Blackhole blackhole) {
+		for (int i = 0; i < OPERATIONS_PER_INVOCATION; i++) {
+			blackhole.consume(immutableDecimals(state, state.values[i]));
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	public final void immutableDecimalsToString(ConvertToBigDecimalBenchmarkState state, Blackhole blackhole) {
+		for (int i = 0; i < OPERATIONS_PER_INVOCATION; i++) {
+			blackhole.consume(immutableDecimalsToString(state, state.values[i]));
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	public final void mutableDecimals(ConvertToBigDecimalBenchmarkState state, Blackhole blackhole) {
+		for (int i = 0; i < OPERATIONS_PER_INVOCATION; i++) {
+			blackhole.consume(mutableDecimals(state, state.values[i]));
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	public final void nativeDecimals(ConvertToBigDecimalBenchmarkState state, Blackhole blackhole) {
+		for (int i = 0; i < OPERATIONS_PER_INVOCATION; i++) {
+			blackhole.consume(nativeDecimals(state, state.values[i]));
+		}
+	}
+
+	private static final <S extends ScaleMetrics> BigDecimal immutableDecimals(ConvertToBigDecimalBenchmarkState state, Values<S> values) {
+		return values.immutable1.toBigDecimal();
+	}
+
+	private static final <S extends ScaleMetrics> String immutableDecimalsToString(ConvertToBigDecimalBenchmarkState state, Values<S> values) {
+		return values.immutable1.toString();
+	}
+
+	private static final <S extends ScaleMetrics> BigDecimal mutableDecimals(ConvertToBigDecimalBenchmarkState state, Values<S> values) {
+		return values.mutable.set(values.immutable1).toBigDecimal();
+	}
+
+	private static final <S extends ScaleMetrics> BigDecimal nativeDecimals(ConvertToBigDecimalBenchmarkState state, Values<S> values) {
+		return state.arithmetic.toBigDecimal(values.unscaled1);
+	}
+
+	public static void main(String[] args) throws RunnerException, IOException, InterruptedException {
+		runWithGcProfiler(ConvertToBigDecimalBenchmark.class);
+	}
+}
@@ -34,29 +34,38 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.profile.GCProfiler;
 import org.openjdk.jmh.results.RunResult;
 import org.openjdk.jmh.results.format.ResultFormat;
 import org.openjdk.jmh.results.format.ResultFormatFactory;
 import org.openjdk.jmh.results.format.ResultFormatType;
 import org.openjdk.jmh.runner.Runner;
 import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
 import org.openjdk.jmh.runner.options.Options;
 import org.openjdk.jmh.runner.options.OptionsBuilder;
 import org.openjdk.jmh.runner.options.TimeValue;
 
 public class JmhRunner {
 	
+	private static final String GC_PROFILER = "gc";
+
 	private final Class<?> benchmarkClass;
+	private final boolean gcProfiler;
 
 	public JmhRunner(Class<?> benchmarkClass) {
+		this(benchmarkClass, false);
+	}
+	public JmhRunner(Class<?> benchmarkClass, boolean gcProfiler) {
 		if (benchmarkClass == null) {
 			throw new NullPointerException("benchmarkClass cannot be null");
 		}
 		this.benchmarkClass = benchmarkClass;
+		this.gcProfiler = gcProfiler;
 	}
 	public void run() throws RunnerException, IOException, InterruptedException {
 		final File jmhJar = findJmhJar();
-		final Process process = Runtime.getRuntime().exec("java -cp " + jmhJar.getAbsolutePath() + " " + JmhRunner.class.getName() + " " + benchmarkClass.getName());
+		final Process process = Runtime.getRuntime().exec("java -cp " + jmhJar.getAbsolutePath() + " " + JmhRunner.class.getName() + " " + benchmarkClass.getName() + (gcProfiler ? " " + GC_PROFILER : ""));
 		final Reader r1 = new Reader(process.getInputStream());
 		final Reader r2 = new Reader(process.getErrorStream());
 		r1.start();
@@ -127,7 +136,7 @@ public class JmhRunner {
 		} else {
 			include = args[0];
 		}
-		final Options opt = new OptionsBuilder()//
+		final ChainedOptionsBuilder builder = new OptionsBuilder()//
 			.include(include)//
 			.mode(Mode.Throughput)//
 			.measurementIterations(3)//
@@ -136,8 +145,12 @@ public class JmhRunner {
 			.forks(1)//
 			.timeUnit(TimeUnit.MICROSECONDS)//
 			.warmupIterations(3)//
-			.warmupTime(TimeValue.milliseconds(1000))//
-			.build();
+			.warmupTime(TimeValue.milliseconds(1000));
+		if (args.length > 1 && GC_PROFILER.equals(args[1])) {
+			//reports allocation rates, e.g. gc.alloc.rate.norm in bytes per operation
+			builder.addProfiler(GCProfiler.class);
+		}
+		final Options opt = builder.build();
 		final Collection<RunResult> runResult = new Runner(opt).run();
 		System.out.flush();
 		final ResultFormat resultFormat = ResultFormatFactory.getInstance(ResultFormatType.CSV, System.out);
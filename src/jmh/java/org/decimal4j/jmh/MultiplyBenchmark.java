@@ -27,7 +27,9 @@ import java.io.IOException;
 import java.math.BigDecimal;
 
 import org.decimal4j.api.Decimal;
+import org.decimal4j.api.DecimalArithmetic;
 import org.decimal4j.jmh.state.MultiplyBenchmarkState;
+import org.decimal4j.jmh.state.RandomSignBenchmarkState;
 import org.decimal4j.jmh.state.Values;
 import org.decimal4j.scale.ScaleMetrics;
 import org.openjdk.jmh.annotations.Benchmark;
@@ -72,6 +74,18 @@ public class MultiplyBenchmark extends AbstractBenchmark {
 		}
 	}
 
+	@Benchmark
+	@OperationsPerInvocation(RandomSignBenchmarkState.SIZE)
+	public final long nativeDecimalsRandomSign(RandomSignBenchmarkState state) {
+		final DecimalArithmetic arith = state.arithmetic;
+		final long[] unscaled1 = state.unscaled1, unscaled2 = state.unscaled2;
+		long sum = 0;
+		for (int i = 0; i < RandomSignBenchmarkState.SIZE; i++) {
+			sum += arith.multiply(unscaled1[i], unscaled2[i]);
+		}
+		return sum;
+	}
+
 	private static final <S extends ScaleMetrics> BigDecimal bigDecimals(MultiplyBenchmarkState state, Values<S> values) {
 		return values.bigDecimal1.multiply(values.bigDecimal2, state.mcLong64);
 	}
@@ -0,0 +1,148 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2023 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.jmh;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.management.ManagementFactory;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.factory.Factories;
+import org.decimal4j.immutable.Decimal2f;
+import org.decimal4j.scale.Scale8f;
+import org.decimal4j.scale.Scales;
+import org.decimal4j.truncate.TruncationPolicy;
+
+/**
+ * Startup benchmark measuring the number of loaded classes and the time to the
+ * first operation in a fresh JVM. Startup cannot be measured with jmh's
+ * warmed-up iterations hence every sample is taken in a new JVM started with
+ * the class path of this process.
+ * <p>
+ * Usage: {@code StartupBenchmark [forks]} with 10 forks per scenario by
+ * default.
+ */
+public class StartupBenchmark {
+
+	private static final int DEFAULT_FORKS = 10;
+
+	/**
+	 * The first operation executed in a fresh JVM.
+	 */
+	public static enum Scenario {
+		/** Parse and multiply two {@code Decimal2f} values.*/
+		DecimalValueOf {
+			@Override
+			Object run() {
+				return Decimal2f.valueOf("1.25").multiply(Decimal2f.valueOf(3));
+			}
+		},
+		/** Multiply with the default arithmetic of scale 6 obtained through {@link Scales}.*/
+		ScalesArithmetic {
+			@Override
+			Object run() {
+				final DecimalArithmetic arith = Scales.getScaleMetrics(6).getDefaultArithmetic();
+				return arith.toString(arith.multiply(arith.fromLong(3), arith.parse("1.25")));
+			}
+		},
+		/** Divide with a checked arithmetic obtained through {@link TruncationPolicy}.*/
+		CheckedArithmetic {
+			@Override
+			Object run() {
+				final DecimalArithmetic arith = Scales.getScaleMetrics(4).getCheckedArithmetic(RoundingMode.HALF_EVEN);
+				return arith.toString(arith.divide(arith.fromLong(1), arith.fromLong(3)));
+			}
+		},
+		/** Create a value through {@link Factories}.*/
+		FactoryValueOf {
+			@Override
+			Object run() {
+				return Factories.getDecimalFactory(Scale8f.INSTANCE).valueOf(1.25)
+						.add(Factories.getGenericDecimalFactory(Scale8f.INSTANCE).valueOf(3));
+			}
+		};
+
+		abstract Object run();
+	}
+
+	public static void main(String[] args) throws IOException, InterruptedException {
+		if (args.length == 2 && "probe".equals(args[0])) {
+			probe(Scenario.valueOf(args[1]));
+			return;
+		}
+		final int forks = args.length == 0 ? DEFAULT_FORKS : Integer.parseInt(args[0]);
+		System.out.println(String.format("%-20s %8s %12s %12s", "Scenario", "Classes", "Min (us)", "Avg (us)"));
+		for (final Scenario scenario : Scenario.values()) {
+			long classes = 0;
+			long minNanos = Long.MAX_VALUE;
+			long sumNanos = 0;
+			for (int i = 0; i < forks; i++) {
+				final long[] sample = fork(scenario);
+				classes = sample[0];
+				minNanos = Math.min(minNanos, sample[1]);
+				sumNanos += sample[1];
+			}
+			System.out.println(String.format("%-20s %8d %12.1f %12.1f", scenario, classes, minNanos / 1000.0,
+					sumNanos / 1000.0 / forks));
+		}
+	}
+
+	private static void probe(Scenario scenario) {
+		final long classes = ManagementFactory.getClassLoadingMXBean().getTotalLoadedClassCount();
+		final long start = System.nanoTime();
+		final Object result = scenario.run();
+		final long nanos = System.nanoTime() - start;
+		final long loaded = ManagementFactory.getClassLoadingMXBean().getTotalLoadedClassCount() - classes;
+		if (result == null) {
+			throw new IllegalStateException("no result for " + scenario);
+		}
+		System.out.println(loaded + " " + nanos);
+	}
+
+	private static long[] fork(Scenario scenario) throws IOException, InterruptedException {
+		final String java = System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+		final List<String> command = new ArrayList<String>();
+		command.add(java);
+		command.add("-cp");
+		command.add(System.getProperty("java.class.path"));
+		command.add(StartupBenchmark.class.getName());
+		command.add("probe");
+		command.add(scenario.name());
+		final Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+		final String line;
+		try (final BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream()))) {
+			line = reader.readLine();
+		}
+		if (0 != process.waitFor() || line == null) {
+			throw new IllegalStateException("probe failed for " + scenario + ": " + line);
+		}
+		final String[] parts = line.trim().split(" ");
+		return new long[] { Long.parseLong(parts[0]), Long.parseLong(parts[1]) };
+	}
+}
@@ -38,7 +38,7 @@ public class DivideBenchmarkState extends AbstractValueBenchmarkState {
 	public ValueType valueType1;
 	@Param({"Int", "Long"})
 	public ValueType valueType2;
-	@Param({"DOWN", "HALF_UP"})
+	@Param({"DOWN", "HALF_UP", "HALF_EVEN"})
 	public RoundingMode roundingMode;
 	@Setup
 	public void init() {
@@ -0,0 +1,65 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2023 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.jmh.state;
+
+import java.math.RoundingMode;
+import java.util.Random;
+
+import org.decimal4j.jmh.value.SignType;
+import org.decimal4j.jmh.value.ValueType;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * State with a large number of unscaled operands of random sign, too many for the branch predictor to learn the
+ * rounding decisions as it does with the {@link AbstractValueBenchmarkState#values} of the other benchmarks.
+ */
+@State(Scope.Benchmark)
+public class RandomSignBenchmarkState extends AbstractBenchmarkState {
+	public static final int SIZE = 1 << 16;
+
+	@Param({"Int", "Long"})
+	public ValueType valueType1;
+	@Param({"Int", "Long"})
+	public ValueType valueType2;
+	@Param({"DOWN", "HALF_UP", "HALF_EVEN"})
+	public RoundingMode roundingMode;
+
+	public final long[] unscaled1 = new long[SIZE];
+	public final long[] unscaled2 = new long[SIZE];
+
+	@Setup
+	public void init() {
+		super.init(roundingMode);
+		final Random rnd = new Random();
+		for (int i = 0; i < SIZE; i++) {
+			unscaled1[i] = valueType1.random(SignType.ALL);
+			//non-zero so that the operands can also be used as divisors, NON_ZERO values are positive
+			final long divisor = valueType2.random(SignType.NON_ZERO);
+			unscaled2[i] = rnd.nextBoolean() ? divisor : -divisor;
+		}
+	}
+}
@@ -210,6 +210,12 @@ public enum BenchmarkType {
 			throw new RuntimeException("internal error: conversion to string has no second decimal argument");
 		}
 	},
+	ConvertToBigDecimal {
+		@Override
+		public long randomSecond(AbstractValueBenchmarkState benchmarkState, ValueType valueType, long first) {
+			throw new RuntimeException("internal error: conversion to big decimal has no second decimal argument");
+		}
+	},
 	ConvertToDouble {
 		@Override
 		public long randomSecond(AbstractValueBenchmarkState benchmarkState, ValueType valueType, long first) {
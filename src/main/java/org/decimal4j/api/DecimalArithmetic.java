@@ -658,6 +658,38 @@ public interface DecimalArithmetic {
 	 */
 	long round(long uDecimal, int precision);
 
+	/**
+	 * Returns an unscaled decimal whose value is rounded to an integral multiple of the specified increment using the
+	 * {@link #getRoundingMode() rounding mode} of this arithmetic. The increment is an unscaled value with the scale of
+	 * this arithmetic, for instance 5 for a tick size of 0.05 if the scale is 2.
+	 * <p>
+	 * Note that this method does not change the scale of the value. For increments that are a power of ten the result
+	 * is the same as for {@link #round(long, int)} with the corresponding precision.
+	 * <p>
+	 * <i>Examples for scale 2:</i>
+	 * <ul>
+	 * <li><b>increment = 5</b><br>
+	 * value is rounded to a multiple of 0.05</li>
+	 * <li><b>increment = 25</b><br>
+	 * value is rounded to a multiple of 0.25</li>
+	 * <li><b>increment = 100</b><br>
+	 * value is rounded to an integer value</li>
+	 * </ul>
+	 * 
+	 * @param uDecimal
+	 *            the unscaled decimal value to round
+	 * @param unscaledIncrement
+	 *            the unscaled increment to round to, must be positive
+	 * @return an unscaled decimal rounded to an integral multiple of {@code unscaledIncrement}
+	 * @throws IllegalArgumentException
+	 *             if {@code unscaledIncrement <= 0}
+	 * @throws ArithmeticException
+	 *             if {@link #getRoundingMode() rounding mode} is UNNECESSARY and rounding is necessary or if an
+	 *             overflow occurs and the {@link #getOverflowMode() overflow mode} is set to throw an exception
+	 * @see #round(long, int)
+	 */
+	long roundToIncrement(long uDecimal, long unscaledIncrement);
+
 	/**
 	 * Converts the specified long value to an unscaled decimal. An exception is thrown if the specified value is too
 	 * large to be represented as a Decimal of this arithmetic's {@link #getScale() scale}.
@@ -750,13 +782,17 @@ public interface DecimalArithmetic {
 	/**
 	 * Translates the string representation of a {@code Decimal} into an unscaled Decimal. The string representation
 	 * consists of an optional sign, {@code '+'} or {@code '-'} , followed by a sequence of zero or more decimal digits
-	 * ("the integer"), optionally followed by a fraction.
+	 * ("the integer"), optionally followed by a fraction and an exponent.
 	 * <p>
 	 * The fraction consists of a decimal point followed by zero or more decimal digits. The string must contain at
 	 * least one digit in either the integer or the fraction. If the fraction contains more digits than this
 	 * arithmetic's {@link #getScale() scale}, the value is rounded using the arithmetic's {@link #getRoundingMode()
 	 * rounding mode}. An exception is thrown if the value is too large to be represented as a Decimal of this
 	 * arithmetic's scale.
+	 * <p>
+	 * The exponent consists of the character {@code 'e'} or {@code 'E'} followed by an optionally signed integer. The
+	 * value is multiplied by ten raised to the power of the exponent before rounding is applied, for instance "1.25E+3"
+	 * and "1250" represent the same value, and so do "5e-4" and "0.0005".
 	 * 
 	 * @param value
 	 *            a {@code String} containing the decimal value representation to be parsed
@@ -772,13 +808,17 @@ public interface DecimalArithmetic {
 	/**
 	 * Translates the string representation of a {@code Decimal} into an unscaled Decimal. The string representation
 	 * consists of an optional sign, {@code '+'} or {@code '-'} , followed by a sequence of zero or more decimal digits
-	 * ("the integer"), optionally followed by a fraction.
+	 * ("the integer"), optionally followed by a fraction and an exponent.
 	 * <p>
 	 * The fraction consists of a decimal point followed by zero or more decimal digits. The string must contain at
 	 * least one digit in either the integer or the fraction. If the fraction contains more digits than this
 	 * arithmetic's {@link #getScale() scale}, the value is rounded using the arithmetic's {@link #getRoundingMode()
 	 * rounding mode}. An exception is thrown if the value is too large to be represented as a Decimal of this
 	 * arithmetic's scale.
+	 * <p>
+	 * The exponent consists of the character {@code 'e'} or {@code 'E'} followed by an optionally signed integer. The
+	 * value is multiplied by ten raised to the power of the exponent before rounding is applied, for instance "1.25E+3"
+	 * and "1250" represent the same value, and so do "5e-4" and "0.0005".
 	 * 
 	 * @param value
 	 *            a character sequence such as a {@code String} containing the decimal value representation to be parsed
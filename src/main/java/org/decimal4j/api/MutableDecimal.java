@@ -336,7 +336,7 @@ public interface MutableDecimal<S extends ScaleMetrics> extends Decimal<S> {
 	 * <p>
 	 * The string representation of a {@code Decimal} consists of an optional
 	 * sign, {@code '+'} or {@code '-'} , followed by a sequence of zero or more
-	 * decimal digits ("the integer"), optionally followed by a fraction.
+	 * decimal digits ("the integer"), optionally followed by a fraction and an exponent.
 	 * <p>
 	 * The fraction consists of a decimal point followed by zero or more decimal
 	 * digits. The string must contain at least one digit in either the integer
@@ -345,6 +345,12 @@ public interface MutableDecimal<S extends ScaleMetrics> extends Decimal<S> {
 	 * {@link RoundingMode#HALF_UP HALF_UP} rounding. An exception is thrown if
 	 * the value is too large to be represented as a Decimal of this mutable
 	 * Decimals's scale.
+	 * <p>
+	 * The exponent consists of the character {@code 'e'} or {@code 'E'}
+	 * followed by an optionally signed integer. The value is multiplied by ten
+	 * raised to the power of the exponent before rounding is applied, for
+	 * instance "1.25E+3" and "1250" represent the same value, and so do "5e-4"
+	 * and "0.0005".
 	 * 
 	 * @param value
 	 *            the string value to parse and assign
@@ -362,7 +368,7 @@ public interface MutableDecimal<S extends ScaleMetrics> extends Decimal<S> {
 	 * <p>
 	 * The string representation of a {@code Decimal} consists of an optional
 	 * sign, {@code '+'} or {@code '-'} , followed by a sequence of zero or more
-	 * decimal digits ("the integer"), optionally followed by a fraction.
+	 * decimal digits ("the integer"), optionally followed by a fraction and an exponent.
 	 * <p>
 	 * The fraction consists of a decimal point followed by zero or more decimal
 	 * digits. The string must contain at least one digit in either the integer
@@ -371,6 +377,12 @@ public interface MutableDecimal<S extends ScaleMetrics> extends Decimal<S> {
 	 * specified {@code roundingMode}. An exception is thrown if the value is
 	 * too large to be represented as a Decimal of this mutable Decimals's
 	 * scale.
+	 * <p>
+	 * The exponent consists of the character {@code 'e'} or {@code 'E'}
+	 * followed by an optionally signed integer. The value is multiplied by ten
+	 * raised to the power of the exponent before rounding is applied, for
+	 * instance "1.25E+3" and "1250" represent the same value, and so do "5e-4"
+	 * and "0.0005".
 	 * 
 	 * @param value
 	 *            the string value to parse and assign
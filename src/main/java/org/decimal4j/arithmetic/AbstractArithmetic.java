@@ -28,6 +28,7 @@ import java.math.BigInteger;
 import java.math.RoundingMode;
 
 import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.scale.ScaleMetrics;
 import org.decimal4j.scale.Scales;
 import org.decimal4j.truncate.OverflowMode;
 import org.decimal4j.truncate.TruncationPolicy;
@@ -42,7 +43,7 @@ abstract public class AbstractArithmetic implements DecimalArithmetic {
 	@Override
 	public final DecimalArithmetic deriveArithmetic(int scale) {
 		if (scale != getScale()) {
-			return Scales.getScaleMetrics(scale).getArithmetic(getTruncationPolicy());
+			return deriveArithmetic(Scales.getScaleMetrics(scale), getTruncationPolicy());
 		}
 		return this;
 	}
@@ -55,11 +56,24 @@ abstract public class AbstractArithmetic implements DecimalArithmetic {
 	@Override
 	public final DecimalArithmetic deriveArithmetic(RoundingMode roundingMode, OverflowMode overflowMode) {
 		if (roundingMode != getRoundingMode() | overflowMode != getOverflowMode()) {
-			return overflowMode.isChecked() ? getScaleMetrics().getCheckedArithmetic(roundingMode) : getScaleMetrics().getArithmetic(roundingMode);
+			return deriveArithmetic(getScaleMetrics(), overflowMode.getTruncationPolicy(roundingMode));
 		}
 		return this;
 	}
 
+	/**
+	 * Returns the arithmetic for the given scale and truncation policy. Called
+	 * by the {@code deriveArithmetic(..)} methods if scale, rounding mode or
+	 * overflow mode differ from those of this arithmetic.
+	 * 
+	 * @param scaleMetrics
+	 *            the scale metrics of the derived arithmetic
+	 * @param truncationPolicy
+	 *            the truncation policy of the derived arithmetic
+	 * @return the derived arithmetic
+	 */
+	abstract DecimalArithmetic deriveArithmetic(ScaleMetrics scaleMetrics, TruncationPolicy truncationPolicy);
+
 	@Override
 	public final DecimalArithmetic deriveArithmetic(OverflowMode overflowMode) {
 		return deriveArithmetic(getRoundingMode(), overflowMode);
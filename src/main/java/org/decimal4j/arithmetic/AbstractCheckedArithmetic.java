@@ -23,8 +23,11 @@
  */
 package org.decimal4j.arithmetic;
 
+import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.scale.ScaleMetrics;
 import org.decimal4j.truncate.CheckedRounding;
 import org.decimal4j.truncate.OverflowMode;
+import org.decimal4j.truncate.TruncationPolicy;
 
 /**
  * Base class for arithmetic implementations with {@link OverflowMode#CHECKED
@@ -36,6 +39,11 @@ abstract public class AbstractCheckedArithmetic extends AbstractArithmetic {
 	@Override
 	abstract public CheckedRounding getTruncationPolicy();
 
+	@Override
+	final DecimalArithmetic deriveArithmetic(ScaleMetrics scaleMetrics, TruncationPolicy truncationPolicy) {
+		return scaleMetrics.getArithmetic(truncationPolicy);
+	}
+
 	@Override
 	public final OverflowMode getOverflowMode() {
 		return OverflowMode.CHECKED;
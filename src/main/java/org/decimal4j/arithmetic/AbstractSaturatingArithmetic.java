@@ -0,0 +1,719 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2023 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.arithmetic;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.scale.ScaleMetrics;
+import org.decimal4j.scale.Scales;
+import org.decimal4j.truncate.OverflowMode;
+
+/**
+ * Base class for arithmetic implementations with {@link OverflowMode#SATURATING
+ * SATURATING} or {@link OverflowMode#FLAGGING FLAGGING} overflow mode. Results
+ * that overflow are saturated to {@link Long#MAX_VALUE} or
+ * {@link Long#MIN_VALUE} without throwing an exception.
+ * <p>
+ * Operations first estimate the magnitude of the exact result using double
+ * arithmetic. If the estimate is safely within the long range, the result is
+ * calculated by the {@link OverflowMode#CHECKED CHECKED} arithmetic with the
+ * same scale and rounding mode which will not throw an overflow exception. If
+ * the estimate is clearly outside of the long range, the saturated value is
+ * returned without further calculation. Only if the exact result is within a
+ * narrow band around the long range boundary, the checked arithmetic is invoked
+ * and an overflow exception is translated into a saturated result.
+ * <p>
+ * A result is saturated if the exact result truncated towards zero is out of
+ * the long range, or if rounding the exact result according to the rounding
+ * mode leads to a value out of the long range. With rounding mode
+ * {@link RoundingMode#UNNECESSARY UNNECESSARY} an exception is thrown if a
+ * value in the long range would need rounding.
+ */
+abstract public class AbstractSaturatingArithmetic extends AbstractArithmetic {
+
+	/**
+	 * The value 2<sup>63</sup>, the smallest magnitude of a positive value out
+	 * of the long range.
+	 */
+	private static final double TWO_POW_63 = 0x1.0p63;
+
+	/**
+	 * Relative error bound for estimates of the exact result.
+	 */
+	private static final double TOLERANCE = 0x1.0p-40;
+
+	/**
+	 * Estimates with magnitude below this value can safely be calculated
+	 * without overflow.
+	 */
+	private static final double SAFE_BOUND = TWO_POW_63 * (1 - TOLERANCE);
+
+	/**
+	 * Double values 10<sup>n</sup> for n in {@code [-MAX_POW10, MAX_POW10]}.
+	 */
+	private static final int MAX_POW10 = 40;
+	private static final double[] POW10 = initPow10();
+
+	private final ScaleMetrics scaleMetrics;
+	private final RoundingMode roundingMode;
+	private final double scaleFactor;
+	private final DecimalArithmetic checked;
+	private final DecimalArithmetic checkedDown;
+
+	/**
+	 * Constructor with scale metrics and rounding mode for this arithmetic.
+	 * 
+	 * @param scaleMetrics
+	 *            the scale metrics
+	 * @param roundingMode
+	 *            the rounding mode to use for all decimal arithmetic
+	 */
+	AbstractSaturatingArithmetic(ScaleMetrics scaleMetrics, RoundingMode roundingMode) {
+		this.scaleMetrics = scaleMetrics;
+		this.roundingMode = roundingMode;
+		this.scaleFactor = scaleMetrics.getScaleFactor();
+		this.checked = scaleMetrics.getCheckedArithmetic(roundingMode);
+		this.checkedDown = scaleMetrics.getCheckedArithmetic(RoundingMode.DOWN);
+	}
+
+	private static final double[] initPow10() {
+		final double[] pow10 = new double[2 * MAX_POW10 + 1];
+		for (int i = 0; i < pow10.length; i++) {
+			pow10[i] = Double.parseDouble("1e" + (i - MAX_POW10));
+		}
+		return pow10;
+	}
+
+	/**
+	 * Returns the saturated result for an operation whose exact result is out
+	 * of the long range.
+	 * 
+	 * @param signum
+	 *            the sign of the exact result, 1 or -1
+	 * @return {@link Long#MAX_VALUE} if {@code signum} is positive and
+	 *         {@link Long#MIN_VALUE} otherwise
+	 */
+	abstract long overflow(int signum);
+
+	/**
+	 * Invoked with the result of an operation calculated without overflow.
+	 * 
+	 * @param op
+	 *            the operation
+	 * @param a
+	 *            the first operand
+	 * @param b
+	 *            the second operand
+	 * @param n
+	 *            the int operand
+	 * @param result
+	 *            the result of the operation
+	 * @return the result to return for the operation
+	 */
+	abstract long rounded(Operation op, long a, long b, int n, long result);
+
+	/**
+	 * Invoked with the result of a conversion from a {@link BigDecimal} value.
+	 * 
+	 * @param value
+	 *            the converted value
+	 * @param result
+	 *            the result of the conversion
+	 * @return the result to return for the conversion
+	 */
+	abstract long converted(BigDecimal value, long result);
+
+	/**
+	 * Invoked with the result of parsing a character sequence.
+	 * 
+	 * @param value
+	 *            the parsed character sequence
+	 * @param start
+	 *            the start index to read characters in {@code value}, inclusive
+	 * @param end
+	 *            the end index where to stop reading the characters in
+	 *            {@code value}, exclusive
+	 * @param result
+	 *            the parsed value
+	 * @return the result to return for the parse operation
+	 */
+	abstract long parsed(CharSequence value, int start, int end, long result);
+
+	@Override
+	public final ScaleMetrics getScaleMetrics() {
+		return scaleMetrics;
+	}
+
+	@Override
+	public final int getScale() {
+		return scaleMetrics.getScale();
+	}
+
+	@Override
+	public final RoundingMode getRoundingMode() {
+		return roundingMode;
+	}
+
+	@Override
+	public final long one() {
+		return scaleMetrics.getScaleFactor();
+	}
+
+	@Override
+	public final long add(long uDecimal1, long uDecimal2) {
+		final long result = uDecimal1 + uDecimal2;
+		if (!Checked.isAddOverflow(uDecimal1, uDecimal2, result)) {
+			return result;
+		}
+		return overflow(uDecimal1 < 0 ? -1 : 1);
+	}
+
+	@Override
+	public final long addLong(long uDecimal, long lValue) {
+		final double estimate = uDecimal + lValue * scaleFactor;
+		if (isSafe(estimate)) {
+			return checked.addLong(uDecimal, lValue);
+		}
+		return evaluate(Operation.ADD_LONG, uDecimal, lValue, 0, estimate, TOLERANCE);
+	}
+
+	@Override
+	public final long addUnscaled(long uDecimal, long unscaled, int scale) {
+		final double estimate = uDecimal + unscaled * pow10((long) getScale() - scale);
+		if (isSafe(estimate) | scale > Scales.MAX_SCALE) {
+			return rounded(Operation.ADD_UNSCALED, uDecimal, unscaled, scale, checked.addUnscaled(uDecimal, unscaled, scale));
+		}
+		return evaluate(Operation.ADD_UNSCALED, uDecimal, unscaled, scale, estimate, TOLERANCE);
+	}
+
+	@Override
+	public final long subtract(long uDecimalMinuend, long uDecimalSubtrahend) {
+		final long result = uDecimalMinuend - uDecimalSubtrahend;
+		if (!Checked.isSubtractOverflow(uDecimalMinuend, uDecimalSubtrahend, result)) {
+			return result;
+		}
+		return overflow(uDecimalMinuend < 0 ? -1 : 1);
+	}
+
+	@Override
+	public final long subtractLong(long uDecimal, long lValue) {
+		final double estimate = uDecimal - lValue * scaleFactor;
+		if (isSafe(estimate)) {
+			return checked.subtractLong(uDecimal, lValue);
+		}
+		return evaluate(Operation.SUBTRACT_LONG, uDecimal, lValue, 0, estimate, TOLERANCE);
+	}
+
+	@Override
+	public final long subtractUnscaled(long uDecimal, long unscaled, int scale) {
+		final double estimate = uDecimal - unscaled * pow10((long) getScale() - scale);
+		if (isSafe(estimate) | scale > Scales.MAX_SCALE) {
+			return rounded(Operation.SUBTRACT_UNSCALED, uDecimal, unscaled, scale, checked.subtractUnscaled(uDecimal, unscaled, scale));
+		}
+		return evaluate(Operation.SUBTRACT_UNSCALED, uDecimal, unscaled, scale, estimate, TOLERANCE);
+	}
+
+	@Override
+	public final long multiply(long uDecimal1, long uDecimal2) {
+		final double estimate = (double) uDecimal1 * uDecimal2 / scaleFactor;
+		if (isSafe(estimate)) {
+			return rounded(Operation.MULTIPLY, uDecimal1, uDecimal2, 0, checked.multiply(uDecimal1, uDecimal2));
+		}
+		return evaluate(Operation.MULTIPLY, uDecimal1, uDecimal2, 0, estimate, TOLERANCE);
+	}
+
+	@Override
+	public final long multiplyByLong(long uDecimal, long lValue) {
+		final double estimate = (double) uDecimal * lValue;
+		if (isSafe(estimate)) {
+			return checked.multiplyByLong(uDecimal, lValue);
+		}
+		return evaluate(Operation.MULTIPLY_BY_LONG, uDecimal, lValue, 0, estimate, TOLERANCE);
+	}
+
+	@Override
+	public final long multiplyByUnscaled(long uDecimal, long unscaled, int scale) {
+		final double estimate = (double) uDecimal * unscaled * pow10(-(long) scale);
+		if (isSafe(estimate) | scale > Scales.MAX_SCALE) {
+			return rounded(Operation.MULTIPLY_BY_UNSCALED, uDecimal, unscaled, scale, checked.multiplyByUnscaled(uDecimal, unscaled, scale));
+		}
+		return evaluate(Operation.MULTIPLY_BY_UNSCALED, uDecimal, unscaled, scale, estimate, TOLERANCE);
+	}
+
+	@Override
+	public final long multiplyByPowerOf10(long uDecimal, int n) {
+		final double estimate = uDecimal * pow10(n);
+		if (isSafe(estimate)) {
+			return rounded(Operation.MULTIPLY_BY_POWER_OF_10, uDecimal, 0, n, checked.multiplyByPowerOf10(uDecimal, n));
+		}
+		return evaluate(Operation.MULTIPLY_BY_POWER_OF_10, uDecimal, 0, n, estimate, TOLERANCE);
+	}
+
+	@Override
+	public final long divide(long uDecimalDividend, long uDecimalDivisor) {
+		final double estimate = uDecimalDividend * scaleFactor / uDecimalDivisor;
+		if (isSafe(estimate) | uDecimalDivisor == 0) {
+			return rounded(Operation.DIVIDE, uDecimalDividend, uDecimalDivisor, 0, checked.divide(uDecimalDividend, uDecimalDivisor));
+		}
+		return evaluate(Operation.DIVIDE, uDecimalDividend, uDecimalDivisor, 0, estimate, TOLERANCE);
+	}
+
+	@Override
+	public final long divideByLong(long uDecimalDividend, long lDivisor) {
+		if (!Checked.isDivideOverflow(uDecimalDividend, lDivisor)) {
+			return rounded(Operation.DIVIDE_BY_LONG, uDecimalDividend, lDivisor, 0, checked.divideByLong(uDecimalDividend, lDivisor));
+		}
+		return overflow(1);
+	}
+
+	@Override
+	public final long divideByUnscaled(long uDecimal, long unscaled, int scale) {
+		final double estimate = uDecimal * pow10(scale) / unscaled;
+		if (isSafe(estimate) | unscaled == 0 | scale > Scales.MAX_SCALE) {
+			return rounded(Operation.DIVIDE_BY_UNSCALED, uDecimal, unscaled, scale, checked.divideByUnscaled(uDecimal, unscaled, scale));
+		}
+		return evaluate(Operation.DIVIDE_BY_UNSCALED, uDecimal, unscaled, scale, estimate, TOLERANCE);
+	}
+
+	@Override
+	public final long divideByPowerOf10(long uDecimal, int n) {
+		final double estimate = uDecimal * pow10(-(long) n);
+		if (isSafe(estimate)) {
+			return rounded(Operation.DIVIDE_BY_POWER_OF_10, uDecimal, 0, n, checked.divideByPowerOf10(uDecimal, n));
+		}
+		return evaluate(Operation.DIVIDE_BY_POWER_OF_10, uDecimal, 0, n, estimate, TOLERANCE);
+	}
+
+	@Override
+	public final long avg(long uDecimal1, long uDecimal2) {
+		return rounded(Operation.AVG, uDecimal1, uDecimal2, 0, checked.avg(uDecimal1, uDecimal2));
+	}
+
+	@Override
+	public final long abs(long uDecimal) {
+		return uDecimal != Long.MIN_VALUE ? Math.abs(uDecimal) : overflow(1);
+	}
+
+	@Override
+	public final long negate(long uDecimal) {
+		return uDecimal != Long.MIN_VALUE ? -uDecimal : overflow(1);
+	}
+
+	@Override
+	public final long invert(long uDecimal) {
+		final double estimate = scaleFactor * scaleFactor / uDecimal;
+		if (isSafe(estimate) | uDecimal == 0) {
+			return rounded(Operation.INVERT, uDecimal, 0, 0, checked.invert(uDecimal));
+		}
+		return evaluate(Operation.INVERT, uDecimal, 0, 0, estimate, TOLERANCE);
+	}
+
+	@Override
+	public final long square(long uDecimal) {
+		final double estimate = (double) uDecimal * uDecimal / scaleFactor;
+		if (isSafe(estimate)) {
+			return rounded(Operation.SQUARE, uDecimal, 0, 0, checked.square(uDecimal));
+		}
+		return evaluate(Operation.SQUARE, uDecimal, 0, 0, estimate, TOLERANCE);
+	}
+
+	@Override
+	public final long sqrt(long uDecimal) {
+		return rounded(Operation.SQRT, uDecimal, 0, 0, checked.sqrt(uDecimal));
+	}
+
+	@Override
+	public final long pow(long uDecimalBase, int exponent) {
+		if (uDecimalBase == 0 | Math.abs((long) exponent) > 999999999) {
+			return rounded(Operation.POW, uDecimalBase, 0, exponent, checked.pow(uDecimalBase, exponent));
+		}
+		// relative error of the base estimate is amplified by the exponent
+		final double estimate = Math.pow(uDecimalBase / scaleFactor, exponent) * scaleFactor;
+		return evaluate(Operation.POW, uDecimalBase, 0, exponent, estimate, TOLERANCE * (1 + Math.abs(exponent)));
+	}
+
+	@Override
+	public final long shiftLeft(long uDecimal, int n) {
+		final double estimate = Math.scalb((double) uDecimal, n);
+		if (isSafe(estimate)) {
+			return rounded(Operation.SHIFT_LEFT, uDecimal, 0, n, checked.shiftLeft(uDecimal, n));
+		}
+		return evaluate(Operation.SHIFT_LEFT, uDecimal, 0, n, estimate, TOLERANCE);
+	}
+
+	@Override
+	public final long shiftRight(long uDecimal, int n) {
+		final double estimate = Math.scalb((double) uDecimal, n == Integer.MIN_VALUE ? Integer.MAX_VALUE : -n);
+		if (isSafe(estimate)) {
+			return rounded(Operation.SHIFT_RIGHT, uDecimal, 0, n, checked.shiftRight(uDecimal, n));
+		}
+		return evaluate(Operation.SHIFT_RIGHT, uDecimal, 0, n, estimate, TOLERANCE);
+	}
+
+	@Override
+	public final long round(long uDecimal, int precision) {
+		// rounding changes the value by less than 10^(scale - precision)
+		final long deltaScale = (long) getScale() - precision;
+		final double estimate = Math.abs((double) uDecimal) + pow10(deltaScale);
+		if (isSafe(estimate) | deltaScale > Scales.MAX_SCALE) {
+			return rounded(Operation.ROUND, uDecimal, 0, precision, checked.round(uDecimal, precision));
+		}
+		return evaluate(Operation.ROUND, uDecimal, 0, precision, Math.copySign(estimate, uDecimal), 1);
+	}
+
+	@Override
+	public final long roundToIncrement(long uDecimal, long unscaledIncrement) {
+		// rounding changes the value by less than the increment
+		final double estimate = Math.abs((double) uDecimal) + unscaledIncrement;
+		if (isSafe(estimate) | unscaledIncrement <= 0) {
+			return rounded(Operation.ROUND_TO_INCREMENT, uDecimal, unscaledIncrement, 0, checked.roundToIncrement(uDecimal, unscaledIncrement));
+		}
+		return evaluate(Operation.ROUND_TO_INCREMENT, uDecimal, unscaledIncrement, 0, Math.copySign(estimate, uDecimal), 1);
+	}
+
+	@Override
+	public final long fromLong(long value) {
+		return checked.fromLong(value);
+	}
+
+	@Override
+	public final long fromFloat(float value) {
+		return rounded(Operation.FROM_FLOAT, Float.floatToRawIntBits(value), 0, 0, checked.fromFloat(value));
+	}
+
+	@Override
+	public final long fromDouble(double value) {
+		return rounded(Operation.FROM_DOUBLE, Double.doubleToRawLongBits(value), 0, 0, checked.fromDouble(value));
+	}
+
+	@Override
+	public final long fromBigDecimal(BigDecimal value) {
+		return converted(value, checked.fromBigDecimal(value));
+	}
+
+	@Override
+	public final long fromUnscaled(long unscaledValue, int scale) {
+		final double estimate = unscaledValue * pow10((long) getScale() - scale);
+		if (isSafe(estimate)) {
+			return rounded(Operation.FROM_UNSCALED, unscaledValue, 0, scale, checked.fromUnscaled(unscaledValue, scale));
+		}
+		return evaluate(Operation.FROM_UNSCALED, unscaledValue, 0, scale, estimate, TOLERANCE);
+	}
+
+	@Override
+	public final long parse(String value) {
+		return parse(value, 0, value.length());
+	}
+
+	@Override
+	public final long parse(CharSequence value, int start, int end) {
+		return parsed(value, start, end, checked.parse(value, start, end));
+	}
+
+	@Override
+	public final long toLong(long uDecimal) {
+		return rounded(Operation.TO_LONG, uDecimal, 0, 0, checked.toLong(uDecimal));
+	}
+
+	@Override
+	public final long toUnscaled(long uDecimal, int scale) {
+		final double estimate = uDecimal * pow10((long) scale - getScale());
+		if (isSafe(estimate)) {
+			return rounded(Operation.TO_UNSCALED, uDecimal, 0, scale, checked.toUnscaled(uDecimal, scale));
+		}
+		return evaluate(Operation.TO_UNSCALED, uDecimal, 0, scale, estimate, TOLERANCE);
+	}
+
+	@Override
+	public final float toFloat(long uDecimal) {
+		return checked.toFloat(uDecimal);
+	}
+
+	@Override
+	public final double toDouble(long uDecimal) {
+		return checked.toDouble(uDecimal);
+	}
+
+	@Override
+	public final String toString(long uDecimal) {
+		return checked.toString(uDecimal);
+	}
+
+	@Override
+	public final void toString(long uDecimal, Appendable appendable) throws IOException {
+		checked.toString(uDecimal, appendable);
+	}
+
+	/**
+	 * Evaluates an operation whose result estimate is not safely within the
+	 * long range.
+	 * 
+	 * @param op
+	 *            the operation
+	 * @param a
+	 *            the first operand
+	 * @param b
+	 *            the second operand
+	 * @param n
+	 *            the int operand
+	 * @param estimate
+	 *            the estimated exact result, or NaN if it cannot be estimated
+	 * @param tolerance
+	 *            the relative error bound of the estimate
+	 * @return the result or the saturated value if the result overflows
+	 */
+	private final long evaluate(Operation op, long a, long b, int n, double estimate, double tolerance) {
+		final double absEstimate = Math.abs(estimate);
+		if (absEstimate < TWO_POW_63 * (1 - tolerance) | Double.isNaN(estimate)) {
+			return rounded(op, a, b, n, op.apply(checked, a, b, n));
+		}
+		final int signum = estimate < 0 ? -1 : 1;
+		if (absEstimate > TWO_POW_63 * (1 + tolerance)) {
+			return overflow(signum);
+		}
+		final long result;
+		// overflows of the checked arithmetic are saturated and not thrown
+		final boolean suppressed = DecimalEvents.suppressOverflows();
+		try {
+			result = op.apply(checked, a, b, n);
+		} catch (ArithmeticException e) {
+			if (roundingMode == RoundingMode.UNNECESSARY && !isTruncatedOverflow(op, a, b, n)) {
+				throw Exceptions.newRoundingNecessaryArithmeticException();
+			}
+			return overflow(signum);
+		} finally {
+			DecimalEvents.restoreOverflows(suppressed);
+		}
+		return rounded(op, a, b, n, result);
+	}
+
+	private final boolean isTruncatedOverflow(Operation op, long a, long b, int n) {
+		try {
+			op.apply(checkedDown, a, b, n);
+			return false;
+		} catch (ArithmeticException e) {
+			return true;
+		}
+	}
+
+	private static final boolean isSafe(double estimate) {
+		return Math.abs(estimate) < SAFE_BOUND;
+	}
+
+	/**
+	 * Returns 10<sup>n</sup> as double value, NaN if n is out of the integer
+	 * range.
+	 * 
+	 * @param n
+	 *            the exponent
+	 * @return 10<sup>n</sup>
+	 */
+	private static final double pow10(long n) {
+		if (-MAX_POW10 <= n & n <= MAX_POW10) {
+			return POW10[(int) n + MAX_POW10];
+		}
+		return n == (int) n ? Math.pow(10, n) : Double.NaN;
+	}
+
+	/**
+	 * Operations that can lead to rounding or overflow, used to re-evaluate an
+	 * operation with a different arithmetic.
+	 */
+	enum Operation {
+		ADD_LONG {
+			@Override
+			final long apply(DecimalArithmetic arith, long a, long b, int n) {
+				return arith.addLong(a, b);
+			}
+		},
+		ADD_UNSCALED {
+			@Override
+			final long apply(DecimalArithmetic arith, long a, long b, int n) {
+				return arith.addUnscaled(a, b, n);
+			}
+		},
+		SUBTRACT_LONG {
+			@Override
+			final long apply(DecimalArithmetic arith, long a, long b, int n) {
+				return arith.subtractLong(a, b);
+			}
+		},
+		SUBTRACT_UNSCALED {
+			@Override
+			final long apply(DecimalArithmetic arith, long a, long b, int n) {
+				return arith.subtractUnscaled(a, b, n);
+			}
+		},
+		MULTIPLY {
+			@Override
+			final long apply(DecimalArithmetic arith, long a, long b, int n) {
+				return arith.multiply(a, b);
+			}
+		},
+		MULTIPLY_BY_LONG {
+			@Override
+			final long apply(DecimalArithmetic arith, long a, long b, int n) {
+				return arith.multiplyByLong(a, b);
+			}
+		},
+		MULTIPLY_BY_UNSCALED {
+			@Override
+			final long apply(DecimalArithmetic arith, long a, long b, int n) {
+				return arith.multiplyByUnscaled(a, b, n);
+			}
+		},
+		MULTIPLY_BY_POWER_OF_10 {
+			@Override
+			final long apply(DecimalArithmetic arith, long a, long b, int n) {
+				return arith.multiplyByPowerOf10(a, n);
+			}
+		},
+		DIVIDE {
+			@Override
+			final long apply(DecimalArithmetic arith, long a, long b, int n) {
+				return arith.divide(a, b);
+			}
+		},
+		DIVIDE_BY_LONG {
+			@Override
+			final long apply(DecimalArithmetic arith, long a, long b, int n) {
+				return arith.divideByLong(a, b);
+			}
+		},
+		DIVIDE_BY_UNSCALED {
+			@Override
+			final long apply(DecimalArithmetic arith, long a, long b, int n) {
+				return arith.divideByUnscaled(a, b, n);
+			}
+		},
+		DIVIDE_BY_POWER_OF_10 {
+			@Override
+			final long apply(DecimalArithmetic arith, long a, long b, int n) {
+				return arith.divideByPowerOf10(a, n);
+			}
+		},
+		AVG {
+			@Override
+			final long apply(DecimalArithmetic arith, long a, long b, int n) {
+				return arith.avg(a, b);
+			}
+		},
+		INVERT {
+			@Override
+			final long apply(DecimalArithmetic arith, long a, long b, int n) {
+				return arith.invert(a);
+			}
+		},
+		SQUARE {
+			@Override
+			final long apply(DecimalArithmetic arith, long a, long b, int n) {
+				return arith.square(a);
+			}
+		},
+		SQRT {
+			@Override
+			final long apply(DecimalArithmetic arith, long a, long b, int n) {
+				return arith.sqrt(a);
+			}
+		},
+		POW {
+			@Override
+			final long apply(DecimalArithmetic arith, long a, long b, int n) {
+				return arith.pow(a, n);
+			}
+		},
+		SHIFT_LEFT {
+			@Override
+			final long apply(DecimalArithmetic arith, long a, long b, int n) {
+				return arith.shiftLeft(a, n);
+			}
+		},
+		SHIFT_RIGHT {
+			@Override
+			final long apply(DecimalArithmetic arith, long a, long b, int n) {
+				return arith.shiftRight(a, n);
+			}
+		},
+		ROUND {
+			@Override
+			final long apply(DecimalArithmetic arith, long a, long b, int n) {
+				return arith.round(a, n);
+			}
+		},
+		ROUND_TO_INCREMENT {
+			@Override
+			final long apply(DecimalArithmetic arith, long a, long b, int n) {
+				return arith.roundToIncrement(a, b);
+			}
+		},
+		FROM_FLOAT {
+			@Override
+			final long apply(DecimalArithmetic arith, long a, long b, int n) {
+				return arith.fromFloat(Float.intBitsToFloat((int) a));
+			}
+		},
+		FROM_DOUBLE {
+			@Override
+			final long apply(DecimalArithmetic arith, long a, long b, int n) {
+				return arith.fromDouble(Double.longBitsToDouble(a));
+			}
+		},
+		FROM_UNSCALED {
+			@Override
+			final long apply(DecimalArithmetic arith, long a, long b, int n) {
+				return arith.fromUnscaled(a, n);
+			}
+		},
+		TO_LONG {
+			@Override
+			final long apply(DecimalArithmetic arith, long a, long b, int n) {
+				return arith.toLong(a);
+			}
+		},
+		TO_UNSCALED {
+			@Override
+			final long apply(DecimalArithmetic arith, long a, long b, int n) {
+				return arith.toUnscaled(a, n);
+			}
+		};
+
+		/**
+		 * Applies this operation using the given arithmetic.
+		 * 
+		 * @param arith
+		 *            the arithmetic to use
+		 * @param a
+		 *            the first operand
+		 * @param b
+		 *            the second operand
+		 * @param n
+		 *            the int operand
+		 * @return the result of the operation
+		 */
+		abstract long apply(DecimalArithmetic arith, long a, long b, int n);
+	}
+}
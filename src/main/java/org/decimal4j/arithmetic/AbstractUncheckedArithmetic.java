@@ -23,7 +23,10 @@
  */
 package org.decimal4j.arithmetic;
 
+import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.scale.ScaleMetrics;
 import org.decimal4j.truncate.OverflowMode;
+import org.decimal4j.truncate.TruncationPolicy;
 import org.decimal4j.truncate.UncheckedRounding;
 
 /**
@@ -36,6 +39,11 @@ abstract public class AbstractUncheckedArithmetic extends AbstractArithmetic {
 	@Override
 	abstract public UncheckedRounding getTruncationPolicy();
 
+	@Override
+	final DecimalArithmetic deriveArithmetic(ScaleMetrics scaleMetrics, TruncationPolicy truncationPolicy) {
+		return scaleMetrics.getArithmetic(truncationPolicy);
+	}
+
 	@Override
 	public final OverflowMode getOverflowMode() {
 		return OverflowMode.UNCHECKED;
@@ -102,7 +102,7 @@ final class Add {
 		try {
 			return addForNegativeScaleDiff(arith, uDecimal, lValue, -scale);
 		} catch (ArithmeticException e) {
-			throw Exceptions.newArithmeticExceptionWithCause("Overflow: " + arith.toString(uDecimal) + " + " + lValue, e);
+			throw Exceptions.newOverflowArithmeticException("Overflow: " + arith.toString(uDecimal) + " + " + lValue, e);
 		}
 	}
 
@@ -191,14 +191,14 @@ final class Add {
 			try {
 				return addForNegativeScaleDiff(arith, uDecimal, unscaled, scaleDiff);
 			} catch (ArithmeticException e) {
-				throw Exceptions.newArithmeticExceptionWithCause("Overflow: " + arith.toString(uDecimal) + " + " + unscaled + "*10^" + (-scale), e);
+				throw Exceptions.newOverflowArithmeticException("Overflow: " + arith.toString(uDecimal) + " + " + unscaled + "*10^" + (-scale), e);
 			}
 		}
 		final long sum = addForPositiveScaleDiff(uDecimal, unscaled, scaleDiff);
 		if (!Checked.isAddOverflow(uDecimal, unscaled, sum)) {
 			return sum;
 		}
-		throw new ArithmeticException("Overflow: " + arith.toString(uDecimal) + " + " + unscaled + "*10^" + (-scale) + "=" + sum);
+		throw Exceptions.newOverflowArithmeticException("Overflow: " + arith.toString(uDecimal) + " + " + unscaled + "*10^" + (-scale) + "=" + sum);
 	}
 	
 	/**
@@ -229,14 +229,14 @@ final class Add {
 			try {
 				return addForNegativeScaleDiff(arith, uDecimal, unscaled, scaleDiff);
 			} catch (ArithmeticException e) {
-				throw Exceptions.newArithmeticExceptionWithCause("Overflow: " + arith.toString(uDecimal) + " + " + unscaled + "*10^" + (-scale), e);
+				throw Exceptions.newOverflowArithmeticException("Overflow: " + arith.toString(uDecimal) + " + " + unscaled + "*10^" + (-scale), e);
 			}
 		}
 		final long sum = addForPositiveScaleDiff(rounding, uDecimal, unscaled, scaleDiff);
 		if (!Checked.isAddOverflow(uDecimal, unscaled, sum)) {
 			return sum;
 		}
-		throw new ArithmeticException("Overflow: " + arith.toString(uDecimal) + " + " + unscaled + "*10^" + (-scale) + "=" + sum);
+		throw Exceptions.newOverflowArithmeticException("Overflow: " + arith.toString(uDecimal) + " + " + unscaled + "*10^" + (-scale) + "=" + sum);
 	}
 
 	/**
@@ -0,0 +1,281 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2023 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.arithmetic;
+
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Operation counters collected by one or more {@link InstrumentedArithmetic}
+ * instances. Counters are striped {@link LongAdder} instances per operation
+ * and can be updated concurrently from many threads with little contention.
+ * <p>
+ * Metrics can be read through the methods of this class or through JMX after
+ * {@link #registerMBean(String) registering} the metrics with the platform
+ * MBean server. Collection can be {@link #setEnabled(boolean) disabled} at
+ * runtime in which case the instrumented arithmetics only pay for a volatile
+ * read per operation.
+ */
+public final class ArithmeticMetrics implements ArithmeticMetricsMXBean {
+
+	/**
+	 * The JMX domain used for registered metrics.
+	 */
+	public static final String JMX_DOMAIN = "org.decimal4j";
+
+	private static final int INVOCATION = 0;
+	private static final int INEXACT = 1;
+	private static final int SLOW_PATH = 2;
+	private static final int OVERFLOW = 3;
+	private static final int EXCEPTION = 4;
+	private static final int COUNTER_TYPES = 5;
+
+	private final LongAdder[][] counters;
+	private volatile boolean enabled;
+
+	/**
+	 * Creates enabled metrics with all counters set to zero.
+	 */
+	public ArithmeticMetrics() {
+		this(true);
+	}
+
+	/**
+	 * Creates metrics with all counters set to zero.
+	 * 
+	 * @param enabled
+	 *            true if metrics are collected initially
+	 */
+	public ArithmeticMetrics(boolean enabled) {
+		this.counters = new LongAdder[COUNTER_TYPES][InstrumentedOperation.VALUES.length];
+		for (final LongAdder[] adders : counters) {
+			for (int i = 0; i < adders.length; i++) {
+				adders[i] = new LongAdder();
+			}
+		}
+		this.enabled = enabled;
+	}
+
+	final void invocation(InstrumentedOperation operation) {
+		counters[INVOCATION][operation.ordinal()].increment();
+	}
+
+	final void inexact(InstrumentedOperation operation) {
+		counters[INEXACT][operation.ordinal()].increment();
+	}
+
+	final void slowPath(InstrumentedOperation operation) {
+		counters[SLOW_PATH][operation.ordinal()].increment();
+	}
+
+	/**
+	 * Counts the given exception thrown by the operation as exception, and in
+	 * addition as overflow or as inexact result if it was classified as such
+	 * by {@link Exceptions#isOverflow(Throwable)} or
+	 * {@link Exceptions#isRoundingNecessary(Throwable)}.
+	 */
+	final void exception(InstrumentedOperation operation, RuntimeException exception) {
+		if (Exceptions.isOverflow(exception)) {
+			counters[OVERFLOW][operation.ordinal()].increment();
+		} else if (Exceptions.isRoundingNecessary(exception)) {
+			counters[INEXACT][operation.ordinal()].increment();
+		}
+		counters[EXCEPTION][operation.ordinal()].increment();
+	}
+
+	@Override
+	public final boolean isEnabled() {
+		return enabled;
+	}
+
+	@Override
+	public final void setEnabled(boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	/**
+	 * Returns the number of invocations of the given operation.
+	 * 
+	 * @param operation
+	 *            the operation
+	 * @return the invocation count of the operation
+	 */
+	public final long getInvocationCount(InstrumentedOperation operation) {
+		return counters[INVOCATION][operation.ordinal()].sum();
+	}
+
+	/**
+	 * Returns the number of inexact results of the given operation.
+	 * 
+	 * @param operation
+	 *            the operation
+	 * @return the inexact result count of the operation
+	 * @see #getInexactCount()
+	 */
+	public final long getInexactCount(InstrumentedOperation operation) {
+		return counters[INEXACT][operation.ordinal()].sum();
+	}
+
+	/**
+	 * Returns the number of slow path calculations of the given operation.
+	 * 
+	 * @param operation
+	 *            the operation
+	 * @return the slow path count of the operation
+	 * @see #getSlowPathCount()
+	 */
+	public final long getSlowPathCount(InstrumentedOperation operation) {
+		return counters[SLOW_PATH][operation.ordinal()].sum();
+	}
+
+	/**
+	 * Returns the number of overflow exceptions of the given operation.
+	 * 
+	 * @param operation
+	 *            the operation
+	 * @return the overflow exception count of the operation
+	 */
+	public final long getOverflowCount(InstrumentedOperation operation) {
+		return counters[OVERFLOW][operation.ordinal()].sum();
+	}
+
+	/**
+	 * Returns the number of exceptions of the given operation.
+	 * 
+	 * @param operation
+	 *            the operation
+	 * @return the exception count of the operation
+	 */
+	public final long getExceptionCount(InstrumentedOperation operation) {
+		return counters[EXCEPTION][operation.ordinal()].sum();
+	}
+
+	@Override
+	public final long getInvocationCount() {
+		return total(INVOCATION);
+	}
+
+	@Override
+	public final long getInexactCount() {
+		return total(INEXACT);
+	}
+
+	@Override
+	public final long getSlowPathCount() {
+		return total(SLOW_PATH);
+	}
+
+	@Override
+	public final long getOverflowCount() {
+		return total(OVERFLOW);
+	}
+
+	@Override
+	public final long getExceptionCount() {
+		return total(EXCEPTION);
+	}
+
+	@Override
+	public final Map<String, Long> getInvocationCounts() {
+		return counts(INVOCATION);
+	}
+
+	@Override
+	public final Map<String, Long> getInexactCounts() {
+		return counts(INEXACT);
+	}
+
+	@Override
+	public final Map<String, Long> getSlowPathCounts() {
+		return counts(SLOW_PATH);
+	}
+
+	@Override
+	public final Map<String, Long> getOverflowCounts() {
+		return counts(OVERFLOW);
+	}
+
+	@Override
+	public final Map<String, Long> getExceptionCounts() {
+		return counts(EXCEPTION);
+	}
+
+	@Override
+	public final void reset() {
+		for (final LongAdder[] adders : counters) {
+			for (final LongAdder adder : adders) {
+				adder.reset();
+			}
+		}
+	}
+
+	/**
+	 * Registers these metrics with the platform MBean server under the object
+	 * name {@code org.decimal4j:type=ArithmeticMetrics,name=<name>}.
+	 * 
+	 * @param name
+	 *            the value of the name key of the object name
+	 * @return the object name under which the metrics were registered
+	 * @throws JMException
+	 *             if the object name is invalid or if registration fails, for
+	 *             instance because the name is already registered
+	 */
+	public final ObjectName registerMBean(String name) throws JMException {
+		final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+		final ObjectName objectName = new ObjectName(JMX_DOMAIN + ":type=ArithmeticMetrics,name=" + ObjectName.quote(name));
+		return server.registerMBean(this, objectName).getObjectName();
+	}
+
+	private final long total(int type) {
+		long sum = 0;
+		for (final LongAdder adder : counters[type]) {
+			sum += adder.sum();
+		}
+		return sum;
+	}
+
+	private final Map<String, Long> counts(int type) {
+		final Map<String, Long> counts = new LinkedHashMap<String, Long>();
+		for (final InstrumentedOperation operation : InstrumentedOperation.VALUES) {
+			final long count = counters[type][operation.ordinal()].sum();
+			if (count != 0) {
+				counts.put(operation.name(), count);
+			}
+		}
+		return counts;
+	}
+
+	@Override
+	public final String toString() {
+		return "ArithmeticMetrics[enabled=" + enabled + ", invocations=" + getInvocationCount() + ", inexact="
+				+ getInexactCount() + ", slowPath=" + getSlowPathCount() + ", overflows=" + getOverflowCount()
+				+ ", exceptions=" + getExceptionCount() + "]";
+	}
+}
@@ -0,0 +1,132 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2023 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.arithmetic;
+
+import java.util.Map;
+
+/**
+ * Management interface of the {@link ArithmeticMetrics} collected by
+ * {@link InstrumentedArithmetic} instances. All getters return a snapshot of
+ * the current counter values. Maps are keyed by the name of the
+ * {@link InstrumentedOperation} and contain only operations with a non-zero
+ * count.
+ */
+public interface ArithmeticMetricsMXBean {
+
+	/**
+	 * Returns true if metrics are collected.
+	 * 
+	 * @return true if the instrumented arithmetics count operations
+	 */
+	boolean isEnabled();
+
+	/**
+	 * Enables or disables collection of metrics. Disabled instrumented
+	 * arithmetics delegate operations without counting them.
+	 * 
+	 * @param enabled
+	 *            true to collect metrics and false otherwise
+	 */
+	void setEnabled(boolean enabled);
+
+	/**
+	 * Returns the total number of counted operations.
+	 * 
+	 * @return the number of invocations of all operations
+	 */
+	long getInvocationCount();
+
+	/**
+	 * Returns the total number of operations with an inexact result, that is,
+	 * operations that had to round the result or failed because rounding was
+	 * necessary with rounding mode UNNECESSARY.
+	 * 
+	 * @return the number of inexact results of all operations
+	 */
+	long getInexactCount();
+
+	/**
+	 * Returns the total number of multiplications and divisions that were
+	 * calculated with 128-bit intermediate results.
+	 * 
+	 * @return the number of slow path calculations of all operations
+	 */
+	long getSlowPathCount();
+
+	/**
+	 * Returns the total number of operations that failed with an overflow
+	 * exception.
+	 * 
+	 * @return the number of overflow exceptions of all operations
+	 */
+	long getOverflowCount();
+
+	/**
+	 * Returns the total number of operations that failed with an exception,
+	 * including overflow exceptions.
+	 * 
+	 * @return the number of exceptions of all operations
+	 */
+	long getExceptionCount();
+
+	/**
+	 * Returns the number of invocations per operation.
+	 * 
+	 * @return a map from operation name to number of invocations
+	 */
+	Map<String, Long> getInvocationCounts();
+
+	/**
+	 * Returns the number of inexact results per operation.
+	 * 
+	 * @return a map from operation name to number of inexact results
+	 */
+	Map<String, Long> getInexactCounts();
+
+	/**
+	 * Returns the number of slow path calculations per operation.
+	 * 
+	 * @return a map from operation name to number of slow path calculations
+	 */
+	Map<String, Long> getSlowPathCounts();
+
+	/**
+	 * Returns the number of overflow exceptions per operation.
+	 * 
+	 * @return a map from operation name to number of overflow exceptions
+	 */
+	Map<String, Long> getOverflowCounts();
+
+	/**
+	 * Returns the number of exceptions per operation.
+	 * 
+	 * @return a map from operation name to number of exceptions
+	 */
+	Map<String, Long> getExceptionCounts();
+
+	/**
+	 * Resets all counters to zero.
+	 */
+	void reset();
+}
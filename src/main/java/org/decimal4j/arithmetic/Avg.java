@@ -89,7 +89,7 @@ final class Avg {
 		case UNNECESSARY: {
 			final long floor = (a & b) + (xor >> 1);
 			if ((xor & 0x1) != 0) {
-				throw new ArithmeticException("Rounding necessary: " + arith.toString(a) + " avg " + arith.toString(b)
+				throw Exceptions.newRoundingNecessaryArithmeticException("Rounding necessary: " + arith.toString(a) + " avg " + arith.toString(b)
 						+ " = " + arith.toString(floor));
 			}
 			return floor;
@@ -29,12 +29,19 @@ import java.math.RoundingMode;
 
 import org.decimal4j.scale.ScaleMetrics;
 import org.decimal4j.scale.Scales;
+import org.decimal4j.truncate.DecimalRounding;
 
 /**
  * Contains methods to convert from and to {@link BigDecimal}.
  */
 final class BigDecimalConversion {
 
+	/**
+	 * Maximum precision of a big decimal whose unscaled value is guaranteed to
+	 * fit in a long, also if it is negated.
+	 */
+	private static final int MAX_COMPACT_PRECISION = 18;
+
 	/**
 	 * Converts the specified big decimal value to a long value applying the
 	 * given rounding mode. An exception is thrown if the value exceeds the
@@ -52,8 +59,15 @@ final class BigDecimalConversion {
 	 *             necessary
 	 */
 	public static final long bigDecimalToLong(RoundingMode roundingMode, BigDecimal value) {
-		// TODO any chance to make this garbage free?
-		// Difficult as we cannot look inside the BigDecimal value
+		if (value.precision() <= MAX_COMPACT_PRECISION) {
+			final long unscaled = unscaledValueOf(value);
+			final long scaleDiff = -(long) value.scale();
+			if (isRescaleExact(unscaled, scaleDiff)) {
+				return rescale(roundingMode, unscaled, scaleDiff);
+			}
+			throw new IllegalArgumentException("Overflow: cannot convert " + value + " to long");
+		}
+		DecimalEvents.conversionFallback("bigDecimalToLong", 0);
 		final BigInteger scaled = value//
 				.setScale(0, roundingMode)//
 				.toBigInteger();
@@ -82,8 +96,16 @@ final class BigDecimalConversion {
 	 *             necessary
 	 */
 	public static final long bigDecimalToUnscaled(ScaleMetrics scaleMetrics, RoundingMode roundingMode, BigDecimal value) {
-		// TODO any chance to make this garbage free?
-		// Difficult as we cannot look inside the BigDecimal value
+		if (value.precision() <= MAX_COMPACT_PRECISION) {
+			final long unscaled = unscaledValueOf(value);
+			final long scaleDiff = (long) scaleMetrics.getScale() - value.scale();
+			if (isRescaleExact(unscaled, scaleDiff)) {
+				return rescale(roundingMode, unscaled, scaleDiff);
+			}
+			throw new IllegalArgumentException(
+					"Overflow: cannot convert " + value + " to Decimal with scale " + scaleMetrics.getScale());
+		}
+		DecimalEvents.conversionFallback("bigDecimalToUnscaled", scaleMetrics.getScale());
 		final BigInteger scaled = value//
 				.multiply(scaleMetrics.getScaleFactorAsBigDecimal())//
 				.setScale(0, roundingMode)//
@@ -95,6 +117,46 @@ final class BigDecimalConversion {
 				"Overflow: cannot convert " + value + " to Decimal with scale " + scaleMetrics.getScale());
 	}
 
+	/**
+	 * Returns the unscaled value of a big decimal with a precision of at most
+	 * 18 digits. The unscaled value is not read via
+	 * {@link BigDecimal#unscaledValue()} which allocates a {@link BigInteger}.
+	 * Instead the value is rescaled to scale zero which shares the compact long
+	 * representation; {@link BigDecimal#longValue()} returns it directly and
+	 * escape analysis usually eliminates the temporary big decimal.
+	 * 
+	 * @param value
+	 *            a big decimal with precision of at most 18 digits
+	 * @return the unscaled value of {@code value}
+	 */
+	private static final long unscaledValueOf(BigDecimal value) {
+		return value.scaleByPowerOfTen(value.scale()).longValue();
+	}
+
+	/**
+	 * Returns true if rescaling {@code unscaled} by {@code 10^scaleDiff} does
+	 * not overflow, which is always the case for non-positive
+	 * {@code scaleDiff}.
+	 */
+	private static final boolean isRescaleExact(long unscaled, long scaleDiff) {
+		if (scaleDiff <= 0 | unscaled == 0) {
+			return true;
+		}
+		return scaleDiff <= Scales.MAX_SCALE && Scales.getScaleMetrics((int) scaleDiff).isValidIntegerValue(unscaled);
+	}
+
+	/**
+	 * Returns {@code round(unscaled * 10^scaleDiff)}. Overflows must have been
+	 * excluded with {@link #isRescaleExact(long, long)}.
+	 */
+	private static final long rescale(RoundingMode roundingMode, long unscaled, long scaleDiff) {
+		if (scaleDiff > 0) {
+			return unscaled == 0 ? 0 : Scales.getScaleMetrics((int) scaleDiff).multiplyByScaleFactor(unscaled);
+		}
+		// -scaleDiff is in [0, Integer.MAX_VALUE] as the target scale is non-negative
+		return Pow10.divideByPowerOf10(DecimalRounding.valueOf(roundingMode), unscaled, (int) -scaleDiff);
+	}
+
 	/**
 	 * Converts the given unscaled decimal value to a {@link BigDecimal} of the
 	 * same scale as the given decimal value.
@@ -150,6 +212,7 @@ final class BigDecimalConversion {
 			}
 		}
 		// let the big decimal deal with such large numbers then
+		DecimalEvents.conversionFallback("unscaledToBigDecimal", sourceScale);
 		return BigDecimal.valueOf(uDecimal, sourceScale).setScale(targetScale, roundingMode);
 	}
 
@@ -0,0 +1,239 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2023 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.arithmetic;
+
+import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.scale.ScaleMetrics;
+import org.decimal4j.truncate.OverflowMode;
+
+/**
+ * Bulk operations on arrays of unscaled decimal values of the same scale. The
+ * result of every element is the same as for the corresponding operation of
+ * the {@link DecimalArithmetic} passed to the method, including the exception
+ * thrown if an operation of a checked arithmetic overflows.
+ * <p>
+ * For the unchecked and checked arithmetic instances returned by
+ * {@link ScaleMetrics#getArithmetic(org.decimal4j.truncate.TruncationPolicy)
+ * ScaleMetrics.getArithmetic(..)}, the operations are performed by bulk
+ * kernels. On Java 17 and later, the kernels use the Vector API if the module
+ * {@code jdk.incubator.vector} is present, for instance by adding the JVM
+ * option {@code --add-modules jdk.incubator.vector}; checked operations detect
+ * overflows in vector lanes and fall back to a scalar loop for the affected
+ * range. All other arithmetic instances are applied element by element.
+ * <p>
+ * The result array can be the same as one of the operand arrays.
+ */
+public final class BulkArithmetic {
+
+	/**
+	 * Returns true if bulk kernels are vectorized with the Vector API.
+	 * 
+	 * @return true if Vector API kernels are used, and false if scalar loops
+	 *         are used
+	 */
+	public static boolean isVectorized() {
+		return BulkKernels.isVectorized();
+	}
+
+	/**
+	 * Assigns {@code result[i] = arith.add(a[i], b[i])} for every index
+	 * {@code i}.
+	 * 
+	 * @param arith
+	 *            the arithmetic defining scale and overflow mode
+	 * @param a
+	 *            the unscaled augend values
+	 * @param b
+	 *            the unscaled addend values
+	 * @param result
+	 *            the array for the unscaled sums
+	 * @throws IllegalArgumentException
+	 *             if the arrays have different lengths
+	 * @throws ArithmeticException
+	 *             if {@code arith} is checked and an addition overflows
+	 */
+	public static void add(DecimalArithmetic arith, long[] a, long[] b, long[] result) {
+		final int length = checkLengths(a.length, b.length, result.length);
+		switch (kernelMode(arith)) {
+		case UNCHECKED:
+			BulkKernels.add(a, b, result, length);
+			return;
+		case CHECKED:
+			BulkKernels.addChecked(arith, a, b, result, length);
+			return;
+		default:
+			for (int i = 0; i < length; i++) {
+				result[i] = arith.add(a[i], b[i]);
+			}
+		}
+	}
+
+	/**
+	 * Assigns {@code result[i] = arith.subtract(a[i], b[i])} for every index
+	 * {@code i}.
+	 * 
+	 * @param arith
+	 *            the arithmetic defining scale and overflow mode
+	 * @param a
+	 *            the unscaled minuend values
+	 * @param b
+	 *            the unscaled subtrahend values
+	 * @param result
+	 *            the array for the unscaled differences
+	 * @throws IllegalArgumentException
+	 *             if the arrays have different lengths
+	 * @throws ArithmeticException
+	 *             if {@code arith} is checked and a subtraction overflows
+	 */
+	public static void subtract(DecimalArithmetic arith, long[] a, long[] b, long[] result) {
+		final int length = checkLengths(a.length, b.length, result.length);
+		switch (kernelMode(arith)) {
+		case UNCHECKED:
+			BulkKernels.subtract(a, b, result, length);
+			return;
+		case CHECKED:
+			BulkKernels.subtractChecked(arith, a, b, result, length);
+			return;
+		default:
+			for (int i = 0; i < length; i++) {
+				result[i] = arith.subtract(a[i], b[i]);
+			}
+		}
+	}
+
+	/**
+	 * Assigns {@code result[i] = arith.multiplyByPowerOf10(a[i], n)} for every
+	 * index {@code i}. Bulk kernels are used for {@code 0 <= n <= 18}; other
+	 * values of {@code n} are applied element by element.
+	 * 
+	 * @param arith
+	 *            the arithmetic defining scale, rounding and overflow mode
+	 * @param a
+	 *            the unscaled values to multiply
+	 * @param n
+	 *            the power-ten exponent
+	 * @param result
+	 *            the array for the unscaled results
+	 * @throws IllegalArgumentException
+	 *             if the arrays have different lengths
+	 * @throws ArithmeticException
+	 *             if {@code arith} is checked and a multiplication overflows,
+	 *             or if rounding is necessary with
+	 *             {@link java.math.RoundingMode#UNNECESSARY UNNECESSARY}
+	 *             rounding
+	 */
+	public static void multiplyByPowerOf10(DecimalArithmetic arith, long[] a, int n, long[] result) {
+		final int length = checkLengths(a.length, a.length, result.length);
+		final OverflowMode mode = n >= 0 & n <= 18 ? kernelMode(arith) : OverflowMode.SATURATING;
+		switch (mode) {
+		case UNCHECKED:
+			BulkKernels.multiplyByPowerOf10(a, n, result, length);
+			return;
+		case CHECKED:
+			BulkKernels.multiplyByPowerOf10Checked(arith, a, n, result, length);
+			return;
+		default:
+			for (int i = 0; i < length; i++) {
+				result[i] = arith.multiplyByPowerOf10(a[i], n);
+			}
+		}
+	}
+
+	/**
+	 * Assigns {@code result[i] = min(a[i], b[i])} for every index {@code i}.
+	 * 
+	 * @param a
+	 *            the first unscaled operand values
+	 * @param b
+	 *            the second unscaled operand values
+	 * @param result
+	 *            the array for the unscaled minimum values
+	 * @throws IllegalArgumentException
+	 *             if the arrays have different lengths
+	 */
+	public static void min(long[] a, long[] b, long[] result) {
+		BulkKernels.min(a, b, result, checkLengths(a.length, b.length, result.length));
+	}
+
+	/**
+	 * Assigns {@code result[i] = max(a[i], b[i])} for every index {@code i}.
+	 * 
+	 * @param a
+	 *            the first unscaled operand values
+	 * @param b
+	 *            the second unscaled operand values
+	 * @param result
+	 *            the array for the unscaled maximum values
+	 * @throws IllegalArgumentException
+	 *             if the arrays have different lengths
+	 */
+	public static void max(long[] a, long[] b, long[] result) {
+		BulkKernels.max(a, b, result, checkLengths(a.length, b.length, result.length));
+	}
+
+	/**
+	 * Assigns {@code result[i] = Long.compare(a[i], b[i])} for every index
+	 * {@code i}, that is, -1, 0 or 1 if {@code a[i]} is less than, equal to or
+	 * greater than {@code b[i]}.
+	 * 
+	 * @param a
+	 *            the first unscaled operand values
+	 * @param b
+	 *            the second unscaled operand values
+	 * @param result
+	 *            the array for the comparison results
+	 * @throws IllegalArgumentException
+	 *             if the arrays have different lengths
+	 */
+	public static void compare(long[] a, long[] b, int[] result) {
+		BulkKernels.compare(a, b, result, checkLengths(a.length, b.length, result.length));
+	}
+
+	/**
+	 * Returns the overflow mode of the bulk kernel for the given arithmetic, or
+	 * {@link OverflowMode#SATURATING SATURATING} if the operation has to be
+	 * applied element by element. Kernels are only used for the standard
+	 * arithmetic instances since other implementations, for instance
+	 * {@link InstrumentedArithmetic}, can have side effects.
+	 */
+	private static OverflowMode kernelMode(DecimalArithmetic arith) {
+		if (arith == arith.getScaleMetrics().getArithmetic(arith.getTruncationPolicy())) {
+			return arith.getOverflowMode();
+		}
+		return OverflowMode.SATURATING;
+	}
+
+	private static int checkLengths(int aLength, int bLength, int resultLength) {
+		if (aLength != bLength | aLength != resultLength) {
+			throw new IllegalArgumentException("Array lengths must be equal but a.length=" + aLength + ", b.length="
+					+ bLength + ", result.length=" + resultLength);
+		}
+		return aLength;
+	}
+
+	// no instances
+	private BulkArithmetic() {
+		super();
+	}
+}
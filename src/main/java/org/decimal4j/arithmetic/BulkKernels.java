@@ -0,0 +1,99 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2023 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.arithmetic;
+
+import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.scale.Scales;
+
+/**
+ * Bulk kernels for {@link BulkArithmetic}. This implementation uses scalar
+ * loops; it is replaced by an implementation using the Vector API on Java 17
+ * and later.
+ */
+final class BulkKernels {
+
+	static boolean isVectorized() {
+		return false;
+	}
+
+	static void add(long[] a, long[] b, long[] result, int length) {
+		for (int i = 0; i < length; i++) {
+			result[i] = a[i] + b[i];
+		}
+	}
+
+	static void addChecked(DecimalArithmetic arith, long[] a, long[] b, long[] result, int length) {
+		for (int i = 0; i < length; i++) {
+			result[i] = arith.add(a[i], b[i]);
+		}
+	}
+
+	static void subtract(long[] a, long[] b, long[] result, int length) {
+		for (int i = 0; i < length; i++) {
+			result[i] = a[i] - b[i];
+		}
+	}
+
+	static void subtractChecked(DecimalArithmetic arith, long[] a, long[] b, long[] result, int length) {
+		for (int i = 0; i < length; i++) {
+			result[i] = arith.subtract(a[i], b[i]);
+		}
+	}
+
+	static void multiplyByPowerOf10(long[] a, int n, long[] result, int length) {
+		final long factor = Scales.getScaleMetrics(n).getScaleFactor();
+		for (int i = 0; i < length; i++) {
+			result[i] = a[i] * factor;
+		}
+	}
+
+	static void multiplyByPowerOf10Checked(DecimalArithmetic arith, long[] a, int n, long[] result, int length) {
+		for (int i = 0; i < length; i++) {
+			result[i] = arith.multiplyByPowerOf10(a[i], n);
+		}
+	}
+
+	static void min(long[] a, long[] b, long[] result, int length) {
+		for (int i = 0; i < length; i++) {
+			result[i] = Math.min(a[i], b[i]);
+		}
+	}
+
+	static void max(long[] a, long[] b, long[] result, int length) {
+		for (int i = 0; i < length; i++) {
+			result[i] = Math.max(a[i], b[i]);
+		}
+	}
+
+	static void compare(long[] a, long[] b, int[] result, int length) {
+		for (int i = 0; i < length; i++) {
+			result[i] = Long.compare(a[i], b[i]);
+		}
+	}
+
+	// no instances
+	private BulkKernels() {
+		super();
+	}
+}
@@ -91,7 +91,7 @@ final class Checked {
 	public static final long addLong(long long1, long long2) {
 		final long result = long1 + long2;
 		if (isAddOverflow(long1, long2, result)) {
-			throw new ArithmeticException("Overflow: " + long1 + " + " + long2 + " = " + result);
+			throw Exceptions.newOverflowArithmeticException("Overflow: " + long1 + " + " + long2 + " = " + result);
 		}
 		return result;
 	}
@@ -113,7 +113,7 @@ final class Checked {
 	public static final long add(DecimalArithmetic arith, long uDecimal1, long uDecimal2) {
 		final long result = uDecimal1 + uDecimal2;
 		if ((uDecimal1 ^ uDecimal2) >= 0 & (uDecimal1 ^ result) < 0) {
-			throw new ArithmeticException("Overflow: " + arith.toString(uDecimal1) + " + " + arith.toString(uDecimal2)
+			throw Exceptions.newOverflowArithmeticException("Overflow: " + arith.toString(uDecimal1) + " + " + arith.toString(uDecimal2)
 					+ " = " + arith.toString(result));
 		}
 		return result;
@@ -134,7 +134,7 @@ final class Checked {
 	public static final long subtractLong(long lMinuend, long lSubtrahend) {
 		final long result = lMinuend - lSubtrahend;
 		if (isSubtractOverflow(lMinuend, lSubtrahend, result)) {
-			throw new ArithmeticException("Overflow: " + lMinuend + " - " + lSubtrahend + " = " + result);
+			throw Exceptions.newOverflowArithmeticException("Overflow: " + lMinuend + " - " + lSubtrahend + " = " + result);
 		}
 		return result;
 	}
@@ -157,7 +157,7 @@ final class Checked {
 	public static final long subtract(DecimalArithmetic arith, long uDecimalMinuend, long uDecimalSubtrahend) {
 		final long result = uDecimalMinuend - uDecimalSubtrahend;
 		if (isSubtractOverflow(uDecimalMinuend, uDecimalSubtrahend, result)) {
-			throw new ArithmeticException("Overflow: " + arith.toString(uDecimalMinuend) + " - "
+			throw Exceptions.newOverflowArithmeticException("Overflow: " + arith.toString(uDecimalMinuend) + " - "
 					+ arith.toString(uDecimalSubtrahend) + " = " + arith.toString(result));
 		}
 		return result;
@@ -198,7 +198,7 @@ final class Checked {
 		}
 		if (leadingZeros < Long.SIZE || (lValue1 < 0 & lValue2 == Long.MIN_VALUE)
 				|| (lValue1 != 0 && (result / lValue1) != lValue2)) {
-			throw new ArithmeticException("Overflow: " + lValue1 + " * " + lValue2 + " = " + result);
+			throw Exceptions.newOverflowArithmeticException("Overflow: " + lValue1 + " * " + lValue2 + " = " + result);
 		}
 		return result;
 	}
@@ -242,7 +242,7 @@ final class Checked {
 		}
 		if (leadingZeros < Long.SIZE || (uDecimal < 0 & lValue == Long.MIN_VALUE)
 				|| (uDecimal != 0 && (result / uDecimal) != lValue)) {
-			throw new ArithmeticException(
+			throw Exceptions.newOverflowArithmeticException(
 					"Overflow: " + arith.toString(uDecimal) + " * " + lValue + " = " + arith.toString(result));
 		}
 		return result;
@@ -262,7 +262,7 @@ final class Checked {
 	 */
 	public static final long divideLong(long lDividend, long lDivisor) {
 		if (lDivisor == -1 & lDividend == Long.MIN_VALUE) {
-			throw new ArithmeticException("Overflow: " + lDividend + " / " + lDivisor + " = " + Long.MIN_VALUE);
+			throw Exceptions.newOverflowArithmeticException("Overflow: " + lDividend + " / " + lDivisor + " = " + Long.MIN_VALUE);
 		}
 		return lDividend / lDivisor;
 	}
@@ -288,7 +288,7 @@ final class Checked {
 			throw new ArithmeticException("Division by zero: " + arith.toString(uDecimalDividend) + " / " + lDivisor);
 		}
 		if (lDivisor == -1 & uDecimalDividend == Long.MIN_VALUE) {
-			throw new ArithmeticException("Overflow: " + arith.toString(uDecimalDividend) + " / " + lDivisor + " = "
+			throw Exceptions.newOverflowArithmeticException("Overflow: " + arith.toString(uDecimalDividend) + " / " + lDivisor + " = "
 					+ arith.toString(Long.MIN_VALUE));
 		}
 		return uDecimalDividend / lDivisor;
@@ -309,7 +309,7 @@ final class Checked {
 	public static final long abs(DecimalArithmetic arith, long value) {
 		final long abs = Math.abs(value);
 		if (abs < 0) {
-			throw new ArithmeticException("Overflow: abs(" + arith.toString(value) + ") = " + abs);
+			throw Exceptions.newOverflowArithmeticException("Overflow: abs(" + arith.toString(value) + ") = " + abs);
 		}
 		return abs;
 	}
@@ -329,7 +329,7 @@ final class Checked {
 	public static final long negate(DecimalArithmetic arith, long value) {
 		final long neg = -value;
 		if (value != 0 & (value ^ neg) >= 0) {
-			throw new ArithmeticException("Overflow: -" + arith.toString(value) + " = " + neg);
+			throw Exceptions.newOverflowArithmeticException("Overflow: -" + arith.toString(value) + " = " + neg);
 		}
 		return neg;
 	}
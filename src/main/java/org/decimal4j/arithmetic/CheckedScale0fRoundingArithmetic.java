@@ -134,6 +134,11 @@ public final class CheckedScale0fRoundingArithmetic extends AbstractCheckedScale
 		return Round.round(this, rounding, uDecimal, precision);
 	}
 
+	@Override
+	public final long roundToIncrement(long uDecimal, long unscaledIncrement) {
+		return Round.roundToIncrement(this, rounding, uDecimal, unscaledIncrement);
+	}
+
 	@Override
 	public final long shiftLeft(long uDecimal, int n) {
 		return Shift.shiftLeftChecked(this, rounding, uDecimal, n);
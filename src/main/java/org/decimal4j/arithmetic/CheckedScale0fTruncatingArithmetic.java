@@ -127,6 +127,11 @@ public final class CheckedScale0fTruncatingArithmetic extends AbstractCheckedSca
 		return Round.round(this, uDecimal, precision);
 	}
 
+	@Override
+	public final long roundToIncrement(long uDecimal, long unscaledIncrement) {
+		return Round.roundToIncrement(uDecimal, unscaledIncrement);
+	}
+
 	@Override
 	public final float toFloat(long uDecimal) {
 		return FloatConversion.longToFloat(this, uDecimal);
@@ -140,6 +140,11 @@ public final class CheckedScaleNfTruncatingArithmetic extends AbstractCheckedSca
 	public final long round(long uDecimal, int precision) {
 		return Round.round(this, uDecimal, precision);
 	}
+
+	@Override
+	public final long roundToIncrement(long uDecimal, long unscaledIncrement) {
+		return Round.roundToIncrement(uDecimal, unscaledIncrement);
+	}
 	
 	@Override
 	public final long fromLong(long value) {
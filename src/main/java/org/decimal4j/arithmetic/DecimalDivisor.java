@@ -0,0 +1,184 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2023 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.arithmetic;
+
+import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.truncate.DecimalRounding;
+import org.decimal4j.truncate.OverflowMode;
+
+/**
+ * A divisor preconditioned for repeated division of many dividends by the same
+ * unscaled decimal value. The constructor precomputes the normalized divisor
+ * and its 64 bit reciprocal so that every division becomes a multiplication of
+ * the scaled 128 bit dividend with the reciprocal followed by a correction
+ * step. The algorithm is the 2-by-1 division with invariant divisor from
+ * N. Moller and T. Granlund, <i>Improved division by invariant integers</i>,
+ * IEEE Transactions on Computers, 2011.
+ * <p>
+ * Results are identical to {@link DecimalArithmetic#divide(long, long)} of the
+ * arithmetic passed to the constructor, including rounding, overflow handling
+ * and exceptions. Quotients near or beyond the range of a long, inexact results
+ * with rounding mode UNNECESSARY, division by zero and arithmetics with
+ * {@link OverflowMode#FLAGGING} overflow mode are delegated to the arithmetic.
+ * <p>
+ * Instances of this class are immutable and can be shared between threads.
+ */
+public final class DecimalDivisor {
+
+	private final DecimalArithmetic arithmetic;
+	private final DecimalRounding rounding;
+	private final long uDecimalDivisor;
+	private final long scaleFactor;
+	private final long absDivisor;
+	private final int shift;
+	private final long reciprocal;
+	private final boolean delegate;
+
+	/**
+	 * Creates a preconditioned divisor for the given arithmetic and unscaled
+	 * decimal divisor.
+	 * 
+	 * @param arithmetic
+	 *            the arithmetic defining scale, rounding and overflow mode of
+	 *            the division
+	 * @param uDecimalDivisor
+	 *            the unscaled decimal divisor
+	 */
+	public DecimalDivisor(DecimalArithmetic arithmetic, long uDecimalDivisor) {
+		this.arithmetic = arithmetic;
+		this.rounding = DecimalRounding.valueOf(arithmetic.getRoundingMode());
+		this.uDecimalDivisor = uDecimalDivisor;
+		this.scaleFactor = arithmetic.getScaleMetrics().getScaleFactor();
+		this.absDivisor = Math.abs(uDecimalDivisor);// unsigned, also for Long.MIN_VALUE
+		this.shift = Long.numberOfLeadingZeros(absDivisor);
+		this.delegate = uDecimalDivisor == 0 | arithmetic.getOverflowMode() == OverflowMode.FLAGGING;
+		this.reciprocal = delegate ? 0 : Div.reciprocal(absDivisor << shift);
+	}
+
+	/**
+	 * Returns the arithmetic used for the division.
+	 * 
+	 * @return the arithmetic defining scale, rounding and overflow mode
+	 */
+	public final DecimalArithmetic getArithmetic() {
+		return arithmetic;
+	}
+
+	/**
+	 * Returns the unscaled decimal divisor.
+	 * 
+	 * @return the unscaled divisor
+	 */
+	public final long getDivisor() {
+		return uDecimalDivisor;
+	}
+
+	/**
+	 * Divides the specified dividend by this divisor. The result is the same
+	 * as {@code getArithmetic().divide(uDecimalDividend, getDivisor())}.
+	 * 
+	 * @param uDecimalDividend
+	 *            the unscaled decimal dividend
+	 * @return {@code uDecimalDividend / divisor} rounded and overflow handled
+	 *         as defined by the arithmetic
+	 * @throws ArithmeticException
+	 *             if the divisor is zero, if the rounding mode is UNNECESSARY
+	 *             and rounding is necessary, or if an overflow occurs and the
+	 *             arithmetic uses {@link OverflowMode#CHECKED} overflow mode
+	 */
+	public final long divide(long uDecimalDividend) {
+		if (delegate) {
+			return arithmetic.divide(uDecimalDividend, uDecimalDivisor);
+		}
+		// scale the absolute dividend into a 128 bit integer
+		final long absDividend = Math.abs(uDecimalDividend);
+		final long hScaled = Unsigned.multiplyHigh(absDividend, scaleFactor);
+		final long lScaled = absDividend * scaleFactor;
+		if (!Unsigned.isLess(hScaled, absDivisor)) {
+			// quotient does not fit into 64 bits
+			return arithmetic.divide(uDecimalDividend, uDecimalDivisor);
+		}
+
+		final long quotient = Div.div128by64(hScaled, lScaled, absDivisor, shift, reciprocal);
+		final long remainder = lScaled - quotient * absDivisor;
+		if (quotient < 0 | quotient == Long.MAX_VALUE | (remainder != 0 & rounding == DecimalRounding.UNNECESSARY)) {
+			// possible overflow or rounding necessary
+			return arithmetic.divide(uDecimalDividend, uDecimalDivisor);
+		}
+
+		// apply sign and rounding
+		final boolean neg = (uDecimalDividend ^ uDecimalDivisor) < 0;
+		final long signed = neg ? -quotient : quotient;
+		if (remainder == 0 | rounding == DecimalRounding.DOWN) {
+			return signed;
+		}
+		return signed + Rounding.calculateRoundingIncrement(rounding, neg ? -1 : 1, quotient, remainder, absDivisor);
+	}
+
+	/**
+	 * Divides {@code length} dividends from the source array by this divisor
+	 * and stores the results in the destination array. Source and destination
+	 * array can be the same array, also with overlapping ranges if
+	 * {@code dstOffset <= srcOffset}.
+	 * 
+	 * @param dividends
+	 *            the unscaled decimal dividends
+	 * @param srcOffset
+	 *            the index of the first dividend in {@code dividends}
+	 * @param quotients
+	 *            the destination array for the unscaled quotients
+	 * @param dstOffset
+	 *            the index in {@code quotients} for the first quotient
+	 * @param length
+	 *            the number of dividends to divide
+	 * @throws IndexOutOfBoundsException
+	 *             if the source or destination range is not within the bounds
+	 *             of the respective array
+	 * @throws ArithmeticException
+	 *             if the divisor is zero, if the rounding mode is UNNECESSARY
+	 *             and rounding is necessary, or if an overflow occurs and the
+	 *             arithmetic uses {@link OverflowMode#CHECKED} overflow mode
+	 */
+	public final void divide(long[] dividends, int srcOffset, long[] quotients, int dstOffset, int length) {
+		if (srcOffset < 0 | dstOffset < 0 | length < 0 | srcOffset > dividends.length - length
+				| dstOffset > quotients.length - length) {
+			throw new IndexOutOfBoundsException("Cannot divide " + length + " values from offset " + srcOffset
+					+ " of array with length " + dividends.length + " into offset " + dstOffset
+					+ " of array with length " + quotients.length);
+		}
+		for (int i = 0; i < length; i++) {
+			quotients[dstOffset + i] = divide(dividends[srcOffset + i]);
+		}
+	}
+
+	/**
+	 * Returns a string with divisor and arithmetic of this decimal divisor.
+	 * 
+	 * @return a string like "DecimalDivisor[divisor=1.2345, arithmetic=...]"
+	 */
+	@Override
+	public final String toString() {
+		return "DecimalDivisor[divisor=" + arithmetic.toString(uDecimalDivisor) + ", arithmetic=" + arithmetic + "]";
+	}
+}
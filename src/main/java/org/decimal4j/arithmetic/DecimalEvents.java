@@ -0,0 +1,124 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2023 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.arithmetic;
+
+/**
+ * Hooks recording diagnostic events for overflows, conversions falling back to
+ * {@code BigDecimal} or {@code BigInteger}, slow path calculations and
+ * allocations of thread local scratch objects.
+ * <p>
+ * This version is used on Java 8 and does nothing; the empty methods are
+ * eliminated by the JIT compiler. On Java 11 and later the multi-release jar
+ * contains a replacement of this class committing Java Flight Recorder events in
+ * the {@code org.decimal4j} namespace. The events are disabled by default and
+ * can be enabled programmatically, for instance via
+ * {@code Recording.enable("org.decimal4j.Overflow")}, or with a {@code .jfc}
+ * settings file containing
+ * 
+ * <pre>
+ * &lt;event name="org.decimal4j.Overflow"&gt;
+ *   &lt;setting name="enabled"&gt;true&lt;/setting&gt;
+ *   &lt;setting name="stackTrace"&gt;true&lt;/setting&gt;
+ * &lt;/event&gt;
+ * </pre>
+ * 
+ * Available events are {@code org.decimal4j.Overflow},
+ * {@code org.decimal4j.ConversionFallback}, {@code org.decimal4j.SlowPath}
+ * and {@code org.decimal4j.ThreadLocalAllocation}.
+ */
+final class DecimalEvents {
+
+	/**
+	 * Records an overflow exception that is about to be thrown.
+	 * 
+	 * @param message
+	 *            the exception message
+	 */
+	static final void overflow(String message) {
+		// no-op on Java 8
+	}
+
+	/**
+	 * Starts a section in which overflow exceptions are caught by the caller
+	 * and not thrown to the application, for instance by saturating
+	 * arithmetic. Overflows are not recorded in this section of the current
+	 * thread until it is ended with {@link #restoreOverflows(boolean)}.
+	 * 
+	 * @return the value to pass to {@link #restoreOverflows(boolean)}
+	 */
+	static final boolean suppressOverflows() {
+		// no-op on Java 8
+		return false;
+	}
+
+	/**
+	 * Ends a section started with {@link #suppressOverflows()}.
+	 * 
+	 * @param suppressed
+	 *            the value returned by {@link #suppressOverflows()}
+	 */
+	static final void restoreOverflows(boolean suppressed) {
+		// no-op on Java 8
+	}
+
+	/**
+	 * Records a conversion that is performed through {@code BigDecimal} or
+	 * {@code BigInteger} arithmetic.
+	 * 
+	 * @param conversion
+	 *            the name of the conversion
+	 * @param scale
+	 *            the scale of the decimal value
+	 */
+	static final void conversionFallback(String conversion, int scale) {
+		// no-op on Java 8
+	}
+
+	/**
+	 * Records a calculation performed with extended precision.
+	 * 
+	 * @param operation
+	 *            the name of the operation
+	 * @param scale
+	 *            the scale of the decimal value
+	 */
+	static final void slowPath(String operation, int scale) {
+		// no-op on Java 8
+	}
+
+	/**
+	 * Records the allocation of a thread local scratch object.
+	 * 
+	 * @param type
+	 *            the class of the allocated object
+	 */
+	static final void threadLocalAllocation(Class<?> type) {
+		// no-op on Java 8
+	}
+
+	// no instances
+	private DecimalEvents() {
+		super();
+	}
+}
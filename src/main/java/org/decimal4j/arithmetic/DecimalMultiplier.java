@@ -0,0 +1,283 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2023 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.arithmetic;
+
+import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.scale.ScaleMetrics;
+import org.decimal4j.scale.Scales;
+import org.decimal4j.truncate.DecimalRounding;
+import org.decimal4j.truncate.OverflowMode;
+
+/**
+ * A factor preconditioned for repeated multiplication of many values by the
+ * same unscaled decimal value such as a fee, tax or FX rate. The constructor
+ * selects the cheapest exact strategy once:
+ * <ul>
+ * <li>zero factor: the result is always zero</li>
+ * <li>positive power of ten factor: the product is a multiplication or a
+ * rounded division by a power of ten</li>
+ * <li>any other factor: the product is calculated in a long if it fits, and
+ * as 128 bit product divided by the scale factor through multiplication with
+ * its precomputed reciprocal otherwise</li>
+ * </ul>
+ * Results are identical to {@link DecimalArithmetic#multiply(long, long)} of
+ * the arithmetic passed to the constructor, including rounding, overflow
+ * handling and exceptions. Products near or beyond the range of a long,
+ * inexact results with rounding mode UNNECESSARY and arithmetics with
+ * {@link OverflowMode#FLAGGING} overflow mode are delegated to the arithmetic.
+ * <p>
+ * Instances of this class are immutable and can be shared between threads.
+ */
+public final class DecimalMultiplier {
+
+	private static enum Strategy {
+		DELEGATE, ZERO, MULTIPLY_BY_POW10, DIVIDE_BY_POW10, MULTIPLY
+	}
+
+	private final DecimalArithmetic arithmetic;
+	private final DecimalRounding rounding;
+	private final long uDecimalFactor;
+	private final Strategy strategy;
+	private final ScaleMetrics pow10;
+	private final long bound;
+	private final ScaleMetrics scaleMetrics;
+	private final long scaleFactor;
+	private final int shift;
+	private final long reciprocal;
+
+	/**
+	 * Creates a preconditioned multiplier for the given arithmetic and unscaled
+	 * decimal factor.
+	 * 
+	 * @param arithmetic
+	 *            the arithmetic defining scale, rounding and overflow mode of
+	 *            the multiplication
+	 * @param uDecimalFactor
+	 *            the unscaled decimal factor
+	 */
+	public DecimalMultiplier(DecimalArithmetic arithmetic, long uDecimalFactor) {
+		final ScaleMetrics scaleMetrics = arithmetic.getScaleMetrics();
+		final ScaleMetrics factorPow10 = Scales.findByScaleFactor(uDecimalFactor);
+		this.arithmetic = arithmetic;
+		this.scaleMetrics = scaleMetrics;
+		this.rounding = DecimalRounding.valueOf(arithmetic.getRoundingMode());
+		this.uDecimalFactor = uDecimalFactor;
+		this.scaleFactor = scaleMetrics.getScaleFactor();
+		this.shift = Long.numberOfLeadingZeros(scaleFactor);
+		this.reciprocal = Div.reciprocal(scaleFactor << shift);
+		if (arithmetic.getOverflowMode() == OverflowMode.FLAGGING) {
+			this.strategy = Strategy.DELEGATE;
+			this.pow10 = null;
+			this.bound = 0;
+		} else if (uDecimalFactor == 0) {
+			this.strategy = Strategy.ZERO;
+			this.pow10 = null;
+			this.bound = 0;
+		} else if (factorPow10 != null && factorPow10.getScale() >= scaleMetrics.getScale()) {
+			this.strategy = Strategy.MULTIPLY_BY_POW10;
+			this.pow10 = Scales.getScaleMetrics(factorPow10.getScale() - scaleMetrics.getScale());
+			this.bound = Long.MAX_VALUE / pow10.getScaleFactor();
+		} else if (factorPow10 != null) {
+			this.strategy = Strategy.DIVIDE_BY_POW10;
+			this.pow10 = Scales.getScaleMetrics(scaleMetrics.getScale() - factorPow10.getScale());
+			this.bound = 0;
+		} else {
+			this.strategy = Strategy.MULTIPLY;
+			this.pow10 = null;
+			this.bound = Long.MAX_VALUE / Math.abs(uDecimalFactor);
+		}
+	}
+
+	/**
+	 * Returns the arithmetic used for the multiplication.
+	 * 
+	 * @return the arithmetic defining scale, rounding and overflow mode
+	 */
+	public final DecimalArithmetic getArithmetic() {
+		return arithmetic;
+	}
+
+	/**
+	 * Returns the unscaled decimal factor.
+	 * 
+	 * @return the unscaled factor
+	 */
+	public final long getFactor() {
+		return uDecimalFactor;
+	}
+
+	/**
+	 * Multiplies the specified value by this factor. The result is the same as
+	 * {@code getArithmetic().multiply(uDecimal, getFactor())}.
+	 * 
+	 * @param uDecimal
+	 *            the unscaled decimal value to multiply
+	 * @return {@code uDecimal * factor} rounded and overflow handled as defined
+	 *         by the arithmetic
+	 * @throws ArithmeticException
+	 *             if the rounding mode is UNNECESSARY and rounding is
+	 *             necessary, or if an overflow occurs and the arithmetic uses
+	 *             {@link OverflowMode#CHECKED} overflow mode
+	 */
+	public final long multiply(long uDecimal) {
+		switch (strategy) {
+		case ZERO:
+			return 0;
+		case MULTIPLY_BY_POW10:
+			return multiplyByPow10(uDecimal);
+		case DIVIDE_BY_POW10:
+			return divideByPow10(uDecimal);
+		case MULTIPLY:
+			return multiplyGeneric(uDecimal);
+		default:
+			return arithmetic.multiply(uDecimal, uDecimalFactor);
+		}
+	}
+
+	/**
+	 * Multiplies {@code length} values from the source array by this factor
+	 * and stores the results in the destination array. Source and destination
+	 * array can be the same array, also with overlapping ranges if
+	 * {@code dstOffset <= srcOffset}.
+	 * 
+	 * @param values
+	 *            the unscaled decimal values to multiply
+	 * @param srcOffset
+	 *            the index of the first value in {@code values}
+	 * @param products
+	 *            the destination array for the unscaled products
+	 * @param dstOffset
+	 *            the index in {@code products} for the first product
+	 * @param length
+	 *            the number of values to multiply
+	 * @throws IndexOutOfBoundsException
+	 *             if the source or destination range is not within the bounds
+	 *             of the respective array
+	 * @throws ArithmeticException
+	 *             if the rounding mode is UNNECESSARY and rounding is
+	 *             necessary, or if an overflow occurs and the arithmetic uses
+	 *             {@link OverflowMode#CHECKED} overflow mode
+	 */
+	public final void multiply(long[] values, int srcOffset, long[] products, int dstOffset, int length) {
+		if (srcOffset < 0 | dstOffset < 0 | length < 0 | srcOffset > values.length - length
+				| dstOffset > products.length - length) {
+			throw new IndexOutOfBoundsException("Cannot multiply " + length + " values from offset " + srcOffset
+					+ " of array with length " + values.length + " into offset " + dstOffset
+					+ " of array with length " + products.length);
+		}
+		switch (strategy) {
+		case ZERO:
+			for (int i = 0; i < length; i++) {
+				products[dstOffset + i] = 0;
+			}
+			break;
+		case MULTIPLY_BY_POW10:
+			for (int i = 0; i < length; i++) {
+				products[dstOffset + i] = multiplyByPow10(values[srcOffset + i]);
+			}
+			break;
+		case DIVIDE_BY_POW10:
+			for (int i = 0; i < length; i++) {
+				products[dstOffset + i] = divideByPow10(values[srcOffset + i]);
+			}
+			break;
+		case MULTIPLY:
+			for (int i = 0; i < length; i++) {
+				products[dstOffset + i] = multiplyGeneric(values[srcOffset + i]);
+			}
+			break;
+		default:
+			for (int i = 0; i < length; i++) {
+				products[dstOffset + i] = arithmetic.multiply(values[srcOffset + i], uDecimalFactor);
+			}
+			break;
+		}
+	}
+
+	private final long multiplyByPow10(long uDecimal) {
+		if (-bound <= uDecimal & uDecimal <= bound) {
+			return pow10.multiplyByScaleFactor(uDecimal);
+		}
+		return arithmetic.multiply(uDecimal, uDecimalFactor);
+	}
+
+	private final long divideByPow10(long uDecimal) {
+		final long truncated = pow10.divideByScaleFactor(uDecimal);
+		final long remainder = uDecimal - pow10.multiplyByScaleFactor(truncated);
+		if (remainder == 0) {
+			return truncated;
+		}
+		if (rounding == DecimalRounding.UNNECESSARY) {
+			return arithmetic.multiply(uDecimal, uDecimalFactor);
+		}
+		return truncated + Rounding.calculateRoundingIncrement(rounding, truncated, remainder, pow10.getScaleFactor());
+	}
+
+	private final long multiplyGeneric(long uDecimal) {
+		if (-bound <= uDecimal & uDecimal <= bound) {
+			// product fits in long
+			final long product = uDecimal * uDecimalFactor;
+			final long truncated = scaleMetrics.divideByScaleFactor(product);
+			final long remainder = product - scaleMetrics.multiplyByScaleFactor(truncated);
+			if (remainder == 0) {
+				return truncated;
+			}
+			if (rounding == DecimalRounding.UNNECESSARY) {
+				return arithmetic.multiply(uDecimal, uDecimalFactor);
+			}
+			return truncated + Rounding.calculateRoundingIncrement(rounding, truncated, remainder, scaleFactor);
+		}
+		// 128 bit product divided by scale factor
+		final long absValue = Math.abs(uDecimal);// unsigned, also for Long.MIN_VALUE
+		final long absFactor = Math.abs(uDecimalFactor);
+		final long hProduct = Unsigned.multiplyHigh(absValue, absFactor);
+		final long lProduct = absValue * absFactor;
+		if (!Unsigned.isLess(hProduct, scaleFactor)) {
+			// quotient does not fit into 64 bits
+			return arithmetic.multiply(uDecimal, uDecimalFactor);
+		}
+		final long quotient = Div.div128by64(hProduct, lProduct, scaleFactor, shift, reciprocal);
+		final long remainder = lProduct - quotient * scaleFactor;
+		if (quotient < 0 | quotient == Long.MAX_VALUE | (remainder != 0 & rounding == DecimalRounding.UNNECESSARY)) {
+			// possible overflow or rounding necessary
+			return arithmetic.multiply(uDecimal, uDecimalFactor);
+		}
+		final boolean neg = (uDecimal ^ uDecimalFactor) < 0;
+		final long signed = neg ? -quotient : quotient;
+		if (remainder == 0 | rounding == DecimalRounding.DOWN) {
+			return signed;
+		}
+		return signed + Rounding.calculateRoundingIncrement(rounding, neg ? -1 : 1, quotient, remainder, scaleFactor);
+	}
+
+	/**
+	 * Returns a string with factor and arithmetic of this decimal multiplier.
+	 * 
+	 * @return a string like "DecimalMultiplier[factor=1.2345, arithmetic=...]"
+	 */
+	@Override
+	public final String toString() {
+		return "DecimalMultiplier[factor=" + arithmetic.toString(uDecimalFactor) + ", arithmetic=" + arithmetic + "]";
+	}
+}
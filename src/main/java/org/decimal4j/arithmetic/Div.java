@@ -27,7 +27,6 @@ import org.decimal4j.api.DecimalArithmetic;
 import org.decimal4j.scale.ScaleMetrics;
 import org.decimal4j.scale.Scales;
 import org.decimal4j.truncate.DecimalRounding;
-import org.decimal4j.truncate.TruncatedPart;
 
 /**
  * Provides static methods to calculate division results.
@@ -77,7 +76,7 @@ final class Div {
 			return Checked.add(arith, quotient, inc);
 		} catch (ArithmeticException e) {
 			Exceptions.rethrowIfRoundingNecessary(e);
-			throw Exceptions.newArithmeticExceptionWithCause("Overflow: " + arith.toString(uDecimalDividend) + " / "
+			throw Exceptions.newOverflowArithmeticException("Overflow: " + arith.toString(uDecimalDividend) + " / "
 					+ lDivisor, e);
 		}
 	}
@@ -380,7 +379,7 @@ final class Div {
 			}
 			return Checked.addLong(divisorMetrics.multiplyByScaleFactorExact(integralPart), fractionalPart);
 		} catch (ArithmeticException e) {
-			throw Exceptions.newArithmeticExceptionWithCause("Overflow: " + dividendMetrics.toString(uDecimalDividend) + " / "
+			throw Exceptions.newOverflowArithmeticException("Overflow: " + dividendMetrics.toString(uDecimalDividend) + " / "
 					+ divisorMetrics.toString(uDecimalDivisor), e);
 		}
 	}
@@ -521,7 +520,7 @@ final class Div {
 			}
 		} catch (ArithmeticException e) {
 			Exceptions.rethrowIfRoundingNecessary(e);
-			throw Exceptions.newArithmeticExceptionWithCause("Overflow: " + dividendMetrics.toString(uDecimalDividend) + " / " + divisorMetrics.toString(uDecimalDivisor), e);
+			throw Exceptions.newOverflowArithmeticException("Overflow: " + dividendMetrics.toString(uDecimalDividend) + " / " + divisorMetrics.toString(uDecimalDivisor), e);
 		}
 	}
 
@@ -626,11 +625,73 @@ final class Div {
 		}
 
 		r = ((un21 << 32) + un0 - q0 * v) >>> s;
-		final TruncatedPart truncatedPart = Rounding.truncatedPartFor(Math.abs(r), v0);
-		final int inc = rounding.calculateRoundingIncrement(neg ? -1 : 1, q, truncatedPart);
+		final int inc = Rounding.calculateRoundingIncrement(rounding, neg ? -1 : 1, q, Math.abs(r), v0);
 		return (neg ? -q : q) + inc;
 	}
 
+	/**
+	 * Returns the reciprocal {@code floor((2^128 - 1) / v) - 2^64} of the
+	 * given normalized divisor {@code v} for use in
+	 * {@link #div128by64(long, long, long, int, long)}.
+	 * 
+	 * @param v
+	 *            the normalized divisor, that is, with the most significant
+	 *            bit set
+	 * @return the 64 bit reciprocal of the normalized divisor
+	 */
+	static final long reciprocal(final long v) {
+		return div128by64(DecimalRounding.DOWN, false, ~v, -1L, v);
+	}
+
+	/**
+	 * PRECONDITION: Unsigned.isLess(u1, v0)
+	 * <p>
+	 * Divides a 128 bit dividend by a 64 bit divisor and returns the unsigned
+	 * truncated 64 bit quotient. Instead of division, the quotient is
+	 * calculated through multiplication with the precomputed reciprocal of the
+	 * normalized divisor followed by at most two correction steps; the
+	 * remainder is {@code u0 - quotient * v0}.
+	 * <p>
+	 * From N. Moller and T. Granlund, <i>Improved division by invariant
+	 * integers</i>, IEEE Transactions on Computers, 2011, algorithm 4.
+	 * 
+	 * @param u1
+	 *            high order 64 bits of dividend
+	 * @param u0
+	 *            low order 64 bits of dividend
+	 * @param v0
+	 *            64 bit divisor
+	 * @param shift
+	 *            the number of leading zeros of {@code v0}
+	 * @param reciprocal
+	 *            the reciprocal of {@code v0 << shift} as returned by
+	 *            {@link #reciprocal(long)}
+	 * @return the unsigned truncated quotient
+	 */
+	static final long div128by64(final long u1, final long u0, final long v0, final int shift, final long reciprocal) {
+		final long v = v0 << shift;
+
+		// normalize the dividend, no bits are lost since u1 < v0
+		final long un1 = (u1 << shift) | (u0 >>> (64 - shift)) & (-shift >> 63);
+		final long un0 = u0 << shift;
+
+		// (q1, q0) = reciprocal * un1 + (un1 + 1, un0)
+		final long p0 = reciprocal * un1;
+		final long q0 = p0 + un0;
+		long q1 = Unsigned.multiplyHigh(reciprocal, un1) + un1 + 1 + (Unsigned.isLess(q0, p0) ? 1 : 0);
+
+		// correction steps
+		long r = un0 - q1 * v;
+		if (Unsigned.isGreater(r, q0)) {
+			q1--;
+			r += v;
+		}
+		if (!Unsigned.isLess(r, v)) {
+			q1++;
+		}
+		return q1;
+	}
+
 	private static final long div128by64part(final long unCB, final long unA, final long vn1, final long vn0) {
 		// quotient and reminder, first guess
 		long q = unsignedDiv64by32(unCB, vn1);
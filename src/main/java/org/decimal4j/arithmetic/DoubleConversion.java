@@ -115,7 +115,7 @@ final class DoubleConversion {
 		switch (mode) {
 		case UNNECESSARY:
 			if (!isMathematicalInteger(x)) {
-				throw new ArithmeticException("Rounding necessary to convert to an integer value: " + x);
+				throw Exceptions.newRoundingNecessaryArithmeticException("Rounding necessary to convert to an integer value: " + x);
 			}
 			return x;
 		case FLOOR:
@@ -298,7 +298,7 @@ final class DoubleConversion {
 			truncatedPart = Rounding.truncatedPartFor2powN(hScaled, lScaled, shift);
 		}
 		final int inc = absResult < 0 ? 0
-				: rounding.calculateRoundingIncrement(value >= 0 ? 1 : -1, absResult, truncatedPart);
+				: Rounding.calculateRoundingIncrement(rounding, value >= 0 ? 1 : -1, absResult, truncatedPart);
 		if (absResult < 0 | (value >= 0 & absResult == Long.MAX_VALUE & inc == 1)) {
 			throw newOverflowException(arith, value);
 		}
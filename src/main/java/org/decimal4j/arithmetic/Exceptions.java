@@ -27,11 +27,40 @@ import java.math.RoundingMode;
 
 /**
  * Utility for exception conversion and re-throwing.
+ * <p>
+ * Overflow and "rounding necessary" exceptions created by the factory methods
+ * of this class are instances of dedicated subclasses of
+ * {@link ArithmeticException}. They can be classified with
+ * {@link #isOverflow(Throwable)} and {@link #isRoundingNecessary(Throwable)}
+ * without inspecting the exception message.
  */
 public final class Exceptions {
 
 	private static final String ROUNDING_NECESSARY = "Rounding necessary";
 
+	/**
+	 * Arithmetic exception indicating an overflow.
+	 */
+	private static final class OverflowException extends ArithmeticException {
+		private static final long serialVersionUID = 1L;
+
+		OverflowException(String message) {
+			super(message);
+		}
+	}
+
+	/**
+	 * Arithmetic exception indicating that rounding was necessary with
+	 * {@link RoundingMode#UNNECESSARY}.
+	 */
+	private static final class RoundingNecessaryException extends ArithmeticException {
+		private static final long serialVersionUID = 1L;
+
+		RoundingNecessaryException(String message) {
+			super(message);
+		}
+	}
+
 	/**
 	 * Returns a new {@link ArithmeticException} with the given {@code message}
 	 * and nested {@code cause}.
@@ -41,35 +70,108 @@ public final class Exceptions {
 	 * @param cause
 	 *            the causing exception
 	 * @return an arithmetic exception with the given message and cause
+	 * @see #newOverflowArithmeticException(String, Exception)
 	 */
 	public static final ArithmeticException newArithmeticExceptionWithCause(String message, Exception cause) {
 		return (ArithmeticException) new ArithmeticException(message).initCause(cause);
 	}
 
+	/**
+	 * Returns a new {@link ArithmeticException} indicating an overflow with
+	 * the given {@code message}.
+	 * 
+	 * @param message
+	 *            the exception message
+	 * @return an arithmetic exception for which {@link #isOverflow(Throwable)}
+	 *         returns true
+	 */
+	public static final ArithmeticException newOverflowArithmeticException(String message) {
+		DecimalEvents.overflow(message);
+		return new OverflowException(message);
+	}
+
+	/**
+	 * Returns a new {@link ArithmeticException} indicating an overflow with
+	 * the given {@code message} and nested {@code cause}.
+	 * 
+	 * @param message
+	 *            the exception message
+	 * @param cause
+	 *            the causing exception
+	 * @return an arithmetic exception for which {@link #isOverflow(Throwable)}
+	 *         returns true
+	 */
+	public static final ArithmeticException newOverflowArithmeticException(String message, Exception cause) {
+		if (!isOverflow(cause)) {
+			// overflow causes are already recorded when they are created
+			DecimalEvents.overflow(message);
+		}
+		return (ArithmeticException) new OverflowException(message).initCause(cause);
+	}
+
 	/**
 	 * Returns new {@link ArithmeticException} indicating that rounding was
 	 * necessary when attempting to apply rounding with
 	 * {@link RoundingMode#UNNECESSARY}.
 	 * 
 	 * @return an arithmetic exception with the message "Rounding necessary"
+	 *         for which {@link #isRoundingNecessary(Throwable)} returns true
 	 */
 	public static final ArithmeticException newRoundingNecessaryArithmeticException() {
-		return new ArithmeticException(ROUNDING_NECESSARY);
+		return new RoundingNecessaryException(ROUNDING_NECESSARY);
+	}
+
+	/**
+	 * Returns new {@link ArithmeticException} with the given {@code message}
+	 * indicating that rounding was necessary when attempting to apply rounding
+	 * with {@link RoundingMode#UNNECESSARY}.
+	 * 
+	 * @param message
+	 *            the exception message
+	 * @return an arithmetic exception for which
+	 *         {@link #isRoundingNecessary(Throwable)} returns true
+	 */
+	public static final ArithmeticException newRoundingNecessaryArithmeticException(String message) {
+		return new RoundingNecessaryException(message);
+	}
+
+	/**
+	 * Returns true if the given exception was created by one of the
+	 * {@code newOverflowArithmeticException(..)} methods.
+	 * 
+	 * @param e
+	 *            the exception to classify
+	 * @return true if {@code e} indicates an overflow
+	 */
+	public static final boolean isOverflow(Throwable e) {
+		return e instanceof OverflowException;
+	}
+
+	/**
+	 * Returns true if the given exception was created by one of the
+	 * {@code newRoundingNecessaryArithmeticException(..)} methods.
+	 * 
+	 * @param e
+	 *            the exception to classify
+	 * @return true if {@code e} indicates that rounding was necessary
+	 */
+	public static final boolean isRoundingNecessary(Throwable e) {
+		return e instanceof RoundingNecessaryException;
 	}
 
 	/**
-	 * Rethrows the given arithmetic exception if its message equals
-	 * "Rounding necessary". Otherwise the method does nothing.
+	 * Rethrows the given arithmetic exception if it indicates that rounding
+	 * was necessary. Otherwise the method does nothing.
 	 * 
 	 * @param e
 	 *            the exception to rethrow if it is of the "Rounding necessary"
 	 *            type
 	 * @throws ArithmeticException
-	 *             rethrows the given exception {@code e} if its message equals
-	 *             "Rounding necessary"
+	 *             rethrows the given exception {@code e} if
+	 *             {@link #isRoundingNecessary(Throwable)} returns true
 	 */
 	public static final void rethrowIfRoundingNecessary(ArithmeticException e) {
-		if (ROUNDING_NECESSARY.equals(e.getMessage())) {
+		if (isRoundingNecessary(e)) {
 			throw e;
 		}
 	}
@@ -0,0 +1,355 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2023 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.arithmetic;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Objects;
+
+import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.scale.ScaleMetrics;
+import org.decimal4j.scale.Scales;
+import org.decimal4j.truncate.FlaggingRounding;
+import org.decimal4j.truncate.OverflowMode;
+import org.decimal4j.truncate.StatusFlags;
+import org.decimal4j.truncate.TruncationPolicy;
+
+/**
+ * Arithmetic implementation with rounding and {@link OverflowMode#FLAGGING
+ * FLAGGING} overflow mode for all scales. Results are the same as for
+ * {@link SaturatingArithmetic}; in addition, overflows raise the
+ * {@link StatusFlags#OVERFLOW OVERFLOW} flag and rounded or saturated results
+ * raise the {@link StatusFlags#INEXACT INEXACT} flag in the
+ * {@link #getStatusFlags() status word} of this arithmetic.
+ * <p>
+ * Inexact results are detected from the remainder of the rounded result, that
+ * is, the difference between the exact result and the rounded result scaled
+ * to an integer. The remainder is computed from operands and result with a
+ * single multiplication modulo 2<sup>64</sup>; it is zero if and only if the
+ * result is exact since the magnitude of the true remainder is less than
+ * 2<sup>64</sup>. Only {@link #pow(long, int) pow} and operations with unscaled
+ * arguments of a scale out of the supported range are evaluated again with
+ * rounding modes {@link RoundingMode#DOWN DOWN} and {@link RoundingMode#UP UP}.
+ * No {@code INEXACT} flag is raised in {@link RoundingMode#UNNECESSARY
+ * UNNECESSARY} rounding mode since an exception is thrown if rounding is
+ * necessary.
+ */
+public final class FlaggingArithmetic extends AbstractSaturatingArithmetic {
+
+	private final StatusFlags flags;
+	private final DecimalArithmetic checkedDown;
+	private final DecimalArithmetic checkedUp;
+
+	/**
+	 * Constructor for decimal arithmetic with given scale, rounding mode and
+	 * {@link OverflowMode#FLAGGING} overflow mode. Flags are raised in the
+	 * {@link StatusFlags#current() status word of the current thread}.
+	 * 
+	 * @param scaleMetrics
+	 *            the scale metrics for this decimal arithmetic
+	 * @param roundingMode
+	 *            the rounding mode to use for all decimal arithmetic
+	 */
+	public FlaggingArithmetic(ScaleMetrics scaleMetrics, RoundingMode roundingMode) {
+		this(scaleMetrics, roundingMode, null);
+	}
+
+	/**
+	 * Constructor for decimal arithmetic with given scale, rounding mode,
+	 * {@link OverflowMode#FLAGGING} overflow mode and the status word in which
+	 * flags are raised.
+	 * 
+	 * @param scaleMetrics
+	 *            the scale metrics for this decimal arithmetic
+	 * @param roundingMode
+	 *            the rounding mode to use for all decimal arithmetic
+	 * @param flags
+	 *            the status word in which flags are raised
+	 */
+	public FlaggingArithmetic(ScaleMetrics scaleMetrics, RoundingMode roundingMode, StatusFlags flags) {
+		super(scaleMetrics, roundingMode);
+		this.flags = flags;
+		this.checkedDown = scaleMetrics.getCheckedArithmetic(RoundingMode.DOWN);
+		this.checkedUp = scaleMetrics.getCheckedArithmetic(RoundingMode.UP);
+	}
+
+	/**
+	 * Returns a new arithmetic with the same scale and rounding mode as this
+	 * arithmetic raising flags in the given status word.
+	 * 
+	 * @param flags
+	 *            the status word in which flags are raised
+	 * @return an arithmetic raising flags in {@code flags}
+	 */
+	public final FlaggingArithmetic withStatusFlags(StatusFlags flags) {
+		return new FlaggingArithmetic(getScaleMetrics(), getRoundingMode(), Objects.requireNonNull(flags, "flags cannot be null"));
+	}
+
+	/**
+	 * Returns the status word in which this arithmetic raises flags. This is
+	 * the status word of the current thread unless a status word was provided
+	 * at construction time.
+	 * 
+	 * @return the status word of this arithmetic
+	 */
+	public final StatusFlags getStatusFlags() {
+		return flags != null ? flags : StatusFlags.current();
+	}
+
+	@Override
+	final DecimalArithmetic deriveArithmetic(ScaleMetrics scaleMetrics, TruncationPolicy truncationPolicy) {
+		if (flags != null && truncationPolicy.getOverflowMode() == OverflowMode.FLAGGING) {
+			//keep raising flags in the status word of this arithmetic
+			return new FlaggingArithmetic(scaleMetrics, truncationPolicy.getRoundingMode(), flags);
+		}
+		return scaleMetrics.getArithmetic(truncationPolicy);
+	}
+
+	@Override
+	public final OverflowMode getOverflowMode() {
+		return OverflowMode.FLAGGING;
+	}
+
+	@Override
+	public final FlaggingRounding getTruncationPolicy() {
+		return FlaggingRounding.valueOf(getRoundingMode());
+	}
+
+	@Override
+	final long overflow(int signum) {
+		getStatusFlags().raise(StatusFlags.OVERFLOW | StatusFlags.INEXACT);
+		return signum < 0 ? Long.MIN_VALUE : Long.MAX_VALUE;
+	}
+
+	@Override
+	final long rounded(Operation op, long a, long b, int n, long result) {
+		if (getRoundingMode() != RoundingMode.UNNECESSARY && isInexact(op, a, b, n, result)) {
+			getStatusFlags().raise(StatusFlags.INEXACT);
+		}
+		return result;
+	}
+
+	@Override
+	final long converted(BigDecimal value, long result) {
+		if (getRoundingMode() != RoundingMode.UNNECESSARY && value.scale() > getScale()
+				&& value.signum() != 0 && value.stripTrailingZeros().scale() > getScale()) {
+			getStatusFlags().raise(StatusFlags.INEXACT);
+		}
+		return result;
+	}
+
+	@Override
+	final long parsed(CharSequence value, int start, int end, long result) {
+		if (getRoundingMode() != RoundingMode.UNNECESSARY && hasTruncatedDigits(value, start, end)) {
+			getStatusFlags().raise(StatusFlags.INEXACT);
+		}
+		return result;
+	}
+
+	/**
+	 * Returns true if the given result of an operation calculated without
+	 * overflow differs from the exact result. Products of operands and result
+	 * are calculated modulo 2<sup>64</sup>; their difference is the remainder
+	 * of the rounded result.
+	 */
+	private final boolean isInexact(Operation op, long a, long b, int n, long result) {
+		switch (op) {
+		case ADD_UNSCALED:
+		case SUBTRACT_UNSCALED:
+			return isTruncated(b, (long) n - getScale());
+		case MULTIPLY:
+			return a * b != result * one();
+		case MULTIPLY_BY_UNSCALED:
+			if (n > Scales.MAX_SCALE) {
+				break;
+			}
+			return n > 0 && a * b != result * pow10(n);
+		case MULTIPLY_BY_POWER_OF_10:
+			return isTruncated(a, -(long) n);
+		case DIVIDE:
+			return a * one() != result * b;
+		case DIVIDE_BY_LONG:
+			return a != result * b;
+		case DIVIDE_BY_UNSCALED:
+			if (n < 0 | n > Scales.MAX_SCALE) {
+				break;
+			}
+			return a * pow10(n) != result * b;
+		case DIVIDE_BY_POWER_OF_10:
+			return isTruncated(a, n);
+		case AVG:
+			return ((a ^ b) & 0x1) != 0;
+		case INVERT:
+			return one() * one() != result * a;
+		case SQUARE:
+			return a * a != result * one();
+		case SQRT:
+			return a * one() != result * result;
+		case POW:
+			break;
+		case SHIFT_LEFT:
+			return isShiftedOut(a, -(long) n);
+		case SHIFT_RIGHT:
+			return isShiftedOut(a, n);
+		case ROUND:
+		case ROUND_TO_INCREMENT:
+			return a != result;
+		case FROM_FLOAT:
+			return !isExact(Float.intBitsToFloat((int) a));
+		case FROM_DOUBLE:
+			return !isExact(Double.longBitsToDouble(a));
+		case FROM_UNSCALED:
+			return isTruncated(a, (long) n - getScale());
+		case TO_LONG:
+			return a != result * one();
+		case TO_UNSCALED:
+			return isTruncated(a, getScale() - (long) n);
+		default:
+			// all other operations are exact
+			return false;
+		}
+		return isInexactByEvaluation(op, a, b, n, result);
+	}
+
+	/**
+	 * Returns true if the result rounded DOWN or UP differs from the given
+	 * result, used for operations whose remainder is not easily accessible.
+	 */
+	private final boolean isInexactByEvaluation(Operation op, long a, long b, int n, long result) {
+		final RoundingMode roundingMode = getRoundingMode();
+		// result is either the value rounded DOWN or UP, inexact if the two differ
+		if (roundingMode != RoundingMode.DOWN && result != op.apply(checkedDown, a, b, n)) {
+			return true;
+		}
+		if (roundingMode == RoundingMode.UP) {
+			return false;
+		}
+		final boolean suppressed = DecimalEvents.suppressOverflows();
+		try {
+			return result != op.apply(checkedUp, a, b, n);
+		} catch (ArithmeticException | IllegalArgumentException e) {
+			// rounding UP overflows, hence the result was rounded
+			return true;
+		} finally {
+			DecimalEvents.restoreOverflows(suppressed);
+		}
+	}
+
+	/**
+	 * Returns true if the value is not a multiple of 10<sup>digits</sup>, that
+	 * is, if non-zero digits are truncated when dividing by
+	 * 10<sup>digits</sup>.
+	 */
+	private static final boolean isTruncated(long value, long digits) {
+		if (digits <= 0) {
+			return false;
+		}
+		return digits > Scales.MAX_SCALE ? value != 0 : value % pow10((int) digits) != 0;
+	}
+
+	/**
+	 * Returns true if non-zero bits are shifted out when shifting the value
+	 * by the given number of positions to the right.
+	 */
+	private static final boolean isShiftedOut(long value, long positions) {
+		if (positions <= 0) {
+			return false;
+		}
+		return positions >= Long.SIZE ? value != 0 : (value & ((1L << positions) - 1)) != 0;
+	}
+
+	/**
+	 * Returns true if the float value is a multiple of the unit in the last
+	 * place of this arithmetic's scale.
+	 */
+	private final boolean isExact(float value) {
+		final int bits = Float.floatToRawIntBits(value);
+		final int biasedExponent = (bits >>> 23) & 0xff;
+		final int significand = biasedExponent == 0 ? (bits & 0x7fffff) << 1 : (bits & 0x7fffff) | 0x800000;
+		return significand == 0 || Integer.numberOfTrailingZeros(significand) + biasedExponent - 150 + getScale() >= 0;
+	}
+
+	/**
+	 * Returns true if the double value is a multiple of the unit in the last
+	 * place of this arithmetic's scale.
+	 */
+	private final boolean isExact(double value) {
+		final long bits = Double.doubleToRawLongBits(value);
+		final int biasedExponent = (int) (bits >>> 52) & 0x7ff;
+		final long significand = biasedExponent == 0 ? (bits & 0xfffffffffffffL) << 1 : (bits & 0xfffffffffffffL) | 0x10000000000000L;
+		return significand == 0 || Long.numberOfTrailingZeros(significand) + biasedExponent - 1075 + getScale() >= 0;
+	}
+
+	/**
+	 * Returns true if the parsed number has non-zero digits beyond the scale
+	 * of this arithmetic, taking an exponent into account.
+	 */
+	private final boolean hasTruncatedDigits(CharSequence value, int start, int end) {
+		int digitsEnd = end;
+		long exponent = 0;
+		for (int i = start; i < end; i++) {
+			final char ch = value.charAt(i);
+			if (ch == 'e' | ch == 'E') {
+				digitsEnd = i;
+				exponent = parseExponent(value, i + 1, end);
+				break;
+			}
+		}
+		int decimalPoint = digitsEnd;
+		for (int i = start; i < digitsEnd; i++) {
+			if (value.charAt(i) == '.') {
+				decimalPoint = i;
+				break;
+			}
+		}
+		// position 1 is the first fraction digit and 0 the units digit
+		final long maxPosition = getScale() + exponent;
+		for (int i = start; i < digitsEnd; i++) {
+			final char ch = value.charAt(i);
+			if (ch > '0' & ch <= '9') {
+				final long position = i < decimalPoint ? i - decimalPoint + 1 : i - decimalPoint;
+				if (position > maxPosition) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	private static final long parseExponent(CharSequence value, int start, int end) {
+		final boolean negative = start < end && value.charAt(start) == '-';
+		long exponent = 0;
+		for (int i = start; i < end; i++) {
+			final char ch = value.charAt(i);
+			if (ch >= '0' & ch <= '9') {
+				exponent = Math.min(UnscaledParser.MAX_EXPONENT, exponent * 10 + (ch - '0'));
+			}
+		}
+		return negative ? -exponent : exponent;
+	}
+
+	private static final long pow10(int n) {
+		return Scales.getScaleMetrics(n).getScaleFactor();
+	}
+}
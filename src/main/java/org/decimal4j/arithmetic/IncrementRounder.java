@@ -0,0 +1,185 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2023 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.arithmetic;
+
+import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.truncate.DecimalRounding;
+import org.decimal4j.truncate.OverflowMode;
+
+/**
+ * Rounds values to integral multiples of a fixed increment such as the tick
+ * size of an exchange, for instance 0.05 or 0.25. The constructor precomputes
+ * the reciprocal of the increment so that every rounding operation becomes a
+ * multiplication followed by a correction step and the
+ * {@link Rounding#calculateRoundingIncrement(DecimalRounding, long, long, long)
+ * rounding increment} calculation.
+ * <p>
+ * Results are identical to
+ * {@link DecimalArithmetic#roundToIncrement(long, long)} of the arithmetic
+ * passed to the constructor, including rounding, overflow handling and
+ * exceptions. Results beyond the range of a long, inexact results with
+ * rounding mode UNNECESSARY and arithmetics with
+ * {@link OverflowMode#FLAGGING} overflow mode are delegated to the arithmetic.
+ * <p>
+ * Instances of this class are immutable and can be shared between threads.
+ */
+public final class IncrementRounder {
+
+	private final DecimalArithmetic arithmetic;
+	private final DecimalRounding rounding;
+	private final long unscaledIncrement;
+	private final int shift;
+	private final long reciprocal;
+	private final boolean delegate;
+
+	/**
+	 * Creates an increment rounder for the given arithmetic and unscaled
+	 * increment.
+	 * 
+	 * @param arithmetic
+	 *            the arithmetic defining scale, rounding and overflow mode
+	 * @param unscaledIncrement
+	 *            the unscaled increment to round to, for instance 5 for a tick
+	 *            size of 0.05 if the scale is 2; must be positive
+	 * @throws IllegalArgumentException
+	 *             if {@code unscaledIncrement <= 0}
+	 */
+	public IncrementRounder(DecimalArithmetic arithmetic, long unscaledIncrement) {
+		if (unscaledIncrement <= 0) {
+			throw new IllegalArgumentException("increment must be positive but was " + unscaledIncrement);
+		}
+		this.arithmetic = arithmetic;
+		this.rounding = DecimalRounding.valueOf(arithmetic.getRoundingMode());
+		this.unscaledIncrement = unscaledIncrement;
+		this.shift = Long.numberOfLeadingZeros(unscaledIncrement);
+		this.reciprocal = Div.reciprocal(unscaledIncrement << shift);
+		this.delegate = arithmetic.getOverflowMode() == OverflowMode.FLAGGING;
+	}
+
+	/**
+	 * Returns the arithmetic used for the rounding.
+	 * 
+	 * @return the arithmetic defining scale, rounding and overflow mode
+	 */
+	public final DecimalArithmetic getArithmetic() {
+		return arithmetic;
+	}
+
+	/**
+	 * Returns the unscaled increment.
+	 * 
+	 * @return the unscaled increment to round to
+	 */
+	public final long getIncrement() {
+		return unscaledIncrement;
+	}
+
+	/**
+	 * Rounds the specified value to an integral multiple of the increment. The
+	 * result is the same as
+	 * {@code getArithmetic().roundToIncrement(uDecimal, getIncrement())}.
+	 * 
+	 * @param uDecimal
+	 *            the unscaled decimal value to round
+	 * @return {@code uDecimal} rounded to an integral multiple of the
+	 *         increment
+	 * @throws ArithmeticException
+	 *             if the rounding mode is UNNECESSARY and rounding is
+	 *             necessary, or if an overflow occurs and the arithmetic uses
+	 *             {@link OverflowMode#CHECKED} overflow mode
+	 */
+	public final long round(long uDecimal) {
+		if (delegate) {
+			return arithmetic.roundToIncrement(uDecimal, unscaledIncrement);
+		}
+		final boolean neg = uDecimal < 0;
+		final long absValue = Math.abs(uDecimal);// unsigned, also for Long.MIN_VALUE
+		final long quotient = Div.div128by64(0, absValue, unscaledIncrement, shift, reciprocal);
+		final long remainder = absValue - quotient * unscaledIncrement;
+		if (remainder == 0) {
+			return uDecimal;
+		}
+		if (rounding == DecimalRounding.UNNECESSARY) {
+			return arithmetic.roundToIncrement(uDecimal, unscaledIncrement);
+		}
+		final long truncated = neg ? remainder - absValue : absValue - remainder;
+		final int inc = Rounding.calculateRoundingIncrement(rounding, neg ? -1 : 1, quotient, remainder, unscaledIncrement);
+		if (inc == 0) {
+			return truncated;
+		}
+		final long delta = inc * unscaledIncrement;
+		final long result = truncated + delta;
+		if (((truncated ^ result) & (delta ^ result)) < 0) {
+			// overflow
+			return arithmetic.roundToIncrement(uDecimal, unscaledIncrement);
+		}
+		return result;
+	}
+
+	/**
+	 * Rounds {@code length} values from the source array to integral multiples
+	 * of the increment and stores the results in the destination array. Source
+	 * and destination array can be the same array, also with overlapping
+	 * ranges if {@code dstOffset <= srcOffset}.
+	 * 
+	 * @param values
+	 *            the unscaled decimal values to round
+	 * @param srcOffset
+	 *            the index of the first value in {@code values}
+	 * @param rounded
+	 *            the destination array for the rounded values
+	 * @param dstOffset
+	 *            the index in {@code rounded} for the first rounded value
+	 * @param length
+	 *            the number of values to round
+	 * @throws IndexOutOfBoundsException
+	 *             if the source or destination range is not within the bounds
+	 *             of the respective array
+	 * @throws ArithmeticException
+	 *             if the rounding mode is UNNECESSARY and rounding is
+	 *             necessary, or if an overflow occurs and the arithmetic uses
+	 *             {@link OverflowMode#CHECKED} overflow mode
+	 */
+	public final void round(long[] values, int srcOffset, long[] rounded, int dstOffset, int length) {
+		if (srcOffset < 0 | dstOffset < 0 | length < 0 | srcOffset > values.length - length
+				| dstOffset > rounded.length - length) {
+			throw new IndexOutOfBoundsException("Cannot round " + length + " values from offset " + srcOffset
+					+ " of array with length " + values.length + " into offset " + dstOffset
+					+ " of array with length " + rounded.length);
+		}
+		for (int i = 0; i < length; i++) {
+			rounded[dstOffset + i] = round(values[srcOffset + i]);
+		}
+	}
+
+	/**
+	 * Returns a string with increment and arithmetic of this rounder.
+	 * 
+	 * @return a string like "IncrementRounder[increment=0.05, arithmetic=...]"
+	 */
+	@Override
+	public final String toString() {
+		return "IncrementRounder[increment=" + arithmetic.toString(unscaledIncrement) + ", arithmetic=" + arithmetic + "]";
+	}
+}
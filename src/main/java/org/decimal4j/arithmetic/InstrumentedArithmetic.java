@@ -0,0 +1,974 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2023 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.arithmetic;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+
+import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.scale.ScaleMetrics;
+import org.decimal4j.scale.Scales;
+import org.decimal4j.truncate.OverflowMode;
+import org.decimal4j.truncate.TruncationPolicy;
+
+/**
+ * Decorator for a {@link DecimalArithmetic} counting invocations, inexact
+ * results, slow path calculations and exceptions per operation in
+ * {@link ArithmeticMetrics}. Results and exceptions are those of the delegate
+ * arithmetic.
+ * <p>
+ * An operation result is inexact if the exact result had to be rounded. This is
+ * detected by computing the remainder of the rounded result in 64-bit
+ * arithmetic, for instance {@code a*b - result*10^scale} for a multiplication,
+ * which is zero if and only if the truncated part of the exact result is zero.
+ * Inexact results are not counted for {@code pow} and for conversions from
+ * floating point, {@code BigDecimal} and string values. A multiplication or
+ * division is counted as slow path if its intermediate result does not fit into
+ * a long and a 128-bit calculation is necessary. Overflows are counted if the
+ * delegate throws an overflow exception; silent overflows of arithmetics with
+ * {@link OverflowMode#UNCHECKED UNCHECKED} overflow mode are not detected.
+ * <p>
+ * Instrumentation can be switched off through
+ * {@link ArithmeticMetrics#setEnabled(boolean)}; disabled operations are
+ * delegated directly after a single volatile read.
+ */
+public final class InstrumentedArithmetic implements DecimalArithmetic {
+
+	private final DecimalArithmetic delegate;
+	private final ArithmeticMetrics metrics;
+	private final ScaleMetrics scaleMetrics;
+	private final int scale;
+	private final long one;
+
+	/**
+	 * Creates an instrumented arithmetic with new enabled metrics.
+	 * 
+	 * @param delegate
+	 *            the arithmetic performing the operations
+	 */
+	public InstrumentedArithmetic(DecimalArithmetic delegate) {
+		this(delegate, new ArithmeticMetrics());
+	}
+
+	/**
+	 * Creates an instrumented arithmetic collecting metrics in the given
+	 * metrics instance which may be shared with other instrumented
+	 * arithmetics.
+	 * 
+	 * @param delegate
+	 *            the arithmetic performing the operations
+	 * @param metrics
+	 *            the metrics in which operations are counted
+	 */
+	public InstrumentedArithmetic(DecimalArithmetic delegate, ArithmeticMetrics metrics) {
+		if (delegate instanceof InstrumentedArithmetic) {
+			throw new IllegalArgumentException("Delegate is already instrumented: " + delegate);
+		}
+		this.delegate = delegate;
+		this.metrics = metrics;
+		this.scaleMetrics = delegate.getScaleMetrics();
+		this.scale = delegate.getScale();
+		this.one = delegate.one();
+	}
+
+	/**
+	 * Returns the arithmetic performing the operations.
+	 * 
+	 * @return the delegate arithmetic
+	 */
+	public final DecimalArithmetic getDelegate() {
+		return delegate;
+	}
+
+	/**
+	 * Returns the metrics in which operations of this arithmetic are counted.
+	 * 
+	 * @return the metrics of this arithmetic
+	 */
+	public final ArithmeticMetrics getMetrics() {
+		return metrics;
+	}
+
+	@Override
+	public final int getScale() {
+		return scale;
+	}
+
+	@Override
+	public final ScaleMetrics getScaleMetrics() {
+		return scaleMetrics;
+	}
+
+	@Override
+	public final RoundingMode getRoundingMode() {
+		return delegate.getRoundingMode();
+	}
+
+	@Override
+	public final OverflowMode getOverflowMode() {
+		return delegate.getOverflowMode();
+	}
+
+	@Override
+	public final TruncationPolicy getTruncationPolicy() {
+		return delegate.getTruncationPolicy();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * The derived arithmetic is instrumented and shares the metrics of this
+	 * arithmetic.
+	 */
+	@Override
+	public final DecimalArithmetic deriveArithmetic(int scale) {
+		return instrument(delegate.deriveArithmetic(scale));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * The derived arithmetic is instrumented and shares the metrics of this
+	 * arithmetic.
+	 */
+	@Override
+	public final DecimalArithmetic deriveArithmetic(RoundingMode roundingMode) {
+		return instrument(delegate.deriveArithmetic(roundingMode));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * The derived arithmetic is instrumented and shares the metrics of this
+	 * arithmetic.
+	 */
+	@Override
+	public final DecimalArithmetic deriveArithmetic(RoundingMode roundingMode, OverflowMode overflowMode) {
+		return instrument(delegate.deriveArithmetic(roundingMode, overflowMode));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * The derived arithmetic is instrumented and shares the metrics of this
+	 * arithmetic.
+	 */
+	@Override
+	public final DecimalArithmetic deriveArithmetic(OverflowMode overflowMode) {
+		return instrument(delegate.deriveArithmetic(overflowMode));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * The derived arithmetic is instrumented and shares the metrics of this
+	 * arithmetic.
+	 */
+	@Override
+	public final DecimalArithmetic deriveArithmetic(TruncationPolicy truncationPolicy) {
+		return instrument(delegate.deriveArithmetic(truncationPolicy));
+	}
+
+	private final DecimalArithmetic instrument(DecimalArithmetic derived) {
+		return derived == delegate ? this : new InstrumentedArithmetic(derived, metrics);
+	}
+
+	@Override
+	public final long one() {
+		return one;
+	}
+
+	@Override
+	public final int signum(long uDecimal) {
+		return delegate.signum(uDecimal);
+	}
+
+	@Override
+	public final int compare(long uDecimal1, long uDecimal2) {
+		return delegate.compare(uDecimal1, uDecimal2);
+	}
+
+	@Override
+	public final int compareToUnscaled(long uDecimal, long unscaled, int scale) {
+		return delegate.compareToUnscaled(uDecimal, unscaled, scale);
+	}
+
+	@Override
+	public final long add(long uDecimal1, long uDecimal2) {
+		final ArithmeticMetrics m = metrics;
+		if (!m.isEnabled()) {
+			return delegate.add(uDecimal1, uDecimal2);
+		}
+		m.invocation(InstrumentedOperation.ADD);
+		try {
+			return delegate.add(uDecimal1, uDecimal2);
+		} catch (RuntimeException e) {
+			m.exception(InstrumentedOperation.ADD, e);
+			throw e;
+		}
+	}
+
+	@Override
+	public final long addLong(long uDecimal, long lValue) {
+		final ArithmeticMetrics m = metrics;
+		if (!m.isEnabled()) {
+			return delegate.addLong(uDecimal, lValue);
+		}
+		m.invocation(InstrumentedOperation.ADD_LONG);
+		try {
+			return delegate.addLong(uDecimal, lValue);
+		} catch (RuntimeException e) {
+			m.exception(InstrumentedOperation.ADD_LONG, e);
+			throw e;
+		}
+	}
+
+	@Override
+	public final long addUnscaled(long uDecimal, long unscaled, int scale) {
+		final ArithmeticMetrics m = metrics;
+		if (!m.isEnabled()) {
+			return delegate.addUnscaled(uDecimal, unscaled, scale);
+		}
+		m.invocation(InstrumentedOperation.ADD_UNSCALED);
+		try {
+			return delegate.addUnscaled(uDecimal, unscaled, scale);
+		} catch (RuntimeException e) {
+			m.exception(InstrumentedOperation.ADD_UNSCALED, e);
+			throw e;
+		}
+	}
+
+	@Override
+	public final long subtract(long uDecimalMinuend, long uDecimalSubtrahend) {
+		final ArithmeticMetrics m = metrics;
+		if (!m.isEnabled()) {
+			return delegate.subtract(uDecimalMinuend, uDecimalSubtrahend);
+		}
+		m.invocation(InstrumentedOperation.SUBTRACT);
+		try {
+			return delegate.subtract(uDecimalMinuend, uDecimalSubtrahend);
+		} catch (RuntimeException e) {
+			m.exception(InstrumentedOperation.SUBTRACT, e);
+			throw e;
+		}
+	}
+
+	@Override
+	public final long subtractLong(long uDecimal, long lValue) {
+		final ArithmeticMetrics m = metrics;
+		if (!m.isEnabled()) {
+			return delegate.subtractLong(uDecimal, lValue);
+		}
+		m.invocation(InstrumentedOperation.SUBTRACT_LONG);
+		try {
+			return delegate.subtractLong(uDecimal, lValue);
+		} catch (RuntimeException e) {
+			m.exception(InstrumentedOperation.SUBTRACT_LONG, e);
+			throw e;
+		}
+	}
+
+	@Override
+	public final long subtractUnscaled(long uDecimal, long unscaled, int scale) {
+		final ArithmeticMetrics m = metrics;
+		if (!m.isEnabled()) {
+			return delegate.subtractUnscaled(uDecimal, unscaled, scale);
+		}
+		m.invocation(InstrumentedOperation.SUBTRACT_UNSCALED);
+		try {
+			return delegate.subtractUnscaled(uDecimal, unscaled, scale);
+		} catch (RuntimeException e) {
+			m.exception(InstrumentedOperation.SUBTRACT_UNSCALED, e);
+			throw e;
+		}
+	}
+
+	@Override
+	public final long multiply(long uDecimal1, long uDecimal2) {
+		final ArithmeticMetrics m = metrics;
+		if (!m.isEnabled()) {
+			return delegate.multiply(uDecimal1, uDecimal2);
+		}
+		m.invocation(InstrumentedOperation.MULTIPLY);
+		if (scale > 0 && !Mul.doesProductFitInLong(uDecimal1, uDecimal2)) {
+			m.slowPath(InstrumentedOperation.MULTIPLY);
+		}
+		final long result;
+		try {
+			result = delegate.multiply(uDecimal1, uDecimal2);
+		} catch (RuntimeException e) {
+			m.exception(InstrumentedOperation.MULTIPLY, e);
+			throw e;
+		}
+		if (uDecimal1 * uDecimal2 - result * one != 0) {
+			m.inexact(InstrumentedOperation.MULTIPLY);
+		}
+		return result;
+	}
+
+	@Override
+	public final long multiplyByLong(long uDecimal, long lValue) {
+		final ArithmeticMetrics m = metrics;
+		if (!m.isEnabled()) {
+			return delegate.multiplyByLong(uDecimal, lValue);
+		}
+		m.invocation(InstrumentedOperation.MULTIPLY_BY_LONG);
+		try {
+			return delegate.multiplyByLong(uDecimal, lValue);
+		} catch (RuntimeException e) {
+			m.exception(InstrumentedOperation.MULTIPLY_BY_LONG, e);
+			throw e;
+		}
+	}
+
+	@Override
+	public final long multiplyByUnscaled(long uDecimal, long unscaled, int scale) {
+		final ArithmeticMetrics m = metrics;
+		if (!m.isEnabled()) {
+			return delegate.multiplyByUnscaled(uDecimal, unscaled, scale);
+		}
+		m.invocation(InstrumentedOperation.MULTIPLY_BY_UNSCALED);
+		if (scale > 0 && !Mul.doesProductFitInLong(uDecimal, unscaled)) {
+			m.slowPath(InstrumentedOperation.MULTIPLY_BY_UNSCALED);
+		}
+		final long result;
+		try {
+			result = delegate.multiplyByUnscaled(uDecimal, unscaled, scale);
+		} catch (RuntimeException e) {
+			m.exception(InstrumentedOperation.MULTIPLY_BY_UNSCALED, e);
+			throw e;
+		}
+		if (isInexactDivisionByPowerOf10(uDecimal * unscaled, scale, result)) {
+			m.inexact(InstrumentedOperation.MULTIPLY_BY_UNSCALED);
+		}
+		return result;
+	}
+
+	@Override
+	public final long multiplyByPowerOf10(long uDecimal, int n) {
+		final ArithmeticMetrics m = metrics;
+		if (!m.isEnabled()) {
+			return delegate.multiplyByPowerOf10(uDecimal, n);
+		}
+		m.invocation(InstrumentedOperation.MULTIPLY_BY_POWER_OF_10);
+		final long result;
+		try {
+			result = delegate.multiplyByPowerOf10(uDecimal, n);
+		} catch (RuntimeException e) {
+			m.exception(InstrumentedOperation.MULTIPLY_BY_POWER_OF_10, e);
+			throw e;
+		}
+		if (isInexactDivisionByPowerOf10(uDecimal, -n, result)) {
+			m.inexact(InstrumentedOperation.MULTIPLY_BY_POWER_OF_10);
+		}
+		return result;
+	}
+
+	@Override
+	public final long divide(long uDecimalDividend, long uDecimalDivisor) {
+		final ArithmeticMetrics m = metrics;
+		if (!m.isEnabled()) {
+			return delegate.divide(uDecimalDividend, uDecimalDivisor);
+		}
+		m.invocation(InstrumentedOperation.DIVIDE);
+		if (scale > 0 && !scaleMetrics.isValidIntegerValue(uDecimalDividend) && !scaleMetrics.isValidIntegerValue(uDecimalDivisor)) {
+			m.slowPath(InstrumentedOperation.DIVIDE);
+		}
+		final long result;
+		try {
+			result = delegate.divide(uDecimalDividend, uDecimalDivisor);
+		} catch (RuntimeException e) {
+			m.exception(InstrumentedOperation.DIVIDE, e);
+			throw e;
+		}
+		if (uDecimalDividend * one - result * uDecimalDivisor != 0) {
+			m.inexact(InstrumentedOperation.DIVIDE);
+		}
+		return result;
+	}
+
+	@Override
+	public final long divideByLong(long uDecimalDividend, long lDivisor) {
+		final ArithmeticMetrics m = metrics;
+		if (!m.isEnabled()) {
+			return delegate.divideByLong(uDecimalDividend, lDivisor);
+		}
+		m.invocation(InstrumentedOperation.DIVIDE_BY_LONG);
+		final long result;
+		try {
+			result = delegate.divideByLong(uDecimalDividend, lDivisor);
+		} catch (RuntimeException e) {
+			m.exception(InstrumentedOperation.DIVIDE_BY_LONG, e);
+			throw e;
+		}
+		if (uDecimalDividend - result * lDivisor != 0) {
+			m.inexact(InstrumentedOperation.DIVIDE_BY_LONG);
+		}
+		return result;
+	}
+
+	@Override
+	public final long divideByUnscaled(long uDecimal, long unscaled, int scale) {
+		final ArithmeticMetrics m = metrics;
+		if (!m.isEnabled()) {
+			return delegate.divideByUnscaled(uDecimal, unscaled, scale);
+		}
+		m.invocation(InstrumentedOperation.DIVIDE_BY_UNSCALED);
+		final long result;
+		try {
+			result = delegate.divideByUnscaled(uDecimal, unscaled, scale);
+		} catch (RuntimeException e) {
+			m.exception(InstrumentedOperation.DIVIDE_BY_UNSCALED, e);
+			throw e;
+		}
+		if (scale >= 0 && scale <= Scales.MAX_SCALE && uDecimal * pow10(scale) - result * unscaled != 0) {
+			m.inexact(InstrumentedOperation.DIVIDE_BY_UNSCALED);
+		}
+		return result;
+	}
+
+	@Override
+	public final long divideByPowerOf10(long uDecimal, int n) {
+		final ArithmeticMetrics m = metrics;
+		if (!m.isEnabled()) {
+			return delegate.divideByPowerOf10(uDecimal, n);
+		}
+		m.invocation(InstrumentedOperation.DIVIDE_BY_POWER_OF_10);
+		final long result;
+		try {
+			result = delegate.divideByPowerOf10(uDecimal, n);
+		} catch (RuntimeException e) {
+			m.exception(InstrumentedOperation.DIVIDE_BY_POWER_OF_10, e);
+			throw e;
+		}
+		if (isInexactDivisionByPowerOf10(uDecimal, n, result)) {
+			m.inexact(InstrumentedOperation.DIVIDE_BY_POWER_OF_10);
+		}
+		return result;
+	}
+
+	@Override
+	public final long avg(long uDecimal1, long uDecimal2) {
+		final ArithmeticMetrics m = metrics;
+		if (!m.isEnabled()) {
+			return delegate.avg(uDecimal1, uDecimal2);
+		}
+		m.invocation(InstrumentedOperation.AVG);
+		final long result;
+		try {
+			result = delegate.avg(uDecimal1, uDecimal2);
+		} catch (RuntimeException e) {
+			m.exception(InstrumentedOperation.AVG, e);
+			throw e;
+		}
+		if (uDecimal1 + uDecimal2 - (result << 1) != 0) {
+			m.inexact(InstrumentedOperation.AVG);
+		}
+		return result;
+	}
+
+	@Override
+	public final long abs(long uDecimal) {
+		final ArithmeticMetrics m = metrics;
+		if (!m.isEnabled()) {
+			return delegate.abs(uDecimal);
+		}
+		m.invocation(InstrumentedOperation.ABS);
+		try {
+			return delegate.abs(uDecimal);
+		} catch (RuntimeException e) {
+			m.exception(InstrumentedOperation.ABS, e);
+			throw e;
+		}
+	}
+
+	@Override
+	public final long negate(long uDecimal) {
+		final ArithmeticMetrics m = metrics;
+		if (!m.isEnabled()) {
+			return delegate.negate(uDecimal);
+		}
+		m.invocation(InstrumentedOperation.NEGATE);
+		try {
+			return delegate.negate(uDecimal);
+		} catch (RuntimeException e) {
+			m.exception(InstrumentedOperation.NEGATE, e);
+			throw e;
+		}
+	}
+
+	@Override
+	public final long invert(long uDecimal) {
+		final ArithmeticMetrics m = metrics;
+		if (!m.isEnabled()) {
+			return delegate.invert(uDecimal);
+		}
+		m.invocation(InstrumentedOperation.INVERT);
+		final long result;
+		try {
+			result = delegate.invert(uDecimal);
+		} catch (RuntimeException e) {
+			m.exception(InstrumentedOperation.INVERT, e);
+			throw e;
+		}
+		if (one * one - result * uDecimal != 0) {
+			m.inexact(InstrumentedOperation.INVERT);
+		}
+		return result;
+	}
+
+	@Override
+	public final long square(long uDecimal) {
+		final ArithmeticMetrics m = metrics;
+		if (!m.isEnabled()) {
+			return delegate.square(uDecimal);
+		}
+		m.invocation(InstrumentedOperation.SQUARE);
+		if (scale > 0 && (uDecimal < -Square.SQRT_MAX_VALUE | uDecimal > Square.SQRT_MAX_VALUE)) {
+			m.slowPath(InstrumentedOperation.SQUARE);
+		}
+		final long result;
+		try {
+			result = delegate.square(uDecimal);
+		} catch (RuntimeException e) {
+			m.exception(InstrumentedOperation.SQUARE, e);
+			throw e;
+		}
+		if (uDecimal * uDecimal - result * one != 0) {
+			m.inexact(InstrumentedOperation.SQUARE);
+		}
+		return result;
+	}
+
+	@Override
+	public final long sqrt(long uDecimal) {
+		final ArithmeticMetrics m = metrics;
+		if (!m.isEnabled()) {
+			return delegate.sqrt(uDecimal);
+		}
+		m.invocation(InstrumentedOperation.SQRT);
+		final long result;
+		try {
+			result = delegate.sqrt(uDecimal);
+		} catch (RuntimeException e) {
+			m.exception(InstrumentedOperation.SQRT, e);
+			throw e;
+		}
+		if (uDecimal * one - result * result != 0) {
+			m.inexact(InstrumentedOperation.SQRT);
+		}
+		return result;
+	}
+
+	@Override
+	public final long pow(long uDecimalBase, int exponent) {
+		final ArithmeticMetrics m = metrics;
+		if (!m.isEnabled()) {
+			return delegate.pow(uDecimalBase, exponent);
+		}
+		m.invocation(InstrumentedOperation.POW);
+		try {
+			return delegate.pow(uDecimalBase, exponent);
+		} catch (RuntimeException e) {
+			m.exception(InstrumentedOperation.POW, e);
+			throw e;
+		}
+	}
+
+	@Override
+	public final long shiftLeft(long uDecimal, int n) {
+		final ArithmeticMetrics m = metrics;
+		if (!m.isEnabled()) {
+			return delegate.shiftLeft(uDecimal, n);
+		}
+		m.invocation(InstrumentedOperation.SHIFT_LEFT);
+		final long result;
+		try {
+			result = delegate.shiftLeft(uDecimal, n);
+		} catch (RuntimeException e) {
+			m.exception(InstrumentedOperation.SHIFT_LEFT, e);
+			throw e;
+		}
+		if (isInexactShiftRight(uDecimal, -n, result)) {
+			m.inexact(InstrumentedOperation.SHIFT_LEFT);
+		}
+		return result;
+	}
+
+	@Override
+	public final long shiftRight(long uDecimal, int n) {
+		final ArithmeticMetrics m = metrics;
+		if (!m.isEnabled()) {
+			return delegate.shiftRight(uDecimal, n);
+		}
+		m.invocation(InstrumentedOperation.SHIFT_RIGHT);
+		final long result;
+		try {
+			result = delegate.shiftRight(uDecimal, n);
+		} catch (RuntimeException e) {
+			m.exception(InstrumentedOperation.SHIFT_RIGHT, e);
+			throw e;
+		}
+		if (isInexactShiftRight(uDecimal, n, result)) {
+			m.inexact(InstrumentedOperation.SHIFT_RIGHT);
+		}
+		return result;
+	}
+
+	@Override
+	public final long round(long uDecimal, int precision) {
+		final ArithmeticMetrics m = metrics;
+		if (!m.isEnabled()) {
+			return delegate.round(uDecimal, precision);
+		}
+		m.invocation(InstrumentedOperation.ROUND);
+		final long result;
+		try {
+			result = delegate.round(uDecimal, precision);
+		} catch (RuntimeException e) {
+			m.exception(InstrumentedOperation.ROUND, e);
+			throw e;
+		}
+		if (result != uDecimal) {
+			m.inexact(InstrumentedOperation.ROUND);
+		}
+		return result;
+	}
+
+	@Override
+	public final long roundToIncrement(long uDecimal, long unscaledIncrement) {
+		final ArithmeticMetrics m = metrics;
+		if (!m.isEnabled()) {
+			return delegate.roundToIncrement(uDecimal, unscaledIncrement);
+		}
+		m.invocation(InstrumentedOperation.ROUND_TO_INCREMENT);
+		final long result;
+		try {
+			result = delegate.roundToIncrement(uDecimal, unscaledIncrement);
+		} catch (RuntimeException e) {
+			m.exception(InstrumentedOperation.ROUND_TO_INCREMENT, e);
+			throw e;
+		}
+		if (result != uDecimal) {
+			m.inexact(InstrumentedOperation.ROUND_TO_INCREMENT);
+		}
+		return result;
+	}
+
+	@Override
+	public final long fromLong(long value) {
+		final ArithmeticMetrics m = metrics;
+		if (!m.isEnabled()) {
+			return delegate.fromLong(value);
+		}
+		m.invocation(InstrumentedOperation.FROM_LONG);
+		try {
+			return delegate.fromLong(value);
+		} catch (RuntimeException e) {
+			m.exception(InstrumentedOperation.FROM_LONG, e);
+			throw e;
+		}
+	}
+
+	@Override
+	public final long fromFloat(float value) {
+		final ArithmeticMetrics m = metrics;
+		if (!m.isEnabled()) {
+			return delegate.fromFloat(value);
+		}
+		m.invocation(InstrumentedOperation.FROM_FLOAT);
+		try {
+			return delegate.fromFloat(value);
+		} catch (RuntimeException e) {
+			m.exception(InstrumentedOperation.FROM_FLOAT, e);
+			throw e;
+		}
+	}
+
+	@Override
+	public final long fromDouble(double value) {
+		final ArithmeticMetrics m = metrics;
+		if (!m.isEnabled()) {
+			return delegate.fromDouble(value);
+		}
+		m.invocation(InstrumentedOperation.FROM_DOUBLE);
+		try {
+			return delegate.fromDouble(value);
+		} catch (RuntimeException e) {
+			m.exception(InstrumentedOperation.FROM_DOUBLE, e);
+			throw e;
+		}
+	}
+
+	@Override
+	public final long fromBigInteger(BigInteger value) {
+		final ArithmeticMetrics m = metrics;
+		if (!m.isEnabled()) {
+			return delegate.fromBigInteger(value);
+		}
+		m.invocation(InstrumentedOperation.FROM_BIG_INTEGER);
+		try {
+			return delegate.fromBigInteger(value);
+		} catch (RuntimeException e) {
+			m.exception(InstrumentedOperation.FROM_BIG_INTEGER, e);
+			throw e;
+		}
+	}
+
+	@Override
+	public final long fromBigDecimal(BigDecimal value) {
+		final ArithmeticMetrics m = metrics;
+		if (!m.isEnabled()) {
+			return delegate.fromBigDecimal(value);
+		}
+		m.invocation(InstrumentedOperation.FROM_BIG_DECIMAL);
+		try {
+			return delegate.fromBigDecimal(value);
+		} catch (RuntimeException e) {
+			m.exception(InstrumentedOperation.FROM_BIG_DECIMAL, e);
+			throw e;
+		}
+	}
+
+	@Override
+	public final long fromUnscaled(long unscaledValue, int scale) {
+		final ArithmeticMetrics m = metrics;
+		if (!m.isEnabled()) {
+			return delegate.fromUnscaled(unscaledValue, scale);
+		}
+		m.invocation(InstrumentedOperation.FROM_UNSCALED);
+		final long result;
+		try {
+			result = delegate.fromUnscaled(unscaledValue, scale);
+		} catch (RuntimeException e) {
+			m.exception(InstrumentedOperation.FROM_UNSCALED, e);
+			throw e;
+		}
+		if (isInexactDivisionByPowerOf10(unscaledValue, scale - this.scale, result)) {
+			m.inexact(InstrumentedOperation.FROM_UNSCALED);
+		}
+		return result;
+	}
+
+	@Override
+	public final long parse(String value) {
+		final ArithmeticMetrics m = metrics;
+		if (!m.isEnabled()) {
+			return delegate.parse(value);
+		}
+		m.invocation(InstrumentedOperation.PARSE);
+		try {
+			return delegate.parse(value);
+		} catch (RuntimeException e) {
+			m.exception(InstrumentedOperation.PARSE, e);
+			throw e;
+		}
+	}
+
+	@Override
+	public final long parse(CharSequence value, int start, int end) {
+		final ArithmeticMetrics m = metrics;
+		if (!m.isEnabled()) {
+			return delegate.parse(value, start, end);
+		}
+		m.invocation(InstrumentedOperation.PARSE);
+		try {
+			return delegate.parse(value, start, end);
+		} catch (RuntimeException e) {
+			m.exception(InstrumentedOperation.PARSE, e);
+			throw e;
+		}
+	}
+
+	@Override
+	public final long toLong(long uDecimal) {
+		final ArithmeticMetrics m = metrics;
+		if (!m.isEnabled()) {
+			return delegate.toLong(uDecimal);
+		}
+		m.invocation(InstrumentedOperation.TO_LONG);
+		final long result;
+		try {
+			result = delegate.toLong(uDecimal);
+		} catch (RuntimeException e) {
+			m.exception(InstrumentedOperation.TO_LONG, e);
+			throw e;
+		}
+		if (uDecimal - result * one != 0) {
+			m.inexact(InstrumentedOperation.TO_LONG);
+		}
+		return result;
+	}
+
+	@Override
+	public final long toUnscaled(long uDecimal, int scale) {
+		final ArithmeticMetrics m = metrics;
+		if (!m.isEnabled()) {
+			return delegate.toUnscaled(uDecimal, scale);
+		}
+		m.invocation(InstrumentedOperation.TO_UNSCALED);
+		final long result;
+		try {
+			result = delegate.toUnscaled(uDecimal, scale);
+		} catch (RuntimeException e) {
+			m.exception(InstrumentedOperation.TO_UNSCALED, e);
+			throw e;
+		}
+		if (isInexactDivisionByPowerOf10(uDecimal, this.scale - scale, result)) {
+			m.inexact(InstrumentedOperation.TO_UNSCALED);
+		}
+		return result;
+	}
+
+	@Override
+	public final float toFloat(long uDecimal) {
+		final ArithmeticMetrics m = metrics;
+		if (!m.isEnabled()) {
+			return delegate.toFloat(uDecimal);
+		}
+		m.invocation(InstrumentedOperation.TO_FLOAT);
+		try {
+			return delegate.toFloat(uDecimal);
+		} catch (RuntimeException e) {
+			m.exception(InstrumentedOperation.TO_FLOAT, e);
+			throw e;
+		}
+	}
+
+	@Override
+	public final double toDouble(long uDecimal) {
+		final ArithmeticMetrics m = metrics;
+		if (!m.isEnabled()) {
+			return delegate.toDouble(uDecimal);
+		}
+		m.invocation(InstrumentedOperation.TO_DOUBLE);
+		try {
+			return delegate.toDouble(uDecimal);
+		} catch (RuntimeException e) {
+			m.exception(InstrumentedOperation.TO_DOUBLE, e);
+			throw e;
+		}
+	}
+
+	@Override
+	public final BigDecimal toBigDecimal(long uDecimal) {
+		final ArithmeticMetrics m = metrics;
+		if (!m.isEnabled()) {
+			return delegate.toBigDecimal(uDecimal);
+		}
+		m.invocation(InstrumentedOperation.TO_BIG_DECIMAL);
+		try {
+			return delegate.toBigDecimal(uDecimal);
+		} catch (RuntimeException e) {
+			m.exception(InstrumentedOperation.TO_BIG_DECIMAL, e);
+			throw e;
+		}
+	}
+
+	@Override
+	public final BigDecimal toBigDecimal(long uDecimal, int scale) {
+		final ArithmeticMetrics m = metrics;
+		if (!m.isEnabled()) {
+			return delegate.toBigDecimal(uDecimal, scale);
+		}
+		m.invocation(InstrumentedOperation.TO_BIG_DECIMAL);
+		try {
+			return delegate.toBigDecimal(uDecimal, scale);
+		} catch (RuntimeException e) {
+			m.exception(InstrumentedOperation.TO_BIG_DECIMAL, e);
+			throw e;
+		}
+	}
+
+	@Override
+	public final String toString(long uDecimal) {
+		final ArithmeticMetrics m = metrics;
+		if (!m.isEnabled()) {
+			return delegate.toString(uDecimal);
+		}
+		m.invocation(InstrumentedOperation.TO_STRING);
+		try {
+			return delegate.toString(uDecimal);
+		} catch (RuntimeException e) {
+			m.exception(InstrumentedOperation.TO_STRING, e);
+			throw e;
+		}
+	}
+
+	@Override
+	public final void toString(long uDecimal, Appendable appendable) throws IOException {
+		final ArithmeticMetrics m = metrics;
+		if (!m.isEnabled()) {
+			delegate.toString(uDecimal, appendable);
+			return;
+		}
+		m.invocation(InstrumentedOperation.TO_STRING);
+		try {
+			delegate.toString(uDecimal, appendable);
+		} catch (RuntimeException e) {
+			m.exception(InstrumentedOperation.TO_STRING, e);
+			throw e;
+		}
+	}
+
+	private static final long pow10(int n) {
+		return Scales.getScaleMetrics(n).getScaleFactor();
+	}
+
+	/**
+	 * Returns true if {@code result} is not the exact quotient of
+	 * {@code dividend / 10^n}; always false for non-positive {@code n}.
+	 */
+	private static final boolean isInexactDivisionByPowerOf10(long dividend, int n, long result) {
+		if (n <= 0) {
+			return false;
+		}
+		if (n > Scales.MAX_SCALE) {
+			// |dividend| < 10^19, hence only zero is divisible
+			return dividend != 0;
+		}
+		return dividend - result * pow10(n) != 0;
+	}
+
+	/**
+	 * Returns true if {@code result} is not the exact quotient of
+	 * {@code dividend / 2^n}; always false for non-positive {@code n}.
+	 */
+	private static final boolean isInexactShiftRight(long dividend, int n, long result) {
+		if (n <= 0) {
+			return false;
+		}
+		if (n >= Long.SIZE - 1) {
+			return dividend != 0 & !(n == Long.SIZE - 1 & dividend == Long.MIN_VALUE);
+		}
+		return dividend - (result << n) != 0;
+	}
+
+	@Override
+	public final String toString() {
+		return "InstrumentedArithmetic[" + delegate + "]";
+	}
+}
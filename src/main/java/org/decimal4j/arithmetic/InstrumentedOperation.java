@@ -0,0 +1,72 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2023 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.arithmetic;
+
+/**
+ * Operations of a {@link org.decimal4j.api.DecimalArithmetic
+ * DecimalArithmetic} that are counted by an {@link InstrumentedArithmetic}.
+ * The constants correspond to the arithmetic methods with the same name.
+ */
+public enum InstrumentedOperation {
+	ADD,
+	ADD_LONG,
+	ADD_UNSCALED,
+	SUBTRACT,
+	SUBTRACT_LONG,
+	SUBTRACT_UNSCALED,
+	MULTIPLY,
+	MULTIPLY_BY_LONG,
+	MULTIPLY_BY_UNSCALED,
+	MULTIPLY_BY_POWER_OF_10,
+	DIVIDE,
+	DIVIDE_BY_LONG,
+	DIVIDE_BY_UNSCALED,
+	DIVIDE_BY_POWER_OF_10,
+	AVG,
+	ABS,
+	NEGATE,
+	INVERT,
+	SQUARE,
+	SQRT,
+	POW,
+	SHIFT_LEFT,
+	SHIFT_RIGHT,
+	ROUND,
+	ROUND_TO_INCREMENT,
+	FROM_LONG,
+	FROM_FLOAT,
+	FROM_DOUBLE,
+	FROM_BIG_INTEGER,
+	FROM_BIG_DECIMAL,
+	FROM_UNSCALED,
+	PARSE,
+	TO_LONG,
+	TO_UNSCALED,
+	TO_FLOAT,
+	TO_DOUBLE,
+	TO_BIG_DECIMAL,
+	TO_STRING;
+
+	static final InstrumentedOperation[] VALUES = values();
+}
@@ -46,7 +46,7 @@ public final class JDKSupport {
 	 */
 	public static final long bigIntegerToLongValueExact(BigInteger value) {
 		if (value.bitLength() <= 63) return value.longValue();
-		else throw new ArithmeticException("BigInteger out of long range: " + value);
+		else throw Exceptions.newOverflowArithmeticException("BigInteger out of long range: " + value);
 	}
 
 	// no instances
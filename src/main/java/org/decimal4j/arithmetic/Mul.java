@@ -39,7 +39,7 @@ final class Mul {
 	private static final ScaleMetrics SCALE9F = Scale9f.INSTANCE;
 
 	//sufficient (but not necessary) condition that product fits in long
-	private static final boolean doesProductFitInLong(long uDecimal1, long uDecimal2) {
+	static final boolean doesProductFitInLong(long uDecimal1, long uDecimal2) {
 		if (-SQRT_MAX_VALUE <= uDecimal1 & uDecimal1 <= SQRT_MAX_VALUE & -SQRT_MAX_VALUE <= uDecimal2 & uDecimal2 <= SQRT_MAX_VALUE) {
 			return true;
 		}
@@ -382,7 +382,7 @@ final class Mul {
 				return result;
 			}
 		} catch (ArithmeticException e) {
-			throw Exceptions.newArithmeticExceptionWithCause("Overflow: " + scaleMetrics1.toString(uDecimal1) + " * " + scaleMetrics2.toString(uDecimal2), e);
+			throw Exceptions.newOverflowArithmeticException("Overflow: " + scaleMetrics1.toString(uDecimal1) + " * " + scaleMetrics2.toString(uDecimal2), e);
 		}
 	}
 
@@ -516,7 +516,7 @@ final class Mul {
 			}
 		} catch (ArithmeticException e) {
 			Exceptions.rethrowIfRoundingNecessary(e);
-			throw Exceptions.newArithmeticExceptionWithCause("Overflow: " + scaleMetrics1.toString(uDecimal1) + " * " + scaleMetrics2.toString(uDecimal2), e);
+			throw Exceptions.newOverflowArithmeticException("Overflow: " + scaleMetrics1.toString(uDecimal1) + " * " + scaleMetrics2.toString(uDecimal2), e);
 		}
 	}
 	
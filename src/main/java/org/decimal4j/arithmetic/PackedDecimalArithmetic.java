@@ -0,0 +1,401 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2023 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.arithmetic;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+
+import org.decimal4j.api.Decimal;
+import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.scale.Scales;
+import org.decimal4j.truncate.CheckedRounding;
+import org.decimal4j.truncate.DecimalRounding;
+
+/**
+ * Arithmetic for packed decimals storing scale and unscaled value of a decimal
+ * in a single {@code long}. The low {@value #SCALE_BITS} bits hold the scale
+ * between 0 and 18, the high 59 bits hold the signed unscaled value between
+ * {@link #MIN_UNSCALED} and {@link #MAX_UNSCALED}. Values with different
+ * scales can thus be stored in a single {@code long[]} column.
+ * <p>
+ * Two packed values are equal if and only if unscaled value and scale are
+ * equal, consistent with {@link Decimal#equals(Object)}. Packed values can
+ * therefore be compared for equality with {@code ==} and used as keys of
+ * primitive long maps without unpacking. Packed values of the same scale are
+ * ordered like their packed {@code long} representation;
+ * {@link #compare(long, long)} aligns the scales only if they differ.
+ * <p>
+ * The result of an operation with two operands has the larger of the two
+ * operand scales. Operations round with the rounding mode of the arithmetic
+ * and always check for overflow; an {@link ArithmeticException} is thrown if
+ * a result does not fit into the 59 bits of the packed value.
+ */
+public final class PackedDecimalArithmetic {
+
+	/**
+	 * The number of low bits holding the scale of a packed value.
+	 */
+	public static final int SCALE_BITS = 5;
+
+	/**
+	 * The largest unscaled value that can be packed, 2<sup>58</sup>-1.
+	 */
+	public static final long MAX_UNSCALED = Long.MAX_VALUE >> SCALE_BITS;
+
+	/**
+	 * The smallest unscaled value that can be packed, -2<sup>58</sup>.
+	 */
+	public static final long MIN_UNSCALED = Long.MIN_VALUE >> SCALE_BITS;
+
+	private static final long SCALE_MASK = (1L << SCALE_BITS) - 1;
+
+	private static final PackedDecimalArithmetic[] INSTANCES = initInstances();
+
+	private final RoundingMode roundingMode;
+	private final DecimalRounding rounding;
+	private final CheckedRounding truncationPolicy;
+
+	private PackedDecimalArithmetic(RoundingMode roundingMode) {
+		this.roundingMode = roundingMode;
+		this.rounding = DecimalRounding.valueOf(roundingMode);
+		this.truncationPolicy = CheckedRounding.valueOf(roundingMode);
+	}
+
+	private static PackedDecimalArithmetic[] initInstances() {
+		final RoundingMode[] modes = RoundingMode.values();
+		final PackedDecimalArithmetic[] instances = new PackedDecimalArithmetic[modes.length];
+		for (int i = 0; i < modes.length; i++) {
+			instances[i] = new PackedDecimalArithmetic(modes[i]);
+		}
+		return instances;
+	}
+
+	/**
+	 * Returns the packed decimal arithmetic for the given rounding mode.
+	 * 
+	 * @param roundingMode
+	 *            the rounding mode used by operations that can be inexact
+	 * @return the packed decimal arithmetic for {@code roundingMode}
+	 */
+	public static PackedDecimalArithmetic getInstance(RoundingMode roundingMode) {
+		return INSTANCES[roundingMode.ordinal()];
+	}
+
+	/**
+	 * Returns the rounding mode of this arithmetic.
+	 * 
+	 * @return the rounding mode used by operations that can be inexact
+	 */
+	public RoundingMode getRoundingMode() {
+		return roundingMode;
+	}
+
+	/* ---------------------------- encoding ----------------------------- */
+
+	/**
+	 * Returns the packed representation of the given unscaled value and scale.
+	 * 
+	 * @param unscaled
+	 *            the unscaled value
+	 * @param scale
+	 *            the scale of the value
+	 * @return the packed value
+	 * @throws IllegalArgumentException
+	 *             if {@code scale} is not in {@code [0, 18]} or if
+	 *             {@code unscaled} is not in
+	 *             {@code [MIN_UNSCALED, MAX_UNSCALED]}
+	 */
+	public static long pack(long unscaled, int scale) {
+		checkScale(scale);
+		if (unscaled > MAX_UNSCALED | unscaled < MIN_UNSCALED) {
+			throw new IllegalArgumentException("Overflow: cannot pack unscaled value " + unscaled
+					+ ", must be in [" + MIN_UNSCALED + ", " + MAX_UNSCALED + "]");
+		}
+		return (unscaled << SCALE_BITS) | scale;
+	}
+
+	private static void checkScale(int scale) {
+		if (scale < Scales.MIN_SCALE | scale > Scales.MAX_SCALE) {
+			throw new IllegalArgumentException("Illegal scale, must be in [" + Scales.MIN_SCALE + ","
+					+ Scales.MAX_SCALE + "] but was: " + scale);
+		}
+	}
+
+	/**
+	 * Returns the packed representation of the given decimal.
+	 * 
+	 * @param value
+	 *            the decimal value to pack
+	 * @return the packed value
+	 * @throws IllegalArgumentException
+	 *             if the unscaled value of {@code value} is not in
+	 *             {@code [MIN_UNSCALED, MAX_UNSCALED]}
+	 */
+	public static long pack(Decimal<?> value) {
+		return pack(value.unscaledValue(), value.getScale());
+	}
+
+	/**
+	 * Returns the unscaled value of the given packed value.
+	 * 
+	 * @param packed
+	 *            the packed value
+	 * @return the unscaled value
+	 */
+	public static long unscaledValue(long packed) {
+		return packed >> SCALE_BITS;
+	}
+
+	/**
+	 * Returns the scale of the given packed value.
+	 * 
+	 * @param packed
+	 *            the packed value
+	 * @return the scale
+	 */
+	public static int scale(long packed) {
+		return (int) (packed & SCALE_MASK);
+	}
+
+	/**
+	 * Returns the packed value as a {@code BigDecimal}.
+	 * 
+	 * @param packed
+	 *            the packed value
+	 * @return a big decimal with unscaled value and scale of {@code packed}
+	 */
+	public static BigDecimal toBigDecimal(long packed) {
+		return BigDecimal.valueOf(unscaledValue(packed), scale(packed));
+	}
+
+	/**
+	 * Returns the packed value as a plain decimal string without exponent.
+	 * 
+	 * @param packed
+	 *            the packed value
+	 * @return the decimal string with {@link #scale(long) scale} fraction
+	 *         digits
+	 */
+	public static String toString(long packed) {
+		return Scales.getScaleMetrics(scale(packed)).getDefaultArithmetic().toString(unscaledValue(packed));
+	}
+
+	/**
+	 * Returns a hash code for the given packed value.
+	 * 
+	 * @param packed
+	 *            the packed value
+	 * @return {@code Long.hashCode(packed)}
+	 */
+	public static int hashCode(long packed) {
+		return Long.hashCode(packed);
+	}
+
+	/**
+	 * Compares the numerical values of two packed values. Values with equal
+	 * numerical value but different scale, such as 1.0 and 1.00, are
+	 * considered equal by this method.
+	 * 
+	 * @param packed1
+	 *            the first packed value
+	 * @param packed2
+	 *            the second packed value
+	 * @return a negative value, zero or a positive value if the first value is
+	 *         numerically less than, equal to or greater than the second value
+	 */
+	public static int compare(long packed1, long packed2) {
+		if (((packed1 ^ packed2) & SCALE_MASK) == 0) {
+			return Long.compare(packed1, packed2);
+		}
+		return Compare.compareUnscaled(unscaledValue(packed1), scale(packed1), unscaledValue(packed2),
+				scale(packed2));
+	}
+
+	/* --------------------------- arithmetic ---------------------------- */
+
+	private DecimalArithmetic arithmetic(int scale) {
+		return Scales.getScaleMetrics(scale).getArithmetic(truncationPolicy);
+	}
+
+	private static long packResult(long unscaled, int scale) {
+		if (unscaled > MAX_UNSCALED | unscaled < MIN_UNSCALED) {
+			throw Exceptions.newOverflowArithmeticException("Overflow: result "
+					+ Scales.getScaleMetrics(scale).getDefaultArithmetic().toString(unscaled)
+					+ " does not fit into a packed decimal");
+		}
+		return (unscaled << SCALE_BITS) | scale;
+	}
+
+	/**
+	 * Returns the unscaled value of {@code packed} aligned to the given larger
+	 * or equal scale.
+	 */
+	private long align(long packed, int scale) {
+		final int packedScale = scale(packed);
+		return Pow10.multiplyByPowerOf10Checked(arithmetic(packedScale), unscaledValue(packed), scale - packedScale);
+	}
+
+	/**
+	 * Returns the sum of two packed values.
+	 * 
+	 * @param packed1
+	 *            the first summand
+	 * @param packed2
+	 *            the second summand
+	 * @return the packed sum with the larger of the two operand scales
+	 * @throws ArithmeticException
+	 *             if an overflow occurs
+	 */
+	public long add(long packed1, long packed2) {
+		final int scale = Math.max(scale(packed1), scale(packed2));
+		return packResult(arithmetic(scale).add(align(packed1, scale), align(packed2, scale)), scale);
+	}
+
+	/**
+	 * Returns the difference of two packed values.
+	 * 
+	 * @param packed1
+	 *            the minuend
+	 * @param packed2
+	 *            the subtrahend
+	 * @return the packed difference with the larger of the two operand scales
+	 * @throws ArithmeticException
+	 *             if an overflow occurs
+	 */
+	public long subtract(long packed1, long packed2) {
+		final int scale = Math.max(scale(packed1), scale(packed2));
+		return packResult(arithmetic(scale).subtract(align(packed1, scale), align(packed2, scale)), scale);
+	}
+
+	/**
+	 * Returns the product of two packed values rounded to the larger of the
+	 * two operand scales.
+	 * 
+	 * @param packed1
+	 *            the first factor
+	 * @param packed2
+	 *            the second factor
+	 * @return the packed product with the larger of the two operand scales
+	 * @throws ArithmeticException
+	 *             if an overflow occurs, or if the rounding mode is
+	 *             UNNECESSARY and rounding is necessary
+	 */
+	public long multiply(long packed1, long packed2) {
+		final int scale1 = scale(packed1);
+		final int scale2 = scale(packed2);
+		// the product u1*u2 has scale1+scale2; the arithmetic of the smaller
+		// scale divides it by 10^min leaving the larger scale
+		return packResult(arithmetic(Math.min(scale1, scale2)).multiply(unscaledValue(packed1),
+				unscaledValue(packed2)), Math.max(scale1, scale2));
+	}
+
+	/**
+	 * Returns the quotient of two packed values rounded to the larger of the
+	 * two operand scales.
+	 * 
+	 * @param packed1
+	 *            the dividend
+	 * @param packed2
+	 *            the divisor
+	 * @return the packed quotient with the larger of the two operand scales
+	 * @throws ArithmeticException
+	 *             if the divisor is zero, if an overflow occurs, or if the
+	 *             rounding mode is UNNECESSARY and rounding is necessary
+	 */
+	public long divide(long packed1, long packed2) {
+		final int scale1 = scale(packed1);
+		final int scale2 = scale(packed2);
+		final long unscaled1 = unscaledValue(packed1);
+		final long unscaled2 = unscaledValue(packed2);
+		// the unscaled quotient is u1 * 10^(scale - scale1 + scale2) / u2 which
+		// is what the arithmetic with scale (scale - scale1 + scale2) computes
+		final int scale = Math.max(scale1, scale2);
+		final int exponent = scale - scale1 + scale2;
+		if (exponent <= Scales.MAX_SCALE) {
+			return packResult(arithmetic(exponent).divide(unscaled1, unscaled2), scale);
+		}
+		if (unscaled2 == 0) {
+			throw new ArithmeticException("Division by zero: " + toString(packed1) + " / " + toString(packed2));
+		}
+		DecimalEvents.slowPath("packedDivide", scale);
+		final BigInteger quotient = toBigDecimal(packed1).divide(toBigDecimal(packed2), scale, roundingMode)
+				.unscaledValue();
+		if (quotient.bitLength() >= Long.SIZE - SCALE_BITS) {
+			throw Exceptions.newOverflowArithmeticException(
+					"Overflow: " + toString(packed1) + " / " + toString(packed2));
+		}
+		return packResult(quotient.longValue(), scale);
+	}
+
+	/**
+	 * Returns the negated packed value.
+	 * 
+	 * @param packed
+	 *            the value to negate
+	 * @return the packed value {@code -packed} with the same scale
+	 * @throws ArithmeticException
+	 *             if the unscaled value is {@link #MIN_UNSCALED}
+	 */
+	public long negate(long packed) {
+		return packResult(-unscaledValue(packed), scale(packed));
+	}
+
+	/**
+	 * Returns the absolute packed value.
+	 * 
+	 * @param packed
+	 *            the value
+	 * @return the packed value {@code |packed|} with the same scale
+	 * @throws ArithmeticException
+	 *             if the unscaled value is {@link #MIN_UNSCALED}
+	 */
+	public long abs(long packed) {
+		return packed < 0 ? negate(packed) : packed;
+	}
+
+	/**
+	 * Returns the packed value converted to the given scale, rounded if the
+	 * new scale is smaller than the scale of the packed value.
+	 * 
+	 * @param packed
+	 *            the value to rescale
+	 * @param scale
+	 *            the new scale
+	 * @return the packed value with the new scale
+	 * @throws IllegalArgumentException
+	 *             if {@code scale} is not in {@code [0, 18]}
+	 * @throws ArithmeticException
+	 *             if an overflow occurs, or if the rounding mode is
+	 *             UNNECESSARY and rounding is necessary
+	 */
+	public long rescale(long packed, int scale) {
+		checkScale(scale);
+		final int packedScale = scale(packed);
+		if (scale >= packedScale) {
+			return packResult(align(packed, scale), scale);
+		}
+		return packResult(Pow10.divideByPowerOf10(rounding, unscaledValue(packed), packedScale - scale), scale);
+	}
+}
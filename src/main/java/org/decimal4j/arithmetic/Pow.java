@@ -83,7 +83,7 @@ final class Pow {
 			final int sgn = lBase > 0 | (exponent & 0x1) == 0 ? 1 : -1;// lBase
 																		// cannot
 																		// be 0
-			return rounding.calculateRoundingIncrement(sgn, 0, TruncatedPart.LESS_THAN_HALF_BUT_NOT_ZERO);
+			return Rounding.calculateRoundingIncrement(rounding, sgn, 0, TruncatedPart.LESS_THAN_HALF_BUT_NOT_ZERO);
 		}
 	}
 
@@ -127,7 +127,7 @@ final class Pow {
 			final int sgn = lBase > 0 | (exponent & 0x1) == 0 ? 1 : -1;// lBase
 																		// cannot
 																		// be 0
-			return rounding.calculateRoundingIncrement(sgn, 0, TruncatedPart.LESS_THAN_HALF_BUT_NOT_ZERO);
+			return Rounding.calculateRoundingIncrement(rounding, sgn, 0, TruncatedPart.LESS_THAN_HALF_BUT_NOT_ZERO);
 		}
 	}
 
@@ -179,7 +179,7 @@ final class Pow {
 		try {
 			return powWithPrecision18(arith, rounding, intVal, fraVal, exponent);
 		} catch (IllegalArgumentException e) {
-			throw new ArithmeticException("Overflow: " + arith.toString(uDecimalBase) + "^" + exponent);
+			throw Exceptions.newOverflowArithmeticException("Overflow: " + arith.toString(uDecimalBase) + "^" + exponent);
 		}
 	}
 
@@ -191,6 +191,8 @@ final class Pow {
 		final long absFra = Math.abs(fval);
 		final DecimalRounding powRounding = n >= 0 ? rounding : RoundingInverse.RECIPROCAL.invert(rounding);
 
+		DecimalEvents.slowPath("pow", arith.getScale());
+
 		// 36 digit left hand side, initialized with base value
 		final UnsignedDecimal9i36f lhs = UnsignedDecimal9i36f.THREAD_LOCAL_1.get().init(absInt, absFra,
 				arith.getScaleMetrics());
@@ -259,12 +261,12 @@ final class Pow {
 				return ((exponent & 1) == 0) ? 1 : -1;
 			case 2:
 				if (exponent >= Long.SIZE - 1) {
-					throw new ArithmeticException("Overflow: " + lBase + "^" + exponent);
+					throw Exceptions.newOverflowArithmeticException("Overflow: " + lBase + "^" + exponent);
 				}
 				return 1L << exponent;
 			case (-2):
 				if (exponent >= Long.SIZE) {
-					throw new ArithmeticException("Overflow: " + lBase + "^" + exponent);
+					throw Exceptions.newOverflowArithmeticException("Overflow: " + lBase + "^" + exponent);
 				}
 				return ((exponent & 1) == 0) ? (1L << exponent) : (-1L << exponent);
 			default:
@@ -285,7 +287,7 @@ final class Pow {
 				exponent >>= 1;
 				if (exponent > 0) {
 					if (lBase > FLOOR_SQRT_MAX_LONG | lBase < -FLOOR_SQRT_MAX_LONG) {
-						throw new ArithmeticException("Overflow: " + lBase + "^" + exponent);
+						throw Exceptions.newOverflowArithmeticException("Overflow: " + lBase + "^" + exponent);
 					}
 					lBase *= lBase;
 				}
@@ -300,7 +302,7 @@ final class Pow {
 		try {
 			return LongConversion.longToUnscaled(arith.getScaleMetrics(), longResult);
 		} catch (IllegalArgumentException e) {
-			throw new ArithmeticException("Overflow: " + arith.toString(uBase) + "^" + exponent + "=" + longResult);
+			throw Exceptions.newOverflowArithmeticException("Overflow: " + arith.toString(uBase) + "^" + exponent + "=" + longResult);
 		}
 	}
 
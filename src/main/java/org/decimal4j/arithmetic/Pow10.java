@@ -112,12 +112,12 @@ final class Pow10 {
 						scaleMetrics.getScaleFactor());
 				return truncated + inc;
 			} else if (n == -19) {
-				return rounding.calculateRoundingIncrement(Long.signum(uDecimal), 0,
+				return Rounding.calculateRoundingIncrement(rounding, Long.signum(uDecimal), 0,
 						Rounding.truncatedPartForScale19(uDecimal));
 			}
 			// truncated part is always larger 0 (see first if)
 			// and less than 0.5 because abs(Long.MIN_VALUE) / 10^20 < 0.5
-			return rounding.calculateRoundingIncrement(Long.signum(uDecimal), 0,
+			return Rounding.calculateRoundingIncrement(rounding, Long.signum(uDecimal), 0,
 					TruncatedPart.LESS_THAN_HALF_BUT_NOT_ZERO);
 		}
 	}
@@ -145,7 +145,7 @@ final class Pow10 {
 
 		if (n > 0) {
 			if (n > 18) {
-				throw new ArithmeticException("Overflow: " + arith.toString(uDecimal) + " * 10^" + n);
+				throw Exceptions.newOverflowArithmeticException("Overflow: " + arith.toString(uDecimal) + " * 10^" + n);
 			}
 
 			final ScaleMetrics scaleMetrics = Scales.getScaleMetrics(n);
@@ -182,12 +182,12 @@ final class Pow10 {
 		}
 
 		if (rounding == DecimalRounding.DOWN) {
-			return multiplyByPowerOf10Checked(arith, uDecimal, Math.abs(n));
+			return multiplyByPowerOf10Checked(arith, uDecimal, n);
 		}
 
 		if (n > 0) {
 			if (n > 18) {
-				throw new ArithmeticException("Overflow: " + arith.toString(uDecimal) + " * 10^" + n);
+				throw Exceptions.newOverflowArithmeticException("Overflow: " + arith.toString(uDecimal) + " * 10^" + n);
 			}
 
 			final ScaleMetrics scaleMetrics = Scales.getScaleMetrics(n);
@@ -201,12 +201,12 @@ final class Pow10 {
 						scaleMetrics.getScaleFactor());
 				return truncated + inc;
 			} else if (n == -19) {
-				return rounding.calculateRoundingIncrement(Long.signum(uDecimal), 0,
+				return Rounding.calculateRoundingIncrement(rounding, Long.signum(uDecimal), 0,
 						Rounding.truncatedPartForScale19(uDecimal));
 			}
 			// truncated part is always larger 0 (see first if)
 			// and less than 0.5 because abs(Long.MIN_VALUE) / 10^20 < 0.5
-			return rounding.calculateRoundingIncrement(Long.signum(uDecimal), 0,
+			return Rounding.calculateRoundingIncrement(rounding, Long.signum(uDecimal), 0,
 					TruncatedPart.LESS_THAN_HALF_BUT_NOT_ZERO);
 		}
 	}
@@ -275,10 +275,10 @@ final class Pow10 {
 			if (n > 19) {
 				// truncated part is always larger 0 (see first if)
 				// and less than 0.5 because abs(Long.MIN_VALUE) / 10^20 < 0.5
-				return rounding.calculateRoundingIncrement(Long.signum(uDecimal), 0,
+				return Rounding.calculateRoundingIncrement(rounding, Long.signum(uDecimal), 0,
 						TruncatedPart.LESS_THAN_HALF_BUT_NOT_ZERO);
 			} else if (n == 19) {
-				return rounding.calculateRoundingIncrement(Long.signum(uDecimal), 0,
+				return Rounding.calculateRoundingIncrement(rounding, Long.signum(uDecimal), 0,
 						Rounding.truncatedPartForScale19(uDecimal));
 			}
 
@@ -337,7 +337,7 @@ final class Pow10 {
 				final ScaleMetrics scaleMetrics = Scales.getScaleMetrics(-n);
 				return scaleMetrics.multiplyByScaleFactorExact(uDecimal);
 			}
-			throw new ArithmeticException("Overflow: " + arith.toString(uDecimal) + " / 10^" + n);
+			throw Exceptions.newOverflowArithmeticException("Overflow: " + arith.toString(uDecimal) + " / 10^" + n);
 		}
 	}
 
@@ -364,17 +364,17 @@ final class Pow10 {
 		}
 
 		if (rounding == DecimalRounding.DOWN) {
-			return divideByPowerOf10Checked(arith, uDecimal, Math.abs(n));
+			return divideByPowerOf10Checked(arith, uDecimal, n);
 		}
 
 		if (n > 0) {
 			if (n > 19) {
 				// truncated part is always larger 0 (see first if)
 				// and less than 0.5 because abs(Long.MIN_VALUE) / 10^20 < 0.5
-				return rounding.calculateRoundingIncrement(Long.signum(uDecimal), 0,
+				return Rounding.calculateRoundingIncrement(rounding, Long.signum(uDecimal), 0,
 						TruncatedPart.LESS_THAN_HALF_BUT_NOT_ZERO);
 			} else if (n == 19) {
-				return rounding.calculateRoundingIncrement(Long.signum(uDecimal), 0,
+				return Rounding.calculateRoundingIncrement(rounding, Long.signum(uDecimal), 0,
 						Rounding.truncatedPartForScale19(uDecimal));
 			}
 
@@ -386,7 +386,7 @@ final class Pow10 {
 			return truncated + inc;
 		} else {
 			if (n < -18) {
-				throw new ArithmeticException("Overflow: " + arith.toString(uDecimal) + " / 10^" + n);
+				throw Exceptions.newOverflowArithmeticException("Overflow: " + arith.toString(uDecimal) + " / 10^" + n);
 			}
 
 			final ScaleMetrics scaleMetrics = Scales.getScaleMetrics(-n);
@@ -118,6 +118,54 @@ final class Round {
 																													// overflow
 	}
 
+	/**
+	 * Truncates the specified value to an integral multiple of the given
+	 * increment.
+	 * 
+	 * @param uDecimal
+	 *            the unscaled decimal value
+	 * @param unscaledIncrement
+	 *            the unscaled increment, must be positive
+	 * @return <code>round<sub>DOWN</sub>(uDecimal / unscaledIncrement) * unscaledIncrement</code>
+	 * @throws IllegalArgumentException
+	 *             if {@code unscaledIncrement <= 0}
+	 */
+	public static final long roundToIncrement(long uDecimal, long unscaledIncrement) {
+		checkIncrement(unscaledIncrement);
+		return uDecimal - uDecimal % unscaledIncrement;
+	}
+
+	/**
+	 * Rounds the specified value to an integral multiple of the given
+	 * increment.
+	 * 
+	 * @param arith
+	 *            the arithmetic associated with the value
+	 * @param rounding
+	 *            the rounding to apply
+	 * @param uDecimal
+	 *            the unscaled decimal value
+	 * @param unscaledIncrement
+	 *            the unscaled increment, must be positive
+	 * @return <code>round(uDecimal / unscaledIncrement) * unscaledIncrement</code>
+	 * @throws IllegalArgumentException
+	 *             if {@code unscaledIncrement <= 0}
+	 */
+	public static final long roundToIncrement(DecimalArithmetic arith, DecimalRounding rounding, long uDecimal, long unscaledIncrement) {
+		checkIncrement(unscaledIncrement);
+		final long quotient = uDecimal / unscaledIncrement;
+		final long truncatedDigits = uDecimal - quotient * unscaledIncrement;
+		final long truncatedValue = uDecimal - truncatedDigits;
+		final int roundingInc = Rounding.calculateRoundingIncrement(rounding, quotient, truncatedDigits, unscaledIncrement);
+		return roundingInc == 0 ? truncatedValue : arith.add(truncatedValue, roundingInc * unscaledIncrement);// must add via arith to check for overflow
+	}
+
+	private static final void checkIncrement(long unscaledIncrement) {
+		if (unscaledIncrement <= 0) {
+			throw new IllegalArgumentException("increment must be positive but was " + unscaledIncrement);
+		}
+	}
+
 	// no instances
 	private Round() {
 		super();
@@ -33,6 +33,60 @@ import org.decimal4j.truncate.TruncatedPart;
  */
 final class Rounding {
 
+	/**
+	 * Code in {@link #INCREMENT_CODES} for UNNECESSARY rounding of a non-zero
+	 * truncated part; the codes 0, 1 and 2 stand for the increments -1, 0 and 1.
+	 */
+	private static final int ROUNDING_NECESSARY = 3;
+
+	/**
+	 * Rounding increment codes indexed by decimal rounding ordinal. Each int
+	 * holds 16 codes of 2 bits indexed by sign bit (bit 3), truncated part
+	 * ordinal (bits 1-2) and the parity of the truncated value (bit 0); derived
+	 * from {@link DecimalRounding#calculateRoundingIncrement(int, long, TruncatedPart)}.
+	 */
+	private static final int[] INCREMENT_CODES = initIncrementCodes();
+
+	/**
+	 * Truncated part ordinals indexed by first truncated digit (bits 1-4) and
+	 * a flag whether all other truncated digits are zero (bit 0); derived from
+	 * {@link TruncatedPart#valueOf(int, boolean)}.
+	 */
+	private static final byte[] TRUNCATED_PART_ORDINALS = initTruncatedPartOrdinals();
+
+	private static final int[] initIncrementCodes() {
+		final DecimalRounding[] roundings = DecimalRounding.values();
+		final int[] codes = new int[roundings.length];
+		for (final DecimalRounding rounding : roundings) {
+			int code = 0;
+			for (int signBit = 0; signBit <= 1; signBit++) {
+				for (final TruncatedPart truncatedPart : TruncatedPart.values()) {
+					for (int parity = 0; parity <= 1; parity++) {
+						final int index = (signBit << 3) | (truncatedPart.ordinal() << 1) | parity;
+						int increment;
+						try {
+							increment = 1 + rounding.calculateRoundingIncrement(1 - 2 * signBit, parity, truncatedPart);
+						} catch (ArithmeticException e) {
+							increment = ROUNDING_NECESSARY;
+						}
+						code |= increment << (index << 1);
+					}
+				}
+			}
+			codes[rounding.ordinal()] = code;
+		}
+		return codes;
+	}
+
+	private static final byte[] initTruncatedPartOrdinals() {
+		final byte[] ordinals = new byte[20];
+		for (int digit = 0; digit <= 9; digit++) {
+			ordinals[digit << 1] = (byte) TruncatedPart.valueOf(digit, false).ordinal();
+			ordinals[(digit << 1) | 1] = (byte) TruncatedPart.valueOf(digit, true).ordinal();
+		}
+		return ordinals;
+	}
+
 	/**
 	 * Returns the rounding increment appropriate for the specified
 	 * {@code rounding}. The returned value is one of -1, 0 or 1.
@@ -54,7 +108,57 @@ final class Rounding {
 	 *         result, one of -1, 0 or 1
 	 */
 	public static final int calculateRoundingIncrement(DecimalRounding rounding, int sign, long truncatedValue, int firstTruncatedDigit, boolean zeroAfterFirstTruncatedDigit) {
-		return rounding.calculateRoundingIncrement(sign, truncatedValue, TruncatedPart.valueOf(firstTruncatedDigit, zeroAfterFirstTruncatedDigit));
+		final int truncatedPart = TRUNCATED_PART_ORDINALS[(firstTruncatedDigit << 1) | (zeroAfterFirstTruncatedDigit ? 1 : 0)];
+		return roundingIncrement(rounding, sign >>> 31, truncatedValue, truncatedPart);
+	}
+
+	/**
+	 * Returns the rounding increment appropriate for the specified
+	 * {@code rounding}. The returned value is one of -1, 0 or 1.
+	 * 
+	 * @param rounding
+	 *            the rounding mode to apply
+	 * @param sign
+	 *            the sign of the total value, either +1 or -1; determines the
+	 *            result value if rounded
+	 * @param truncatedValue
+	 *            the truncated result before rounding is applied (only used for
+	 *            HALF_EVEN rounding)
+	 * @param truncatedPart
+	 *            the truncated part, one of the {@link TruncatedPart} constants
+	 * @return the value to add to {@code truncatedValue} to get the rounded
+	 *         result, one of -1, 0 or 1
+	 */
+	public static final int calculateRoundingIncrement(DecimalRounding rounding, int sign, long truncatedValue, TruncatedPart truncatedPart) {
+		return roundingIncrement(rounding, sign >>> 31, truncatedValue, truncatedPart.ordinal());
+	}
+
+	/**
+	 * Returns the rounding increment appropriate for the specified
+	 * {@code rounding} given a non-negative remainder resulting from a
+	 * division by the given non-negative divisor. The returned value is one of
+	 * -1, 0 or 1.
+	 * 
+	 * @param rounding
+	 *            the rounding mode to apply
+	 * @param sign
+	 *            the sign of the total value, either +1 or -1; determines the
+	 *            result value if rounded
+	 * @param truncatedValue
+	 *            the truncated result before rounding is applied (only used for
+	 *            HALF_EVEN rounding)
+	 * @param nonNegativeRemainder
+	 *            the remainder part, not negative and
+	 *            {@code nonNegativeRemainder < nonNegativeDivisor}
+	 * @param nonNegativeDivisor
+	 *            the divisor, not negative or LONG.MIN_VALUE --- the latter
+	 *            equal to {@code abs(Long.MIN_VALUE)}
+	 * @return the value to add to {@code truncatedValue} to get the rounded
+	 *         result, one of -1, 0 or 1
+	 */
+	public static final int calculateRoundingIncrement(DecimalRounding rounding, int sign, long truncatedValue, long nonNegativeRemainder, long nonNegativeDivisor) {
+		final int truncatedPart = truncatedPartOrdinalFor(nonNegativeRemainder, nonNegativeDivisor);
+		return roundingIncrement(rounding, sign >>> 31, truncatedValue, truncatedPart);
 	}
 
 	/**
@@ -76,11 +180,8 @@ final class Rounding {
 	 *         result, one of -1, 0 or 1
 	 */
 	public static final int calculateRoundingIncrementForDivision(DecimalRounding rounding, long truncatedValue, long truncatedDigits, long divisor) {
-		if (truncatedDigits == 0) {
-			return 0;
-		}
-		final TruncatedPart truncatedPart = truncatedPartFor(Math.abs(truncatedDigits), Math.abs(divisor));
-		return rounding.calculateRoundingIncrement(Long.signum(truncatedDigits ^ divisor), truncatedValue, truncatedPart);
+		final int truncatedPart = truncatedPartOrdinalFor(Math.abs(truncatedDigits), Math.abs(divisor));
+		return roundingIncrement(rounding, (int) ((truncatedDigits ^ divisor) >>> 63), truncatedValue, truncatedPart);
 	}
 
 	/**
@@ -103,11 +204,60 @@ final class Rounding {
 	 *         result, one of -1, 0 or 1
 	 */
 	public static final int calculateRoundingIncrement(DecimalRounding rounding, long truncatedValue, long truncatedDigits, long one) {
-		if (truncatedDigits == 0) {
-			return 0;
+		final int truncatedPart = truncatedPartOrdinalFor(Math.abs(truncatedDigits), one);
+		return roundingIncrement(rounding, (int) (truncatedDigits >>> 63), truncatedValue, truncatedPart);
+	}
+
+	/**
+	 * Returns the rounding increment from the lookup table without branching
+	 * on sign, truncated part or rounding mode. The returned value is one of
+	 * -1, 0 or 1.
+	 * 
+	 * @param rounding
+	 *            the rounding mode to apply
+	 * @param signBit
+	 *            1 if the total value is negative and 0 otherwise
+	 * @param truncatedValue
+	 *            the truncated result before rounding is applied, its parity is
+	 *            used for HALF_EVEN rounding
+	 * @param truncatedPartOrdinal
+	 *            the ordinal of the {@link TruncatedPart} constant
+	 * @return the value to add to {@code truncatedValue} to get the rounded
+	 *         result, one of -1, 0 or 1
+	 * @throws ArithmeticException
+	 *             if rounding is UNNECESSARY and the truncated part is not zero
+	 */
+	private static final int roundingIncrement(DecimalRounding rounding, int signBit, long truncatedValue, int truncatedPartOrdinal) {
+		final int index = (signBit << 3) | (truncatedPartOrdinal << 1) | ((int) truncatedValue & 0x1);
+		final int code = (INCREMENT_CODES[rounding.ordinal()] >>> (index << 1)) & 0x3;
+		if (code == ROUNDING_NECESSARY) {
+			throw Exceptions.newRoundingNecessaryArithmeticException();
 		}
-		final TruncatedPart truncatedPart = truncatedPartFor(Math.abs(truncatedDigits), one);
-		return rounding.calculateRoundingIncrement(Long.signum(truncatedDigits), truncatedValue, truncatedPart);
+		return code - 1;
+	}
+
+	/**
+	 * Returns the {@link TruncatedPart#ordinal() ordinal} of the truncated part
+	 * constant given a non-negative remainder resulting from a division by the
+	 * given non-negative divisor. Equivalent to
+	 * {@code truncatedPartFor(nonNegativeRemainder, nonNegativeDivisor).ordinal()}
+	 * but computed without branches.
+	 * 
+	 * @param nonNegativeRemainder
+	 *            the remainder part, not negative and
+	 *            {@code nonNegativeRemainder < nonNegativeDivisor}
+	 * @param nonNegativeDivisor
+	 *            the divisor, not negative or LONG.MIN_VALUE --- the latter
+	 *            equal to {@code abs(Long.MIN_VALUE)}
+	 * @return the ordinal of the truncated part constant equivalent to the
+	 *         given arguments
+	 */
+	static final int truncatedPartOrdinalFor(long nonNegativeRemainder, long nonNegativeDivisor) {
+		//2*remainder - divisor is in the long range even if the divisor is 2^63
+		final long twiceRemainderMinusDivisor = (nonNegativeRemainder << 1) - nonNegativeDivisor;
+		//all bits set if not zero, and 1, 2, 3 if less, equal, greater than half
+		final int notZero = (int) (-nonNegativeRemainder >> 63);
+		return (2 + Long.signum(twiceRemainderMinusDivisor)) & notZero;
 	}
 
 	/**
@@ -212,6 +362,42 @@ final class Rounding {
 		}
 	}
 
+	/**
+	 * Returns a truncated part constant given a 128 bit remainder resulting
+	 * from a division by the given 128 bit divisor, both treated as unsigned
+	 * values.
+	 * 
+	 * @param hRemainder
+	 *            the high bits of the remainder part
+	 * @param lRemainder
+	 *            the low bits of the remainder part, the unsigned remainder
+	 *            must be less than the unsigned divisor
+	 * @param hDivisor
+	 *            the high bits of the divisor
+	 * @param lDivisor
+	 *            the low bits of the divisor
+	 * @return the truncated part constant equivalent to the given arguments
+	 */
+	public static final TruncatedPart truncatedPartFor(long hRemainder, long lRemainder, long hDivisor, long lDivisor) {
+		if (hDivisor == 0 & (lDivisor >= 0 | lDivisor == Long.MIN_VALUE)) {
+			//divisor is at most 2^63 and hence hRemainder is zero
+			return truncatedPartFor(lRemainder, lDivisor);
+		}
+		if ((hRemainder | lRemainder) == 0) {
+			return TruncatedPart.ZERO;
+		}
+		final long hHalfDivisor = hDivisor >>> 1;
+		final long lHalfDivisor = (lDivisor >>> 1) | (hDivisor << 63);
+		final int cmp = hRemainder == hHalfDivisor ? Unsigned.compare(lRemainder, lHalfDivisor) : Unsigned.compare(hRemainder, hHalfDivisor);
+		if (cmp > 0) {
+			return TruncatedPart.GREATER_THAN_HALF;
+		}
+		if ((lDivisor & 0x1) == 0 & cmp == 0) {
+			return TruncatedPart.EQUAL_TO_HALF;
+		}
+		return TruncatedPart.LESS_THAN_HALF_BUT_NOT_ZERO;
+	}
+
 	/**
 	 * Returns a truncated part constant given a non-negative remainder
 	 * resulting from a division by 2^63
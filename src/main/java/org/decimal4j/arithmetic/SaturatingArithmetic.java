@@ -0,0 +1,90 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2023 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.arithmetic;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.scale.ScaleMetrics;
+import org.decimal4j.truncate.OverflowMode;
+import org.decimal4j.truncate.SaturatingRounding;
+import org.decimal4j.truncate.TruncationPolicy;
+
+/**
+ * Arithmetic implementation with rounding and {@link OverflowMode#SATURATING
+ * SATURATING} overflow mode for all scales. Operations leading to an overflow
+ * return {@link Long#MAX_VALUE} or {@link Long#MIN_VALUE} instead of throwing an
+ * exception.
+ */
+public final class SaturatingArithmetic extends AbstractSaturatingArithmetic {
+
+	/**
+	 * Constructor for decimal arithmetic with given scale, rounding mode and
+	 * {@link OverflowMode#SATURATING} overflow mode.
+	 * 
+	 * @param scaleMetrics
+	 *            the scale metrics for this decimal arithmetic
+	 * @param roundingMode
+	 *            the rounding mode to use for all decimal arithmetic
+	 */
+	public SaturatingArithmetic(ScaleMetrics scaleMetrics, RoundingMode roundingMode) {
+		super(scaleMetrics, roundingMode);
+	}
+
+	@Override
+	public final OverflowMode getOverflowMode() {
+		return OverflowMode.SATURATING;
+	}
+
+	@Override
+	public final SaturatingRounding getTruncationPolicy() {
+		return SaturatingRounding.valueOf(getRoundingMode());
+	}
+
+	@Override
+	final DecimalArithmetic deriveArithmetic(ScaleMetrics scaleMetrics, TruncationPolicy truncationPolicy) {
+		return scaleMetrics.getArithmetic(truncationPolicy);
+	}
+
+	@Override
+	final long overflow(int signum) {
+		return signum < 0 ? Long.MIN_VALUE : Long.MAX_VALUE;
+	}
+
+	@Override
+	final long rounded(Operation op, long a, long b, int n, long result) {
+		return result;
+	}
+
+	@Override
+	final long converted(BigDecimal value, long result) {
+		return result;
+	}
+
+	@Override
+	final long parsed(CharSequence value, int start, int end, long result) {
+		return result;
+	}
+}
@@ -0,0 +1,268 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2023 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.arithmetic;
+
+import java.math.RoundingMode;
+
+import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.scale.ScaleMetrics;
+import org.decimal4j.scale.Scales;
+import org.decimal4j.truncate.DecimalRounding;
+import org.decimal4j.truncate.OverflowMode;
+import org.decimal4j.truncate.TruncationPolicy;
+
+/**
+ * Converts unscaled values from a source scale to a target scale, for
+ * instance to normalize feed data with scale 2, 4 or 8 into an internal scale
+ * of 6. The power of ten factor and the overflow bound for up-scaling as well
+ * as the reciprocal of the power of ten divisor for down-scaling are
+ * precomputed when the converter is created. Converters are cached per pair
+ * of scales and truncation policy and can be obtained through one of the
+ * {@code valueOf(..)} methods.
+ * <p>
+ * Results are identical to {@link DecimalArithmetic#fromUnscaled(long, int)}
+ * of the target arithmetic for the converter's truncation policy. Overflows
+ * and inexact results with rounding mode UNNECESSARY are delegated to the
+ * target arithmetic and are hence handled consistently with the
+ * {@link OverflowMode}: an {@link IllegalArgumentException} is thrown for
+ * overflows in {@link OverflowMode#UNCHECKED UNCHECKED} and
+ * {@link OverflowMode#CHECKED CHECKED} mode as for all conversions, and the
+ * result is saturated in {@link OverflowMode#SATURATING SATURATING} mode. All
+ * conversions of converters with {@link OverflowMode#FLAGGING FLAGGING}
+ * overflow mode are delegated to the target arithmetic to raise the status
+ * flags.
+ * <p>
+ * Instances of this class are immutable and can be shared between threads.
+ */
+public final class ScaleConverter {
+
+	private static final int SCALE_COUNT = Scales.MAX_SCALE + 1;
+	private static final int OVERFLOW_MODE_COUNT = OverflowMode.values().length;
+	private static final int ROUNDING_MODE_COUNT = RoundingMode.values().length;
+	private static final int POLICY_COUNT = OVERFLOW_MODE_COUNT * ROUNDING_MODE_COUNT;
+
+	/**
+	 * Converters are created on demand; racing threads may create the same
+	 * converter more than once which is harmless since converters are
+	 * immutable.
+	 */
+	private static final ScaleConverter[] CACHE = new ScaleConverter[SCALE_COUNT * SCALE_COUNT * POLICY_COUNT];
+
+	private final ScaleMetrics sourceScaleMetrics;
+	private final DecimalArithmetic targetArithmetic;
+	private final DecimalRounding rounding;
+	private final int sourceScale;
+	private final int scaleDiff;
+	private final long factor;
+	private final long bound;
+	private final int shift;
+	private final long reciprocal;
+	private final boolean delegate;
+
+	private ScaleConverter(ScaleMetrics sourceScaleMetrics, ScaleMetrics targetScaleMetrics, TruncationPolicy truncationPolicy) {
+		this.sourceScaleMetrics = sourceScaleMetrics;
+		this.targetArithmetic = targetScaleMetrics.getArithmetic(truncationPolicy);
+		this.rounding = DecimalRounding.valueOf(truncationPolicy.getRoundingMode());
+		this.sourceScale = sourceScaleMetrics.getScale();
+		this.scaleDiff = targetScaleMetrics.getScale() - sourceScale;
+		this.factor = Scales.getScaleMetrics(Math.abs(scaleDiff)).getScaleFactor();
+		this.bound = Long.MAX_VALUE / factor;
+		this.shift = Long.numberOfLeadingZeros(factor);
+		this.reciprocal = Div.reciprocal(factor << shift);
+		this.delegate = truncationPolicy.getOverflowMode() == OverflowMode.FLAGGING;
+	}
+
+	/**
+	 * Returns the converter from source to target scale using the
+	 * {@link TruncationPolicy#DEFAULT default} truncation policy.
+	 * 
+	 * @param sourceScaleMetrics
+	 *            the scale metrics of the values to convert
+	 * @param targetScaleMetrics
+	 *            the scale metrics of the converted values
+	 * @return the cached converter
+	 */
+	public static final ScaleConverter valueOf(ScaleMetrics sourceScaleMetrics, ScaleMetrics targetScaleMetrics) {
+		return valueOf(sourceScaleMetrics, targetScaleMetrics, TruncationPolicy.DEFAULT);
+	}
+
+	/**
+	 * Returns the converter from source to target scale using the given
+	 * rounding mode and {@link OverflowMode#UNCHECKED UNCHECKED} overflow
+	 * mode.
+	 * 
+	 * @param sourceScaleMetrics
+	 *            the scale metrics of the values to convert
+	 * @param targetScaleMetrics
+	 *            the scale metrics of the converted values
+	 * @param roundingMode
+	 *            the rounding mode to apply when converting to a smaller scale
+	 * @return the cached converter
+	 */
+	public static final ScaleConverter valueOf(ScaleMetrics sourceScaleMetrics, ScaleMetrics targetScaleMetrics, RoundingMode roundingMode) {
+		return valueOf(sourceScaleMetrics, targetScaleMetrics, OverflowMode.UNCHECKED.getTruncationPolicy(roundingMode));
+	}
+
+	/**
+	 * Returns the converter from source to target scale using the given
+	 * truncation policy.
+	 * 
+	 * @param sourceScaleMetrics
+	 *            the scale metrics of the values to convert
+	 * @param targetScaleMetrics
+	 *            the scale metrics of the converted values
+	 * @param truncationPolicy
+	 *            the truncation policy defining rounding and overflow mode
+	 * @return the cached converter
+	 */
+	public static final ScaleConverter valueOf(ScaleMetrics sourceScaleMetrics, ScaleMetrics targetScaleMetrics, TruncationPolicy truncationPolicy) {
+		final int index = ((sourceScaleMetrics.getScale() * SCALE_COUNT + targetScaleMetrics.getScale()) * OVERFLOW_MODE_COUNT
+				+ truncationPolicy.getOverflowMode().ordinal()) * ROUNDING_MODE_COUNT
+				+ truncationPolicy.getRoundingMode().ordinal();
+		final ScaleConverter cached = CACHE[index];
+		if (cached != null) {
+			return cached;
+		}
+		final ScaleConverter converter = new ScaleConverter(sourceScaleMetrics, targetScaleMetrics, truncationPolicy);
+		CACHE[index] = converter;
+		return converter;
+	}
+
+	/**
+	 * Returns the scale metrics of the values to convert.
+	 * 
+	 * @return the source scale metrics
+	 */
+	public final ScaleMetrics getSourceScaleMetrics() {
+		return sourceScaleMetrics;
+	}
+
+	/**
+	 * Returns the scale metrics of the converted values.
+	 * 
+	 * @return the target scale metrics
+	 */
+	public final ScaleMetrics getTargetScaleMetrics() {
+		return targetArithmetic.getScaleMetrics();
+	}
+
+	/**
+	 * Returns the truncation policy with rounding and overflow mode applied
+	 * by this converter.
+	 * 
+	 * @return the truncation policy
+	 */
+	public final TruncationPolicy getTruncationPolicy() {
+		return targetArithmetic.getTruncationPolicy();
+	}
+
+	/**
+	 * Converts the given unscaled value from source to target scale. The
+	 * result is the same as
+	 * {@code getTargetScaleMetrics().getArithmetic(getTruncationPolicy()).fromUnscaled(uDecimal, getSourceScaleMetrics().getScale())}.
+	 * 
+	 * @param uDecimal
+	 *            the unscaled value with the source scale
+	 * @return the unscaled value with the target scale
+	 * @throws IllegalArgumentException
+	 *             if the value overflows in the target scale and the overflow
+	 *             mode is UNCHECKED or CHECKED
+	 * @throws ArithmeticException
+	 *             if the rounding mode is UNNECESSARY and rounding is
+	 *             necessary
+	 */
+	public final long convert(long uDecimal) {
+		if (delegate) {
+			return targetArithmetic.fromUnscaled(uDecimal, sourceScale);
+		}
+		if (scaleDiff >= 0) {
+			if (-bound <= uDecimal & uDecimal <= bound) {
+				return uDecimal * factor;
+			}
+			return targetArithmetic.fromUnscaled(uDecimal, sourceScale);
+		}
+		final boolean neg = uDecimal < 0;
+		final long absValue = Math.abs(uDecimal);// unsigned, also for Long.MIN_VALUE
+		final long quotient = Div.div128by64(0, absValue, factor, shift, reciprocal);
+		final long remainder = absValue - quotient * factor;
+		final long truncated = neg ? -quotient : quotient;
+		if (remainder == 0 | rounding == DecimalRounding.DOWN) {
+			return truncated;
+		}
+		if (rounding == DecimalRounding.UNNECESSARY) {
+			return targetArithmetic.fromUnscaled(uDecimal, sourceScale);
+		}
+		return truncated + Rounding.calculateRoundingIncrement(rounding, neg ? -1 : 1, quotient, remainder, factor);
+	}
+
+	/**
+	 * Converts {@code length} unscaled values from the source array and stores
+	 * the results in the destination array. Source and destination array can
+	 * be the same array, also with overlapping ranges if
+	 * {@code dstOffset <= srcOffset}.
+	 * 
+	 * @param values
+	 *            the unscaled values with the source scale
+	 * @param srcOffset
+	 *            the index of the first value in {@code values}
+	 * @param converted
+	 *            the destination array for the unscaled values with the
+	 *            target scale
+	 * @param dstOffset
+	 *            the index in {@code converted} for the first converted value
+	 * @param length
+	 *            the number of values to convert
+	 * @throws IndexOutOfBoundsException
+	 *             if the source or destination range is not within the bounds
+	 *             of the respective array
+	 * @throws IllegalArgumentException
+	 *             if a value overflows in the target scale and the overflow
+	 *             mode is UNCHECKED or CHECKED
+	 * @throws ArithmeticException
+	 *             if the rounding mode is UNNECESSARY and rounding is
+	 *             necessary
+	 */
+	public final void convert(long[] values, int srcOffset, long[] converted, int dstOffset, int length) {
+		if (srcOffset < 0 | dstOffset < 0 | length < 0 | srcOffset > values.length - length
+				| dstOffset > converted.length - length) {
+			throw new IndexOutOfBoundsException("Cannot convert " + length + " values from offset " + srcOffset
+					+ " of array with length " + values.length + " into offset " + dstOffset
+					+ " of array with length " + converted.length);
+		}
+		for (int i = 0; i < length; i++) {
+			converted[dstOffset + i] = convert(values[srcOffset + i]);
+		}
+	}
+
+	/**
+	 * Returns a string with source scale, target scale and truncation policy
+	 * of this converter.
+	 * 
+	 * @return a string like "ScaleConverter[2 -> 6, HALF_UP]"
+	 */
+	@Override
+	public final String toString() {
+		return "ScaleConverter[" + sourceScale + " -> " + targetArithmetic.getScale() + ", " + getTruncationPolicy() + "]";
+	}
+}
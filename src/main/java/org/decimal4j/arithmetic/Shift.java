@@ -80,13 +80,13 @@ final class Shift {
 				final long remainder = uDecimal - (truncated << positions);
 				final TruncatedPart truncatedPart = positions == 63 ? Rounding.truncatedPartFor2pow63(remainder)
 						: Rounding.truncatedPartFor(Math.abs(remainder), 1L << positions);
-				return truncated + rounding.calculateRoundingIncrement(Long.signum(uDecimal), truncated, truncatedPart);
+				return truncated + Rounding.calculateRoundingIncrement(rounding, Long.signum(uDecimal), truncated, truncatedPart);
 			}
 			if (positions == Long.SIZE) {
-				return rounding.calculateRoundingIncrement(Long.signum(uDecimal), 0,
+				return Rounding.calculateRoundingIncrement(rounding, Long.signum(uDecimal), 0,
 						Rounding.truncatedPartFor2pow64(Math.abs(uDecimal)));
 			}
-			return rounding.calculateRoundingIncrement(Long.signum(uDecimal), 0,
+			return Rounding.calculateRoundingIncrement(rounding, Long.signum(uDecimal), 0,
 					TruncatedPart.LESS_THAN_HALF_BUT_NOT_ZERO);
 		}
 		return positions > -Long.SIZE ? uDecimal << -positions : 0;
@@ -130,7 +130,7 @@ final class Shift {
 					}
 				}
 			}
-			throw new ArithmeticException("Overflow: " + arith.toString(uDecimal) + " << " + positions + " = "
+			throw Exceptions.newOverflowArithmeticException("Overflow: " + arith.toString(uDecimal) + " << " + positions + " = "
 					+ arith.toString(uDecimal << positions));
 		}
 		// one shift missing for (-Integer.MIN_VALUE) but does not matter as
@@ -169,7 +169,7 @@ final class Shift {
 				// ignore, throw again below with correct shift direction
 			}
 		}
-		throw new ArithmeticException("Overflow: " + arith.toString(uDecimal) + " >> " + positions + " = "
+		throw Exceptions.newOverflowArithmeticException("Overflow: " + arith.toString(uDecimal) + " >> " + positions + " = "
 				+ arith.toString(uDecimal >> positions));
 	}
 
@@ -215,9 +215,9 @@ final class Sqrt {
 	// NOTE: TruncatedPart cannot be 0.5 because this would square to 0.25
 	private static final int getRoundingIncrement(DecimalRounding rounding, long truncated, long rem) {
 		if (truncated < rem) {
-			return rounding.calculateRoundingIncrement(1, truncated, TruncatedPart.GREATER_THAN_HALF);
+			return Rounding.calculateRoundingIncrement(rounding, 1, truncated, TruncatedPart.GREATER_THAN_HALF);
 		}
-		return rounding.calculateRoundingIncrement(1, truncated, TruncatedPart.LESS_THAN_HALF_BUT_NOT_ZERO);
+		return Rounding.calculateRoundingIncrement(rounding, 1, truncated, TruncatedPart.LESS_THAN_HALF_BUT_NOT_ZERO);
 	}
 
 	// no instances
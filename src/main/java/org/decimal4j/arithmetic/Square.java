@@ -172,7 +172,7 @@ final class Square {
 				final long fxf = scaleMetrics.divideByScaleFactor(f * f);// unchecked:ok
 				// check whether we can multiply ixf by 2
 				if (ixf < 0)
-					throw new ArithmeticException("Overflow: " + ixf + "<<1");
+					throw Exceptions.newOverflowArithmeticException("Overflow: " + ixf + "<<1");
 				final long ixfx2 = ixf << 1;
 				// add it all up now, every operation checked
 				long result = scaleMetrics.multiplyByScaleFactorExact(ixi);
@@ -193,7 +193,7 @@ final class Square {
 				final long hxlr = hxl - scaleDiff09.multiplyByScaleFactor(hxld);
 				// check whether we can multiply hxld by 2
 				if (hxld < 0)
-					throw new ArithmeticException("Overflow: " + hxld + "<<1");
+					throw Exceptions.newOverflowArithmeticException("Overflow: " + hxld + "<<1");
 				final long hxldx2 = hxld << 1;
 				// add it all up now, every operation checked
 				long result = scaleDiff18.multiplyByScaleFactorExact(hxh);
@@ -202,7 +202,7 @@ final class Square {
 				return result;
 			}
 		} catch (ArithmeticException e) {
-			throw Exceptions.newArithmeticExceptionWithCause("Overflow: " + arith.toString(uDecimal) + "^2", e);
+			throw Exceptions.newOverflowArithmeticException("Overflow: " + arith.toString(uDecimal) + "^2", e);
 		}
 	}
 
@@ -238,7 +238,7 @@ final class Square {
 				final long ixf = i * f;// cannot overflow
 				// check whether we can multiply ixf by 2
 				if (ixf < 0)
-					throw new ArithmeticException("Overflow: " + ixf + "<<1");
+					throw Exceptions.newOverflowArithmeticException("Overflow: " + ixf + "<<1");
 				final long ixfx2 = ixf << 1;
 
 				final long fxfd = scaleMetrics.divideByScaleFactor(fxf);
@@ -283,7 +283,7 @@ final class Square {
 			}
 		} catch (ArithmeticException e) {
 			Exceptions.rethrowIfRoundingNecessary(e);
-			throw Exceptions.newArithmeticExceptionWithCause("Overflow: " + arith.toString(uDecimal) + "^2", e);
+			throw Exceptions.newOverflowArithmeticException("Overflow: " + arith.toString(uDecimal) + "^2", e);
 		}
 	}
 
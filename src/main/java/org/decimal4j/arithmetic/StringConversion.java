@@ -42,6 +42,7 @@ final class StringConversion {
 	static final ThreadLocal<StringBuilder> STRING_BUILDER_THREAD_LOCAL = new ThreadLocal<StringBuilder>() {
 		@Override
 		protected StringBuilder initialValue() {
+			DecimalEvents.threadLocalAllocation(StringBuilder.class);
 			return new StringBuilder(19 + 1 + 2);// unsigned long: 19 digits,
 													// sign: 1, decimal point
 													// and leading 0: 2
@@ -101,9 +102,17 @@ final class StringConversion {
 			throw new IndexOutOfBoundsException("Start or end index is out of bounds: [" + start + ", " + end
 					+ " must be <= [0, " + s.length() + "]");
 		}
+		final int indexOfDecimalPoint = indexOfDecimalPointOrExponent(s, start, end);
+		if (indexOfDecimalPoint >= 0) {
+			// continue the scan after the decimal point, the exponent must follow the fraction digits
+			final int indexOfExponent = isExponent(s.charAt(indexOfDecimalPoint)) ? indexOfDecimalPoint
+					: indexOfExponent(s, indexOfDecimalPoint + 1, end);
+			if (indexOfExponent >= 0) {
+				return parseUnscaledDecimalWithExponent(arith, rounding, s, start, indexOfExponent, end);
+			}
+		}
 		final ScaleMetrics scaleMetrics = arith.getScaleMetrics();
 		final int scale = scaleMetrics.getScale();
-		final int indexOfDecimalPoint = indexOfDecimalPoint(s, start, end);
 		if (indexOfDecimalPoint == end & scale > 0) {
 			throw newNumberFormatExceptionFor(arith, s, start, end);
 		}
@@ -143,7 +152,7 @@ final class StringConversion {
 			final long unscaledFractional = negative ? -fractionalPart : fractionalPart;// < Scale18.SCALE_FACTOR hence
 																						// no overflow
 			final long truncatedValue = Checked.add(arith, unscaledIntegeral, unscaledFractional);
-			final int roundingIncrement = rounding.calculateRoundingIncrement(negative ? -1 : 1, truncatedValue,
+			final int roundingIncrement = Rounding.calculateRoundingIncrement(rounding, negative ? -1 : 1, truncatedValue,
 					truncatedPart);
 			return roundingIncrement == 0 ? truncatedValue : Checked.add(arith, truncatedValue, roundingIncrement);
 		} catch (ArithmeticException e) {
@@ -151,6 +160,73 @@ final class StringConversion {
 		}
 	}
 
+	/**
+	 * Parses a decimal number in exponent notation such as "1.25E+3" or "-5e-4". The exponent and the number of
+	 * fraction digits are combined into a single power of ten that is applied to the significand digits by
+	 * {@link UnscaledParser#parse(int, DecimalRounding, boolean, CharSequence, int, int, long)}.
+	 */
+	private static final long parseUnscaledDecimalWithExponent(DecimalArithmetic arith, DecimalRounding rounding, CharSequence s, int start, int indexOfExponent, int end) {
+		final int exponent = parseExponent(arith, s, start, indexOfExponent + 1, end);
+
+		// validate the significand and count its digits
+		int i = start;
+		boolean negative = false;
+		if (i < indexOfExponent) {
+			final char firstChar = s.charAt(i);
+			negative = firstChar == '-';
+			if (negative | firstChar == '+') {
+				i++;
+			}
+		}
+		final int digitsStart = i;
+		int digits = 0;
+		int fractionDigits = 0;
+		boolean decimalPoint = false;
+		while (i < indexOfExponent) {
+			final char ch = s.charAt(i++);
+			if (ch == '.' & !decimalPoint) {
+				decimalPoint = true;
+				continue;
+			}
+			getDigit(arith, s, start, end, ch);
+			digits++;
+			if (decimalPoint) {
+				fractionDigits++;
+			}
+		}
+		if (digits == 0) {
+			throw newNumberFormatExceptionFor(arith, s, start, end);
+		}
+		try {
+			return UnscaledParser.parse(arith.getScale(), rounding, negative, s, digitsStart, indexOfExponent,
+					(long) exponent - fractionDigits);
+		} catch (ArithmeticException e) {
+			Exceptions.rethrowIfRoundingNecessary(e);
+			throw newNumberFormatExceptionFor(arith, s, start, end, e);
+		}
+	}
+
+	private static final int parseExponent(DecimalArithmetic arith, CharSequence s, int start, int exponentStart, int end) {
+		int i = exponentStart;
+		boolean negative = false;
+		if (i < end) {
+			final char firstChar = s.charAt(i);
+			negative = firstChar == '-';
+			if (negative | firstChar == '+') {
+				i++;
+			}
+		}
+		if (i == end) {
+			throw newNumberFormatExceptionFor(arith, s, start, end);
+		}
+		int exponent = 0;
+		while (i < end) {
+			final int digit = getDigit(arith, s, start, end, s.charAt(i++));
+			exponent = Math.min(UnscaledParser.MAX_EXPONENT, exponent * 10 + digit);
+		}
+		return negative ? -exponent : exponent;
+	}
+
 	private static final long parseFractionalPart(DecimalArithmetic arith, CharSequence s, int start, int end) {
 		final int len = end - start;
 		if (len > 0) {
@@ -203,15 +279,29 @@ final class StringConversion {
 		return TruncatedPart.ZERO;
 	}
 
-	private static final int indexOfDecimalPoint(CharSequence s, int start, int end) {
+	private static final int indexOfExponent(CharSequence s, int start, int end) {
 		for (int i = start; i < end; i++) {
-			if (s.charAt(i) == '.') {
+			if (isExponent(s.charAt(i))) {
 				return i;
 			}
 		}
 		return -1;
 	}
 
+	private static final int indexOfDecimalPointOrExponent(CharSequence s, int start, int end) {
+		for (int i = start; i < end; i++) {
+			final char ch = s.charAt(i);
+			if (ch == '.' | isExponent(ch)) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private static final boolean isExponent(char ch) {
+		return ch == 'e' | ch == 'E';
+	}
+
 	// copied from Long.parseLong(String, int) but for fixed radix 10
 	private static final long parseIntegralPart(DecimalArithmetic arith, CharSequence s, int start, int end, ParseMode mode) {
 		long result = 0;
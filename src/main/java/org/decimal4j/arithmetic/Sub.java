@@ -102,7 +102,7 @@ final class Sub {
 		try {
 			return subtractForNegativeScaleDiff(arith, uDecimal, lValue, -scale);
 		} catch (ArithmeticException e) {
-			throw Exceptions.newArithmeticExceptionWithCause("Overflow: " + arith.toString(uDecimal) + " - " + lValue, e);
+			throw Exceptions.newOverflowArithmeticException("Overflow: " + arith.toString(uDecimal) + " - " + lValue, e);
 		}
 	}
 
@@ -191,14 +191,14 @@ final class Sub {
 			try {
 				return subtractForNegativeScaleDiff(arith, uDecimal, unscaled, scaleDiff);
 			} catch (ArithmeticException e) {
-				throw Exceptions.newArithmeticExceptionWithCause("Overflow: " + arith.toString(uDecimal) + " - " + unscaled + "*10^" + (-scale), e);
+				throw Exceptions.newOverflowArithmeticException("Overflow: " + arith.toString(uDecimal) + " - " + unscaled + "*10^" + (-scale), e);
 			}
 		}
 		final long diff = subtractForPositiveScaleDiff(uDecimal, unscaled, scaleDiff);
 		if (!Checked.isSubtractOverflow(uDecimal, unscaled, diff)) {
 			return diff;
 		}
-		throw new ArithmeticException("Overflow: " + arith.toString(uDecimal) + " - " + unscaled + "*10^" + (-scale) + "=" + diff);
+		throw Exceptions.newOverflowArithmeticException("Overflow: " + arith.toString(uDecimal) + " - " + unscaled + "*10^" + (-scale) + "=" + diff);
 	}
 	
 	/**
@@ -229,14 +229,14 @@ final class Sub {
 			try {
 				return subtractForNegativeScaleDiff(arith, uDecimal, unscaled, scaleDiff);
 			} catch (ArithmeticException e) {
-				throw Exceptions.newArithmeticExceptionWithCause("Overflow: " + arith.toString(uDecimal) + " - " + unscaled + "*10^" + (-scale), e);
+				throw Exceptions.newOverflowArithmeticException("Overflow: " + arith.toString(uDecimal) + " - " + unscaled + "*10^" + (-scale), e);
 			}
 		}
 		final long diff = subtractForPositiveScaleDiff(rounding, uDecimal, unscaled, scaleDiff);
 		if (!Checked.isSubtractOverflow(uDecimal, unscaled, diff)) {
 			return diff;
 		}
-		throw new ArithmeticException("Overflow: " + arith.toString(uDecimal) + " - " + unscaled + "*10^" + (-scale) + "=" + diff);
+		throw Exceptions.newOverflowArithmeticException("Overflow: " + arith.toString(uDecimal) + " - " + unscaled + "*10^" + (-scale) + "=" + diff);
 	}
 
 	/**
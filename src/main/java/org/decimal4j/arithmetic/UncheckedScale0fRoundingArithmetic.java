@@ -144,6 +144,11 @@ public final class UncheckedScale0fRoundingArithmetic extends AbstractUncheckedS
 		return Round.round(this, rounding, uDecimal, precision);
 	}
 
+	@Override
+	public final long roundToIncrement(long uDecimal, long unscaledIncrement) {
+		return Round.roundToIncrement(this, rounding, uDecimal, unscaledIncrement);
+	}
+
 	@Override
 	public final long toUnscaled(long uDecimal, int scale) {
 		return UnscaledConversion.unscaledToUnscaled(rounding, scale, this, uDecimal);
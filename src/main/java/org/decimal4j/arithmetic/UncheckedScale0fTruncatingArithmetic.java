@@ -127,6 +127,11 @@ public final class UncheckedScale0fTruncatingArithmetic extends AbstractUnchecke
 		return Round.round(this, uDecimal, precision);
 	}
 
+	@Override
+	public final long roundToIncrement(long uDecimal, long unscaledIncrement) {
+		return Round.roundToIncrement(uDecimal, unscaledIncrement);
+	}
+
 	@Override
 	public final long toUnscaled(long uDecimal, int scale) {
 		return UnscaledConversion.unscaledToUnscaled(scale, this, uDecimal);
@@ -161,6 +161,11 @@ public final class UncheckedScaleNfRoundingArithmetic extends AbstractUncheckedS
 		return Round.round(this, rounding, uDecimal, precision);
 	}
 
+	@Override
+	public final long roundToIncrement(long uDecimal, long unscaledIncrement) {
+		return Round.roundToIncrement(this, rounding, uDecimal, unscaledIncrement);
+	}
+
 	@Override
 	public final long fromLong(long value) {
 		return LongConversion.longToUnscaled(getScaleMetrics(), value);
@@ -149,6 +149,11 @@ public final class UncheckedScaleNfTruncatingArithmetic extends AbstractUnchecke
 		return Round.round(this, uDecimal, precision);
 	}
 
+	@Override
+	public final long roundToIncrement(long uDecimal, long unscaledIncrement) {
+		return Round.roundToIncrement(uDecimal, unscaledIncrement);
+	}
+
 	@Override
 	public final long fromLong(long value) {
 		return LongConversion.longToUnscaled(getScaleMetrics(), value);
@@ -0,0 +1,292 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2023 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.arithmetic;
+
+import org.decimal4j.scale.Scales;
+import org.decimal4j.truncate.DecimalRounding;
+import org.decimal4j.truncate.TruncatedPart;
+
+/**
+ * Helper methods to assemble an unscaled decimal value from the digits of a parsed number, shared by the string
+ * conversion of the arithmetics and by the parsers and formatters in {@code org.decimal4j.format}. The significant
+ * digits are accumulated as a negative long value to also allow for {@link Long#MIN_VALUE}; digits that do not fit into
+ * a long are dropped and only the classification of the dropped digits as {@link TruncatedPart} is retained.
+ */
+public final class UnscaledParser {
+
+	/**
+	 * The largest value (in magnitude) that can be multiplied by ten without overflow when accumulating negatively.
+	 */
+	private static final long NEG_MULT_MIN = Long.MIN_VALUE / 10;
+
+	/**
+	 * Exponents are clamped to this value in magnitude when parsed, large enough to cause overflow or a zero result for
+	 * any non-zero significand.
+	 */
+	public static final int MAX_EXPONENT = 999999;
+
+	/**
+	 * Accumulates the digits in the specified range and returns the unscaled decimal value of the number
+	 * <code>(negative ? -1 : 1) * digits * 10<sup>exponent</sup></code>, rounded to the given scale. Characters in the
+	 * range that are not digits, such as decimal or grouping separators already validated by the caller, are skipped.
+	 * Digits that do not fit into a long are dropped after the first one has been dropped and contribute only to the
+	 * truncated part used for rounding.
+	 * 
+	 * @param scale
+	 *            the scale of the target value
+	 * @param rounding
+	 *            the rounding to apply if necessary
+	 * @param negative
+	 *            true if the number is negative
+	 * @param digits
+	 *            the characters containing the digits
+	 * @param start
+	 *            the index of the first digit, inclusive
+	 * @param end
+	 *            the end index of the digits, exclusive
+	 * @param exponent
+	 *            the power of ten to apply to the integer formed by all digits in the range
+	 * @return the unscaled value with the given scale
+	 * @throws ArithmeticException
+	 *             if the value is too large to be represented as a Decimal with the given scale or if the rounding
+	 *             mode is UNNECESSARY and rounding is necessary
+	 */
+	public static final long parse(int scale, DecimalRounding rounding, boolean negative, char[] digits, int start,
+			int end, long exponent) {
+		long negSignificand = 0;
+		int droppedDigits = 0;
+		TruncatedPart truncatedPart = TruncatedPart.ZERO;
+		for (int i = start; i < end; i++) {
+			final int digit = digits[i] - '0';
+			if (digit >= 0 & digit <= 9) {
+				if (droppedDigits == 0 && canAppend(negSignificand, digit)) {
+					negSignificand = negSignificand * 10 - digit;
+				} else {
+					truncatedPart = drop(truncatedPart, droppedDigits++, digit);
+				}
+			}
+		}
+		return toUnscaled(scale, rounding, negative, negSignificand, exponent + droppedDigits, droppedDigits,
+				truncatedPart);
+	}
+
+	/**
+	 * Accumulates the digits in the specified range and returns the unscaled decimal value of the number
+	 * <code>(negative ? -1 : 1) * digits * 10<sup>exponent</sup></code>, rounded to the given scale. Characters in the
+	 * range that are not digits, such as decimal or grouping separators already validated by the caller, are skipped.
+	 * Digits that do not fit into a long are dropped after the first one has been dropped and contribute only to the
+	 * truncated part used for rounding.
+	 * 
+	 * @param scale
+	 *            the scale of the target value
+	 * @param rounding
+	 *            the rounding to apply if necessary
+	 * @param negative
+	 *            true if the number is negative
+	 * @param digits
+	 *            the ASCII encoded bytes containing the digits
+	 * @param start
+	 *            the index of the first digit, inclusive
+	 * @param end
+	 *            the end index of the digits, exclusive
+	 * @param exponent
+	 *            the power of ten to apply to the integer formed by all digits in the range
+	 * @return the unscaled value with the given scale
+	 * @throws ArithmeticException
+	 *             if the value is too large to be represented as a Decimal with the given scale or if the rounding
+	 *             mode is UNNECESSARY and rounding is necessary
+	 */
+	public static final long parse(int scale, DecimalRounding rounding, boolean negative, byte[] digits, int start,
+			int end, long exponent) {
+		long negSignificand = 0;
+		int droppedDigits = 0;
+		TruncatedPart truncatedPart = TruncatedPart.ZERO;
+		for (int i = start; i < end; i++) {
+			final int digit = digits[i] - '0';
+			if (digit >= 0 & digit <= 9) {
+				if (droppedDigits == 0 && canAppend(negSignificand, digit)) {
+					negSignificand = negSignificand * 10 - digit;
+				} else {
+					truncatedPart = drop(truncatedPart, droppedDigits++, digit);
+				}
+			}
+		}
+		return toUnscaled(scale, rounding, negative, negSignificand, exponent + droppedDigits, droppedDigits,
+				truncatedPart);
+	}
+
+	/**
+	 * Accumulates the digits in the specified range and returns the unscaled decimal value of the number
+	 * <code>(negative ? -1 : 1) * digits * 10<sup>exponent</sup></code>, rounded to the given scale. Characters in the
+	 * range that are not digits, such as decimal or grouping separators already validated by the caller, are skipped.
+	 * Digits that do not fit into a long are dropped after the first one has been dropped and contribute only to the
+	 * truncated part used for rounding.
+	 * 
+	 * @param scale
+	 *            the scale of the target value
+	 * @param rounding
+	 *            the rounding to apply if necessary
+	 * @param negative
+	 *            true if the number is negative
+	 * @param digits
+	 *            the character sequence containing the digits
+	 * @param start
+	 *            the index of the first digit, inclusive
+	 * @param end
+	 *            the end index of the digits, exclusive
+	 * @param exponent
+	 *            the power of ten to apply to the integer formed by all digits in the range
+	 * @return the unscaled value with the given scale
+	 * @throws ArithmeticException
+	 *             if the value is too large to be represented as a Decimal with the given scale or if the rounding
+	 *             mode is UNNECESSARY and rounding is necessary
+	 */
+	public static final long parse(int scale, DecimalRounding rounding, boolean negative, CharSequence digits, int start,
+			int end, long exponent) {
+		long negSignificand = 0;
+		int droppedDigits = 0;
+		TruncatedPart truncatedPart = TruncatedPart.ZERO;
+		for (int i = start; i < end; i++) {
+			final int digit = digits.charAt(i) - '0';
+			if (digit >= 0 & digit <= 9) {
+				if (droppedDigits == 0 && canAppend(negSignificand, digit)) {
+					negSignificand = negSignificand * 10 - digit;
+				} else {
+					truncatedPart = drop(truncatedPart, droppedDigits++, digit);
+				}
+			}
+		}
+		return toUnscaled(scale, rounding, negative, negSignificand, exponent + droppedDigits, droppedDigits,
+				truncatedPart);
+	}
+
+	/**
+	 * Returns the given unscaled value converted from {@code unscaledScale} to {@code scale}, rounded if the target
+	 * scale is smaller.
+	 * 
+	 * @param scale
+	 *            the scale of the target value
+	 * @param rounding
+	 *            the rounding to apply if necessary
+	 * @param unscaled
+	 *            the unscaled value to convert
+	 * @param unscaledScale
+	 *            the scale of {@code unscaled}, not negative
+	 * @return the unscaled value with the given scale
+	 * @throws ArithmeticException
+	 *             if the value is too large to be represented as a Decimal with the given scale or if the rounding
+	 *             mode is UNNECESSARY and rounding is necessary
+	 */
+	public static final long rescale(int scale, DecimalRounding rounding, long unscaled, int unscaledScale) {
+		final long negSignificand = unscaled < 0 ? unscaled : -unscaled;
+		return toUnscaled(scale, rounding, unscaled < 0, negSignificand, -unscaledScale, 0, TruncatedPart.ZERO);
+	}
+
+	private static final boolean canAppend(long negSignificand, int digit) {
+		return negSignificand > NEG_MULT_MIN | (negSignificand == NEG_MULT_MIN & digit <= 8);
+	}
+
+	private static final TruncatedPart drop(TruncatedPart truncatedPart, int droppedDigits, int digit) {
+		if (droppedDigits == 0) {
+			return TruncatedPart.valueOf(digit, true);
+		}
+		return digit == 0 ? truncatedPart : combine(truncatedPart);
+	}
+
+	/**
+	 * Returns the unscaled decimal value of the number
+	 * <code>(negative ? -1 : 1) * (abs(negSignificand) + t) * 10<sup>exponent</sup></code>, where {@code t} is the
+	 * fraction represented by the dropped digits, rounded to the given scale.
+	 */
+	private static final long toUnscaled(int scale, DecimalRounding rounding, boolean negative, long negSignificand,
+			long exponent, int droppedDigits, TruncatedPart truncatedPart) {
+		if (negSignificand == 0) {
+			// NOTE: digits are only dropped if the significand is not zero
+			return 0;
+		}
+		final long shift = exponent + scale;
+		final long negTruncated;
+		final TruncatedPart truncated;
+		if (shift > 0) {
+			// NOTE: a digit is only dropped if the significand times 10 does not fit into a long
+			if (droppedDigits > 0 | shift > Scales.MAX_SCALE) {
+				throw Exceptions.newOverflowArithmeticException("Overflow");
+			}
+			return applySign(negative, Scales.getScaleMetrics((int) shift).multiplyByScaleFactorExact(negSignificand));
+		}
+		if (shift == 0) {
+			negTruncated = negSignificand;
+			truncated = truncatedPart;
+		} else if (shift >= -Scales.MAX_SCALE) {
+			final long divisor = Scales.getScaleMetrics((int) -shift).getScaleFactor();
+			negTruncated = negSignificand / divisor;
+			final TruncatedPart remainderPart = Rounding.truncatedPartFor(negTruncated * divisor - negSignificand, divisor);
+			truncated = truncatedPart == TruncatedPart.ZERO ? remainderPart : combine(remainderPart);
+		} else if (shift == -19) {
+			negTruncated = 0;
+			final TruncatedPart remainderPart = Rounding.truncatedPartForScale19(negSignificand);
+			truncated = truncatedPart == TruncatedPart.ZERO ? remainderPart : combine(remainderPart);
+		} else {
+			// less than 0.5 because abs(Long.MIN_VALUE) / 10^20 < 0.5
+			negTruncated = 0;
+			truncated = TruncatedPart.LESS_THAN_HALF_BUT_NOT_ZERO;
+		}
+		final long truncatedValue = applySign(negative, negTruncated);
+		final int inc = Rounding.calculateRoundingIncrement(rounding, negative ? -1 : 1, truncatedValue, truncated);
+		final long result = truncatedValue + inc;
+		if (Checked.isAddOverflow(truncatedValue, inc, result)) {
+			throw Exceptions.newOverflowArithmeticException("Overflow");
+		}
+		return result;
+	}
+
+	private static final long applySign(boolean negative, long negValue) {
+		if (negative) {
+			return negValue;
+		}
+		if (negValue == Long.MIN_VALUE) {
+			throw Exceptions.newOverflowArithmeticException("Overflow");
+		}
+		return -negValue;
+	}
+
+	/**
+	 * Returns the truncated part after appending non-zero digits to the given truncated part.
+	 */
+	private static final TruncatedPart combine(TruncatedPart truncatedPart) {
+		switch (truncatedPart) {
+		case ZERO:
+			return TruncatedPart.LESS_THAN_HALF_BUT_NOT_ZERO;
+		case EQUAL_TO_HALF:
+			return TruncatedPart.GREATER_THAN_HALF;
+		default:
+			return truncatedPart;
+		}
+	}
+
+	// no instances
+	private UnscaledParser() {
+		super();
+	}
+}
@@ -23,11 +23,16 @@
  */
 package org.decimal4j.arithmetic;
 
+import org.decimal4j.truncate.DecimalRounding;
+import org.decimal4j.truncate.TruncatedPart;
+
 /**
  * Helper class to emulate unsigned 64bit operations.
  */
 public final class Unsigned {
 
+	private static final long LONG_MASK = 0xffffffffL;
+
 	/**
 	 * A (self-inverse) bijection which converts the ordering on unsigned longs
 	 * to the ordering on longs, that is, {@code a <= b} as unsigned longs if
@@ -144,6 +149,82 @@ public final class Unsigned {
 		return quotient + (isLess(rem, divisor) ? 0 : 1);
 	}
 
+	/**
+	 * Returns the truncated quotient of the 128 bit dividend
+	 * {@code (dividendHigh, dividendLow)} divided by {@code divisor}, where
+	 * dividend and divisor are treated as unsigned quantities and the quotient
+	 * fits into an unsigned 64-bit value.
+	 * <p>
+	 * PRECONDITION: {@code Unsigned.isLess(dividendHigh, divisor)}
+	 *
+	 * @param dividendHigh
+	 *            the high order 64 bits of the dividend
+	 * @param dividendLow
+	 *            the low order 64 bits of the dividend
+	 * @param divisor
+	 *            the divisor, not zero
+	 * @return the unsigned quotient {@code (dividendHigh, dividendLow) / divisor}
+	 */
+	public static final long divide(long dividendHigh, long dividendLow, long divisor) {
+		return Div.div128by64(DecimalRounding.DOWN, false, dividendHigh, dividendLow, divisor);
+	}
+
+	/**
+	 * Returns the rounding increment appropriate for the specified
+	 * {@code rounding} given a 128 bit remainder resulting from a division by
+	 * a 128 bit divisor, both treated as unsigned values. The returned value
+	 * is one of -1, 0 or 1.
+	 * 
+	 * @param rounding
+	 *            the rounding mode to apply
+	 * @param sign
+	 *            the sign of the total value, either +1 or -1; determines the
+	 *            result value if rounded
+	 * @param truncatedValue
+	 *            the truncated result before rounding is applied (only used for
+	 *            HALF_EVEN rounding)
+	 * @param hRemainder
+	 *            the high bits of the remainder
+	 * @param lRemainder
+	 *            the low bits of the remainder, the unsigned remainder must be
+	 *            less than the unsigned divisor
+	 * @param hDivisor
+	 *            the high bits of the divisor
+	 * @param lDivisor
+	 *            the low bits of the divisor
+	 * @return the value to add to {@code truncatedValue} to get the rounded
+	 *         result, one of -1, 0 or 1
+	 * @throws ArithmeticException
+	 *             if rounding is UNNECESSARY and the remainder is not zero
+	 */
+	public static final int calculateRoundingIncrement(DecimalRounding rounding, int sign, long truncatedValue,
+			long hRemainder, long lRemainder, long hDivisor, long lDivisor) {
+		final TruncatedPart truncatedPart = Rounding.truncatedPartFor(hRemainder, lRemainder, hDivisor, lDivisor);
+		return Rounding.calculateRoundingIncrement(rounding, sign, truncatedValue, truncatedPart);
+	}
+
+	/**
+	 * Returns the high order 64 bits of the 128 bit product {@code a * b},
+	 * where both factors are treated as unsigned 64-bit quantities.
+	 *
+	 * @param a
+	 *            the first unsigned factor
+	 * @param b
+	 *            the second unsigned factor
+	 * @return the high order 64 bits of the unsigned 128 bit product
+	 */
+	public static final long multiplyHigh(long a, long b) {
+		final long aLo = a & LONG_MASK;
+		final long aHi = a >>> 32;
+		final long bLo = b & LONG_MASK;
+		final long bHi = b >>> 32;
+		final long loLo = aLo * bLo;
+		final long hiLo = aHi * bLo;
+		final long loHi = aLo * bHi;
+		final long mid = (loLo >>> 32) + (hiLo & LONG_MASK) + (loHi & LONG_MASK);
+		return aHi * bHi + (hiLo >>> 32) + (loHi >>> 32) + (mid >>> 32);
+	}
+
 	private Unsigned() {
 		// no instances
 	}
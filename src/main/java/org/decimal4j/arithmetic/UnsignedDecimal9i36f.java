@@ -44,6 +44,7 @@ final class UnsignedDecimal9i36f {
 	static final ThreadLocal<UnsignedDecimal9i36f> THREAD_LOCAL_1 = new ThreadLocal<UnsignedDecimal9i36f>() {
 		@Override
 		protected UnsignedDecimal9i36f initialValue() {
+			DecimalEvents.threadLocalAllocation(UnsignedDecimal9i36f.class);
 			return new UnsignedDecimal9i36f();
 		}
 	};
@@ -51,6 +52,7 @@ final class UnsignedDecimal9i36f {
 	static final ThreadLocal<UnsignedDecimal9i36f> THREAD_LOCAL_2 = new ThreadLocal<UnsignedDecimal9i36f>() {
 		@Override
 		protected UnsignedDecimal9i36f initialValue() {
+			DecimalEvents.threadLocalAllocation(UnsignedDecimal9i36f.class);
 			return new UnsignedDecimal9i36f();
 		}
 	};
@@ -351,9 +353,9 @@ final class UnsignedDecimal9i36f {
 	}
 	private static final int getRoundingIncrement(int sgn, long absValue, DecimalRounding rounding, TruncatedPart truncatedPart) {
 		if (sgn < 0) {
-			return -rounding.calculateRoundingIncrement(-1, -absValue, truncatedPart); 
+			return -Rounding.calculateRoundingIncrement(rounding, -1, -absValue, truncatedPart); 
 		} else {
-			return rounding.calculateRoundingIncrement(1, absValue, truncatedPart); 
+			return Rounding.calculateRoundingIncrement(rounding, 1, absValue, truncatedPart); 
 		}
 	}
 	private final int getInvNormPow10() {
@@ -479,7 +481,7 @@ final class UnsignedDecimal9i36f {
 		} else {
 			//only rounding left
 			if (rounding != DecimalRounding.DOWN & (ival != 0 | val3 != 0 | val2 != 0 | val1 != 0 | val0 != 0)) { 
-				return rounding.calculateRoundingIncrement(sgn, 0, TruncatedPart.LESS_THAN_HALF_BUT_NOT_ZERO);
+				return Rounding.calculateRoundingIncrement(rounding, sgn, 0, TruncatedPart.LESS_THAN_HALF_BUT_NOT_ZERO);
 			}
 			return 0;
 		}
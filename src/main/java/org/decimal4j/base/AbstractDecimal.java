@@ -31,11 +31,11 @@ import org.decimal4j.api.Decimal;
 import org.decimal4j.api.DecimalArithmetic;
 import org.decimal4j.api.ImmutableDecimal;
 import org.decimal4j.api.MutableDecimal;
+import org.decimal4j.arithmetic.Exceptions;
 import org.decimal4j.scale.ScaleMetrics;
 import org.decimal4j.truncate.CheckedRounding;
 import org.decimal4j.truncate.OverflowMode;
 import org.decimal4j.truncate.TruncationPolicy;
-import org.decimal4j.truncate.UncheckedRounding;
 
 /**
  * Common base class for {@link AbstractImmutableDecimal immutable} and
@@ -127,7 +127,7 @@ abstract public class AbstractDecimal<S extends ScaleMetrics, D extends Abstract
 	 *         rounding and the given {@code overflowMode}
 	 */
 	protected DecimalArithmetic getArithmeticFor(OverflowMode overflowMode) {
-		return getScaleMetrics().getArithmetic(overflowMode == OverflowMode.CHECKED ? CheckedRounding.HALF_UP : UncheckedRounding.HALF_UP);
+		return getScaleMetrics().getArithmetic(overflowMode.getTruncationPolicy(RoundingMode.HALF_UP));
 	}
 
 	/**
@@ -219,7 +219,7 @@ abstract public class AbstractDecimal<S extends ScaleMetrics, D extends Abstract
 	public byte byteValueExact() {
 		final long num = longValueExact(); // will check decimal part
 		if ((byte) num != num) {
-			throw new ArithmeticException("Overflow: " + num + " is out of the possible range for a byte");
+			throw Exceptions.newOverflowArithmeticException("Overflow: " + num + " is out of the possible range for a byte");
 		}
 		return (byte) num;
 	}
@@ -228,7 +228,7 @@ abstract public class AbstractDecimal<S extends ScaleMetrics, D extends Abstract
 	public short shortValueExact() {
 		final long num = longValueExact(); // will check decimal part
 		if ((short) num != num) {
-			throw new ArithmeticException("Overflow: " + num + " is out of the possible range for a short");
+			throw Exceptions.newOverflowArithmeticException("Overflow: " + num + " is out of the possible range for a short");
 		}
 		return (short) num;
 	}
@@ -242,7 +242,7 @@ abstract public class AbstractDecimal<S extends ScaleMetrics, D extends Abstract
 	public int intValueExact() {
 		final long num = longValueExact(); // will check decimal part
 		if ((int) num != num) {
-			throw new ArithmeticException("Overflow: " + num + " is out of the possible range for an int");
+			throw Exceptions.newOverflowArithmeticException("Overflow: " + num + " is out of the possible range for an int");
 		}
 		return (int) num;
 	}
@@ -776,9 +776,14 @@ abstract public class AbstractDecimal<S extends ScaleMetrics, D extends Abstract
 
 	@Override
 	public D divideToIntegralValue(Decimal<S> divisor, OverflowMode overflowMode) {
-		if (!overflowMode.isChecked()) {
+		if (overflowMode == OverflowMode.UNCHECKED) {
 			return divideToIntegralValue(divisor);
 		}
+		if (!overflowMode.isChecked()) {
+			final DecimalArithmetic arith = getArithmeticFor(overflowMode.getTruncationPolicy(RoundingMode.DOWN));
+			final long longValue = arith.divideByLong(unscaledValue(), divisor.unscaledValue());
+			return createOrAssign(arith.multiplyByLong(arith.one(), longValue));
+		}
 		final long longValue = divideToLongValue(divisor, overflowMode);
 		return createOrAssign(getScaleMetrics().multiplyByScaleFactorExact(longValue));
 	}
@@ -790,14 +795,14 @@ abstract public class AbstractDecimal<S extends ScaleMetrics, D extends Abstract
 
 	@Override
 	public long divideToLongValue(Decimal<S> divisor, OverflowMode overflowMode) {
-		final DecimalArithmetic arith = getArithmeticFor(overflowMode == OverflowMode.CHECKED ? CheckedRounding.DOWN : UncheckedRounding.DOWN);
+		final DecimalArithmetic arith = getArithmeticFor(overflowMode.getTruncationPolicy(RoundingMode.DOWN));
 		try {
 			return arith.divideByLong(unscaledValue(), divisor.unscaledValue());
 		} catch (ArithmeticException e) {
 			if (divisor.isZero()) {
 				throw new ArithmeticException("Division by zero: integral(" + this + " / " + divisor + ")");
 			}
-			throw new ArithmeticException("Overflow: integral(" + this + " / " + divisor + ")");
+			throw Exceptions.newOverflowArithmeticException("Overflow: integral(" + this + " / " + divisor + ")");
 		}
 	}
 
@@ -816,7 +821,7 @@ abstract public class AbstractDecimal<S extends ScaleMetrics, D extends Abstract
 
 	@Override
 	public D[] divideAndRemainder(Decimal<S> divisor, OverflowMode overflowMode) {
-		if (!overflowMode.isChecked()) {
+		if (overflowMode == OverflowMode.UNCHECKED) {
 			return divideAndRemainder(divisor);
 		}
 		try {
@@ -834,7 +839,7 @@ abstract public class AbstractDecimal<S extends ScaleMetrics, D extends Abstract
 			if (divisor.isZero()) {
 				throw new ArithmeticException("Division by zero: integral(" + this + " / " + divisor + ")");
 			}
-			throw new ArithmeticException("Overflow: integral(" + this + " / " + divisor + ")");
+			throw Exceptions.newOverflowArithmeticException("Overflow: integral(" + this + " / " + divisor + ")");
 		}
 	}
 
@@ -23,6 +23,7 @@
  */
 package org.decimal4j.base;
 
+import java.math.BigDecimal;
 import java.math.RoundingMode;
 
 import org.decimal4j.api.Decimal;
@@ -45,8 +46,8 @@ abstract public class AbstractImmutableDecimal<S extends ScaleMetrics, D extends
 
 	private final long unscaled;
 
-    /*Used to store the string representation, if computed */
-    private transient String stringCache;
+    /*Used to store the string representation if computed, and the BigDecimal representation if computed and caching is enabled*/
+    private transient Object conversionCache;
 
 	/**
 	 * Constructor with unscaled value.
@@ -85,7 +86,7 @@ abstract public class AbstractImmutableDecimal<S extends ScaleMetrics, D extends
 			final long targetUnscaled = targetMetrics.getArithmetic(roundingMode).fromUnscaled(unscaled, myScale);
 			return getFactory().deriveFactory(targetMetrics).valueOfUnscaled(targetUnscaled);
 		} catch (IllegalArgumentException e) {
-			throw Exceptions.newArithmeticExceptionWithCause("Overflow: cannot convert " + this + " to scale " + scale,
+			throw Exceptions.newOverflowArithmeticException("Overflow: cannot convert " + this + " to scale " + scale,
 					e);
 		}
 	}
@@ -103,7 +104,7 @@ abstract public class AbstractImmutableDecimal<S extends ScaleMetrics, D extends
 			final long targetUnscaled = scaleMetrics.getArithmetic(roundingMode).fromUnscaled(unscaled, getScale());
 			return getFactory().deriveFactory(scaleMetrics).valueOfUnscaled(targetUnscaled);
 		} catch (IllegalArgumentException e) {
-			throw Exceptions.newArithmeticExceptionWithCause(
+			throw Exceptions.newOverflowArithmeticException(
 					"Overflow: cannot convert " + this + " to scale " + scaleMetrics.getScale(), e);
 		}
 	}
@@ -120,7 +121,7 @@ abstract public class AbstractImmutableDecimal<S extends ScaleMetrics, D extends
 					multiplicand.unscaledValue());
 			return getFactory().deriveFactory(targetScale).valueOfUnscaled(unscaledProduct);
 		} catch (ArithmeticException e) {
-			throw new ArithmeticException("Overflow: " + this + " * " + multiplicand);
+			throw Exceptions.newOverflowArithmeticException("Overflow: " + this + " * " + multiplicand);
 		}
 	}
 
@@ -134,12 +135,54 @@ abstract public class AbstractImmutableDecimal<S extends ScaleMetrics, D extends
 		return isGreaterThanOrEqualTo(val) ? this : val;
 	}
 	
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * The result is cached if BigDecimal caching is
+	 * {@link org.decimal4j.factory.DecimalFactory#isBigDecimalCacheEnabled()
+	 * enabled}.
+	 */
+	@Override
+	public final BigDecimal toBigDecimal() {
+		final Object cached = conversionCache;
+		if (cached instanceof BigDecimal) {
+			return (BigDecimal) cached;
+		}
+		if (cached instanceof Conversions) {
+			return ((Conversions) cached).bigDecimal;
+		}
+		final BigDecimal b = getDefaultArithmetic().toBigDecimal(unscaled);
+		if (getFactory().isBigDecimalCacheEnabled()) {
+			conversionCache = cached == null ? b : new Conversions((String) cached, b);
+		}
+		return b;
+	}
+
 	@Override
 	public final String toString() {
-		String s = stringCache;
-		if (s == null) {
-			stringCache = s = getDefaultArithmetic().toString(unscaledValue());
+		final Object cached = conversionCache;
+		if (cached instanceof String) {
+			return (String) cached;
 		}
+		if (cached instanceof Conversions) {
+			return ((Conversions) cached).string;
+		}
+		final String s = getDefaultArithmetic().toString(unscaled);
+		conversionCache = cached == null ? s : new Conversions(s, (BigDecimal) cached);
 		return s;
 	}
+
+	/**
+	 * Both cached representations, stored in the single cache field to keep
+	 * the footprint of values that are converted to one representation only.
+	 */
+	private static final class Conversions {
+		private final String string;
+		private final BigDecimal bigDecimal;
+
+		private Conversions(String string, BigDecimal bigDecimal) {
+			this.string = string;
+			this.bigDecimal = bigDecimal;
+		}
+	}
 }
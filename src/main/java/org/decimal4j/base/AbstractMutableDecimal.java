@@ -99,7 +99,7 @@ abstract public class AbstractMutableDecimal<S extends ScaleMetrics, D extends A
 			final long targetUnscaled = targetMetrics.getArithmetic(roundingMode).fromUnscaled(unscaled, myScale);
 			return getFactory().deriveFactory(scale).newMutable().setUnscaled(targetUnscaled);
 		} catch (IllegalArgumentException e) {
-			throw Exceptions.newArithmeticExceptionWithCause("Overflow: cannot convert " + this + " to scale " + scale, e);
+			throw Exceptions.newOverflowArithmeticException("Overflow: cannot convert " + this + " to scale " + scale, e);
 		}
 	}
 
@@ -116,7 +116,7 @@ abstract public class AbstractMutableDecimal<S extends ScaleMetrics, D extends A
 			final long targetUnscaled = scaleMetrics.getArithmetic(roundingMode).fromUnscaled(unscaled, getScale());
 			return getFactory().deriveFactory(scaleMetrics).newMutable().setUnscaled(targetUnscaled);
 		} catch (IllegalArgumentException e) {
-			throw Exceptions.newArithmeticExceptionWithCause("Overflow: cannot convert " + this + " to scale " + scaleMetrics.getScale(), e);
+			throw Exceptions.newOverflowArithmeticException("Overflow: cannot convert " + this + " to scale " + scaleMetrics.getScale(), e);
 		}
 	}
 
@@ -130,7 +130,7 @@ abstract public class AbstractMutableDecimal<S extends ScaleMetrics, D extends A
 			final long unscaledProduct = getCheckedArithmeticFor(RoundingMode.DOWN).multiplyByLong(unscaled, multiplicand.unscaledValue());
 			return getFactory().deriveFactory(targetScale).newMutable().setUnscaled(unscaledProduct);
 		} catch (ArithmeticException e) {
-			throw new ArithmeticException("Overflow: " + this + " * " + multiplicand);
+			throw Exceptions.newOverflowArithmeticException("Overflow: " + this + " * " + multiplicand);
 		}
 	}
 
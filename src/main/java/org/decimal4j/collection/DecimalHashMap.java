@@ -0,0 +1,442 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2023 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.collection;
+
+import java.util.Arrays;
+
+import org.decimal4j.api.Decimal;
+import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.scale.ScaleMetrics;
+
+/**
+ * Hash map with decimal keys of a fixed scale. Keys are stored as unscaled
+ * {@code long} values in an open addressing table with linear probing;
+ * neither key objects nor entry objects are allocated when adding, looking up
+ * or removing entries.
+ * <p>
+ * Keys can be passed as {@link Decimal} of the map's scale or as unscaled
+ * values. Null values are not permitted and {@link #get(long)} returns null if
+ * no value is associated with a key.
+ * <p>
+ * Entries can be iterated without allocation through
+ * {@link #forEach(UnscaledEntryConsumer)} or with a cursor:
+ * 
+ * <pre>
+ * for (int cursor = map.first(); cursor &gt;= 0; cursor = map.next(cursor)) {
+ * 	final long unscaledKey = map.keyAt(cursor);
+ * 	final V value = map.valueAt(cursor);
+ * 	...
+ * }
+ * </pre>
+ * 
+ * Cursors are invalidated if the map is modified. Iteration order is
+ * unspecified.
+ * <p>
+ * This class is not thread safe.
+ * 
+ * @param <S>
+ *            the scale metrics type of the keys
+ * @param <V>
+ *            the type of the values
+ */
+public final class DecimalHashMap<S extends ScaleMetrics, V> {
+
+	private static final int DEFAULT_EXPECTED_SIZE = 16;
+	private static final int MAX_CAPACITY = 1 << 30;
+
+	private final S scaleMetrics;
+	private long[] keys;
+	private Object[] values;
+	private int mask;
+	private int size;
+	private int resizeThreshold;
+
+	/**
+	 * Creates an empty map for keys with the given scale.
+	 * 
+	 * @param scaleMetrics
+	 *            the scale metrics of the keys
+	 */
+	public DecimalHashMap(S scaleMetrics) {
+		this(scaleMetrics, DEFAULT_EXPECTED_SIZE);
+	}
+
+	/**
+	 * Creates an empty map for keys with the given scale and with capacity
+	 * for the specified number of entries without resizing.
+	 * 
+	 * @param scaleMetrics
+	 *            the scale metrics of the keys
+	 * @param expectedSize
+	 *            the expected number of entries
+	 * @throws IllegalArgumentException
+	 *             if {@code expectedSize} is negative
+	 */
+	public DecimalHashMap(S scaleMetrics, int expectedSize) {
+		if (expectedSize < 0) {
+			throw new IllegalArgumentException("expectedSize must not be negative: " + expectedSize);
+		}
+		this.scaleMetrics = scaleMetrics;
+		allocate(capacityFor(expectedSize));
+	}
+
+	private static final int capacityFor(int expectedSize) {
+		// load factor is 1/2
+		final long minCapacity = Math.max(2L * expectedSize, 2);
+		return (int) Math.min(MAX_CAPACITY, Long.highestOneBit(minCapacity - 1) << 1);
+	}
+
+	private final void allocate(int capacity) {
+		keys = new long[capacity];
+		values = new Object[capacity];
+		mask = capacity - 1;
+		resizeThreshold = capacity == MAX_CAPACITY ? MAX_CAPACITY - 1 : capacity >>> 1;
+	}
+
+	private static final int hash(long unscaledKey) {
+		final long h = unscaledKey * 0x9e3779b97f4a7c15L;
+		return (int) (h ^ (h >>> 32));
+	}
+
+	/**
+	 * Returns the scale metrics of the keys of this map.
+	 * 
+	 * @return the scale metrics of the keys
+	 */
+	public final S getScaleMetrics() {
+		return scaleMetrics;
+	}
+
+	/**
+	 * Returns the number of entries in this map.
+	 * 
+	 * @return the number of key-value mappings
+	 */
+	public final int size() {
+		return size;
+	}
+
+	/**
+	 * Returns true if this map contains no entries.
+	 * 
+	 * @return true if this map is empty
+	 */
+	public final boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Returns the value associated with the given unscaled key.
+	 * 
+	 * @param unscaledKey
+	 *            the unscaled decimal key
+	 * @return the value associated with the key, or null if there is none
+	 */
+	@SuppressWarnings("unchecked")
+	public final V get(long unscaledKey) {
+		final long[] keys = this.keys;
+		final Object[] values = this.values;
+		int index = hash(unscaledKey) & mask;
+		Object value;
+		while ((value = values[index]) != null) {
+			if (keys[index] == unscaledKey) {
+				return (V) value;
+			}
+			index = (index + 1) & mask;
+		}
+		return null;
+	}
+
+	/**
+	 * Returns the value associated with the given key.
+	 * 
+	 * @param key
+	 *            the decimal key with the scale of this map
+	 * @return the value associated with the key, or null if there is none
+	 * @throws IllegalArgumentException
+	 *             if the key has a different scale than the map
+	 */
+	public final V get(Decimal<S> key) {
+		return get(unscaled(key));
+	}
+
+	/**
+	 * Returns true if a value is associated with the given unscaled key.
+	 * 
+	 * @param unscaledKey
+	 *            the unscaled decimal key
+	 * @return true if this map contains the key
+	 */
+	public final boolean containsKey(long unscaledKey) {
+		return get(unscaledKey) != null;
+	}
+
+	/**
+	 * Returns true if a value is associated with the given key.
+	 * 
+	 * @param key
+	 *            the decimal key with the scale of this map
+	 * @return true if this map contains the key
+	 * @throws IllegalArgumentException
+	 *             if the key has a different scale than the map
+	 */
+	public final boolean containsKey(Decimal<S> key) {
+		return get(unscaled(key)) != null;
+	}
+
+	/**
+	 * Associates the given value with the given unscaled key.
+	 * 
+	 * @param unscaledKey
+	 *            the unscaled decimal key
+	 * @param value
+	 *            the value to associate with the key, not null
+	 * @return the value previously associated with the key, or null if there
+	 *         was none
+	 * @throws NullPointerException
+	 *             if {@code value} is null
+	 */
+	@SuppressWarnings("unchecked")
+	public final V put(long unscaledKey, V value) {
+		if (value == null) {
+			throw new NullPointerException("value must not be null");
+		}
+		final long[] keys = this.keys;
+		final Object[] values = this.values;
+		int index = hash(unscaledKey) & mask;
+		Object old;
+		while ((old = values[index]) != null) {
+			if (keys[index] == unscaledKey) {
+				values[index] = value;
+				return (V) old;
+			}
+			index = (index + 1) & mask;
+		}
+		keys[index] = unscaledKey;
+		values[index] = value;
+		if (++size > resizeThreshold) {
+			rehash();
+		}
+		return null;
+	}
+
+	/**
+	 * Associates the given value with the given key.
+	 * 
+	 * @param key
+	 *            the decimal key with the scale of this map
+	 * @param value
+	 *            the value to associate with the key, not null
+	 * @return the value previously associated with the key, or null if there
+	 *         was none
+	 * @throws NullPointerException
+	 *             if {@code value} is null
+	 * @throws IllegalArgumentException
+	 *             if the key has a different scale than the map
+	 */
+	public final V put(Decimal<S> key, V value) {
+		return put(unscaled(key), value);
+	}
+
+	/**
+	 * Removes the entry with the given unscaled key.
+	 * 
+	 * @param unscaledKey
+	 *            the unscaled decimal key
+	 * @return the value that was associated with the key, or null if there was
+	 *         none
+	 */
+	@SuppressWarnings("unchecked")
+	public final V remove(long unscaledKey) {
+		final long[] keys = this.keys;
+		final Object[] values = this.values;
+		int index = hash(unscaledKey) & mask;
+		Object old;
+		while ((old = values[index]) != null) {
+			if (keys[index] == unscaledKey) {
+				removeAt(index);
+				return (V) old;
+			}
+			index = (index + 1) & mask;
+		}
+		return null;
+	}
+
+	/**
+	 * Removes the entry with the given key.
+	 * 
+	 * @param key
+	 *            the decimal key with the scale of this map
+	 * @return the value that was associated with the key, or null if there was
+	 *         none
+	 * @throws IllegalArgumentException
+	 *             if the key has a different scale than the map
+	 */
+	public final V remove(Decimal<S> key) {
+		return remove(unscaled(key));
+	}
+
+	/**
+	 * Removes all entries from this map. The capacity of the map is retained.
+	 */
+	public final void clear() {
+		Arrays.fill(values, null);
+		size = 0;
+	}
+
+	/**
+	 * Returns a cursor pointing to the first entry of this map.
+	 * 
+	 * @return the cursor of the first entry, or -1 if the map is empty
+	 */
+	public final int first() {
+		return next(-1);
+	}
+
+	/**
+	 * Returns a cursor pointing to the entry following the given cursor.
+	 * 
+	 * @param cursor
+	 *            a valid cursor, or -1 to start from the beginning
+	 * @return the cursor of the next entry, or -1 if there is none
+	 */
+	public final int next(int cursor) {
+		final Object[] values = this.values;
+		for (int index = cursor + 1; index < values.length; index++) {
+			if (values[index] != null) {
+				return index;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Returns the unscaled key of the entry at the given cursor.
+	 * 
+	 * @param cursor
+	 *            a valid cursor returned by {@link #first()} or
+	 *            {@link #next(int)}
+	 * @return the unscaled decimal key at the cursor position
+	 */
+	public final long keyAt(int cursor) {
+		return keys[cursor];
+	}
+
+	/**
+	 * Returns the value of the entry at the given cursor.
+	 * 
+	 * @param cursor
+	 *            a valid cursor returned by {@link #first()} or
+	 *            {@link #next(int)}
+	 * @return the value at the cursor position
+	 */
+	@SuppressWarnings("unchecked")
+	public final V valueAt(int cursor) {
+		return (V) values[cursor];
+	}
+
+	/**
+	 * Passes all entries of this map to the given consumer.
+	 * 
+	 * @param consumer
+	 *            the consumer invoked for every entry
+	 */
+	@SuppressWarnings("unchecked")
+	public final void forEach(UnscaledEntryConsumer<? super V> consumer) {
+		final long[] keys = this.keys;
+		final Object[] values = this.values;
+		for (int index = 0; index < values.length; index++) {
+			final Object value = values[index];
+			if (value != null) {
+				consumer.accept(keys[index], (V) value);
+			}
+		}
+	}
+
+	private final long unscaled(Decimal<S> key) {
+		if (key.getScaleMetrics() != scaleMetrics) {
+			throw new IllegalArgumentException("Key " + key + " must have scale " + scaleMetrics.getScale()
+					+ " but has scale " + key.getScale());
+		}
+		return key.unscaledValue();
+	}
+
+	private final void removeAt(int index) {
+		// shift back subsequent entries of the probe sequence
+		final long[] keys = this.keys;
+		final Object[] values = this.values;
+		int gap = index;
+		int current = (index + 1) & mask;
+		while (values[current] != null) {
+			final int home = hash(keys[current]) & mask;
+			if (((current - home) & mask) >= ((current - gap) & mask)) {
+				keys[gap] = keys[current];
+				values[gap] = values[current];
+				gap = current;
+			}
+			current = (current + 1) & mask;
+		}
+		values[gap] = null;
+		size--;
+	}
+
+	private final void rehash() {
+		if (keys.length == MAX_CAPACITY) {
+			throw new IllegalStateException("Maximum capacity exceeded: " + MAX_CAPACITY);
+		}
+		final long[] oldKeys = keys;
+		final Object[] oldValues = values;
+		allocate(oldKeys.length << 1);
+		for (int i = 0; i < oldValues.length; i++) {
+			final Object value = oldValues[i];
+			if (value != null) {
+				int index = hash(oldKeys[i]) & mask;
+				while (values[index] != null) {
+					index = (index + 1) & mask;
+				}
+				keys[index] = oldKeys[i];
+				values[index] = value;
+			}
+		}
+	}
+
+	/**
+	 * Returns a string representation of this map with keys formatted in the
+	 * scale of the map, for instance "{1.25=a, 3.50=b}".
+	 * 
+	 * @return a string representation of the entries in this map
+	 */
+	@Override
+	public final String toString() {
+		final DecimalArithmetic arith = scaleMetrics.getDefaultArithmetic();
+		final StringBuilder sb = new StringBuilder(size * 16 + 2).append('{');
+		for (int cursor = first(); cursor >= 0; cursor = next(cursor)) {
+			if (sb.length() > 1) {
+				sb.append(", ");
+			}
+			sb.append(arith.toString(keys[cursor])).append('=').append(values[cursor]);
+		}
+		return sb.append('}').toString();
+	}
+}
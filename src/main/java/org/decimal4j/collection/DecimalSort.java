@@ -0,0 +1,500 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2023 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.collection;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import org.decimal4j.api.Decimal;
+import org.decimal4j.scale.ScaleMetrics;
+
+/**
+ * Sort utilities for unscaled decimal values and arrays of {@link Decimal}
+ * values. Unscaled {@code long} values are sorted with a stable LSD radix sort
+ * that processes one byte per pass and skips passes in which all values share
+ * the same byte; the sign bit is flipped so that negative values sort before
+ * positive values. Decimal arrays are sorted by their extracted unscaled
+ * values which avoids a virtual {@code compareTo} call per comparison.
+ * <p>
+ * The {@code argsort} methods return the permutation that sorts an unscaled
+ * column. The permutation can be applied to other columns of the same rows
+ * with {@link #permute(long[], int[], long[])}, for instance to reorder
+ * quantities together with sorted prices.
+ * <p>
+ * The {@code parallelSort} and {@code parallelArgsort} methods sort chunks in
+ * parallel in a {@link ForkJoinPool} and merge the sorted chunks.
+ */
+public final class DecimalSort {
+
+	/**
+	 * Ranges shorter than this are sorted with a comparison sort instead of
+	 * the radix sort.
+	 */
+	private static final int RADIX_THRESHOLD = 64;
+
+	/**
+	 * Ranges of at most this length are not split further by the parallel
+	 * sort.
+	 */
+	static final int PARALLEL_THRESHOLD = 1 << 15;
+
+	private static final int RADIX_BITS = 8;
+	private static final int RADIX = 1 << RADIX_BITS;
+	private static final int RADIX_MASK = RADIX - 1;
+	private static final int PASSES = Long.SIZE / RADIX_BITS;
+
+	/**
+	 * Sorts the specified unscaled values in ascending order.
+	 * 
+	 * @param unscaled
+	 *            the unscaled decimal values to sort
+	 */
+	public static final void sort(long[] unscaled) {
+		sort(unscaled, 0, unscaled.length);
+	}
+
+	/**
+	 * Sorts the specified range of unscaled values in ascending order.
+	 * 
+	 * @param unscaled
+	 *            the unscaled decimal values to sort
+	 * @param fromIndex
+	 *            the index of the first element, inclusive, to be sorted
+	 * @param toIndex
+	 *            the index of the last element, exclusive, to be sorted
+	 * @throws IllegalArgumentException
+	 *             if {@code fromIndex > toIndex}
+	 * @throws ArrayIndexOutOfBoundsException
+	 *             if {@code fromIndex < 0} or {@code toIndex > unscaled.length}
+	 */
+	public static final void sort(long[] unscaled, int fromIndex, int toIndex) {
+		checkRange(unscaled.length, fromIndex, toIndex);
+		if (toIndex - fromIndex < RADIX_THRESHOLD) {
+			Arrays.sort(unscaled, fromIndex, toIndex);
+		} else {
+			radixSort(unscaled, null, fromIndex, toIndex, new long[toIndex], null);
+		}
+	}
+
+	/**
+	 * Sorts the specified unscaled values in ascending order using the
+	 * {@link ForkJoinPool#commonPool() common pool}.
+	 * 
+	 * @param unscaled
+	 *            the unscaled decimal values to sort
+	 */
+	public static final void parallelSort(long[] unscaled) {
+		parallelSort(unscaled, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Sorts the specified unscaled values in ascending order using the given
+	 * fork join pool.
+	 * 
+	 * @param unscaled
+	 *            the unscaled decimal values to sort
+	 * @param pool
+	 *            the pool executing the parallel sort tasks
+	 */
+	public static final void parallelSort(long[] unscaled, ForkJoinPool pool) {
+		if (unscaled.length <= PARALLEL_THRESHOLD || pool.getParallelism() == 1) {
+			sort(unscaled);
+		} else {
+			pool.invoke(new SortTask(unscaled, null, 0, unscaled.length, new long[unscaled.length], null));
+		}
+	}
+
+	/**
+	 * Returns the permutation that sorts the specified unscaled values in
+	 * ascending order. The sort is stable, that is, indices of equal values
+	 * appear in ascending order. The given array is not modified.
+	 * 
+	 * @param unscaled
+	 *            the unscaled decimal values
+	 * @return the permutation {@code p} such that {@code unscaled[p[i]]} is
+	 *         the i-th smallest value
+	 */
+	public static final int[] argsort(long[] unscaled) {
+		final long[] keys = unscaled.clone();
+		final int[] index = identity(keys.length);
+		radixSort(keys, index, 0, keys.length, new long[keys.length], new int[keys.length]);
+		return index;
+	}
+
+	/**
+	 * Returns the permutation that sorts the specified unscaled values in
+	 * ascending order using the {@link ForkJoinPool#commonPool() common pool}.
+	 * The sort is stable and the given array is not modified.
+	 * 
+	 * @param unscaled
+	 *            the unscaled decimal values
+	 * @return the permutation {@code p} such that {@code unscaled[p[i]]} is
+	 *         the i-th smallest value
+	 */
+	public static final int[] parallelArgsort(long[] unscaled) {
+		return parallelArgsort(unscaled, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Returns the permutation that sorts the specified unscaled values in
+	 * ascending order using the given fork join pool. The sort is stable and
+	 * the given array is not modified.
+	 * 
+	 * @param unscaled
+	 *            the unscaled decimal values
+	 * @param pool
+	 *            the pool executing the parallel sort tasks
+	 * @return the permutation {@code p} such that {@code unscaled[p[i]]} is
+	 *         the i-th smallest value
+	 */
+	public static final int[] parallelArgsort(long[] unscaled, ForkJoinPool pool) {
+		final long[] keys = unscaled.clone();
+		final int[] index = identity(keys.length);
+		sortWithIndex(keys, index, pool);
+		return index;
+	}
+
+	/**
+	 * Returns a new array with the values reordered by the given permutation,
+	 * that is, element {@code i} of the result is {@code values[permutation[i]]}.
+	 * 
+	 * @param values
+	 *            the values to reorder
+	 * @param permutation
+	 *            the permutation, for instance as returned by
+	 *            {@link #argsort(long[])}
+	 * @return the reordered values
+	 * @throws IllegalArgumentException
+	 *             if the arrays have different lengths
+	 */
+	public static final long[] permute(long[] values, int[] permutation) {
+		return permute(values, permutation, new long[values.length]);
+	}
+
+	/**
+	 * Reorders the values by the given permutation into the destination
+	 * array, that is, {@code dst[i]} is set to {@code values[permutation[i]]}.
+	 * The destination must be a different array than {@code values}.
+	 * 
+	 * @param values
+	 *            the values to reorder
+	 * @param permutation
+	 *            the permutation, for instance as returned by
+	 *            {@link #argsort(long[])}
+	 * @param dst
+	 *            the destination array for the reordered values
+	 * @return the destination array
+	 * @throws IllegalArgumentException
+	 *             if the arrays have different lengths or if {@code dst} is
+	 *             the same array as {@code values}
+	 */
+	public static final long[] permute(long[] values, int[] permutation, long[] dst) {
+		if (values.length != permutation.length | values.length != dst.length) {
+			throw new IllegalArgumentException("Array lengths must be equal but values.length=" + values.length
+					+ ", permutation.length=" + permutation.length + ", dst.length=" + dst.length);
+		}
+		if (values == dst) {
+			throw new IllegalArgumentException("Destination array must be different from the values array");
+		}
+		for (int i = 0; i < dst.length; i++) {
+			dst[i] = values[permutation[i]];
+		}
+		return dst;
+	}
+
+	/**
+	 * Sorts the specified decimal values in ascending order. The sort is
+	 * stable and compares the unscaled values extracted from the decimals.
+	 * 
+	 * @param <S>
+	 *            the scale metrics type of the decimal values
+	 * @param <D>
+	 *            the decimal type
+	 * @param values
+	 *            the decimal values to sort, all with the same scale
+	 * @throws NullPointerException
+	 *             if the array contains null elements
+	 * @throws IllegalArgumentException
+	 *             if the decimal values do not all have the same scale
+	 */
+	public static final <S extends ScaleMetrics, D extends Decimal<S>> void sort(D[] values) {
+		final long[] keys = unscaledValues(values);
+		final int[] index = identity(keys.length);
+		radixSort(keys, index, 0, keys.length, new long[keys.length], new int[keys.length]);
+		reorder(values, index);
+	}
+
+	/**
+	 * Sorts the specified decimal values in ascending order using the
+	 * {@link ForkJoinPool#commonPool() common pool}. The sort is stable and
+	 * compares the unscaled values extracted from the decimals.
+	 * 
+	 * @param <S>
+	 *            the scale metrics type of the decimal values
+	 * @param <D>
+	 *            the decimal type
+	 * @param values
+	 *            the decimal values to sort, all with the same scale
+	 * @throws NullPointerException
+	 *             if the array contains null elements
+	 * @throws IllegalArgumentException
+	 *             if the decimal values do not all have the same scale
+	 */
+	public static final <S extends ScaleMetrics, D extends Decimal<S>> void parallelSort(D[] values) {
+		parallelSort(values, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Sorts the specified decimal values in ascending order using the given
+	 * fork join pool. The sort is stable and compares the unscaled values
+	 * extracted from the decimals.
+	 * 
+	 * @param <S>
+	 *            the scale metrics type of the decimal values
+	 * @param <D>
+	 *            the decimal type
+	 * @param values
+	 *            the decimal values to sort, all with the same scale
+	 * @param pool
+	 *            the pool executing the parallel sort tasks
+	 * @throws NullPointerException
+	 *             if the array contains null elements
+	 * @throws IllegalArgumentException
+	 *             if the decimal values do not all have the same scale
+	 */
+	public static final <S extends ScaleMetrics, D extends Decimal<S>> void parallelSort(D[] values, ForkJoinPool pool) {
+		final long[] keys = unscaledValues(values);
+		final int[] index = identity(keys.length);
+		sortWithIndex(keys, index, pool);
+		reorder(values, index);
+	}
+
+	private static final void checkRange(int length, int fromIndex, int toIndex) {
+		if (fromIndex > toIndex) {
+			throw new IllegalArgumentException("fromIndex(" + fromIndex + ") > toIndex(" + toIndex + ")");
+		}
+		if (fromIndex < 0) {
+			throw new ArrayIndexOutOfBoundsException(fromIndex);
+		}
+		if (toIndex > length) {
+			throw new ArrayIndexOutOfBoundsException(toIndex);
+		}
+	}
+
+	private static final int[] identity(int length) {
+		final int[] index = new int[length];
+		for (int i = 0; i < length; i++) {
+			index[i] = i;
+		}
+		return index;
+	}
+
+	private static final long[] unscaledValues(Decimal<?>[] values) {
+		final long[] keys = new long[values.length];
+		if (values.length > 0) {
+			final ScaleMetrics scaleMetrics = values[0].getScaleMetrics();
+			for (int i = 0; i < values.length; i++) {
+				if (values[i].getScaleMetrics() != scaleMetrics) {
+					throw new IllegalArgumentException("All values must have scale " + scaleMetrics.getScale()
+							+ " but found " + values[i] + " with scale " + values[i].getScale() + " at index " + i);
+				}
+				keys[i] = values[i].unscaledValue();
+			}
+		}
+		return keys;
+	}
+
+	private static final <T> void reorder(T[] values, int[] permutation) {
+		final T[] copy = values.clone();
+		for (int i = 0; i < values.length; i++) {
+			values[i] = copy[permutation[i]];
+		}
+	}
+
+	private static final void sortWithIndex(long[] keys, int[] index, ForkJoinPool pool) {
+		final int n = keys.length;
+		if (n <= PARALLEL_THRESHOLD || pool.getParallelism() == 1) {
+			radixSort(keys, index, 0, n, new long[n], new int[n]);
+		} else {
+			pool.invoke(new SortTask(keys, index, 0, n, new long[n], new int[n]));
+		}
+	}
+
+	/**
+	 * Stable LSD radix sort of the range {@code [from, to)} of {@code keys}.
+	 * If {@code index} is not null, its elements are moved together with the
+	 * keys. The buffers must be at least of length {@code to} and the same
+	 * range of the buffers is used as temporary storage.
+	 */
+	private static final void radixSort(long[] keys, int[] index, int from, int to, long[] keyBuffer, int[] indexBuffer) {
+		final int n = to - from;
+		if (n < RADIX_THRESHOLD) {
+			if (index == null) {
+				Arrays.sort(keys, from, to);
+			} else {
+				insertionSort(keys, index, from, to);
+			}
+			return;
+		}
+		// histograms for all passes in a single scan
+		final int[] counts = new int[PASSES * RADIX];
+		for (int i = from; i < to; i++) {
+			final long key = keys[i] ^ Long.MIN_VALUE;
+			for (int pass = 0; pass < PASSES; pass++) {
+				counts[(pass << RADIX_BITS) + (int) ((key >>> (pass * RADIX_BITS)) & RADIX_MASK)]++;
+			}
+		}
+		long[] src = keys;
+		long[] dst = keyBuffer;
+		int[] indexSrc = index;
+		int[] indexDst = indexBuffer;
+		for (int pass = 0; pass < PASSES; pass++) {
+			final int shift = pass * RADIX_BITS;
+			final int offset = pass << RADIX_BITS;
+			if (counts[offset + (int) (((src[from] ^ Long.MIN_VALUE) >>> shift) & RADIX_MASK)] == n) {
+				// all keys have the same digit in this pass
+				continue;
+			}
+			int position = from;
+			for (int digit = 0; digit < RADIX; digit++) {
+				final int count = counts[offset + digit];
+				counts[offset + digit] = position;
+				position += count;
+			}
+			for (int i = from; i < to; i++) {
+				final long key = src[i];
+				final int pos = counts[offset + (int) (((key ^ Long.MIN_VALUE) >>> shift) & RADIX_MASK)]++;
+				dst[pos] = key;
+				if (indexSrc != null) {
+					indexDst[pos] = indexSrc[i];
+				}
+			}
+			final long[] tmp = src;
+			src = dst;
+			dst = tmp;
+			final int[] indexTmp = indexSrc;
+			indexSrc = indexDst;
+			indexDst = indexTmp;
+		}
+		if (src != keys) {
+			System.arraycopy(src, from, keys, from, n);
+			if (index != null) {
+				System.arraycopy(indexSrc, from, index, from, n);
+			}
+		}
+	}
+
+	private static final void insertionSort(long[] keys, int[] index, int from, int to) {
+		for (int i = from + 1; i < to; i++) {
+			final long key = keys[i];
+			final int idx = index[i];
+			int j = i - 1;
+			while (j >= from && keys[j] > key) {
+				keys[j + 1] = keys[j];
+				index[j + 1] = index[j];
+				j--;
+			}
+			keys[j + 1] = key;
+			index[j + 1] = idx;
+		}
+	}
+
+	/**
+	 * Stable merge of the sorted ranges {@code [from, mid)} and
+	 * {@code [mid, to)} via the buffers back into the source arrays.
+	 */
+	private static final void merge(long[] keys, int[] index, int from, int mid, int to, long[] keyBuffer, int[] indexBuffer) {
+		if (keys[mid - 1] <= keys[mid]) {
+			// already in order
+			return;
+		}
+		int left = from;
+		int right = mid;
+		int pos = from;
+		while (left < mid & right < to) {
+			if (keys[left] <= keys[right]) {
+				keyBuffer[pos] = keys[left];
+				if (index != null) {
+					indexBuffer[pos] = index[left];
+				}
+				left++;
+			} else {
+				keyBuffer[pos] = keys[right];
+				if (index != null) {
+					indexBuffer[pos] = index[right];
+				}
+				right++;
+			}
+			pos++;
+		}
+		// the remainder of the right range is already in place
+		System.arraycopy(keys, left, keyBuffer, pos, mid - left);
+		System.arraycopy(keyBuffer, from, keys, from, pos - from + mid - left);
+		if (index != null) {
+			System.arraycopy(index, left, indexBuffer, pos, mid - left);
+			System.arraycopy(indexBuffer, from, index, from, pos - from + mid - left);
+		}
+	}
+
+	/**
+	 * Sorts the two halves of a range in parallel and merges them.
+	 */
+	private static final class SortTask extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+
+		private final long[] keys;
+		private final int[] index;
+		private final int from;
+		private final int to;
+		private final long[] keyBuffer;
+		private final int[] indexBuffer;
+
+		SortTask(long[] keys, int[] index, int from, int to, long[] keyBuffer, int[] indexBuffer) {
+			this.keys = keys;
+			this.index = index;
+			this.from = from;
+			this.to = to;
+			this.keyBuffer = keyBuffer;
+			this.indexBuffer = indexBuffer;
+		}
+
+		@Override
+		protected final void compute() {
+			if (to - from <= PARALLEL_THRESHOLD) {
+				radixSort(keys, index, from, to, keyBuffer, indexBuffer);
+			} else {
+				final int mid = (from + to) >>> 1;
+				invokeAll(new SortTask(keys, index, from, mid, keyBuffer, indexBuffer),
+						new SortTask(keys, index, mid, to, keyBuffer, indexBuffer));
+				merge(keys, index, from, mid, to, keyBuffer, indexBuffer);
+			}
+		}
+	}
+
+	// no instances
+	private DecimalSort() {
+		super();
+	}
+}
@@ -0,0 +1,588 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2023 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.collection;
+
+import java.util.Arrays;
+
+import org.decimal4j.api.Decimal;
+import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.scale.ScaleMetrics;
+
+/**
+ * Sorted map with decimal keys of a fixed scale. Keys are stored as unscaled
+ * {@code long} values in ascending order in a two level structure similar to
+ * a B+-tree: entries are kept in sorted leaf blocks of up to 64 keys and
+ * values, and the leaf blocks are indexed by their first key. Lookups perform
+ * a binary search over the block index followed by a binary search within one
+ * leaf block. Leaf blocks released by removals are retained and reused, hence
+ * no objects are allocated in steady state.
+ * <p>
+ * Keys can be passed as {@link Decimal} of the map's scale or as unscaled
+ * values. Null values are not permitted and {@link #get(long)} returns null if
+ * no value is associated with a key.
+ * <p>
+ * Entries can be iterated in ascending or descending key order without
+ * allocation through {@link #forEach(UnscaledEntryConsumer)} or with a cursor:
+ * 
+ * <pre>
+ * for (int cursor = map.last(); cursor &gt;= 0; cursor = map.previous(cursor)) {
+ * 	final long unscaledKey = map.keyAt(cursor);
+ * 	final V value = map.valueAt(cursor);
+ * 	...
+ * }
+ * </pre>
+ * 
+ * Cursors are also returned by the navigation methods {@link #floor(long)},
+ * {@link #ceiling(long)}, {@link #lower(long)} and {@link #higher(long)}.
+ * Cursors are invalidated if the map is modified.
+ * <p>
+ * This class is not thread safe.
+ * 
+ * @param <S>
+ *            the scale metrics type of the keys
+ * @param <V>
+ *            the type of the values
+ */
+public final class DecimalSortedMap<S extends ScaleMetrics, V> {
+
+	private static final int BLOCK_SHIFT = 6;
+	private static final int BLOCK_SIZE = 1 << BLOCK_SHIFT;
+	private static final int BLOCK_MASK = BLOCK_SIZE - 1;
+	private static final int MERGE_THRESHOLD = BLOCK_SIZE / 2;
+	private static final int MAX_BLOCKS = 1 << (31 - BLOCK_SHIFT);
+
+	private final S scaleMetrics;
+	// blocks at index >= blockCount are empty spare blocks that can be reused
+	private long[][] blockKeys = new long[4][];
+	private Object[][] blockValues = new Object[4][];
+	private int[] blockSizes = new int[4];
+	private long[] firstKeys = new long[4];
+	private int blockCount;
+	private int size;
+
+	/**
+	 * Creates an empty sorted map for keys with the given scale.
+	 * 
+	 * @param scaleMetrics
+	 *            the scale metrics of the keys
+	 */
+	public DecimalSortedMap(S scaleMetrics) {
+		this.scaleMetrics = scaleMetrics;
+	}
+
+	/**
+	 * Returns the scale metrics of the keys of this map.
+	 * 
+	 * @return the scale metrics of the keys
+	 */
+	public final S getScaleMetrics() {
+		return scaleMetrics;
+	}
+
+	/**
+	 * Returns the number of entries in this map.
+	 * 
+	 * @return the number of key-value mappings
+	 */
+	public final int size() {
+		return size;
+	}
+
+	/**
+	 * Returns true if this map contains no entries.
+	 * 
+	 * @return true if this map is empty
+	 */
+	public final boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Returns the value associated with the given unscaled key.
+	 * 
+	 * @param unscaledKey
+	 *            the unscaled decimal key
+	 * @return the value associated with the key, or null if there is none
+	 */
+	@SuppressWarnings("unchecked")
+	public final V get(long unscaledKey) {
+		final int block = findBlock(unscaledKey);
+		if (block < 0) {
+			return null;
+		}
+		final int index = Arrays.binarySearch(blockKeys[block], 0, blockSizes[block], unscaledKey);
+		return index < 0 ? null : (V) blockValues[block][index];
+	}
+
+	/**
+	 * Returns the value associated with the given key.
+	 * 
+	 * @param key
+	 *            the decimal key with the scale of this map
+	 * @return the value associated with the key, or null if there is none
+	 * @throws IllegalArgumentException
+	 *             if the key has a different scale than the map
+	 */
+	public final V get(Decimal<S> key) {
+		return get(unscaled(key));
+	}
+
+	/**
+	 * Returns true if a value is associated with the given unscaled key.
+	 * 
+	 * @param unscaledKey
+	 *            the unscaled decimal key
+	 * @return true if this map contains the key
+	 */
+	public final boolean containsKey(long unscaledKey) {
+		return get(unscaledKey) != null;
+	}
+
+	/**
+	 * Returns true if a value is associated with the given key.
+	 * 
+	 * @param key
+	 *            the decimal key with the scale of this map
+	 * @return true if this map contains the key
+	 * @throws IllegalArgumentException
+	 *             if the key has a different scale than the map
+	 */
+	public final boolean containsKey(Decimal<S> key) {
+		return get(unscaled(key)) != null;
+	}
+
+	/**
+	 * Associates the given value with the given unscaled key.
+	 * 
+	 * @param unscaledKey
+	 *            the unscaled decimal key
+	 * @param value
+	 *            the value to associate with the key, not null
+	 * @return the value previously associated with the key, or null if there
+	 *         was none
+	 * @throws NullPointerException
+	 *             if {@code value} is null
+	 */
+	@SuppressWarnings("unchecked")
+	public final V put(long unscaledKey, V value) {
+		if (value == null) {
+			throw new NullPointerException("value must not be null");
+		}
+		if (blockCount == 0) {
+			insertBlock(0);
+		}
+		final int block = Math.max(0, findBlock(unscaledKey));
+		final int index = Arrays.binarySearch(blockKeys[block], 0, blockSizes[block], unscaledKey);
+		if (index >= 0) {
+			final Object old = blockValues[block][index];
+			blockValues[block][index] = value;
+			return (V) old;
+		}
+		insert(block, -(index + 1), unscaledKey, value);
+		return null;
+	}
+
+	/**
+	 * Associates the given value with the given key.
+	 * 
+	 * @param key
+	 *            the decimal key with the scale of this map
+	 * @param value
+	 *            the value to associate with the key, not null
+	 * @return the value previously associated with the key, or null if there
+	 *         was none
+	 * @throws NullPointerException
+	 *             if {@code value} is null
+	 * @throws IllegalArgumentException
+	 *             if the key has a different scale than the map
+	 */
+	public final V put(Decimal<S> key, V value) {
+		return put(unscaled(key), value);
+	}
+
+	/**
+	 * Removes the entry with the given unscaled key.
+	 * 
+	 * @param unscaledKey
+	 *            the unscaled decimal key
+	 * @return the value that was associated with the key, or null if there was
+	 *         none
+	 */
+	@SuppressWarnings("unchecked")
+	public final V remove(long unscaledKey) {
+		final int block = findBlock(unscaledKey);
+		if (block < 0) {
+			return null;
+		}
+		final int index = Arrays.binarySearch(blockKeys[block], 0, blockSizes[block], unscaledKey);
+		if (index < 0) {
+			return null;
+		}
+		final Object old = blockValues[block][index];
+		removeAt(block, index);
+		return (V) old;
+	}
+
+	/**
+	 * Removes the entry with the given key.
+	 * 
+	 * @param key
+	 *            the decimal key with the scale of this map
+	 * @return the value that was associated with the key, or null if there was
+	 *         none
+	 * @throws IllegalArgumentException
+	 *             if the key has a different scale than the map
+	 */
+	public final V remove(Decimal<S> key) {
+		return remove(unscaled(key));
+	}
+
+	/**
+	 * Removes all entries from this map. Allocated leaf blocks are retained
+	 * for reuse.
+	 */
+	public final void clear() {
+		for (int block = 0; block < blockCount; block++) {
+			Arrays.fill(blockValues[block], 0, blockSizes[block], null);
+			blockSizes[block] = 0;
+		}
+		blockCount = 0;
+		size = 0;
+	}
+
+	/**
+	 * Returns a cursor pointing to the entry with the smallest key.
+	 * 
+	 * @return the cursor of the first entry, or -1 if the map is empty
+	 */
+	public final int first() {
+		return size == 0 ? -1 : 0;
+	}
+
+	/**
+	 * Returns a cursor pointing to the entry with the largest key.
+	 * 
+	 * @return the cursor of the last entry, or -1 if the map is empty
+	 */
+	public final int last() {
+		if (size == 0) {
+			return -1;
+		}
+		final int block = blockCount - 1;
+		return cursor(block, blockSizes[block] - 1);
+	}
+
+	/**
+	 * Returns a cursor pointing to the entry following the given cursor in
+	 * ascending key order.
+	 * 
+	 * @param cursor
+	 *            a valid cursor
+	 * @return the cursor of the next entry, or -1 if there is none
+	 */
+	public final int next(int cursor) {
+		final int block = cursor >>> BLOCK_SHIFT;
+		final int index = (cursor & BLOCK_MASK) + 1;
+		if (index < blockSizes[block]) {
+			return cursor + 1;
+		}
+		return block + 1 < blockCount ? cursor(block + 1, 0) : -1;
+	}
+
+	/**
+	 * Returns a cursor pointing to the entry preceding the given cursor in
+	 * ascending key order.
+	 * 
+	 * @param cursor
+	 *            a valid cursor
+	 * @return the cursor of the previous entry, or -1 if there is none
+	 */
+	public final int previous(int cursor) {
+		final int block = cursor >>> BLOCK_SHIFT;
+		final int index = cursor & BLOCK_MASK;
+		if (index > 0) {
+			return cursor - 1;
+		}
+		return block > 0 ? cursor(block - 1, blockSizes[block - 1] - 1) : -1;
+	}
+
+	/**
+	 * Returns a cursor pointing to the entry with the greatest key less than
+	 * or equal to the given unscaled key.
+	 * 
+	 * @param unscaledKey
+	 *            the unscaled decimal key
+	 * @return the cursor of the floor entry, or -1 if there is none
+	 */
+	public final int floor(long unscaledKey) {
+		final int block = findBlock(unscaledKey);
+		if (block < 0) {
+			return -1;
+		}
+		final int index = Arrays.binarySearch(blockKeys[block], 0, blockSizes[block], unscaledKey);
+		// insertion point is at least 1 since the first key of the block is less than the key
+		return cursor(block, index >= 0 ? index : -(index + 1) - 1);
+	}
+
+	/**
+	 * Returns a cursor pointing to the entry with the smallest key greater
+	 * than or equal to the given unscaled key.
+	 * 
+	 * @param unscaledKey
+	 *            the unscaled decimal key
+	 * @return the cursor of the ceiling entry, or -1 if there is none
+	 */
+	public final int ceiling(long unscaledKey) {
+		final int block = findBlock(unscaledKey);
+		if (block < 0) {
+			return first();
+		}
+		final int index = Arrays.binarySearch(blockKeys[block], 0, blockSizes[block], unscaledKey);
+		if (index >= 0) {
+			return cursor(block, index);
+		}
+		final int insertionPoint = -(index + 1);
+		if (insertionPoint < blockSizes[block]) {
+			return cursor(block, insertionPoint);
+		}
+		return block + 1 < blockCount ? cursor(block + 1, 0) : -1;
+	}
+
+	/**
+	 * Returns a cursor pointing to the entry with the greatest key strictly
+	 * less than the given unscaled key.
+	 * 
+	 * @param unscaledKey
+	 *            the unscaled decimal key
+	 * @return the cursor of the lower entry, or -1 if there is none
+	 */
+	public final int lower(long unscaledKey) {
+		return unscaledKey == Long.MIN_VALUE ? -1 : floor(unscaledKey - 1);
+	}
+
+	/**
+	 * Returns a cursor pointing to the entry with the smallest key strictly
+	 * greater than the given unscaled key.
+	 * 
+	 * @param unscaledKey
+	 *            the unscaled decimal key
+	 * @return the cursor of the higher entry, or -1 if there is none
+	 */
+	public final int higher(long unscaledKey) {
+		return unscaledKey == Long.MAX_VALUE ? -1 : ceiling(unscaledKey + 1);
+	}
+
+	/**
+	 * Returns the unscaled key of the entry at the given cursor.
+	 * 
+	 * @param cursor
+	 *            a valid cursor
+	 * @return the unscaled decimal key at the cursor position
+	 */
+	public final long keyAt(int cursor) {
+		return blockKeys[cursor >>> BLOCK_SHIFT][cursor & BLOCK_MASK];
+	}
+
+	/**
+	 * Returns the value of the entry at the given cursor.
+	 * 
+	 * @param cursor
+	 *            a valid cursor
+	 * @return the value at the cursor position
+	 */
+	@SuppressWarnings("unchecked")
+	public final V valueAt(int cursor) {
+		return (V) blockValues[cursor >>> BLOCK_SHIFT][cursor & BLOCK_MASK];
+	}
+
+	/**
+	 * Passes all entries of this map in ascending key order to the given
+	 * consumer.
+	 * 
+	 * @param consumer
+	 *            the consumer invoked for every entry
+	 */
+	@SuppressWarnings("unchecked")
+	public final void forEach(UnscaledEntryConsumer<? super V> consumer) {
+		for (int block = 0; block < blockCount; block++) {
+			final long[] keys = blockKeys[block];
+			final Object[] values = blockValues[block];
+			final int n = blockSizes[block];
+			for (int i = 0; i < n; i++) {
+				consumer.accept(keys[i], (V) values[i]);
+			}
+		}
+	}
+
+	private static final int cursor(int block, int index) {
+		return (block << BLOCK_SHIFT) | index;
+	}
+
+	private final long unscaled(Decimal<S> key) {
+		if (key.getScaleMetrics() != scaleMetrics) {
+			throw new IllegalArgumentException("Key " + key + " must have scale " + scaleMetrics.getScale()
+					+ " but has scale " + key.getScale());
+		}
+		return key.unscaledValue();
+	}
+
+	/**
+	 * Returns the index of the last block whose first key is less than or
+	 * equal to the given key, or -1 if there is no such block.
+	 */
+	private final int findBlock(long unscaledKey) {
+		final int index = Arrays.binarySearch(firstKeys, 0, blockCount, unscaledKey);
+		return index >= 0 ? index : -(index + 1) - 1;
+	}
+
+	private final void insert(int block, int index, long unscaledKey, Object value) {
+		int target = block;
+		int targetIndex = index;
+		if (blockSizes[block] == BLOCK_SIZE) {
+			// split full block into two halves
+			insertBlock(block + 1);
+			final int half = BLOCK_SIZE / 2;
+			System.arraycopy(blockKeys[block], half, blockKeys[block + 1], 0, half);
+			System.arraycopy(blockValues[block], half, blockValues[block + 1], 0, half);
+			Arrays.fill(blockValues[block], half, BLOCK_SIZE, null);
+			blockSizes[block] = half;
+			blockSizes[block + 1] = half;
+			firstKeys[block + 1] = blockKeys[block + 1][0];
+			if (index > half) {
+				target = block + 1;
+				targetIndex = index - half;
+			}
+		}
+		final long[] keys = blockKeys[target];
+		final Object[] values = blockValues[target];
+		final int n = blockSizes[target];
+		System.arraycopy(keys, targetIndex, keys, targetIndex + 1, n - targetIndex);
+		System.arraycopy(values, targetIndex, values, targetIndex + 1, n - targetIndex);
+		keys[targetIndex] = unscaledKey;
+		values[targetIndex] = value;
+		blockSizes[target] = n + 1;
+		if (targetIndex == 0) {
+			firstKeys[target] = unscaledKey;
+		}
+		size++;
+	}
+
+	private final void removeAt(int block, int index) {
+		final long[] keys = blockKeys[block];
+		final Object[] values = blockValues[block];
+		final int n = blockSizes[block] - 1;
+		System.arraycopy(keys, index + 1, keys, index, n - index);
+		System.arraycopy(values, index + 1, values, index, n - index);
+		values[n] = null;
+		blockSizes[block] = n;
+		size--;
+		if (n == 0) {
+			removeBlock(block);
+			return;
+		}
+		if (index == 0) {
+			firstKeys[block] = keys[0];
+		}
+		// merge with a neighbour block if both together are at most half full
+		if (block + 1 < blockCount && n + blockSizes[block + 1] <= MERGE_THRESHOLD) {
+			mergeWithNext(block);
+		} else if (block > 0 && n + blockSizes[block - 1] <= MERGE_THRESHOLD) {
+			mergeWithNext(block - 1);
+		}
+	}
+
+	private final void mergeWithNext(int block) {
+		final int n = blockSizes[block];
+		final int m = blockSizes[block + 1];
+		System.arraycopy(blockKeys[block + 1], 0, blockKeys[block], n, m);
+		System.arraycopy(blockValues[block + 1], 0, blockValues[block], n, m);
+		Arrays.fill(blockValues[block + 1], 0, m, null);
+		blockSizes[block] = n + m;
+		blockSizes[block + 1] = 0;
+		removeBlock(block + 1);
+	}
+
+	private final void insertBlock(int block) {
+		if (blockCount == blockKeys.length) {
+			if (blockCount == MAX_BLOCKS) {
+				throw new IllegalStateException("Maximum capacity exceeded: " + (MAX_BLOCKS * BLOCK_SIZE / 2));
+			}
+			final int capacity = blockCount << 1;
+			blockKeys = Arrays.copyOf(blockKeys, capacity);
+			blockValues = Arrays.copyOf(blockValues, capacity);
+			blockSizes = Arrays.copyOf(blockSizes, capacity);
+			firstKeys = Arrays.copyOf(firstKeys, capacity);
+		}
+		// reuse spare block at index blockCount if available
+		long[] keys = blockKeys[blockCount];
+		Object[] values = blockValues[blockCount];
+		if (keys == null) {
+			keys = new long[BLOCK_SIZE];
+			values = new Object[BLOCK_SIZE];
+		}
+		final int moved = blockCount - block;
+		System.arraycopy(blockKeys, block, blockKeys, block + 1, moved);
+		System.arraycopy(blockValues, block, blockValues, block + 1, moved);
+		System.arraycopy(blockSizes, block, blockSizes, block + 1, moved);
+		System.arraycopy(firstKeys, block, firstKeys, block + 1, moved);
+		blockKeys[block] = keys;
+		blockValues[block] = values;
+		blockSizes[block] = 0;
+		blockCount++;
+	}
+
+	private final void removeBlock(int block) {
+		// move the empty block behind the used blocks to reuse it later
+		final long[] keys = blockKeys[block];
+		final Object[] values = blockValues[block];
+		final int moved = blockCount - block - 1;
+		System.arraycopy(blockKeys, block + 1, blockKeys, block, moved);
+		System.arraycopy(blockValues, block + 1, blockValues, block, moved);
+		System.arraycopy(blockSizes, block + 1, blockSizes, block, moved);
+		System.arraycopy(firstKeys, block + 1, firstKeys, block, moved);
+		blockCount--;
+		blockKeys[blockCount] = keys;
+		blockValues[blockCount] = values;
+		blockSizes[blockCount] = 0;
+	}
+
+	/**
+	 * Returns a string representation of this map with keys formatted in the
+	 * scale of the map in ascending order, for instance "{1.25=a, 3.50=b}".
+	 * 
+	 * @return a string representation of the entries in this map
+	 */
+	@Override
+	public final String toString() {
+		final DecimalArithmetic arith = scaleMetrics.getDefaultArithmetic();
+		final StringBuilder sb = new StringBuilder(size * 16 + 2).append('{');
+		for (int cursor = first(); cursor >= 0; cursor = next(cursor)) {
+			if (sb.length() > 1) {
+				sb.append(", ");
+			}
+			sb.append(arith.toString(keyAt(cursor))).append('=').append(valueAt(cursor));
+		}
+		return sb.append('}').toString();
+	}
+}
@@ -0,0 +1,45 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2023 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.collection;
+
+/**
+ * Callback to consume map entries with an unscaled decimal key without boxing
+ * the key, for instance passed to
+ * {@link DecimalHashMap#forEach(UnscaledEntryConsumer)} or
+ * {@link DecimalSortedMap#forEach(UnscaledEntryConsumer)}.
+ * 
+ * @param <V>
+ *            the type of the values
+ */
+public interface UnscaledEntryConsumer<V> {
+	/**
+	 * Consumes the given entry.
+	 * 
+	 * @param unscaledKey
+	 *            the unscaled decimal key
+	 * @param value
+	 *            the value associated with the key, not null
+	 */
+	void accept(long unscaledKey, V value);
+}
@@ -0,0 +1,133 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2023 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.column;
+
+import java.nio.ByteBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.util.Objects;
+
+import org.decimal4j.api.Decimal;
+import org.decimal4j.api.ImmutableDecimal;
+import org.decimal4j.factory.Factories;
+import org.decimal4j.scale.ScaleMetrics;
+
+/**
+ * Decimal column backed by chunks of direct or memory mapped byte buffers of
+ * at most 1 GB each.
+ * 
+ * @param <S>
+ *            the scale metrics type associated with the values of this column
+ */
+final class BufferDecimalColumn<S extends ScaleMetrics> implements DecimalColumn<S> {
+
+	/**
+	 * Binary logarithm of the number of values per chunk.
+	 */
+	static final int CHUNK_SHIFT = 27;
+	private static final long CHUNK_MASK = (1L << CHUNK_SHIFT) - 1;
+
+	private final S scaleMetrics;
+	private final long length;
+	private final boolean readOnly;
+	private ByteBuffer[] chunks;
+
+	BufferDecimalColumn(S scaleMetrics, long length, ByteBuffer[] chunks, boolean readOnly) {
+		this.scaleMetrics = Objects.requireNonNull(scaleMetrics, "scaleMetrics cannot be null");
+		this.length = length;
+		this.chunks = chunks;
+		this.readOnly = readOnly;
+	}
+
+	static int chunkCount(long length) {
+		if (length < 0) {
+			throw new IllegalArgumentException("length must not be negative: " + length);
+		}
+		return (int) ((length + CHUNK_MASK) >>> CHUNK_SHIFT);
+	}
+
+	static int chunkBytes(long length, int chunk) {
+		final long remaining = length - (((long) chunk) << CHUNK_SHIFT);
+		return (int) (Math.min(remaining, 1L << CHUNK_SHIFT) << 3);
+	}
+
+	@Override
+	public S getScaleMetrics() {
+		return scaleMetrics;
+	}
+
+	@Override
+	public long length() {
+		return length;
+	}
+
+	@Override
+	public boolean isReadOnly() {
+		return readOnly;
+	}
+
+	private ByteBuffer chunk(long index) {
+		final ByteBuffer[] chunks = this.chunks;
+		if (chunks == null) {
+			throw new IllegalStateException("Column has been closed");
+		}
+		if (index < 0 | index >= length) {
+			throw new IndexOutOfBoundsException("Index " + index + " out of bounds for column of length " + length);
+		}
+		return chunks[(int) (index >>> CHUNK_SHIFT)];
+	}
+
+	@Override
+	public long getUnscaled(long index) {
+		return chunk(index).getLong(((int) (index & CHUNK_MASK)) << 3);
+	}
+
+	@Override
+	public void setUnscaled(long index, long unscaled) {
+		final ByteBuffer chunk = chunk(index);
+		if (readOnly) {
+			throw new ReadOnlyBufferException();
+		}
+		chunk.putLong(((int) (index & CHUNK_MASK)) << 3, unscaled);
+	}
+
+	@Override
+	public ImmutableDecimal<S> get(long index) {
+		return Factories.getDecimalFactory(scaleMetrics).valueOfUnscaled(getUnscaled(index));
+	}
+
+	@Override
+	public void set(long index, Decimal<S> value) {
+		setUnscaled(index, value.unscaledValue());
+	}
+
+	@Override
+	public void close() {
+		chunks = null;
+	}
+
+	@Override
+	public String toString() {
+		return "DecimalColumn[scale=" + scaleMetrics.getScale() + ", length=" + length + (readOnly ? ", readOnly]" : "]");
+	}
+}
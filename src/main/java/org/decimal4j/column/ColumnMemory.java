@@ -0,0 +1,93 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2023 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.column;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+
+import org.decimal4j.scale.ScaleMetrics;
+
+/**
+ * Allocates and maps the memory of decimal columns. This implementation
+ * returns columns backed by byte buffers; it is replaced by a memory segment
+ * based implementation on Java 22 and later.
+ */
+final class ColumnMemory {
+
+	/**
+	 * Allocates a zero initialised column of the given length.
+	 * 
+	 * @param scaleMetrics
+	 *            the scale metrics of the column values
+	 * @param length
+	 *            the number of values
+	 * @param <S>
+	 *            the scale metrics type
+	 * @return the new column
+	 */
+	static <S extends ScaleMetrics> DecimalColumn<S> allocate(S scaleMetrics, long length) {
+		final ByteBuffer[] chunks = new ByteBuffer[BufferDecimalColumn.chunkCount(length)];
+		for (int i = 0; i < chunks.length; i++) {
+			chunks[i] = ByteBuffer.allocateDirect(BufferDecimalColumn.chunkBytes(length, i)).order(ByteOrder.LITTLE_ENDIAN);
+		}
+		return new BufferDecimalColumn<S>(scaleMetrics, length, chunks, false);
+	}
+
+	/**
+	 * Maps a column of the given length from a file channel.
+	 * 
+	 * @param scaleMetrics
+	 *            the scale metrics of the column values
+	 * @param channel
+	 *            the file channel to map
+	 * @param mode
+	 *            the map mode
+	 * @param length
+	 *            the number of values
+	 * @param <S>
+	 *            the scale metrics type
+	 * @return the mapped column
+	 * @throws IOException
+	 *             if mapping the file fails
+	 */
+	static <S extends ScaleMetrics> DecimalColumn<S> map(S scaleMetrics, FileChannel channel, MapMode mode, long length)
+			throws IOException {
+		final ByteBuffer[] chunks = new ByteBuffer[BufferDecimalColumn.chunkCount(length)];
+		for (int i = 0; i < chunks.length; i++) {
+			final long position = ((long) i) << (BufferDecimalColumn.CHUNK_SHIFT + 3);
+			final MappedByteBuffer chunk = channel.map(mode, position, BufferDecimalColumn.chunkBytes(length, i));
+			chunks[i] = chunk.order(ByteOrder.LITTLE_ENDIAN);
+		}
+		return new BufferDecimalColumn<S>(scaleMetrics, length, chunks, mode == MapMode.READ_ONLY);
+	}
+
+	// no instances
+	private ColumnMemory() {
+		super();
+	}
+}
@@ -0,0 +1,137 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2023 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.column;
+
+import org.decimal4j.api.Decimal;
+import org.decimal4j.api.ImmutableDecimal;
+import org.decimal4j.scale.ScaleMetrics;
+
+/**
+ * A column of unscaled decimal values with a fixed scale stored in native or
+ * memory mapped memory. The column length is a {@code long} and not limited to
+ * 2<sup>31</sup> values. Values are stored as 8 byte integers in
+ * {@link java.nio.ByteOrder#LITTLE_ENDIAN LITTLE_ENDIAN} byte order, also in
+ * mapped files.
+ * <p>
+ * Memory of a column is released when the column is {@link #close() closed};
+ * columns cannot be accessed after closing. Columns are not thread safe, but
+ * different threads can access disjoint index ranges of the same column.
+ * 
+ * @param <S>
+ *            the scale metrics type associated with the values of this column
+ * @see DecimalColumns
+ */
+public interface DecimalColumn<S extends ScaleMetrics> extends AutoCloseable {
+	/**
+	 * Returns the metrics for the scale of the values in this column.
+	 * 
+	 * @return the scale metrics of all values of this column
+	 */
+	S getScaleMetrics();
+
+	/**
+	 * Returns the number of values in this column.
+	 * 
+	 * @return the column length
+	 */
+	long length();
+
+	/**
+	 * Returns true if this column cannot be modified, for instance if it was
+	 * mapped from a file in read-only mode.
+	 * 
+	 * @return true if {@link #setUnscaled(long, long)} is not supported
+	 */
+	boolean isReadOnly();
+
+	/**
+	 * Returns the unscaled value at the specified index.
+	 * 
+	 * @param index
+	 *            the index of the value
+	 * @return the unscaled value at {@code index}
+	 * @throws IndexOutOfBoundsException
+	 *             if {@code index} is negative or not less than the column
+	 *             length
+	 * @throws IllegalStateException
+	 *             if the column has been closed
+	 */
+	long getUnscaled(long index);
+
+	/**
+	 * Sets the unscaled value at the specified index.
+	 * 
+	 * @param index
+	 *            the index of the value
+	 * @param unscaled
+	 *            the unscaled value to store at {@code index}
+	 * @throws IndexOutOfBoundsException
+	 *             if {@code index} is negative or not less than the column
+	 *             length
+	 * @throws IllegalStateException
+	 *             if the column has been closed
+	 * @throws java.nio.ReadOnlyBufferException
+	 *             if the column is {@link #isReadOnly() read-only}
+	 */
+	void setUnscaled(long index, long unscaled);
+
+	/**
+	 * Returns the value at the specified index as an immutable decimal.
+	 * 
+	 * @param index
+	 *            the index of the value
+	 * @return a decimal representing the value at {@code index}
+	 * @throws IndexOutOfBoundsException
+	 *             if {@code index} is negative or not less than the column
+	 *             length
+	 * @throws IllegalStateException
+	 *             if the column has been closed
+	 */
+	ImmutableDecimal<S> get(long index);
+
+	/**
+	 * Sets the value at the specified index.
+	 * 
+	 * @param index
+	 *            the index of the value
+	 * @param value
+	 *            the value to store at {@code index}
+	 * @throws IndexOutOfBoundsException
+	 *             if {@code index} is negative or not less than the column
+	 *             length
+	 * @throws IllegalStateException
+	 *             if the column has been closed
+	 * @throws java.nio.ReadOnlyBufferException
+	 *             if the column is {@link #isReadOnly() read-only}
+	 */
+	void set(long index, Decimal<S> value);
+
+	/**
+	 * Releases the memory of this column. Memory mapped columns are unmapped
+	 * if supported by the Java version, and otherwise when the column becomes
+	 * unreachable. The method has no effect if the column is already closed.
+	 */
+	@Override
+	void close();
+}
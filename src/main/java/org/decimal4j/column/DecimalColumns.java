@@ -0,0 +1,340 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2023 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.column;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.OpenOption;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.LongBinaryOperator;
+
+import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.scale.ScaleMetrics;
+
+/**
+ * Factory and bulk operations for {@link DecimalColumn} instances. Columns are
+ * {@link #allocate(ScaleMetrics, long) allocated} off-heap or
+ * {@link #map(ScaleMetrics, Path, MapMode, long) mapped} from files that can
+ * be larger than 2 GB. Bulk operations apply a {@link DecimalArithmetic} to
+ * all values of a column without creating a decimal object per value.
+ */
+public final class DecimalColumns {
+
+	/**
+	 * Allocates a new off-heap column with the given length. All values of the
+	 * new column are zero.
+	 * 
+	 * @param scaleMetrics
+	 *            the scale metrics of the column values
+	 * @param length
+	 *            the number of values
+	 * @param <S>
+	 *            the scale metrics type
+	 * @return a new column, to be {@link DecimalColumn#close() closed} to
+	 *         release the memory
+	 * @throws IllegalArgumentException
+	 *             if {@code length} is negative
+	 */
+	public static <S extends ScaleMetrics> DecimalColumn<S> allocate(S scaleMetrics, long length) {
+		checkLength(length);
+		return ColumnMemory.allocate(scaleMetrics, length);
+	}
+
+	/**
+	 * Maps a column with all values stored in the given file. The column length
+	 * is the file size divided by 8.
+	 * 
+	 * @param scaleMetrics
+	 *            the scale metrics of the column values
+	 * @param file
+	 *            the file to map
+	 * @param mode
+	 *            the map mode
+	 * @param <S>
+	 *            the scale metrics type
+	 * @return the mapped column, to be {@link DecimalColumn#close() closed} to
+	 *         release the mapping
+	 * @throws IOException
+	 *             if opening or mapping the file fails
+	 */
+	public static <S extends ScaleMetrics> DecimalColumn<S> map(S scaleMetrics, Path file, MapMode mode)
+			throws IOException {
+		try (final FileChannel channel = FileChannel.open(file, openOptions(mode))) {
+			return ColumnMemory.map(scaleMetrics, channel, mode, channel.size() >>> 3);
+		}
+	}
+
+	/**
+	 * Maps a column with the given length from a file. The file is created or
+	 * extended if necessary in {@link MapMode#READ_WRITE READ_WRITE} mode.
+	 * 
+	 * @param scaleMetrics
+	 *            the scale metrics of the column values
+	 * @param file
+	 *            the file to map
+	 * @param mode
+	 *            the map mode
+	 * @param length
+	 *            the number of values
+	 * @param <S>
+	 *            the scale metrics type
+	 * @return the mapped column, to be {@link DecimalColumn#close() closed} to
+	 *         release the mapping
+	 * @throws IllegalArgumentException
+	 *             if {@code length} is negative
+	 * @throws IOException
+	 *             if opening or mapping the file fails
+	 */
+	public static <S extends ScaleMetrics> DecimalColumn<S> map(S scaleMetrics, Path file, MapMode mode, long length)
+			throws IOException {
+		checkLength(length);
+		try (final FileChannel channel = FileChannel.open(file, openOptions(mode))) {
+			return ColumnMemory.map(scaleMetrics, channel, mode, length);
+		}
+	}
+
+	private static OpenOption[] openOptions(MapMode mode) {
+		if (mode == MapMode.READ_WRITE) {
+			return new OpenOption[] { StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.CREATE };
+		}
+		return new OpenOption[] { StandardOpenOption.READ };
+	}
+
+	private static void checkLength(long length) {
+		if (length < 0 | length > Long.MAX_VALUE >>> 3) {
+			throw new IllegalArgumentException("length must be in [0, " + (Long.MAX_VALUE >>> 3) + "] but was " + length);
+		}
+	}
+
+	/**
+	 * Sets all values of the column to the given unscaled value.
+	 * 
+	 * @param column
+	 *            the column to fill
+	 * @param unscaled
+	 *            the unscaled value to assign
+	 */
+	public static void fill(DecimalColumn<?> column, long unscaled) {
+		final long length = column.length();
+		for (long i = 0; i < length; i++) {
+			column.setUnscaled(i, unscaled);
+		}
+	}
+
+	/**
+	 * Returns the sum of all values of the column, using checked or unchecked
+	 * addition depending on the given arithmetic.
+	 * 
+	 * @param arith
+	 *            the arithmetic used for the addition
+	 * @param column
+	 *            the column to sum up
+	 * @return the unscaled sum of all values
+	 * @throws IllegalArgumentException
+	 *             if the scale of {@code arith} differs from the column scale
+	 * @throws ArithmeticException
+	 *             if {@code arith} is checked and the sum overflows
+	 */
+	public static long sum(DecimalArithmetic arith, DecimalColumn<?> column) {
+		checkScale(arith, column);
+		final long length = column.length();
+		long sum = 0;
+		for (long i = 0; i < length; i++) {
+			sum = arith.add(sum, column.getUnscaled(i));
+		}
+		return sum;
+	}
+
+	/**
+	 * Assigns {@code result[i] = a[i] + b[i]} for every index {@code i}.
+	 * 
+	 * @param arith
+	 *            the arithmetic defining rounding and overflow mode
+	 * @param a
+	 *            the first operand column
+	 * @param b
+	 *            the second operand column
+	 * @param result
+	 *            the result column, can be one of the operand columns
+	 * @param <S>
+	 *            the scale metrics type
+	 * @throws IllegalArgumentException
+	 *             if the columns have different lengths, or if the scale of
+	 *             {@code arith} differs from the column scale
+	 * @throws ArithmeticException
+	 *             if {@code arith} is checked and an operation overflows
+	 */
+	public static <S extends ScaleMetrics> void add(DecimalArithmetic arith, DecimalColumn<S> a, DecimalColumn<S> b,
+			DecimalColumn<S> result) {
+		checkOperands(arith, a, b, result);
+		final long length = a.length();
+		for (long i = 0; i < length; i++) {
+			result.setUnscaled(i, arith.add(a.getUnscaled(i), b.getUnscaled(i)));
+		}
+	}
+
+	/**
+	 * Assigns {@code result[i] = a[i] - b[i]} for every index {@code i}.
+	 * 
+	 * @param arith
+	 *            the arithmetic defining rounding and overflow mode
+	 * @param a
+	 *            the first operand column
+	 * @param b
+	 *            the second operand column
+	 * @param result
+	 *            the result column, can be one of the operand columns
+	 * @param <S>
+	 *            the scale metrics type
+	 * @throws IllegalArgumentException
+	 *             if the columns have different lengths, or if the scale of
+	 *             {@code arith} differs from the column scale
+	 * @throws ArithmeticException
+	 *             if {@code arith} is checked and an operation overflows
+	 */
+	public static <S extends ScaleMetrics> void subtract(DecimalArithmetic arith, DecimalColumn<S> a,
+			DecimalColumn<S> b, DecimalColumn<S> result) {
+		checkOperands(arith, a, b, result);
+		final long length = a.length();
+		for (long i = 0; i < length; i++) {
+			result.setUnscaled(i, arith.subtract(a.getUnscaled(i), b.getUnscaled(i)));
+		}
+	}
+
+	/**
+	 * Assigns {@code result[i] = a[i] * b[i]} for every index {@code i}.
+	 * 
+	 * @param arith
+	 *            the arithmetic defining rounding and overflow mode
+	 * @param a
+	 *            the first operand column
+	 * @param b
+	 *            the second operand column
+	 * @param result
+	 *            the result column, can be one of the operand columns
+	 * @param <S>
+	 *            the scale metrics type
+	 * @throws IllegalArgumentException
+	 *             if the columns have different lengths, or if the scale of
+	 *             {@code arith} differs from the column scale
+	 * @throws ArithmeticException
+	 *             if {@code arith} is checked and an operation overflows, or
+	 *             if rounding is necessary with
+	 *             {@link java.math.RoundingMode#UNNECESSARY UNNECESSARY}
+	 *             rounding
+	 */
+	public static <S extends ScaleMetrics> void multiply(DecimalArithmetic arith, DecimalColumn<S> a,
+			DecimalColumn<S> b, DecimalColumn<S> result) {
+		checkOperands(arith, a, b, result);
+		final long length = a.length();
+		for (long i = 0; i < length; i++) {
+			result.setUnscaled(i, arith.multiply(a.getUnscaled(i), b.getUnscaled(i)));
+		}
+	}
+
+	/**
+	 * Assigns {@code result[i] = a[i] / b[i]} for every index {@code i}.
+	 * 
+	 * @param arith
+	 *            the arithmetic defining rounding and overflow mode
+	 * @param a
+	 *            the dividend column
+	 * @param b
+	 *            the divisor column
+	 * @param result
+	 *            the result column, can be one of the operand columns
+	 * @param <S>
+	 *            the scale metrics type
+	 * @throws IllegalArgumentException
+	 *             if the columns have different lengths, or if the scale of
+	 *             {@code arith} differs from the column scale
+	 * @throws ArithmeticException
+	 *             if a divisor is zero, if {@code arith} is checked and an
+	 *             operation overflows, or if rounding is necessary with
+	 *             {@link java.math.RoundingMode#UNNECESSARY UNNECESSARY}
+	 *             rounding
+	 */
+	public static <S extends ScaleMetrics> void divide(DecimalArithmetic arith, DecimalColumn<S> a,
+			DecimalColumn<S> b, DecimalColumn<S> result) {
+		checkOperands(arith, a, b, result);
+		final long length = a.length();
+		for (long i = 0; i < length; i++) {
+			result.setUnscaled(i, arith.divide(a.getUnscaled(i), b.getUnscaled(i)));
+		}
+	}
+
+	/**
+	 * Assigns {@code result[i] = operator(a[i], b[i])} for every index
+	 * {@code i}, for instance with a method reference to a
+	 * {@link DecimalArithmetic} method such as {@code arith::avg}.
+	 * 
+	 * @param operator
+	 *            the operator applied to the unscaled operand values
+	 * @param a
+	 *            the first operand column
+	 * @param b
+	 *            the second operand column
+	 * @param result
+	 *            the result column, can be one of the operand columns
+	 * @param <S>
+	 *            the scale metrics type
+	 * @throws IllegalArgumentException
+	 *             if the columns have different lengths
+	 */
+	public static <S extends ScaleMetrics> void apply(LongBinaryOperator operator, DecimalColumn<S> a,
+			DecimalColumn<S> b, DecimalColumn<S> result) {
+		checkLengths(a, b, result);
+		final long length = a.length();
+		for (long i = 0; i < length; i++) {
+			result.setUnscaled(i, operator.applyAsLong(a.getUnscaled(i), b.getUnscaled(i)));
+		}
+	}
+
+	private static void checkOperands(DecimalArithmetic arith, DecimalColumn<?> a, DecimalColumn<?> b,
+			DecimalColumn<?> result) {
+		checkScale(arith, a);
+		checkLengths(a, b, result);
+	}
+
+	private static void checkScale(DecimalArithmetic arith, DecimalColumn<?> column) {
+		if (arith.getScale() != column.getScaleMetrics().getScale()) {
+			throw new IllegalArgumentException("Arithmetic must have scale " + column.getScaleMetrics().getScale()
+					+ " but has scale " + arith.getScale());
+		}
+	}
+
+	private static void checkLengths(DecimalColumn<?> a, DecimalColumn<?> b, DecimalColumn<?> result) {
+		if (a.length() != b.length() | a.length() != result.length()) {
+			throw new IllegalArgumentException("Column lengths must be equal but a.length=" + a.length()
+					+ ", b.length=" + b.length() + ", result.length=" + result.length());
+		}
+	}
+
+	// no instances
+	private DecimalColumns() {
+		super();
+	}
+}
@@ -0,0 +1,55 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2023 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.factory;
+
+/**
+ * Holds the default BigDecimal caching setting read from the system property
+ * {@value #SYSTEM_PROPERTY} when this class is initialized. The class is
+ * initialized on first use, and at run time in native images.
+ * 
+ * @see DecimalFactory#isBigDecimalCacheEnabled()
+ */
+final class BigDecimalCache {
+
+	/** System property to enable BigDecimal caching of immutable values */
+	static final String SYSTEM_PROPERTY = "decimal4j.bigDecimalCache";
+
+	/** True if BigDecimal caching is enabled by default */
+	private static final boolean ENABLED = Boolean.getBoolean(SYSTEM_PROPERTY);
+
+	/**
+	 * Returns the default BigDecimal caching setting for factories whose
+	 * setting has not been changed.
+	 * 
+	 * @return the value of the system property {@value #SYSTEM_PROPERTY}
+	 */
+	static boolean isEnabledByDefault() {
+		return ENABLED;
+	}
+
+	// no instances
+	private BigDecimalCache() {
+		super();
+	}
+}
@@ -71,6 +71,45 @@ public interface DecimalFactory<S extends ScaleMetrics> {
 	 */
 	Class<? extends MutableDecimal<S>> mutableType();
 
+	/**
+	 * Returns true if immutable Decimal values created by this factory cache
+	 * their {@link ImmutableDecimal#toBigDecimal() BigDecimal} representation
+	 * when it is first computed. BigDecimal caching is disabled by default.
+	 * The default can be changed with the system property
+	 * {@code -Ddecimal4j.bigDecimalCache=true}, and the setting of an
+	 * individual factory with {@link #setBigDecimalCacheEnabled(boolean)}.
+	 * The setting is read whenever a BigDecimal is not yet cached.
+	 * <p>
+	 * Caching does not add a field to immutable values: the cached BigDecimal
+	 * shares the field of the cached {@link ImmutableDecimal#toString() String}
+	 * representation, and a holder object of 24 bytes is allocated for values
+	 * converted to both.
+	 * <p>
+	 * The default implementation returns the default setting given by the
+	 * system property.
+	 * 
+	 * @return true if the BigDecimal representation of immutable values is
+	 *         cached
+	 * @see #setBigDecimalCacheEnabled(boolean)
+	 */
+	default boolean isBigDecimalCacheEnabled() {
+		return BigDecimalCache.isEnabledByDefault();
+	}
+
+	/**
+	 * Enables or disables caching of the {@link ImmutableDecimal#toBigDecimal()
+	 * BigDecimal} representation of immutable Decimal values created by this
+	 * factory, overriding the default given by the system property
+	 * {@code decimal4j.bigDecimalCache}. Representations cached before
+	 * disabling the cache are kept.
+	 * 
+	 * @param enabled
+	 *            true to cache the BigDecimal representation of immutable
+	 *            values created by this factory
+	 * @see #isBigDecimalCacheEnabled()
+	 */
+	void setBigDecimalCacheEnabled(boolean enabled);
+
 	/**
 	 * Returns a factory for the given {@code scale}.
 	 * 
@@ -288,7 +327,7 @@ public interface DecimalFactory<S extends ScaleMetrics> {
 	 * immutable {@code Decimal}. The string representation consists of an
 	 * optional sign, {@code '+'} or {@code '-'} , followed by a sequence of
 	 * zero or more decimal digits ("the integer"), optionally followed by a
-	 * fraction.
+	 * fraction and an exponent.
 	 * <p>
 	 * The fraction consists of a decimal point followed by zero or more decimal
 	 * digits. The string must contain at least one digit in either the integer
@@ -297,6 +336,12 @@ public interface DecimalFactory<S extends ScaleMetrics> {
 	 * {@link RoundingMode#HALF_UP HALF_UP} rounding. An exception is thrown if
 	 * the value is too large to be represented as a Decimal of this factory's
 	 * scale.
+	 * <p>
+	 * The exponent consists of the character {@code 'e'} or {@code 'E'}
+	 * followed by an optionally signed integer. The value is multiplied by ten
+	 * raised to the power of the exponent before rounding is applied, for
+	 * instance "1.25E+3" and "1250" represent the same value, and so do "5e-4"
+	 * and "0.0005".
 	 *
 	 * @param value
 	 *            String value to convert into an immutable Decimal value of
@@ -314,7 +359,7 @@ public interface DecimalFactory<S extends ScaleMetrics> {
 	 * immutable {@code Decimal}. The string representation consists of an
 	 * optional sign, {@code '+'} or {@code '-'} , followed by a sequence of
 	 * zero or more decimal digits ("the integer"), optionally followed by a
-	 * fraction.
+	 * fraction and an exponent.
 	 * <p>
 	 * The fraction consists of a decimal point followed by zero or more decimal
 	 * digits. The string must contain at least one digit in either the integer
@@ -322,6 +367,12 @@ public interface DecimalFactory<S extends ScaleMetrics> {
 	 * {@link #getScale() scale}, the value is rounded using the specified
 	 * {@code roundingMode}. An exception is thrown if the value is too large to
 	 * be represented as a Decimal of this factory's scale.
+	 * <p>
+	 * The exponent consists of the character {@code 'e'} or {@code 'E'}
+	 * followed by an optionally signed integer. The value is multiplied by ten
+	 * raised to the power of the exponent before rounding is applied, for
+	 * instance "1.25E+3" and "1250" represent the same value, and so do "5e-4"
+	 * and "0.0005".
 	 *
 	 * @param value
 	 *            String value to convert into an immutable Decimal value of
@@ -23,11 +23,12 @@
  */
 package org.decimal4j.factory;
 
-import java.util.Arrays;
-import java.util.Collections;
+import java.util.AbstractList;
 import java.util.List;
+import java.util.RandomAccess;
 
 import org.decimal4j.scale.ScaleMetrics;
+import org.decimal4j.scale.Scales;
 import org.decimal4j.factory.Factory0f;
 import org.decimal4j.factory.Factory10f;
 import org.decimal4j.factory.Factory11f;
@@ -54,46 +55,29 @@ import org.decimal4j.generic.GenericDecimalFactory;
  */
 public final class Factories {
 
-	//@formatter:off
-	private static final DecimalFactory<?>[] FACTORIES = {
-		Factory0f.INSTANCE,
-		Factory1f.INSTANCE,
-		Factory2f.INSTANCE,
-		Factory3f.INSTANCE,
-		Factory4f.INSTANCE,
-		Factory5f.INSTANCE,
-		Factory6f.INSTANCE,
-		Factory7f.INSTANCE,
-		Factory8f.INSTANCE,
-		Factory9f.INSTANCE,
-		Factory10f.INSTANCE,
-		Factory11f.INSTANCE,
-		Factory12f.INSTANCE,
-		Factory13f.INSTANCE,
-		Factory14f.INSTANCE,
-		Factory15f.INSTANCE,
-		Factory16f.INSTANCE,
-		Factory17f.INSTANCE,
-		Factory18f.INSTANCE
-	};
-	//@formatter:on
-	
-	private static final GenericDecimalFactory<?>[] GENERIC_FACTORIES = initGenericFactories();
-
-	private static final GenericDecimalFactory<?>[] initGenericFactories() {
-		final GenericDecimalFactory<?>[] genericFactories = new GenericDecimalFactory<?>[FACTORIES.length];
-		for (int i = 0; i < FACTORIES.length; i++) {
-			genericFactories[i] = new GenericDecimalFactory<ScaleMetrics>(FACTORIES[i].getScaleMetrics());
-		}
-		return genericFactories;
-	}
-
 	/**
 	 * All decimal factory constants in an immutable ordered list:
 	 * <br>
 	 * {@code VALUES=[Factory0f.INSTANCE, Factory1f.INSTANCE, ..., Factory18f.INSTANCE]}
+	 * <p>
+	 * The factory classes are initialized on first access of the respective list element.
 	 */
-	public static final List<DecimalFactory<?>> VALUES = Collections.unmodifiableList(Arrays.asList(FACTORIES));
+	public static final List<DecimalFactory<?>> VALUES = new FactoryList();
+
+	/**
+	 * Holder for the generic factories, initialized on first use.
+	 */
+	private static final class GenericFactories {
+		private static final GenericDecimalFactory<?>[] GENERIC_FACTORIES = initGenericFactories();
+
+		private static final GenericDecimalFactory<?>[] initGenericFactories() {
+			final GenericDecimalFactory<?>[] genericFactories = new GenericDecimalFactory<?>[VALUES.size()];
+			for (int i = 0; i < genericFactories.length; i++) {
+				genericFactories[i] = new GenericDecimalFactory<ScaleMetrics>(Scales.getScaleMetrics(i));
+			}
+			return genericFactories;
+		}
+	}
 
 	/**
 	 * Returns the {@code DecimalFactory} constant based on a given scale.
@@ -105,8 +89,47 @@ public final class Factories {
 	 *             if scale is not in {@code [0, 18]}
 	 */
 	public static final DecimalFactory<?> getDecimalFactory(int scale) {
-		if (0 <= scale & scale <= 18) {
-			return FACTORIES[scale];
+		switch (scale) {
+		case 0:
+			return Factory0f.INSTANCE;
+		case 1:
+			return Factory1f.INSTANCE;
+		case 2:
+			return Factory2f.INSTANCE;
+		case 3:
+			return Factory3f.INSTANCE;
+		case 4:
+			return Factory4f.INSTANCE;
+		case 5:
+			return Factory5f.INSTANCE;
+		case 6:
+			return Factory6f.INSTANCE;
+		case 7:
+			return Factory7f.INSTANCE;
+		case 8:
+			return Factory8f.INSTANCE;
+		case 9:
+			return Factory9f.INSTANCE;
+		case 10:
+			return Factory10f.INSTANCE;
+		case 11:
+			return Factory11f.INSTANCE;
+		case 12:
+			return Factory12f.INSTANCE;
+		case 13:
+			return Factory13f.INSTANCE;
+		case 14:
+			return Factory14f.INSTANCE;
+		case 15:
+			return Factory15f.INSTANCE;
+		case 16:
+			return Factory16f.INSTANCE;
+		case 17:
+			return Factory17f.INSTANCE;
+		case 18:
+			return Factory18f.INSTANCE;
+		default:
+			break;
 		}
 		throw new IllegalArgumentException("Illegal scale, must be in [0,18] but was: " + scale);
 	}
@@ -136,7 +159,7 @@ public final class Factories {
 	 */
 	public static final GenericDecimalFactory<?> getGenericDecimalFactory(int scale) {
 		if (0 <= scale & scale <= 18) {
-			return GENERIC_FACTORIES[scale];
+			return GenericFactories.GENERIC_FACTORIES[scale];
 		}
 		throw new IllegalArgumentException("Illegal scale, must be in [0,18] but was: " + scale);
 	}
@@ -155,6 +178,24 @@ public final class Factories {
 		return factory;
 	}
 
+	/**
+	 * Immutable list view resolving the factory constants on access.
+	 */
+	private static final class FactoryList extends AbstractList<DecimalFactory<?>> implements RandomAccess {
+		@Override
+		public DecimalFactory<?> get(int index) {
+			if (0 <= index & index <= 18) {
+				return getDecimalFactory(index);
+			}
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+		}
+
+		@Override
+		public int size() {
+			return 19;
+		}
+	}
+
 	//no instances
 	private Factories() {
 		super();
@@ -0,0 +1,267 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2023 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.flyweight;
+
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Objects;
+
+import org.decimal4j.api.Decimal;
+import org.decimal4j.api.ImmutableDecimal;
+import org.decimal4j.base.AbstractDecimal;
+import org.decimal4j.factory.Factories;
+import org.decimal4j.generic.GenericDecimalFactory;
+import org.decimal4j.generic.GenericImmutableDecimal;
+import org.decimal4j.generic.GenericMutableDecimal;
+import org.decimal4j.scale.ScaleMetrics;
+
+/**
+ * Base class for flyweight {@link Decimal} values whose unscaled value is
+ * stored in memory accessed through a {@link MemoryAccessor}. The unscaled
+ * value is read lazily on every access from the 8 bytes at the
+ * {@link #getIndex() index} the flyweight is {@link #wrap(MemoryAccessor, int)
+ * wrapped} around. The same flyweight instance can be re-wrapped to access
+ * decimal fields at other locations without allocation.
+ * <p>
+ * Operations that change the scale of the value such as {@link #scale(int)} and
+ * {@link #multiplyExact(Decimal)} return immutable values.
+ * <p>
+ * Flyweights are not thread safe. Serialization writes an immutable copy of
+ * the current value.
+ * 
+ * @param <S>
+ *            the scale metrics type associated with this decimal
+ * @param <D>
+ *            the concrete class returned by operations of this decimal
+ */
+@SuppressWarnings("serial")
+abstract public class AbstractDecimalFlyweight<S extends ScaleMetrics, D extends AbstractDecimal<S, D>>
+		extends AbstractDecimal<S, D> {
+
+	private final S scaleMetrics;
+	private final ByteOrder byteOrder;
+	private MemoryAccessor memory;
+	private int index;
+	private ByteBufferAccessor bufferAccessor;
+
+	/**
+	 * Constructor with scale metrics and byte order of the stored unscaled
+	 * value. The flyweight has to be {@link #wrap(MemoryAccessor, int) wrapped}
+	 * before it can be used.
+	 * 
+	 * @param scaleMetrics
+	 *            the metrics object defining the scale of the decimal values
+	 * @param byteOrder
+	 *            the byte order of the unscaled values stored in memory
+	 */
+	protected AbstractDecimalFlyweight(S scaleMetrics, ByteOrder byteOrder) {
+		this.scaleMetrics = Objects.requireNonNull(scaleMetrics, "scaleMetrics cannot be null");
+		this.byteOrder = Objects.requireNonNull(byteOrder, "byteOrder cannot be null");
+	}
+
+	/**
+	 * Points this flyweight at the unscaled value stored at the given byte
+	 * index of the specified memory.
+	 * 
+	 * @param memory
+	 *            the memory accessor to read and write the unscaled value
+	 * @param index
+	 *            the byte index of the unscaled value
+	 * @return this flyweight
+	 * @throws IndexOutOfBoundsException
+	 *             if {@code index} is negative or if there are less than 8
+	 *             bytes available in {@code memory} starting at {@code index}
+	 */
+	public AbstractDecimalFlyweight<S, D> wrap(MemoryAccessor memory, int index) {
+		Objects.requireNonNull(memory, "memory cannot be null");
+		if (index < 0 | index > memory.capacity() - Long.BYTES) {
+			throw new IndexOutOfBoundsException(
+					"Index " + index + " out of bounds for memory of capacity " + memory.capacity());
+		}
+		this.memory = memory;
+		this.index = index;
+		return this;
+	}
+
+	/**
+	 * Points this flyweight at the unscaled value stored at the given byte
+	 * index of the specified buffer. The {@link ByteBufferAccessor} created for
+	 * the buffer is reused by subsequent calls with the same buffer instance,
+	 * hence re-wrapping a flyweight within the same buffer does not allocate.
+	 * 
+	 * @param buffer
+	 *            the buffer to read and write the unscaled value
+	 * @param index
+	 *            the byte index of the unscaled value
+	 * @return this flyweight
+	 * @throws IndexOutOfBoundsException
+	 *             if {@code index} is negative or if there are less than 8
+	 *             bytes available in {@code buffer} starting at {@code index}
+	 */
+	public AbstractDecimalFlyweight<S, D> wrap(ByteBuffer buffer, int index) {
+		ByteBufferAccessor accessor = bufferAccessor;
+		if (accessor == null || accessor.getBuffer() != buffer) {
+			accessor = new ByteBufferAccessor(buffer);
+			bufferAccessor = accessor;
+		}
+		return wrap(accessor, index);
+	}
+
+	/**
+	 * Points this flyweight at the unscaled value stored at the given byte
+	 * index of the currently wrapped memory.
+	 * 
+	 * @param index
+	 *            the byte index of the unscaled value
+	 * @return this flyweight
+	 * @throws IllegalStateException
+	 *             if this flyweight has not been wrapped yet
+	 * @throws IndexOutOfBoundsException
+	 *             if {@code index} is negative or if there are less than 8
+	 *             bytes available in memory starting at {@code index}
+	 */
+	public AbstractDecimalFlyweight<S, D> moveTo(int index) {
+		if (memory == null) {
+			throw new IllegalStateException("Flyweight has not been wrapped");
+		}
+		return wrap(memory, index);
+	}
+
+	/**
+	 * Returns the memory accessor this flyweight is wrapped around, or null if
+	 * it has not been wrapped yet.
+	 * 
+	 * @return the memory accessor of this flyweight
+	 */
+	public MemoryAccessor getMemory() {
+		return memory;
+	}
+
+	/**
+	 * Returns the byte index of the unscaled value in memory.
+	 * 
+	 * @return the index of the unscaled value
+	 */
+	public int getIndex() {
+		return index;
+	}
+
+	/**
+	 * Returns the byte order of the unscaled value stored in memory.
+	 * 
+	 * @return the byte order used to read and write the unscaled value
+	 */
+	public ByteOrder getByteOrder() {
+		return byteOrder;
+	}
+
+	/**
+	 * Returns the unscaled value read from memory.
+	 * 
+	 * @return the unscaled value currently stored at the {@link #getIndex()
+	 *         index} of the wrapped memory
+	 * @throws NullPointerException
+	 *             if this flyweight has not been wrapped yet
+	 */
+	@Override
+	public long unscaledValue() {
+		return memory.getLong(index, byteOrder);
+	}
+
+	/**
+	 * Writes the given unscaled value to memory.
+	 * 
+	 * @param unscaled
+	 *            the unscaled value to store at the {@link #getIndex() index}
+	 *            of the wrapped memory
+	 * @throws NullPointerException
+	 *             if this flyweight has not been wrapped yet
+	 */
+	protected void writeUnscaled(long unscaled) {
+		memory.putLong(index, unscaled, byteOrder);
+	}
+
+	@Override
+	public S getScaleMetrics() {
+		return scaleMetrics;
+	}
+
+	@Override
+	public int getScale() {
+		return scaleMetrics.getScale();
+	}
+
+	@Override
+	public GenericDecimalFactory<S> getFactory() {
+		return Factories.getGenericDecimalFactory(scaleMetrics);
+	}
+
+	@Override
+	public ImmutableDecimal<?> scale(int scale) {
+		return toImmutableDecimal().scale(scale);
+	}
+
+	@Override
+	@SuppressWarnings("hiding")
+	public <S extends ScaleMetrics> ImmutableDecimal<S> scale(S scaleMetrics) {
+		return toImmutableDecimal().scale(scaleMetrics);
+	}
+
+	@Override
+	public ImmutableDecimal<?> scale(int scale, RoundingMode roundingMode) {
+		return toImmutableDecimal().scale(scale, roundingMode);
+	}
+
+	@Override
+	@SuppressWarnings("hiding")
+	public <S extends ScaleMetrics> ImmutableDecimal<S> scale(S scaleMetrics, RoundingMode roundingMode) {
+		return toImmutableDecimal().scale(scaleMetrics, roundingMode);
+	}
+
+	@Override
+	public ImmutableDecimal<?> multiplyExact(Decimal<?> multiplicand) {
+		return toImmutableDecimal().multiplyExact(multiplicand);
+	}
+
+	@Override
+	public GenericImmutableDecimal<S> toImmutableDecimal() {
+		return new GenericImmutableDecimal<S>(scaleMetrics, unscaledValue());
+	}
+
+	@Override
+	public GenericMutableDecimal<S> toMutableDecimal() {
+		return new GenericMutableDecimal<S>(scaleMetrics, unscaledValue());
+	}
+
+	/**
+	 * Replaces this flyweight with an immutable copy of its current value when
+	 * serialized.
+	 * 
+	 * @return an immutable decimal with the current value of this flyweight
+	 */
+	protected Object writeReplace() {
+		return toImmutableDecimal();
+	}
+}
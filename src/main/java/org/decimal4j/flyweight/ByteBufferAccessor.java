@@ -0,0 +1,80 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2023 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.flyweight;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Objects;
+
+/**
+ * {@link MemoryAccessor} for heap or direct {@link ByteBuffer} instances.
+ * Values are accessed with absolute get and put operations; neither the
+ * position nor the {@link ByteBuffer#order() byte order} of the buffer is
+ * changed. Values stored in a byte order different from the buffer order are
+ * reversed with {@link Long#reverseBytes(long)}.
+ */
+public final class ByteBufferAccessor implements MemoryAccessor {
+
+	private final ByteBuffer buffer;
+
+	/**
+	 * Constructor with buffer to access.
+	 * 
+	 * @param buffer
+	 *            the buffer to read from and write to
+	 */
+	public ByteBufferAccessor(ByteBuffer buffer) {
+		this.buffer = Objects.requireNonNull(buffer, "buffer cannot be null");
+	}
+
+	/**
+	 * Returns the underlying byte buffer.
+	 * 
+	 * @return the buffer accessed by this accessor
+	 */
+	public ByteBuffer getBuffer() {
+		return buffer;
+	}
+
+	@Override
+	public int capacity() {
+		return buffer.capacity();
+	}
+
+	@Override
+	public long getLong(int index, ByteOrder byteOrder) {
+		final long value = buffer.getLong(index);
+		return buffer.order() == byteOrder ? value : Long.reverseBytes(value);
+	}
+
+	@Override
+	public void putLong(int index, long value, ByteOrder byteOrder) {
+		buffer.putLong(index, buffer.order() == byteOrder ? value : Long.reverseBytes(value));
+	}
+
+	@Override
+	public String toString() {
+		return "ByteBufferAccessor[" + buffer + "]";
+	}
+}
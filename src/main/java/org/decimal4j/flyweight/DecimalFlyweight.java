@@ -0,0 +1,123 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2023 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.flyweight;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import org.decimal4j.generic.GenericImmutableDecimal;
+import org.decimal4j.scale.ScaleMetrics;
+
+/**
+ * Read-only flyweight {@link org.decimal4j.api.Decimal Decimal} reading its
+ * unscaled value from memory, for instance a decimal field of a binary
+ * message. The flyweight is re-pointed to other fields or messages via
+ * {@link #wrap(MemoryAccessor, int) wrap(..)} and {@link #moveTo(int)}
+ * without copying the value into a new decimal object.
+ * <p>
+ * The flyweight never writes to memory; arithmetic operations return
+ * {@link GenericImmutableDecimal} values. To write results back to memory
+ * use a {@link MutableDecimalFlyweight}, or a
+ * {@link org.decimal4j.api.DecimalArithmetic DecimalArithmetic} with the
+ * unscaled values of the operands as in
+ * <pre>
+ * target.setUnscaled(arith.multiply(price.unscaledValue(), quantity.unscaledValue()));
+ * </pre>
+ * Note that the value returned by operations that return the operand itself
+ * for immutable decimals is an immutable copy of the flyweight value at the
+ * time of the operation.
+ * 
+ * @param <S>
+ *            the scale metrics type associated with this decimal
+ */
+public final class DecimalFlyweight<S extends ScaleMetrics>
+		extends AbstractDecimalFlyweight<S, GenericImmutableDecimal<S>> {
+
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * Creates a new flyweight for unscaled values stored in
+	 * {@link ByteOrder#BIG_ENDIAN BIG_ENDIAN} byte order. The flyweight has to
+	 * be {@link #wrap(MemoryAccessor, int) wrapped} before it can be used.
+	 * 
+	 * @param scaleMetrics
+	 *            the metrics object defining the scale of the decimal values
+	 */
+	public DecimalFlyweight(S scaleMetrics) {
+		this(scaleMetrics, ByteOrder.BIG_ENDIAN);
+	}
+
+	/**
+	 * Creates a new flyweight for unscaled values stored in the given byte
+	 * order. The flyweight has to be {@link #wrap(MemoryAccessor, int) wrapped}
+	 * before it can be used.
+	 * 
+	 * @param scaleMetrics
+	 *            the metrics object defining the scale of the decimal values
+	 * @param byteOrder
+	 *            the byte order of the unscaled values stored in memory
+	 */
+	public DecimalFlyweight(S scaleMetrics, ByteOrder byteOrder) {
+		super(scaleMetrics, byteOrder);
+	}
+
+	@Override
+	public DecimalFlyweight<S> wrap(MemoryAccessor memory, int index) {
+		super.wrap(memory, index);
+		return this;
+	}
+
+	@Override
+	public DecimalFlyweight<S> wrap(ByteBuffer buffer, int index) {
+		super.wrap(buffer, index);
+		return this;
+	}
+
+	@Override
+	public DecimalFlyweight<S> moveTo(int index) {
+		super.moveTo(index);
+		return this;
+	}
+
+	@Override
+	protected GenericImmutableDecimal<S> createOrAssign(long unscaled) {
+		return new GenericImmutableDecimal<S>(getScaleMetrics(), unscaled);
+	}
+
+	@Override
+	protected GenericImmutableDecimal<S> create(long unscaled) {
+		return new GenericImmutableDecimal<S>(getScaleMetrics(), unscaled);
+	}
+
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	@Override
+	protected GenericImmutableDecimal<S>[] createArray(int length) {
+		return new GenericImmutableDecimal[length];
+	}
+
+	@Override
+	protected GenericImmutableDecimal<S> self() {
+		return toImmutableDecimal();
+	}
+}
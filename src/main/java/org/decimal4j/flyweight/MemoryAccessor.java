@@ -0,0 +1,72 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2023 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.flyweight;
+
+import java.nio.ByteOrder;
+
+/**
+ * Accessor for {@code long} values stored in memory at a byte index. The
+ * interface is implemented by {@link ByteBufferAccessor} and can be
+ * implemented for other memory abstractions such as direct or memory mapped
+ * buffers of messaging libraries.
+ */
+public interface MemoryAccessor {
+	/**
+	 * Returns the capacity of the memory in bytes.
+	 * 
+	 * @return the number of bytes that can be accessed
+	 */
+	int capacity();
+
+	/**
+	 * Reads and returns the long value stored at the given byte index.
+	 * 
+	 * @param index
+	 *            the byte index of the first byte of the value
+	 * @param byteOrder
+	 *            the byte order of the stored value
+	 * @return the long value stored at {@code index}
+	 * @throws IndexOutOfBoundsException
+	 *             if {@code index} is negative or not smaller than the capacity
+	 *             minus seven
+	 */
+	long getLong(int index, ByteOrder byteOrder);
+
+	/**
+	 * Writes the given long value at the specified byte index.
+	 * 
+	 * @param index
+	 *            the byte index of the first byte of the value
+	 * @param value
+	 *            the value to write
+	 * @param byteOrder
+	 *            the byte order used to store the value
+	 * @throws IndexOutOfBoundsException
+	 *             if {@code index} is negative or not smaller than the capacity
+	 *             minus seven
+	 * @throws java.nio.ReadOnlyBufferException
+	 *             if the memory is read-only
+	 */
+	void putLong(int index, long value, ByteOrder byteOrder);
+}
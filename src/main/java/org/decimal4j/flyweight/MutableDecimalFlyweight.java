@@ -0,0 +1,165 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2023 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.flyweight;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import org.decimal4j.api.Decimal;
+import org.decimal4j.scale.ScaleMetrics;
+
+/**
+ * Mutable flyweight {@link Decimal} reading its unscaled value from and
+ * writing it through to memory, for instance a decimal field of a binary
+ * message. Arithmetic operations such as {@link #add(Decimal)} assign the
+ * result to memory and return {@code this} flyweight; no object is allocated
+ * for the result.
+ * <p>
+ * Results of a {@link org.decimal4j.api.DecimalArithmetic DecimalArithmetic}
+ * can be written with {@link #setUnscaled(long)}, for instance
+ * <pre>
+ * notional.setUnscaled(arith.multiply(price.unscaledValue(), quantity.unscaledValue()));
+ * </pre>
+ * Operations returning more than one value such as
+ * {@link #divideAndRemainder(Decimal)} return flyweights over newly allocated
+ * heap memory.
+ * 
+ * @param <S>
+ *            the scale metrics type associated with this decimal
+ */
+public final class MutableDecimalFlyweight<S extends ScaleMetrics>
+		extends AbstractDecimalFlyweight<S, MutableDecimalFlyweight<S>> {
+
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * Creates a new flyweight for unscaled values stored in
+	 * {@link ByteOrder#BIG_ENDIAN BIG_ENDIAN} byte order. The flyweight has to
+	 * be {@link #wrap(MemoryAccessor, int) wrapped} before it can be used.
+	 * 
+	 * @param scaleMetrics
+	 *            the metrics object defining the scale of the decimal values
+	 */
+	public MutableDecimalFlyweight(S scaleMetrics) {
+		this(scaleMetrics, ByteOrder.BIG_ENDIAN);
+	}
+
+	/**
+	 * Creates a new flyweight for unscaled values stored in the given byte
+	 * order. The flyweight has to be {@link #wrap(MemoryAccessor, int) wrapped}
+	 * before it can be used.
+	 * 
+	 * @param scaleMetrics
+	 *            the metrics object defining the scale of the decimal values
+	 * @param byteOrder
+	 *            the byte order of the unscaled values stored in memory
+	 */
+	public MutableDecimalFlyweight(S scaleMetrics, ByteOrder byteOrder) {
+		super(scaleMetrics, byteOrder);
+	}
+
+	@Override
+	public MutableDecimalFlyweight<S> wrap(MemoryAccessor memory, int index) {
+		super.wrap(memory, index);
+		return this;
+	}
+
+	@Override
+	public MutableDecimalFlyweight<S> wrap(ByteBuffer buffer, int index) {
+		super.wrap(buffer, index);
+		return this;
+	}
+
+	@Override
+	public MutableDecimalFlyweight<S> moveTo(int index) {
+		super.moveTo(index);
+		return this;
+	}
+
+	/**
+	 * Writes the given unscaled value to memory and returns this flyweight now
+	 * representing <code>(unscaled &times; 10<sup>-scale</sup>)</code>.
+	 * 
+	 * @param unscaled
+	 *            the unscaled value to write
+	 * @return this flyweight
+	 * @throws NullPointerException
+	 *             if this flyweight has not been wrapped yet
+	 */
+	public MutableDecimalFlyweight<S> setUnscaled(long unscaled) {
+		writeUnscaled(unscaled);
+		return this;
+	}
+
+	/**
+	 * Writes the unscaled value of the given decimal to memory and returns this
+	 * flyweight.
+	 * 
+	 * @param value
+	 *            the value to write
+	 * @return this flyweight
+	 * @throws NullPointerException
+	 *             if {@code value} is null or if this flyweight has not been
+	 *             wrapped yet
+	 */
+	public MutableDecimalFlyweight<S> set(Decimal<S> value) {
+		writeUnscaled(value.unscaledValue());
+		return this;
+	}
+
+	/**
+	 * Writes zero to memory and returns this flyweight.
+	 * 
+	 * @return this flyweight
+	 * @throws NullPointerException
+	 *             if this flyweight has not been wrapped yet
+	 */
+	public MutableDecimalFlyweight<S> setZero() {
+		writeUnscaled(0);
+		return this;
+	}
+
+	@Override
+	protected MutableDecimalFlyweight<S> createOrAssign(long unscaled) {
+		writeUnscaled(unscaled);
+		return this;
+	}
+
+	@Override
+	protected MutableDecimalFlyweight<S> create(long unscaled) {
+		final MutableDecimalFlyweight<S> result = new MutableDecimalFlyweight<S>(getScaleMetrics(), getByteOrder());
+		return result.wrap(ByteBuffer.allocate(Long.BYTES), 0).setUnscaled(unscaled);
+	}
+
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	@Override
+	protected MutableDecimalFlyweight<S>[] createArray(int length) {
+		return new MutableDecimalFlyweight[length];
+	}
+
+	@Override
+	protected MutableDecimalFlyweight<S> self() {
+		return this;
+	}
+}
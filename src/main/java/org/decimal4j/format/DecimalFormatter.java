@@ -0,0 +1,567 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2023 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.format;
+
+import java.io.IOException;
+import java.math.RoundingMode;
+import java.util.Objects;
+
+import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.arithmetic.UnscaledParser;
+import org.decimal4j.scale.Scales;
+import org.decimal4j.truncate.DecimalRounding;
+
+/**
+ * Formats unscaled decimal values of a given {@link DecimalArithmetic} with a configurable number of fraction
+ * digits, rounding, grouping, sign style and padding. The formatted value is written into a {@code char} array, a
+ * {@code byte} array or an {@link Appendable} without allocating intermediate objects such as {@code String} or
+ * {@code BigDecimal}.
+ * <p>
+ * A formatter is immutable; the {@code withXXX(..)} methods return a new formatter with the modified setting:
+ * 
+ * <pre>
+ * DecimalFormatter formatter = new DecimalFormatter(Scale6f.INSTANCE.getDefaultArithmetic())
+ * 		.withFractionDigits(2, 4).withGroupingSeparator(',').withWidth(16, ' ');
+ * formatter.format(1234567500000L, appendable); // appends "    1,234,567.50"
+ * </pre>
+ * 
+ * Instances can safely be shared by multiple threads.
+ */
+public final class DecimalFormatter {
+
+	/**
+	 * Number of digits per group if a grouping separator is used.
+	 */
+	private static final int GROUPING_SIZE = 3;
+
+	/**
+	 * Maximum length of a formatted value without padding: sign prefix and suffix, 19 integer digits with 6 grouping
+	 * separators, decimal separator and 18 fraction digits.
+	 */
+	private static final int BUFFER_LENGTH = 2 + 19 + 6 + 1 + Scales.MAX_SCALE;
+
+	/**
+	 * Thread-local buffer holding the digits of the formatted value.
+	 */
+	private static final ThreadLocal<char[]> BUFFER_THREAD_LOCAL = new ThreadLocal<char[]>() {
+		@Override
+		protected char[] initialValue() {
+			return new char[BUFFER_LENGTH];
+		}
+	};
+
+	private final DecimalArithmetic arithmetic;
+	private final int minFractionDigits;
+	private final int maxFractionDigits;
+	private final DecimalRounding rounding;
+	private final char decimalSeparator;
+	private final char groupingSeparator;
+	private final SignStyle signStyle;
+	private final int width;
+	private final char padChar;
+
+	/**
+	 * Creates a formatter for the given arithmetic. The formatter writes all {@link DecimalArithmetic#getScale()
+	 * scale} fraction digits using '.' as decimal separator, no grouping separator and a minus sign for negative
+	 * values. The output has no padding.
+	 * 
+	 * @param arithmetic
+	 *            the arithmetic defining the scale of the values to format
+	 * @throws NullPointerException
+	 *             if arithmetic is null
+	 */
+	public DecimalFormatter(DecimalArithmetic arithmetic) {
+		this(Objects.requireNonNull(arithmetic, "arithmetic cannot be null"), arithmetic.getScale(),
+				arithmetic.getScale(), DecimalRounding.valueOf(arithmetic.getRoundingMode()), '.', (char) 0,
+				SignStyle.NEGATIVE, 0, ' ');
+	}
+
+	private DecimalFormatter(DecimalArithmetic arithmetic, int minFractionDigits, int maxFractionDigits,
+			DecimalRounding rounding, char decimalSeparator, char groupingSeparator, SignStyle signStyle, int width,
+			char padChar) {
+		this.arithmetic = arithmetic;
+		this.minFractionDigits = minFractionDigits;
+		this.maxFractionDigits = maxFractionDigits;
+		this.rounding = rounding;
+		this.decimalSeparator = decimalSeparator;
+		this.groupingSeparator = groupingSeparator;
+		this.signStyle = signStyle;
+		this.width = width;
+		this.padChar = padChar;
+	}
+
+	/**
+	 * Returns a formatter writing exactly the given number of fraction digits. Values with more fraction digits are
+	 * rounded with this formatter's {@link #getRoundingMode() rounding mode}, values with less fraction digits are
+	 * padded with trailing zeros.
+	 * 
+	 * @param fractionDigits
+	 *            the number of fraction digits, in {@code [0, 18]}
+	 * @return a formatter with the given number of fraction digits
+	 * @throws IllegalArgumentException
+	 *             if {@code fractionDigits} is not in {@code [0, 18]}
+	 */
+	public DecimalFormatter withFractionDigits(int fractionDigits) {
+		return withFractionDigits(fractionDigits, fractionDigits);
+	}
+
+	/**
+	 * Returns a formatter writing at least {@code minFractionDigits} and at most {@code maxFractionDigits} fraction
+	 * digits. Values with more than {@code maxFractionDigits} fraction digits are rounded with this formatter's
+	 * {@link #getRoundingMode() rounding mode}. Trailing zeros are stripped as long as at least
+	 * {@code minFractionDigits} remain; the decimal separator is omitted if no fraction digits remain.
+	 * 
+	 * @param minFractionDigits
+	 *            the minimum number of fraction digits, in {@code [0, maxFractionDigits]}
+	 * @param maxFractionDigits
+	 *            the maximum number of fraction digits, in {@code [minFractionDigits, 18]}
+	 * @return a formatter with the given minimum and maximum number of fraction digits
+	 * @throws IllegalArgumentException
+	 *             if {@code minFractionDigits < 0} or {@code maxFractionDigits > 18} or if
+	 *             {@code minFractionDigits > maxFractionDigits}
+	 */
+	public DecimalFormatter withFractionDigits(int minFractionDigits, int maxFractionDigits) {
+		if (minFractionDigits < 0 | maxFractionDigits > Scales.MAX_SCALE | minFractionDigits > maxFractionDigits) {
+			throw new IllegalArgumentException("Illegal fraction digits, must be in [0, " + Scales.MAX_SCALE
+					+ "] with min <= max but was [" + minFractionDigits + ", " + maxFractionDigits + "]");
+		}
+		return new DecimalFormatter(arithmetic, minFractionDigits, maxFractionDigits, rounding, decimalSeparator,
+				groupingSeparator, signStyle, width, padChar);
+	}
+
+	/**
+	 * Returns a formatter applying the given rounding mode if a value has more fraction digits than the
+	 * {@link #withFractionDigits(int, int) maximum fraction digits}.
+	 * 
+	 * @param roundingMode
+	 *            the rounding mode to apply
+	 * @return a formatter with the given rounding mode
+	 * @throws NullPointerException
+	 *             if roundingMode is null
+	 */
+	public DecimalFormatter withRoundingMode(RoundingMode roundingMode) {
+		return new DecimalFormatter(arithmetic, minFractionDigits, maxFractionDigits,
+				DecimalRounding.valueOf(Objects.requireNonNull(roundingMode, "roundingMode cannot be null")),
+				decimalSeparator, groupingSeparator, signStyle, width, padChar);
+	}
+
+	/**
+	 * Returns a formatter using the given decimal separator character.
+	 * 
+	 * @param decimalSeparator
+	 *            the character separating integer and fraction digits, for instance '.' or ','
+	 * @return a formatter with the given decimal separator
+	 */
+	public DecimalFormatter withDecimalSeparator(char decimalSeparator) {
+		return new DecimalFormatter(arithmetic, minFractionDigits, maxFractionDigits, rounding, decimalSeparator,
+				groupingSeparator, signStyle, width, padChar);
+	}
+
+	/**
+	 * Returns a formatter separating groups of three integer digits with the given character.
+	 * 
+	 * @param groupingSeparator
+	 *            the thousands separator, for instance ',' or '\u00A0', or zero for no grouping
+	 * @return a formatter with the given grouping separator
+	 */
+	public DecimalFormatter withGroupingSeparator(char groupingSeparator) {
+		return new DecimalFormatter(arithmetic, minFractionDigits, maxFractionDigits, rounding, decimalSeparator,
+				groupingSeparator, signStyle, width, padChar);
+	}
+
+	/**
+	 * Returns a formatter rendering the sign as defined by the given sign style.
+	 * 
+	 * @param signStyle
+	 *            the sign style
+	 * @return a formatter with the given sign style
+	 * @throws NullPointerException
+	 *             if signStyle is null
+	 */
+	public DecimalFormatter withSignStyle(SignStyle signStyle) {
+		return new DecimalFormatter(arithmetic, minFractionDigits, maxFractionDigits, rounding, decimalSeparator,
+				groupingSeparator, Objects.requireNonNull(signStyle, "signStyle cannot be null"), width, padChar);
+	}
+
+	/**
+	 * Returns a formatter padding the output on the left to the given minimum width. If the pad character is '0',
+	 * the zeros are inserted between sign and digits, for instance "-0001.50"; otherwise the padding precedes the
+	 * sign as in "   -1.50". Values longer than {@code width} are written without truncation.
+	 * 
+	 * @param width
+	 *            the minimum number of characters to write, zero for no padding
+	 * @param padChar
+	 *            the character used for padding
+	 * @return a formatter with the given width and pad character
+	 * @throws IllegalArgumentException
+	 *             if {@code width} is negative
+	 */
+	public DecimalFormatter withWidth(int width, char padChar) {
+		if (width < 0) {
+			throw new IllegalArgumentException("Width must not be negative: " + width);
+		}
+		return new DecimalFormatter(arithmetic, minFractionDigits, maxFractionDigits, rounding, decimalSeparator,
+				groupingSeparator, signStyle, width, padChar);
+	}
+
+	/**
+	 * Returns the arithmetic defining the scale of the values formatted by this formatter.
+	 * 
+	 * @return the arithmetic of this formatter
+	 */
+	public DecimalArithmetic getArithmetic() {
+		return arithmetic;
+	}
+
+	/**
+	 * Returns the minimum number of fraction digits.
+	 * 
+	 * @return the minimum number of fraction digits written by this formatter
+	 */
+	public int getMinFractionDigits() {
+		return minFractionDigits;
+	}
+
+	/**
+	 * Returns the maximum number of fraction digits.
+	 * 
+	 * @return the maximum number of fraction digits written by this formatter
+	 */
+	public int getMaxFractionDigits() {
+		return maxFractionDigits;
+	}
+
+	/**
+	 * Returns the rounding mode applied if a value has more fraction digits than {@link #getMaxFractionDigits()}.
+	 * 
+	 * @return the rounding mode of this formatter
+	 */
+	public RoundingMode getRoundingMode() {
+		return rounding.getRoundingMode();
+	}
+
+	/**
+	 * Returns the character separating integer and fraction digits.
+	 * 
+	 * @return the decimal separator
+	 */
+	public char getDecimalSeparator() {
+		return decimalSeparator;
+	}
+
+	/**
+	 * Returns the character separating groups of three integer digits, or zero if no grouping is applied.
+	 * 
+	 * @return the grouping separator or zero for no grouping
+	 */
+	public char getGroupingSeparator() {
+		return groupingSeparator;
+	}
+
+	/**
+	 * Returns the sign style defining how the sign of a value is rendered.
+	 * 
+	 * @return the sign style
+	 */
+	public SignStyle getSignStyle() {
+		return signStyle;
+	}
+
+	/**
+	 * Returns the minimum number of characters written, zero if no padding is applied.
+	 * 
+	 * @return the minimum width of the formatted value
+	 */
+	public int getWidth() {
+		return width;
+	}
+
+	/**
+	 * Returns the character used to pad the formatted value to the {@link #getWidth() width}.
+	 * 
+	 * @return the pad character
+	 */
+	public char getPadChar() {
+		return padChar;
+	}
+
+	/**
+	 * Returns the length of the formatted value including padding.
+	 * 
+	 * @param uDecimal
+	 *            the unscaled value
+	 * @return the number of characters written by the {@code format(..)} methods for the given value
+	 * @throws ArithmeticException
+	 *             if the rounding mode is UNNECESSARY and rounding is necessary
+	 */
+	public int length(long uDecimal) {
+		final char[] buf = BUFFER_THREAD_LOCAL.get();
+		final long rounded = round(uDecimal);
+		final int digitsStart = formatDigits(rounded, buf);
+		return Math.max(width, BUFFER_LENGTH - digitsStart + signLength(Long.signum(rounded)));
+	}
+
+	/**
+	 * Formats the given value and returns it as a string.
+	 * 
+	 * @param uDecimal
+	 *            the unscaled value to format
+	 * @return the formatted value
+	 * @throws ArithmeticException
+	 *             if the rounding mode is UNNECESSARY and rounding is necessary
+	 */
+	public String format(long uDecimal) {
+		final char[] chars = new char[length(uDecimal)];
+		format(uDecimal, chars, 0);
+		return new String(chars);
+	}
+
+	/**
+	 * Formats the given value into the specified char array.
+	 * 
+	 * @param uDecimal
+	 *            the unscaled value to format
+	 * @param dst
+	 *            the destination array
+	 * @param offset
+	 *            the index in {@code dst} of the first character to write
+	 * @return the number of characters written
+	 * @throws IndexOutOfBoundsException
+	 *             if {@code offset} is negative or if {@code dst} has not enough space to write the value
+	 * @throws ArithmeticException
+	 *             if the rounding mode is UNNECESSARY and rounding is necessary
+	 */
+	public int format(long uDecimal, char[] dst, int offset) {
+		final char[] buf = BUFFER_THREAD_LOCAL.get();
+		final long rounded = round(uDecimal);
+		final int digitsStart = formatDigits(rounded, buf);
+		final int signum = Long.signum(rounded);
+		final char prefix = signStyle.prefix(signum);
+		final char suffix = signStyle.suffix(signum);
+		final int digitsLength = BUFFER_LENGTH - digitsStart;
+		final int padLength = Math.max(0, width - digitsLength - signLength(signum));
+		final int length = padLength + digitsLength + signLength(signum);
+		checkBounds(dst.length, offset, length);
+		int pos = offset;
+		if (padChar != '0') {
+			pos = pad(dst, pos, padLength);
+		}
+		if (prefix != 0) {
+			dst[pos++] = prefix;
+		}
+		if (padChar == '0') {
+			pos = pad(dst, pos, padLength);
+		}
+		System.arraycopy(buf, digitsStart, dst, pos, digitsLength);
+		pos += digitsLength;
+		if (suffix != 0) {
+			dst[pos++] = suffix;
+		}
+		return length;
+	}
+
+	/**
+	 * Formats the given value into the specified byte array. Characters are written as single bytes using the
+	 * ISO-8859-1 character set, hence separator and pad characters must be in the range {@code [0, 255]}.
+	 * 
+	 * @param uDecimal
+	 *            the unscaled value to format
+	 * @param dst
+	 *            the destination array
+	 * @param offset
+	 *            the index in {@code dst} of the first byte to write
+	 * @return the number of bytes written
+	 * @throws IndexOutOfBoundsException
+	 *             if {@code offset} is negative or if {@code dst} has not enough space to write the value
+	 * @throws ArithmeticException
+	 *             if the rounding mode is UNNECESSARY and rounding is necessary
+	 */
+	public int format(long uDecimal, byte[] dst, int offset) {
+		final char[] buf = BUFFER_THREAD_LOCAL.get();
+		final long rounded = round(uDecimal);
+		final int digitsStart = formatDigits(rounded, buf);
+		final int signum = Long.signum(rounded);
+		final char prefix = signStyle.prefix(signum);
+		final char suffix = signStyle.suffix(signum);
+		final int digitsLength = BUFFER_LENGTH - digitsStart;
+		final int padLength = Math.max(0, width - digitsLength - signLength(signum));
+		final int length = padLength + digitsLength + signLength(signum);
+		checkBounds(dst.length, offset, length);
+		int pos = offset;
+		if (padChar != '0') {
+			pos = pad(dst, pos, padLength);
+		}
+		if (prefix != 0) {
+			dst[pos++] = (byte) prefix;
+		}
+		if (padChar == '0') {
+			pos = pad(dst, pos, padLength);
+		}
+		for (int i = digitsStart; i < BUFFER_LENGTH; i++) {
+			dst[pos++] = (byte) buf[i];
+		}
+		if (suffix != 0) {
+			dst[pos++] = (byte) suffix;
+		}
+		return length;
+	}
+
+	/**
+	 * Formats the given value and appends it to the specified appendable.
+	 * 
+	 * @param uDecimal
+	 *            the unscaled value to format
+	 * @param appendable
+	 *            the appendable to which the formatted value is appended
+	 * @return the number of characters written
+	 * @throws IOException
+	 *             If an I/O error occurs when appending to {@code appendable}
+	 * @throws ArithmeticException
+	 *             if the rounding mode is UNNECESSARY and rounding is necessary
+	 */
+	public int format(long uDecimal, Appendable appendable) throws IOException {
+		final char[] buf = BUFFER_THREAD_LOCAL.get();
+		final long rounded = round(uDecimal);
+		final int digitsStart = formatDigits(rounded, buf);
+		final int signum = Long.signum(rounded);
+		final char prefix = signStyle.prefix(signum);
+		final char suffix = signStyle.suffix(signum);
+		final int digitsLength = BUFFER_LENGTH - digitsStart;
+		final int padLength = Math.max(0, width - digitsLength - signLength(signum));
+		if (padChar != '0') {
+			pad(appendable, padLength);
+		}
+		if (prefix != 0) {
+			appendable.append(prefix);
+		}
+		if (padChar == '0') {
+			pad(appendable, padLength);
+		}
+		for (int i = digitsStart; i < BUFFER_LENGTH; i++) {
+			appendable.append(buf[i]);
+		}
+		if (suffix != 0) {
+			appendable.append(suffix);
+		}
+		return padLength + digitsLength + signLength(signum);
+	}
+
+	private int signLength(int signum) {
+		return (signStyle.prefix(signum) != 0 ? 1 : 0) + (signStyle.suffix(signum) != 0 ? 1 : 0);
+	}
+
+	/**
+	 * Rounds the given value to {@link #maxFractionDigits} if it is less than the scale and returns the rounded value
+	 * with {@code min(scale, maxFractionDigits)} fraction digits. The sign of the rounded value is the sign that is
+	 * written, that is, values rounded to zero have no sign.
+	 */
+	private long round(long uDecimal) {
+		final int scale = arithmetic.getScale();
+		if (maxFractionDigits >= scale | uDecimal == 0) {
+			return uDecimal;
+		}
+		return UnscaledParser.rescale(maxFractionDigits, rounding, uDecimal, scale);
+	}
+
+	/**
+	 * Writes digits, grouping and decimal separator of the absolute rounded value into the end of the given buffer
+	 * and returns the start index of the written characters.
+	 */
+	private int formatDigits(long rounded, char[] buf) {
+		final int valueFractionDigits = Math.min(arithmetic.getScale(), maxFractionDigits);
+		final int zeroFractionDigits = Math.max(0, minFractionDigits - valueFractionDigits);
+		long negValue = UnscaledWriter.negAbs(rounded);
+		int fractionDigits = valueFractionDigits;
+		while (fractionDigits > minFractionDigits && negValue % 10 == 0) {
+			negValue /= 10;
+			fractionDigits--;
+		}
+		int pos = BUFFER_LENGTH;
+		for (int i = 0; i < zeroFractionDigits; i++) {
+			buf[--pos] = '0';
+		}
+		for (int i = 0; i < fractionDigits; i++) {
+			buf[--pos] = (char) ('0' - negValue % 10);
+			negValue /= 10;
+		}
+		if (fractionDigits + zeroFractionDigits > 0) {
+			buf[--pos] = decimalSeparator;
+		}
+		int groupDigits = 0;
+		do {
+			if (groupDigits == GROUPING_SIZE) {
+				if (groupingSeparator != 0) {
+					buf[--pos] = groupingSeparator;
+				}
+				groupDigits = 0;
+			}
+			buf[--pos] = (char) ('0' - negValue % 10);
+			negValue /= 10;
+			groupDigits++;
+		} while (negValue != 0);
+		return pos;
+	}
+
+	private int pad(char[] dst, int offset, int padLength) {
+		final int end = offset + padLength;
+		for (int i = offset; i < end; i++) {
+			dst[i] = padChar;
+		}
+		return end;
+	}
+
+	private int pad(byte[] dst, int offset, int padLength) {
+		final int end = offset + padLength;
+		for (int i = offset; i < end; i++) {
+			dst[i] = (byte) padChar;
+		}
+		return end;
+	}
+
+	private void pad(Appendable appendable, int padLength) throws IOException {
+		for (int i = 0; i < padLength; i++) {
+			appendable.append(padChar);
+		}
+	}
+
+	private static final void checkBounds(int arrayLength, int offset, int length) {
+		if (offset < 0 | offset + length > arrayLength) {
+			throw new IndexOutOfBoundsException("Cannot write " + length + " characters at offset " + offset
+					+ " to array of length " + arrayLength);
+		}
+	}
+
+	/**
+	 * Returns a string describing the settings of this formatter.
+	 * 
+	 * @return a string like "DecimalFormatter[scale=6, fractionDigits=[2, 4], rounding=HALF_UP, ...]"
+	 */
+	@Override
+	public String toString() {
+		return "DecimalFormatter[scale=" + arithmetic.getScale() + ", fractionDigits=[" + minFractionDigits + ", "
+				+ maxFractionDigits + "], rounding=" + getRoundingMode() + ", decimalSeparator='" + decimalSeparator
+				+ "', groupingSeparator=" + (groupingSeparator == 0 ? "none" : "'" + groupingSeparator + "'")
+				+ ", signStyle=" + signStyle + ", width=" + width + ", padChar='" + padChar + "']";
+	}
+}
@@ -0,0 +1,369 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2023 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.format;
+
+import java.text.DecimalFormatSymbols;
+import java.util.Locale;
+import java.util.Objects;
+
+import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.arithmetic.Exceptions;
+import org.decimal4j.arithmetic.UnscaledParser;
+import org.decimal4j.truncate.DecimalRounding;
+
+/**
+ * Parses localized decimal strings such as "1.234.567,89", "1 234 567.89" or "(CHF 1'234.50)" into unscaled decimal
+ * values of a given {@link DecimalArithmetic} without allocating intermediate objects such as {@code String} or
+ * {@code BigDecimal}.
+ * <p>
+ * The accepted input consists of the following parts, leading and trailing whitespace is ignored:
+ * <ul>
+ * <li>an optional sign {@code '+'} or {@code '-'}, or alternatively parentheses enclosing the whole input to mark a
+ * negative value as common in accounting</li>
+ * <li>an optional {@link #withCurrencySymbol(String) currency symbol} before or after the number, optionally
+ * separated from the number by whitespace</li>
+ * <li>the integer digits, optionally separated into groups by the {@link #withGroupingSeparator(char) grouping
+ * separator}</li>
+ * <li>optionally the {@link #withDecimalSeparator(char) decimal separator} followed by the fraction digits</li>
+ * </ul>
+ * The input must contain at least one digit. If the fraction contains more digits than the arithmetic's
+ * {@link DecimalArithmetic#getScale() scale}, the value is rounded using the arithmetic's
+ * {@link DecimalArithmetic#getRoundingMode() rounding mode}.
+ * <p>
+ * A parser is immutable; the {@code withXXX(..)} methods return a new parser with the modified setting. Instances can
+ * safely be shared by multiple threads.
+ */
+public final class DecimalParser {
+
+	private final DecimalArithmetic arithmetic;
+	private final DecimalRounding rounding;
+	private final char decimalSeparator;
+	private final char groupingSeparator;
+	private final String currencySymbol;
+
+	/**
+	 * Creates a parser for the given arithmetic using '.' as decimal separator, no grouping separator and no currency
+	 * symbol.
+	 * 
+	 * @param arithmetic
+	 *            the arithmetic defining scale and rounding mode of the parsed values
+	 * @throws NullPointerException
+	 *             if arithmetic is null
+	 */
+	public DecimalParser(DecimalArithmetic arithmetic) {
+		this(Objects.requireNonNull(arithmetic, "arithmetic cannot be null"),
+				DecimalRounding.valueOf(arithmetic.getRoundingMode()), '.', (char) 0, "");
+	}
+
+	private DecimalParser(DecimalArithmetic arithmetic, DecimalRounding rounding, char decimalSeparator,
+			char groupingSeparator, String currencySymbol) {
+		this.arithmetic = arithmetic;
+		this.rounding = rounding;
+		this.decimalSeparator = decimalSeparator;
+		this.groupingSeparator = groupingSeparator;
+		this.currencySymbol = currencySymbol;
+	}
+
+	/**
+	 * Returns a parser for the given arithmetic using decimal separator, grouping separator and currency symbol of the
+	 * specified locale.
+	 * 
+	 * @param arithmetic
+	 *            the arithmetic defining scale and rounding mode of the parsed values
+	 * @param locale
+	 *            the locale providing the {@link DecimalFormatSymbols}
+	 * @return a parser for the given arithmetic and locale
+	 * @throws NullPointerException
+	 *             if arithmetic or locale is null
+	 */
+	public static DecimalParser forLocale(DecimalArithmetic arithmetic, Locale locale) {
+		final DecimalFormatSymbols symbols = DecimalFormatSymbols.getInstance(Objects.requireNonNull(locale, "locale cannot be null"));
+		return new DecimalParser(arithmetic)//
+				.withDecimalSeparator(symbols.getDecimalSeparator())//
+				.withGroupingSeparator(symbols.getGroupingSeparator())//
+				.withCurrencySymbol(symbols.getCurrencySymbol());
+	}
+
+	/**
+	 * Returns a parser using the given decimal separator character.
+	 * 
+	 * @param decimalSeparator
+	 *            the character separating integer and fraction digits, for instance '.' or ','
+	 * @return a parser with the given decimal separator
+	 * @throws IllegalArgumentException
+	 *             if {@code decimalSeparator} is a digit or equal to the grouping separator
+	 */
+	public DecimalParser withDecimalSeparator(char decimalSeparator) {
+		checkSeparators(decimalSeparator, groupingSeparator);
+		return new DecimalParser(arithmetic, rounding, decimalSeparator, groupingSeparator, currencySymbol);
+	}
+
+	/**
+	 * Returns a parser accepting the given grouping separator between integer digits. If the separator is a space
+	 * character such as the no-break space used by some locales, the space, no-break space
+	 * (U+00A0) and narrow no-break space (U+202F) characters are all accepted.
+	 * 
+	 * @param groupingSeparator
+	 *            the thousands separator, for instance ',' or ' ', or zero if grouping is not supported
+	 * @return a parser with the given grouping separator
+	 * @throws IllegalArgumentException
+	 *             if {@code groupingSeparator} is a digit or equal to the decimal separator
+	 */
+	public DecimalParser withGroupingSeparator(char groupingSeparator) {
+		checkSeparators(decimalSeparator, groupingSeparator);
+		return new DecimalParser(arithmetic, rounding, decimalSeparator, groupingSeparator, currencySymbol);
+	}
+
+	/**
+	 * Returns a parser accepting the given currency symbol before or after the number.
+	 * 
+	 * @param currencySymbol
+	 *            the currency symbol, for instance "$" or "CHF", or an empty string if no currency symbol is accepted
+	 * @return a parser with the given currency symbol
+	 * @throws NullPointerException
+	 *             if currencySymbol is null
+	 */
+	public DecimalParser withCurrencySymbol(String currencySymbol) {
+		return new DecimalParser(arithmetic, rounding, decimalSeparator, groupingSeparator,
+				Objects.requireNonNull(currencySymbol, "currencySymbol cannot be null"));
+	}
+
+	/**
+	 * Returns the arithmetic defining scale and rounding mode of the values returned by this parser.
+	 * 
+	 * @return the arithmetic of this parser
+	 */
+	public DecimalArithmetic getArithmetic() {
+		return arithmetic;
+	}
+
+	/**
+	 * Returns the character separating integer and fraction digits.
+	 * 
+	 * @return the decimal separator
+	 */
+	public char getDecimalSeparator() {
+		return decimalSeparator;
+	}
+
+	/**
+	 * Returns the character separating groups of integer digits, or zero if grouping is not supported.
+	 * 
+	 * @return the grouping separator or zero
+	 */
+	public char getGroupingSeparator() {
+		return groupingSeparator;
+	}
+
+	/**
+	 * Returns the currency symbol accepted before or after the number, or an empty string if none.
+	 * 
+	 * @return the currency symbol
+	 */
+	public String getCurrencySymbol() {
+		return currencySymbol;
+	}
+
+	/**
+	 * Parses the given string and returns it as unscaled decimal value.
+	 * 
+	 * @param value
+	 *            the string to parse
+	 * @return the parsed value as unscaled decimal with the scale of this parser's arithmetic
+	 * @throws NumberFormatException
+	 *             if {@code value} does not represent a valid decimal number or if the value is too large to be
+	 *             represented as a Decimal with the scale of this parser's arithmetic
+	 * @throws ArithmeticException
+	 *             if the rounding mode is UNNECESSARY and rounding is necessary
+	 */
+	public long parse(CharSequence value) {
+		return parse(value, 0, value.length());
+	}
+
+	/**
+	 * Parses the specified range of the given character sequence and returns it as unscaled decimal value.
+	 * 
+	 * @param value
+	 *            the character sequence containing the value to parse
+	 * @param start
+	 *            the start index to read characters in {@code value}, inclusive
+	 * @param end
+	 *            the end index where to stop reading in characters in {@code value}, exclusive
+	 * @return the parsed value as unscaled decimal with the scale of this parser's arithmetic
+	 * @throws IndexOutOfBoundsException
+	 *             if {@code start < 0} or {@code end > value.length()}
+	 * @throws NumberFormatException
+	 *             if {@code value} does not represent a valid decimal number or if the value is too large to be
+	 *             represented as a Decimal with the scale of this parser's arithmetic
+	 * @throws ArithmeticException
+	 *             if the rounding mode is UNNECESSARY and rounding is necessary
+	 */
+	public long parse(CharSequence value, int start, int end) {
+		if (start < 0 | end > value.length() | start > end) {
+			throw new IndexOutOfBoundsException("Start or end index is out of bounds: [" + start + ", " + end
+					+ "] must be in [0, " + value.length() + "]");
+		}
+		int i = skipWhitespace(value, start, end);
+		int j = skipTrailingWhitespace(value, i, end);
+		final boolean parentheses = j - i >= 2 && value.charAt(i) == '(' & value.charAt(j - 1) == ')';
+		if (parentheses) {
+			i = skipWhitespace(value, i + 1, j - 1);
+			j = skipTrailingWhitespace(value, i, j - 1);
+		}
+		boolean currency = false;
+		if (startsWithCurrency(value, i, j)) {
+			i = skipWhitespace(value, i + currencySymbol.length(), j);
+			currency = true;
+		}
+		boolean negative = parentheses;
+		if (i < j && !parentheses) {
+			final char ch = value.charAt(i);
+			negative = ch == '-';
+			if (negative | ch == '+') {
+				i++;
+			}
+		}
+		if (!currency && startsWithCurrency(value, i, j)) {
+			i = skipWhitespace(value, i + currencySymbol.length(), j);
+			currency = true;
+		}
+		if (!currency && endsWithCurrency(value, i, j)) {
+			j = skipTrailingWhitespace(value, i, j - currencySymbol.length());
+		}
+		return parseNumber(value, start, end, negative, i, j);
+	}
+
+	private long parseNumber(CharSequence value, int start, int end, boolean negative, int numberStart, int numberEnd) {
+		int digits = 0;
+		int fractionDigits = 0;
+		boolean fraction = false;
+		char previous = 0;
+		for (int i = numberStart; i < numberEnd; i++) {
+			final char ch = value.charAt(i);
+			if (isDigit(ch)) {
+				digits++;
+				if (fraction) {
+					fractionDigits++;
+				}
+			} else if (ch == decimalSeparator & !fraction) {
+				fraction = true;
+			} else if (isGroupingSeparator(ch) & !fraction & i + 1 < numberEnd && isDigit(previous)
+					&& isDigit(value.charAt(i + 1))) {
+				// grouping separator between two integer digits
+			} else {
+				throw newNumberFormatException(value, start, end);
+			}
+			previous = ch;
+		}
+		if (digits == 0) {
+			throw newNumberFormatException(value, start, end);
+		}
+		try {
+			// separators in the number range are skipped
+			return UnscaledParser.parse(arithmetic.getScale(), rounding, negative, value, numberStart, numberEnd,
+					-fractionDigits);
+		} catch (ArithmeticException e) {
+			Exceptions.rethrowIfRoundingNecessary(e);
+			final NumberFormatException ex = newNumberFormatException(value, start, end);
+			ex.initCause(e);
+			throw ex;
+		}
+	}
+
+	private boolean isGroupingSeparator(char ch) {
+		if (groupingSeparator == 0) {
+			return false;
+		}
+		if (ch == groupingSeparator) {
+			return true;
+		}
+		return Character.isSpaceChar(groupingSeparator) && (ch == ' ' | ch == '\u00A0' | ch == '\u202F');
+	}
+
+	private static final boolean isDigit(char ch) {
+		return ch >= '0' & ch <= '9';
+	}
+
+	private boolean startsWithCurrency(CharSequence value, int start, int end) {
+		final int len = currencySymbol.length();
+		if (len == 0 | end - start < len) {
+			return false;
+		}
+		for (int i = 0; i < len; i++) {
+			if (value.charAt(start + i) != currencySymbol.charAt(i)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private boolean endsWithCurrency(CharSequence value, int start, int end) {
+		return end - currencySymbol.length() >= start && startsWithCurrency(value, end - currencySymbol.length(), end);
+	}
+
+	private static final int skipWhitespace(CharSequence value, int start, int end) {
+		int i = start;
+		while (i < end && isWhitespace(value.charAt(i))) {
+			i++;
+		}
+		return i;
+	}
+
+	private static final int skipTrailingWhitespace(CharSequence value, int start, int end) {
+		int j = end;
+		while (j > start && isWhitespace(value.charAt(j - 1))) {
+			j--;
+		}
+		return j;
+	}
+
+	private static final boolean isWhitespace(char ch) {
+		return Character.isWhitespace(ch) | Character.isSpaceChar(ch);
+	}
+
+	private static final void checkSeparators(char decimalSeparator, char groupingSeparator) {
+		if (isDigit(decimalSeparator) | isDigit(groupingSeparator) | decimalSeparator == groupingSeparator) {
+			throw new IllegalArgumentException("Decimal separator '" + decimalSeparator + "' and grouping separator '"
+					+ groupingSeparator + "' must be different non-digit characters");
+		}
+	}
+
+	private NumberFormatException newNumberFormatException(CharSequence value, int start, int end) {
+		return new NumberFormatException("Cannot parse Decimal value with scale " + arithmetic.getScale()
+				+ " for input string: \"" + value.subSequence(start, end) + "\"");
+	}
+
+	/**
+	 * Returns a string describing the settings of this parser.
+	 * 
+	 * @return a string like "DecimalParser[scale=2, rounding=HALF_UP, decimalSeparator=',', ...]"
+	 */
+	@Override
+	public String toString() {
+		return "DecimalParser[scale=" + arithmetic.getScale() + ", rounding=" + arithmetic.getRoundingMode()
+				+ ", decimalSeparator='" + decimalSeparator + "', groupingSeparator="
+				+ (groupingSeparator == 0 ? "none" : "'" + groupingSeparator + "'") + ", currencySymbol=\""
+				+ currencySymbol + "\"]";
+	}
+}
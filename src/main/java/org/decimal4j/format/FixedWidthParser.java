@@ -0,0 +1,502 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2023 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.format;
+
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+import org.decimal4j.arithmetic.Exceptions;
+import org.decimal4j.arithmetic.UnscaledParser;
+import org.decimal4j.scale.ScaleMetrics;
+import org.decimal4j.scale.Scales;
+import org.decimal4j.truncate.DecimalRounding;
+
+/**
+ * Parses fixed-width ASCII decimal fields in bulk from a {@code byte} array or a {@link ByteBuffer} into unscaled
+ * values of a given {@link ScaleMetrics scale}. A field has the layout
+ * 
+ * <pre>
+ * [sign] integer-digits [ '.' ] fraction-digits
+ * </pre>
+ * 
+ * with a fixed number of integer and fraction digits; leading zeros are mandatory. The optional sign is one of
+ * {@code '+'}, {@code '-'} or {@code ' '} and the decimal point can be omitted if it is implied by the layout, for
+ * instance "00012345" for a field with 6 integer and 2 implied fraction digits representing the value 123.45.
+ * <p>
+ * Digits are decoded and validated eight at a time using SWAR (SIMD within a register) arithmetic on little-endian
+ * {@code long} words instead of a per-character loop. If the field has more fraction digits than the target scale, the
+ * value is rounded with the {@link #withRoundingMode(RoundingMode) rounding mode} of this parser.
+ * <p>
+ * A parser is immutable and can safely be shared by multiple threads.
+ */
+public final class FixedWidthParser {
+
+	private static final long ZEROS = 0x3030303030303030L;
+	private static final long HIGH_NIBBLES = 0xF0F0F0F0F0F0F0F0L;
+	private static final long LOW_NIBBLES = 0x0F0F0F0F0F0F0F0FL;
+	private static final long THREES = 0x3333333333333333L;
+	private static final long SIXES = 0x0606060606060606L;
+
+	private final ScaleMetrics scaleMetrics;
+	private final int integerDigits;
+	private final int fractionDigits;
+	private final boolean signed;
+	private final boolean decimalPoint;
+	private final DecimalRounding rounding;
+
+	/**
+	 * Creates a parser for unsigned fields with the given number of integer and fraction digits separated by a
+	 * decimal point. Values with more fraction digits than the target scale are rounded {@link RoundingMode#HALF_UP
+	 * HALF_UP}.
+	 * 
+	 * @param scaleMetrics
+	 *            the scale metrics of the target values
+	 * @param integerDigits
+	 *            the number of integer digits of a field
+	 * @param fractionDigits
+	 *            the number of fraction digits of a field
+	 * @throws NullPointerException
+	 *             if scaleMetrics is null
+	 * @throws IllegalArgumentException
+	 *             if the number of integer or fraction digits is negative, if there are no digits at all or if the
+	 *             total number of digits exceeds 18
+	 */
+	public FixedWidthParser(ScaleMetrics scaleMetrics, int integerDigits, int fractionDigits) {
+		this(Objects.requireNonNull(scaleMetrics, "scaleMetrics cannot be null"), integerDigits, fractionDigits, false,
+				fractionDigits > 0, DecimalRounding.HALF_UP);
+	}
+
+	private FixedWidthParser(ScaleMetrics scaleMetrics, int integerDigits, int fractionDigits, boolean signed,
+			boolean decimalPoint, DecimalRounding rounding) {
+		if (integerDigits < 0 | fractionDigits < 0 | integerDigits + fractionDigits < 1
+				| integerDigits + fractionDigits > Scales.MAX_SCALE) {
+			throw new IllegalArgumentException("Illegal number of digits, integer and fraction digits must be "
+					+ "non-negative with a sum in [1, " + Scales.MAX_SCALE + "] but was integerDigits=" + integerDigits
+					+ ", fractionDigits=" + fractionDigits);
+		}
+		this.scaleMetrics = scaleMetrics;
+		this.integerDigits = integerDigits;
+		this.fractionDigits = fractionDigits;
+		this.signed = signed;
+		this.decimalPoint = decimalPoint;
+		this.rounding = rounding;
+	}
+
+	/**
+	 * Returns a parser for fields with or without a leading sign character. The sign is one of {@code '+'},
+	 * {@code '-'} or {@code ' '}, the latter two representing a positive value.
+	 * 
+	 * @param signed
+	 *            true if fields start with a sign character
+	 * @return a parser with the given setting
+	 */
+	public FixedWidthParser withSign(boolean signed) {
+		return new FixedWidthParser(scaleMetrics, integerDigits, fractionDigits, signed, decimalPoint, rounding);
+	}
+
+	/**
+	 * Returns a parser for fields with an explicit decimal point or with an implied decimal point between integer and
+	 * fraction digits.
+	 * 
+	 * @param decimalPoint
+	 *            true if fields contain a {@code '.'} character before the fraction digits, false if the decimal point
+	 *            is implied
+	 * @return a parser with the given setting
+	 */
+	public FixedWidthParser withDecimalPoint(boolean decimalPoint) {
+		return new FixedWidthParser(scaleMetrics, integerDigits, fractionDigits, signed, decimalPoint, rounding);
+	}
+
+	/**
+	 * Returns a parser applying the given rounding mode if fields have more fraction digits than the target scale.
+	 * 
+	 * @param roundingMode
+	 *            the rounding mode to apply
+	 * @return a parser with the given rounding mode
+	 * @throws NullPointerException
+	 *             if roundingMode is null
+	 */
+	public FixedWidthParser withRoundingMode(RoundingMode roundingMode) {
+		return new FixedWidthParser(scaleMetrics, integerDigits, fractionDigits, signed, decimalPoint,
+				DecimalRounding.valueOf(Objects.requireNonNull(roundingMode, "roundingMode cannot be null")));
+	}
+
+	/**
+	 * Returns the scale metrics of the values returned by this parser.
+	 * 
+	 * @return the scale metrics of the target values
+	 */
+	public ScaleMetrics getScaleMetrics() {
+		return scaleMetrics;
+	}
+
+	/**
+	 * Returns the width of a field in bytes including sign and decimal point if present.
+	 * 
+	 * @return the number of bytes of a field
+	 */
+	public int getWidth() {
+		return (signed ? 1 : 0) + integerDigits + (decimalPoint ? 1 : 0) + fractionDigits;
+	}
+
+	/**
+	 * Parses a single field starting at the given offset.
+	 * 
+	 * @param src
+	 *            the source array with ASCII encoded fields
+	 * @param offset
+	 *            the index of the first byte of the field
+	 * @return the unscaled value of the field
+	 * @throws IndexOutOfBoundsException
+	 *             if the field is not within the bounds of {@code src}
+	 * @throws NumberFormatException
+	 *             if the field is not valid or if the value is too large to be represented with the target scale
+	 * @throws ArithmeticException
+	 *             if the rounding mode is UNNECESSARY and rounding is necessary
+	 */
+	public long parse(byte[] src, int offset) {
+		checkBounds(src.length, offset, getWidth());
+		return parseField(src, offset);
+	}
+
+	/**
+	 * Parses {@code count} fields from the source array into the destination array. The first field starts at
+	 * {@code srcOffset}, subsequent fields follow at a distance of {@code stride} bytes.
+	 * 
+	 * @param src
+	 *            the source array with ASCII encoded fields
+	 * @param srcOffset
+	 *            the index of the first byte of the first field
+	 * @param stride
+	 *            the distance in bytes between the start of two subsequent fields, at least {@link #getWidth()}
+	 * @param dst
+	 *            the destination array for the unscaled values
+	 * @param dstOffset
+	 *            the index in {@code dst} for the value of the first field
+	 * @param count
+	 *            the number of fields to parse
+	 * @throws IndexOutOfBoundsException
+	 *             if the fields are not within the bounds of {@code src} or if {@code dst} is too small
+	 * @throws IllegalArgumentException
+	 *             if {@code stride} is less than the field width
+	 * @throws NumberFormatException
+	 *             if a field is not valid or if a value is too large to be represented with the target scale
+	 * @throws ArithmeticException
+	 *             if the rounding mode is UNNECESSARY and rounding is necessary
+	 */
+	public void parse(byte[] src, int srcOffset, int stride, long[] dst, int dstOffset, int count) {
+		checkBulkBounds(src.length, srcOffset, stride, dst, dstOffset, count);
+		parseFields(src, srcOffset, stride, dst, dstOffset, count);
+	}
+
+	/**
+	 * Parses {@code count} fields from the source buffer into the destination array. The first field starts at the
+	 * absolute index {@code srcIndex}, subsequent fields follow at a distance of {@code stride} bytes. Position, limit
+	 * and byte order of the buffer are not modified.
+	 * 
+	 * @param src
+	 *            the source buffer with ASCII encoded fields
+	 * @param srcIndex
+	 *            the absolute index of the first byte of the first field in {@code src}
+	 * @param stride
+	 *            the distance in bytes between the start of two subsequent fields, at least {@link #getWidth()}
+	 * @param dst
+	 *            the destination array for the unscaled values
+	 * @param dstOffset
+	 *            the index in {@code dst} for the value of the first field
+	 * @param count
+	 *            the number of fields to parse
+	 * @throws IndexOutOfBoundsException
+	 *             if the fields are not within the limit of {@code src} or if {@code dst} is too small
+	 * @throws IllegalArgumentException
+	 *             if {@code stride} is less than the field width
+	 * @throws NumberFormatException
+	 *             if a field is not valid or if a value is too large to be represented with the target scale
+	 * @throws ArithmeticException
+	 *             if the rounding mode is UNNECESSARY and rounding is necessary
+	 */
+	public void parse(ByteBuffer src, int srcIndex, int stride, long[] dst, int dstOffset, int count) {
+		checkBulkBounds(src.limit(), srcIndex, stride, dst, dstOffset, count);
+		parseFields(src.duplicate().order(ByteOrder.LITTLE_ENDIAN), srcIndex, stride, dst, dstOffset, count);
+	}
+
+	private void checkBulkBounds(int limit, int srcIndex, int stride, long[] dst, int dstOffset, int count) {
+		final int width = getWidth();
+		if (stride < width) {
+			throw new IllegalArgumentException("Stride " + stride + " must not be less than field width " + width);
+		}
+		checkBounds(limit, srcIndex, count <= 0 ? 0 : (long) stride * (count - 1) + width);
+		if (dstOffset < 0 | count < 0 | dstOffset + count > dst.length) {
+			throw new IndexOutOfBoundsException("Cannot write " + count + " values at offset " + dstOffset
+					+ " to array of length " + dst.length);
+		}
+	}
+
+	/**
+	 * Parses the fields from a {@code byte[]}.
+	 */
+	private void parseFields(byte[] src, int srcIndex, int stride, long[] dst, int dstOffset, int count) {
+		int index = srcIndex;
+		for (int i = 0; i < count; i++) {
+			dst[dstOffset + i] = parseField(src, index);
+			index += stride;
+		}
+	}
+
+	/**
+	 * Parses the fields from a little-endian {@link ByteBuffer}.
+	 */
+	private void parseFields(ByteBuffer src, int srcIndex, int stride, long[] dst, int dstOffset, int count) {
+		int index = srcIndex;
+		for (int i = 0; i < count; i++) {
+			dst[dstOffset + i] = parseField(src, index);
+			index += stride;
+		}
+	}
+
+	/**
+	 * Parses a field from a {@code byte[]}.
+	 */
+	private long parseField(byte[] src, int index) {
+		int pos = index;
+		boolean negative = false;
+		boolean valid = true;
+		if (signed) {
+			final byte sign = src[pos++];
+			negative = sign == '-';
+			valid = negative | sign == '+' | sign == ' ';
+		}
+		long value = 0;
+		if (integerDigits > 0) {
+			final long intPart = parseDigits(src, pos, integerDigits);
+			valid &= intPart >= 0;
+			value = intPart;
+			pos += integerDigits;
+		}
+		if (decimalPoint) {
+			valid &= src[pos++] == '.';
+		}
+		if (fractionDigits > 0) {
+			final long fracPart = parseDigits(src, pos, fractionDigits);
+			valid &= fracPart >= 0;
+			// no overflow since integerDigits + fractionDigits <= 18
+			value = Scales.getScaleMetrics(fractionDigits).multiplyByScaleFactor(value) + fracPart;
+		}
+		if (!valid) {
+			throw newNumberFormatException(fieldToString(src, index));
+		}
+		try {
+			return toUnscaled(negative ? -value : value);
+		} catch (ArithmeticException e) {
+			throw newNumberFormatException(fieldToString(src, index), e);
+		}
+	}
+
+	/**
+	 * Parses a field from a little-endian {@link ByteBuffer}.
+	 */
+	private long parseField(ByteBuffer src, int index) {
+		int pos = index;
+		boolean negative = false;
+		boolean valid = true;
+		if (signed) {
+			final byte sign = src.get(pos++);
+			negative = sign == '-';
+			valid = negative | sign == '+' | sign == ' ';
+		}
+		long value = 0;
+		if (integerDigits > 0) {
+			final long intPart = parseDigits(src, pos, integerDigits);
+			valid &= intPart >= 0;
+			value = intPart;
+			pos += integerDigits;
+		}
+		if (decimalPoint) {
+			valid &= src.get(pos++) == '.';
+		}
+		if (fractionDigits > 0) {
+			final long fracPart = parseDigits(src, pos, fractionDigits);
+			valid &= fracPart >= 0;
+			// no overflow since integerDigits + fractionDigits <= 18
+			value = Scales.getScaleMetrics(fractionDigits).multiplyByScaleFactor(value) + fracPart;
+		}
+		if (!valid) {
+			throw newNumberFormatException(fieldToString(src, index));
+		}
+		try {
+			return toUnscaled(negative ? -value : value);
+		} catch (ArithmeticException e) {
+			throw newNumberFormatException(fieldToString(src, index), e);
+		}
+	}
+
+	/**
+	 * Returns the value of the given number of ASCII digits or a negative value if any of the bytes is not a digit.
+	 */
+	private static final long parseDigits(byte[] src, int index, int digits) {
+		long value = 0;
+		int pos = index;
+		int remaining = digits;
+		boolean valid = true;
+		while (remaining >= 8) {
+			final long chunk = getLong(src, pos);
+			valid &= isEightDigits(chunk);
+			value = value * 100000000 + parseEightDigits(chunk);
+			pos += 8;
+			remaining -= 8;
+		}
+		if (remaining > 0) {
+			final int end = pos + remaining;
+			if (end >= 8) {
+				// load 8 bytes ending with the last digit and replace the leading bytes with '0' characters
+				final long mask = (1L << ((8 - remaining) << 3)) - 1;
+				final long chunk = (getLong(src, end - 8) & ~mask) | (ZEROS & mask);
+				valid &= isEightDigits(chunk);
+				value = value * Scales.getScaleMetrics(remaining).getScaleFactor() + parseEightDigits(chunk);
+			} else {
+				for (int i = pos; i < end; i++) {
+					final int digit = src[i] - '0';
+					valid &= digit >= 0 & digit <= 9;
+					value = value * 10 + digit;
+				}
+			}
+		}
+		return valid ? value : -1;
+	}
+
+	/**
+	 * Returns the value of the given number of ASCII digits or a negative value if any of the bytes is not a digit.
+	 */
+	private static final long parseDigits(ByteBuffer src, int index, int digits) {
+		long value = 0;
+		int pos = index;
+		int remaining = digits;
+		boolean valid = true;
+		while (remaining >= 8) {
+			final long chunk = src.getLong(pos);
+			valid &= isEightDigits(chunk);
+			value = value * 100000000 + parseEightDigits(chunk);
+			pos += 8;
+			remaining -= 8;
+		}
+		if (remaining > 0) {
+			final int end = pos + remaining;
+			if (end >= 8) {
+				// load 8 bytes ending with the last digit and replace the leading bytes with '0' characters
+				final long mask = (1L << ((8 - remaining) << 3)) - 1;
+				final long chunk = (src.getLong(end - 8) & ~mask) | (ZEROS & mask);
+				valid &= isEightDigits(chunk);
+				value = value * Scales.getScaleMetrics(remaining).getScaleFactor() + parseEightDigits(chunk);
+			} else {
+				for (int i = pos; i < end; i++) {
+					final int digit = src.get(i) - '0';
+					valid &= digit >= 0 & digit <= 9;
+					value = value * 10 + digit;
+				}
+			}
+		}
+		return valid ? value : -1;
+	}
+
+	/**
+	 * Returns the eight bytes starting at the given index as little-endian word.
+	 */
+	private static final long getLong(byte[] src, int index) {
+		return (src[index] & 0xffL) | (src[index + 1] & 0xffL) << 8 | (src[index + 2] & 0xffL) << 16
+				| (src[index + 3] & 0xffL) << 24 | (src[index + 4] & 0xffL) << 32 | (src[index + 5] & 0xffL) << 40
+				| (src[index + 6] & 0xffL) << 48 | (src[index + 7] & 0xffL) << 56;
+	}
+
+	/**
+	 * Returns true if all eight bytes of the given little-endian word are ASCII digits.
+	 */
+	private static final boolean isEightDigits(long chunk) {
+		return ((chunk & HIGH_NIBBLES) | (((chunk + SIXES) & HIGH_NIBBLES) >>> 4)) == THREES;
+	}
+
+	/**
+	 * Returns the value of the eight ASCII digits in the given little-endian word, the first digit being the least
+	 * significant byte.
+	 */
+	private static final long parseEightDigits(long chunk) {
+		long val = chunk & LOW_NIBBLES;
+		val = (val * 2561) >>> 8;// 10 * 2^8 + 1
+		val = ((val & 0x00FF00FF00FF00FFL) * 6553601) >>> 16;// 100 * 2^16 + 1
+		return ((val & 0x0000FFFF0000FFFFL) * 42949672960001L) >>> 32;// 10000 * 2^32 + 1
+	}
+
+	private long toUnscaled(long value) {
+		final int scale = scaleMetrics.getScale();
+		if (fractionDigits == scale | value == 0) {
+			return value;
+		}
+		return UnscaledParser.rescale(scale, rounding, value, fractionDigits);
+	}
+
+	private static final void checkBounds(int limit, int index, long length) {
+		if (index < 0 | index + length > limit) {
+			throw new IndexOutOfBoundsException("Cannot read " + length + " bytes at index " + index
+					+ " from source with limit " + limit);
+		}
+	}
+
+	private String fieldToString(byte[] src, int index) {
+		return new String(src, index, getWidth(), StandardCharsets.ISO_8859_1);
+	}
+
+	private String fieldToString(ByteBuffer src, int index) {
+		final byte[] field = new byte[getWidth()];
+		for (int i = 0; i < field.length; i++) {
+			field[i] = src.get(index + i);
+		}
+		return new String(field, StandardCharsets.ISO_8859_1);
+	}
+
+	private NumberFormatException newNumberFormatException(String field) {
+		return new NumberFormatException("Cannot parse Decimal value with scale " + scaleMetrics.getScale()
+				+ " for input string: \"" + field + "\"");
+	}
+
+	private NumberFormatException newNumberFormatException(String field, ArithmeticException cause) {
+		Exceptions.rethrowIfRoundingNecessary(cause);
+		final NumberFormatException ex = newNumberFormatException(field);
+		ex.initCause(cause);
+		return ex;
+	}
+
+	/**
+	 * Returns a string describing the field layout of this parser.
+	 * 
+	 * @return a string like "FixedWidthParser[scale=2, integerDigits=8, fractionDigits=4, ...]"
+	 */
+	@Override
+	public String toString() {
+		return "FixedWidthParser[scale=" + scaleMetrics.getScale() + ", integerDigits=" + integerDigits
+				+ ", fractionDigits=" + fractionDigits + ", signed=" + signed + ", decimalPoint=" + decimalPoint
+				+ ", rounding=" + rounding.getRoundingMode() + "]";
+	}
+}
@@ -0,0 +1,447 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2023 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.format;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.arithmetic.Exceptions;
+import org.decimal4j.arithmetic.UnscaledParser;
+import org.decimal4j.truncate.DecimalRounding;
+
+/**
+ * Reads JSON number tokens directly into unscaled decimal values of a given {@link DecimalArithmetic}. The input can
+ * be provided as {@code char} array, as ASCII or UTF-8 encoded {@code byte} array or as {@link CharSequence}; no
+ * intermediate objects such as {@code String} or {@code BigDecimal} are allocated.
+ * <p>
+ * The accepted syntax is the strict JSON number grammar as defined by RFC 8259:
+ * 
+ * <pre>
+ * number = [ "-" ] int [ frac ] [ exp ]
+ * int    = "0" / ( digit1-9 *DIGIT )
+ * frac   = "." 1*DIGIT
+ * exp    = ( "e" / "E" ) [ "-" / "+" ] 1*DIGIT
+ * </pre>
+ * 
+ * If the number has more fraction digits than the arithmetic's {@link DecimalArithmetic#getScale() scale} after
+ * applying the exponent, the value is rounded using the arithmetic's {@link DecimalArithmetic#getRoundingMode()
+ * rounding mode}. Numbers too large to be represented as unscaled decimal value lead to a
+ * {@link NumberFormatException} as with {@link DecimalArithmetic#parse(CharSequence, int, int)}.
+ * <p>
+ * Instances are immutable and can safely be shared by multiple threads.
+ */
+public final class JsonNumberReader {
+
+	private final DecimalArithmetic arithmetic;
+	private final DecimalRounding rounding;
+
+	/**
+	 * Creates a reader for the given arithmetic.
+	 * 
+	 * @param arithmetic
+	 *            the arithmetic defining scale and rounding mode of the values returned by this reader
+	 * @throws NullPointerException
+	 *             if arithmetic is null
+	 */
+	public JsonNumberReader(DecimalArithmetic arithmetic) {
+		this.arithmetic = Objects.requireNonNull(arithmetic, "arithmetic cannot be null");
+		this.rounding = DecimalRounding.valueOf(arithmetic.getRoundingMode());
+	}
+
+	/**
+	 * Returns the arithmetic defining scale and rounding mode of the values returned by this reader.
+	 * 
+	 * @return the arithmetic of this reader
+	 */
+	public DecimalArithmetic getArithmetic() {
+		return arithmetic;
+	}
+
+	/**
+	 * Returns the end index of the JSON number token starting at index {@code start}. The token ends at the first
+	 * character that cannot be part of the number; the returned index can be passed as {@code end} argument to
+	 * {@link #read(char[], int, int)}.
+	 * 
+	 * @param chars
+	 *            the characters containing the number token
+	 * @param start
+	 *            the start index of the number token, inclusive
+	 * @param end
+	 *            the end index where to stop scanning characters in {@code chars}, exclusive
+	 * @return the end index of the number token, exclusive
+	 * @throws IndexOutOfBoundsException
+	 *             if {@code start < 0} or {@code end > chars.length}
+	 */
+	public int scan(char[] chars, int start, int end) {
+		checkBounds(chars.length, start, end);
+		int i = start;
+		while (i < end && isNumberChar(chars[i])) {
+			i++;
+		}
+		return i;
+	}
+
+	/**
+	 * Returns the end index of the JSON number token starting at index {@code start}. The token ends at the first
+	 * byte that cannot be part of the number; the returned index can be passed as {@code end} argument to
+	 * {@link #read(byte[], int, int)}.
+	 * 
+	 * @param bytes
+	 *            the ASCII or UTF-8 encoded bytes containing the number token
+	 * @param start
+	 *            the start index of the number token, inclusive
+	 * @param end
+	 *            the end index where to stop scanning bytes in {@code bytes}, exclusive
+	 * @return the end index of the number token, exclusive
+	 * @throws IndexOutOfBoundsException
+	 *             if {@code start < 0} or {@code end > bytes.length}
+	 */
+	public int scan(byte[] bytes, int start, int end) {
+		checkBounds(bytes.length, start, end);
+		int i = start;
+		while (i < end && isNumberChar((char) bytes[i])) {
+			i++;
+		}
+		return i;
+	}
+
+	/**
+	 * Returns the end index of the JSON number token starting at index {@code start}. The token ends at the first
+	 * character that cannot be part of the number; the returned index can be passed as {@code end} argument to
+	 * {@link #read(CharSequence, int, int)}.
+	 * 
+	 * @param chars
+	 *            the character sequence containing the number token
+	 * @param start
+	 *            the start index of the number token, inclusive
+	 * @param end
+	 *            the end index where to stop scanning characters in {@code chars}, exclusive
+	 * @return the end index of the number token, exclusive
+	 * @throws IndexOutOfBoundsException
+	 *             if {@code start < 0} or {@code end > chars.length()}
+	 */
+	public int scan(CharSequence chars, int start, int end) {
+		checkBounds(chars.length(), start, end);
+		int i = start;
+		while (i < end && isNumberChar(chars.charAt(i))) {
+			i++;
+		}
+		return i;
+	}
+
+	/**
+	 * Reads the JSON number in the specified range and returns it as unscaled decimal value.
+	 * 
+	 * @param chars
+	 *            the characters containing the number token
+	 * @param start
+	 *            the start index of the number token, inclusive
+	 * @param end
+	 *            the end index of the number token, exclusive
+	 * @return the number as unscaled decimal value with the scale of this reader's arithmetic
+	 * @throws IndexOutOfBoundsException
+	 *             if {@code start < 0} or {@code end > chars.length}
+	 * @throws NumberFormatException
+	 *             if the range does not contain a valid JSON number or if the value is too large to be represented
+	 *             as a Decimal with the scale of this reader's arithmetic
+	 * @throws ArithmeticException
+	 *             if the rounding mode is UNNECESSARY and rounding is necessary
+	 */
+	public long read(char[] chars, int start, int end) {
+		checkBounds(chars.length, start, end);
+		return readNumber(chars, start, end);
+	}
+
+	/**
+	 * Reads the JSON number in the specified range and returns it as unscaled decimal value.
+	 * 
+	 * @param bytes
+	 *            the ASCII or UTF-8 encoded bytes containing the number token
+	 * @param start
+	 *            the start index of the number token, inclusive
+	 * @param end
+	 *            the end index of the number token, exclusive
+	 * @return the number as unscaled decimal value with the scale of this reader's arithmetic
+	 * @throws IndexOutOfBoundsException
+	 *             if {@code start < 0} or {@code end > bytes.length}
+	 * @throws NumberFormatException
+	 *             if the range does not contain a valid JSON number or if the value is too large to be represented
+	 *             as a Decimal with the scale of this reader's arithmetic
+	 * @throws ArithmeticException
+	 *             if the rounding mode is UNNECESSARY and rounding is necessary
+	 */
+	public long read(byte[] bytes, int start, int end) {
+		checkBounds(bytes.length, start, end);
+		return readNumber(bytes, start, end);
+	}
+
+	/**
+	 * Reads the JSON number in the specified range and returns it as unscaled decimal value.
+	 * 
+	 * @param chars
+	 *            the character sequence containing the number token
+	 * @param start
+	 *            the start index of the number token, inclusive
+	 * @param end
+	 *            the end index of the number token, exclusive
+	 * @return the number as unscaled decimal value with the scale of this reader's arithmetic
+	 * @throws IndexOutOfBoundsException
+	 *             if {@code start < 0} or {@code end > chars.length()}
+	 * @throws NumberFormatException
+	 *             if the range does not contain a valid JSON number or if the value is too large to be represented
+	 *             as a Decimal with the scale of this reader's arithmetic
+	 * @throws ArithmeticException
+	 *             if the rounding mode is UNNECESSARY and rounding is necessary
+	 */
+	public long read(CharSequence chars, int start, int end) {
+		checkBounds(chars.length(), start, end);
+		return readNumber(chars, start, end);
+	}
+
+	private long readNumber(char[] input, int start, int end) {
+		int i = start;
+		final boolean negative = i < end && input[i] == '-';
+		if (negative) {
+			i++;
+		}
+		// integer part
+		final int intStart = i;
+		i = skipDigits(input, i, end);
+		if (i == intStart || (input[intStart] == '0' & i - intStart > 1)) {
+			throw newNumberFormatException(new String(input, start, end - start));
+		}
+		// fraction part
+		int fractionDigits = 0;
+		if (i < end && input[i] == '.') {
+			final int fracStart = ++i;
+			i = skipDigits(input, i, end);
+			fractionDigits = i - fracStart;
+			if (fractionDigits == 0) {
+				throw newNumberFormatException(new String(input, start, end - start));
+			}
+		}
+		final int digitsEnd = i;
+		// exponent part
+		long exponent = 0;
+		if (i < end && (input[i] == 'e' | input[i] == 'E')) {
+			i++;
+			final boolean negativeExponent = i < end && input[i] == '-';
+			if (i < end && (negativeExponent | input[i] == '+')) {
+				i++;
+			}
+			final int expStart = i;
+			int exp = 0;
+			int digit;
+			while (i < end && (digit = input[i] - '0') >= 0 & digit <= 9) {
+				exp = Math.min(exp * 10 + digit, UnscaledParser.MAX_EXPONENT);
+				i++;
+			}
+			if (i == expStart) {
+				throw newNumberFormatException(new String(input, start, end - start));
+			}
+			exponent = negativeExponent ? -exp : exp;
+		}
+		if (i != end) {
+			throw newNumberFormatException(new String(input, start, end - start));
+		}
+		try {
+			// the digits range includes the decimal point which is skipped
+			return UnscaledParser.parse(arithmetic.getScale(), rounding, negative, input, intStart, digitsEnd,
+					exponent - fractionDigits);
+		} catch (ArithmeticException e) {
+			throw newNumberFormatException(new String(input, start, end - start), e);
+		}
+	}
+
+	private long readNumber(byte[] input, int start, int end) {
+		int i = start;
+		final boolean negative = i < end && input[i] == '-';
+		if (negative) {
+			i++;
+		}
+		// integer part
+		final int intStart = i;
+		i = skipDigits(input, i, end);
+		if (i == intStart || (input[intStart] == '0' & i - intStart > 1)) {
+			throw newNumberFormatException(new String(input, start, end - start, StandardCharsets.ISO_8859_1));
+		}
+		// fraction part
+		int fractionDigits = 0;
+		if (i < end && input[i] == '.') {
+			final int fracStart = ++i;
+			i = skipDigits(input, i, end);
+			fractionDigits = i - fracStart;
+			if (fractionDigits == 0) {
+				throw newNumberFormatException(new String(input, start, end - start, StandardCharsets.ISO_8859_1));
+			}
+		}
+		final int digitsEnd = i;
+		// exponent part
+		long exponent = 0;
+		if (i < end && (input[i] == 'e' | input[i] == 'E')) {
+			i++;
+			final boolean negativeExponent = i < end && input[i] == '-';
+			if (i < end && (negativeExponent | input[i] == '+')) {
+				i++;
+			}
+			final int expStart = i;
+			int exp = 0;
+			int digit;
+			while (i < end && (digit = input[i] - '0') >= 0 & digit <= 9) {
+				exp = Math.min(exp * 10 + digit, UnscaledParser.MAX_EXPONENT);
+				i++;
+			}
+			if (i == expStart) {
+				throw newNumberFormatException(new String(input, start, end - start, StandardCharsets.ISO_8859_1));
+			}
+			exponent = negativeExponent ? -exp : exp;
+		}
+		if (i != end) {
+			throw newNumberFormatException(new String(input, start, end - start, StandardCharsets.ISO_8859_1));
+		}
+		try {
+			// the digits range includes the decimal point which is skipped
+			return UnscaledParser.parse(arithmetic.getScale(), rounding, negative, input, intStart, digitsEnd,
+					exponent - fractionDigits);
+		} catch (ArithmeticException e) {
+			throw newNumberFormatException(new String(input, start, end - start, StandardCharsets.ISO_8859_1), e);
+		}
+	}
+
+	private long readNumber(CharSequence input, int start, int end) {
+		int i = start;
+		final boolean negative = i < end && input.charAt(i) == '-';
+		if (negative) {
+			i++;
+		}
+		// integer part
+		final int intStart = i;
+		i = skipDigits(input, i, end);
+		if (i == intStart || (input.charAt(intStart) == '0' & i - intStart > 1)) {
+			throw newNumberFormatException(input.subSequence(start, end).toString());
+		}
+		// fraction part
+		int fractionDigits = 0;
+		if (i < end && input.charAt(i) == '.') {
+			final int fracStart = ++i;
+			i = skipDigits(input, i, end);
+			fractionDigits = i - fracStart;
+			if (fractionDigits == 0) {
+				throw newNumberFormatException(input.subSequence(start, end).toString());
+			}
+		}
+		final int digitsEnd = i;
+		// exponent part
+		long exponent = 0;
+		if (i < end && (input.charAt(i) == 'e' | input.charAt(i) == 'E')) {
+			i++;
+			final boolean negativeExponent = i < end && input.charAt(i) == '-';
+			if (i < end && (negativeExponent | input.charAt(i) == '+')) {
+				i++;
+			}
+			final int expStart = i;
+			int exp = 0;
+			int digit;
+			while (i < end && (digit = input.charAt(i) - '0') >= 0 & digit <= 9) {
+				exp = Math.min(exp * 10 + digit, UnscaledParser.MAX_EXPONENT);
+				i++;
+			}
+			if (i == expStart) {
+				throw newNumberFormatException(input.subSequence(start, end).toString());
+			}
+			exponent = negativeExponent ? -exp : exp;
+		}
+		if (i != end) {
+			throw newNumberFormatException(input.subSequence(start, end).toString());
+		}
+		try {
+			// the digits range includes the decimal point which is skipped
+			return UnscaledParser.parse(arithmetic.getScale(), rounding, negative, input, intStart, digitsEnd,
+					exponent - fractionDigits);
+		} catch (ArithmeticException e) {
+			throw newNumberFormatException(input.subSequence(start, end).toString(), e);
+		}
+	}
+
+	private static final int skipDigits(char[] input, int start, int end) {
+		int i = start;
+		int digit;
+		while (i < end && (digit = input[i] - '0') >= 0 & digit <= 9) {
+			i++;
+		}
+		return i;
+	}
+
+	private static final int skipDigits(byte[] input, int start, int end) {
+		int i = start;
+		int digit;
+		while (i < end && (digit = input[i] - '0') >= 0 & digit <= 9) {
+			i++;
+		}
+		return i;
+	}
+
+	private static final int skipDigits(CharSequence input, int start, int end) {
+		int i = start;
+		int digit;
+		while (i < end && (digit = input.charAt(i) - '0') >= 0 & digit <= 9) {
+			i++;
+		}
+		return i;
+	}
+
+	private static final boolean isNumberChar(char ch) {
+		return (ch >= '0' & ch <= '9') | ch == '-' | ch == '+' | ch == '.' | ch == 'e' | ch == 'E';
+	}
+
+	private static final void checkBounds(int length, int start, int end) {
+		if (start < 0 | end > length | start > end) {
+			throw new IndexOutOfBoundsException("Start or end index is out of bounds: [" + start + ", " + end
+					+ "] must be in [0, " + length + "]");
+		}
+	}
+
+	private NumberFormatException newNumberFormatException(String input, ArithmeticException cause) {
+		Exceptions.rethrowIfRoundingNecessary(cause);
+		final NumberFormatException ex = newNumberFormatException(input);
+		ex.initCause(cause);
+		return ex;
+	}
+
+	private NumberFormatException newNumberFormatException(String input) {
+		return new NumberFormatException("Cannot parse JSON number as Decimal value with scale " + arithmetic.getScale()
+				+ " for input string: \"" + input + "\"");
+	}
+
+	/**
+	 * Returns a string consisting of the simple class name, scale and rounding mode.
+	 * 
+	 * @return a string like "JsonNumberReader[scale=2, rounding=HALF_UP]"
+	 */
+	@Override
+	public String toString() {
+		return "JsonNumberReader[scale=" + arithmetic.getScale() + ", rounding=" + arithmetic.getRoundingMode() + "]";
+	}
+}
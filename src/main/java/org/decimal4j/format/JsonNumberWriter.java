@@ -0,0 +1,168 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2023 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.format;
+
+import java.io.IOException;
+import java.util.Objects;
+
+import org.decimal4j.api.DecimalArithmetic;
+
+/**
+ * Writes unscaled decimal values of a given {@link DecimalArithmetic} as JSON numbers directly into {@code char}
+ * arrays, ASCII encoded {@code byte} arrays or {@link Appendable}s without allocating intermediate objects. Values are
+ * written in plain notation without exponent, for instance "-123.4500" for the unscaled value {@code -1234500} with
+ * scale 4, or "-123.45" if trailing zeros are stripped.
+ * <p>
+ * Instances are immutable and can safely be shared by multiple threads.
+ */
+public final class JsonNumberWriter {
+
+	/**
+	 * The maximum number of characters written for a single value, the required capacity of the destination array
+	 * is never larger than {@code MAX_LENGTH}.
+	 */
+	public static final int MAX_LENGTH = UnscaledWriter.MAX_LENGTH;
+
+	private final DecimalArithmetic arithmetic;
+	private final boolean stripTrailingZeros;
+
+	/**
+	 * Creates a writer for the given arithmetic writing all fraction digits including trailing zeros.
+	 * 
+	 * @param arithmetic
+	 *            the arithmetic defining the scale of the values written by this writer
+	 * @throws NullPointerException
+	 *             if arithmetic is null
+	 */
+	public JsonNumberWriter(DecimalArithmetic arithmetic) {
+		this(arithmetic, false);
+	}
+
+	/**
+	 * Creates a writer for the given arithmetic.
+	 * 
+	 * @param arithmetic
+	 *            the arithmetic defining the scale of the values written by this writer
+	 * @param stripTrailingZeros
+	 *            true if trailing zeros of the fraction part should be omitted, and the decimal point if no fraction
+	 *            digits remain
+	 * @throws NullPointerException
+	 *             if arithmetic is null
+	 */
+	public JsonNumberWriter(DecimalArithmetic arithmetic, boolean stripTrailingZeros) {
+		this.arithmetic = Objects.requireNonNull(arithmetic, "arithmetic cannot be null");
+		this.stripTrailingZeros = stripTrailingZeros;
+	}
+
+	/**
+	 * Returns the arithmetic defining the scale of the values written by this writer.
+	 * 
+	 * @return the arithmetic of this writer
+	 */
+	public DecimalArithmetic getArithmetic() {
+		return arithmetic;
+	}
+
+	/**
+	 * Returns true if trailing zeros of the fraction part are omitted.
+	 * 
+	 * @return true if trailing zeros are stripped
+	 */
+	public boolean isStripTrailingZeros() {
+		return stripTrailingZeros;
+	}
+
+	/**
+	 * Returns the number of characters written by the {@code write(..)} methods for the specified value.
+	 * 
+	 * @param uDecimal
+	 *            the unscaled value
+	 * @return the length of the JSON number representation, at most {@link #MAX_LENGTH}
+	 */
+	public int length(long uDecimal) {
+		final int scale = arithmetic.getScale();
+		final long negValue = UnscaledWriter.negAbs(uDecimal);
+		final int fractionDigits = stripTrailingZeros ? UnscaledWriter.fractionDigitsWithoutTrailingZeros(negValue, scale) : scale;
+		return UnscaledWriter.length(uDecimal < 0, negValue, scale, fractionDigits);
+	}
+
+	/**
+	 * Writes the specified value as JSON number into the given char array.
+	 * 
+	 * @param uDecimal
+	 *            the unscaled value to write
+	 * @param dst
+	 *            the destination array
+	 * @param offset
+	 *            the index in {@code dst} of the first character to write
+	 * @return the number of characters written
+	 * @throws IndexOutOfBoundsException
+	 *             if {@code offset} is negative or if {@code dst} has not enough space to write the value
+	 */
+	public int write(long uDecimal, char[] dst, int offset) {
+		return UnscaledWriter.write(uDecimal, arithmetic.getScale(), stripTrailingZeros, dst, offset);
+	}
+
+	/**
+	 * Writes the specified value as ASCII encoded JSON number into the given byte array.
+	 * 
+	 * @param uDecimal
+	 *            the unscaled value to write
+	 * @param dst
+	 *            the destination array
+	 * @param offset
+	 *            the index in {@code dst} of the first byte to write
+	 * @return the number of bytes written
+	 * @throws IndexOutOfBoundsException
+	 *             if {@code offset} is negative or if {@code dst} has not enough space to write the value
+	 */
+	public int write(long uDecimal, byte[] dst, int offset) {
+		return UnscaledWriter.write(uDecimal, arithmetic.getScale(), stripTrailingZeros, dst, offset);
+	}
+
+	/**
+	 * Appends the specified value as JSON number to the given appendable.
+	 * 
+	 * @param uDecimal
+	 *            the unscaled value to write
+	 * @param appendable
+	 *            the appendable to which the value is appended
+	 * @return the number of characters written
+	 * @throws IOException
+	 *             If an I/O error occurs when appending to {@code appendable}
+	 */
+	public int write(long uDecimal, Appendable appendable) throws IOException {
+		return UnscaledWriter.write(uDecimal, arithmetic.getScale(), stripTrailingZeros, appendable);
+	}
+
+	/**
+	 * Returns a string consisting of the simple class name, scale and strip-trailing-zeros flag.
+	 * 
+	 * @return a string like "JsonNumberWriter[scale=2, stripTrailingZeros=false]"
+	 */
+	@Override
+	public String toString() {
+		return "JsonNumberWriter[scale=" + arithmetic.getScale() + ", stripTrailingZeros=" + stripTrailingZeros + "]";
+	}
+}
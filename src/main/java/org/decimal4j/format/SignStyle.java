@@ -0,0 +1,70 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2023 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.format;
+
+/**
+ * Defines how the sign of a number is rendered by a {@link DecimalFormatter}.
+ */
+public enum SignStyle {
+	/**
+	 * Only negative values are prefixed with a minus sign, for instance "-1.50" and "1.50".
+	 */
+	NEGATIVE,
+	/**
+	 * Negative values are prefixed with a minus sign and positive values with a plus sign, for instance "-1.50" and
+	 * "+1.50"; zero has no sign.
+	 */
+	ALWAYS,
+	/**
+	 * Negative values are enclosed in parentheses as common in accounting, for instance "(1.50)" and "1.50".
+	 */
+	PARENTHESES;
+
+	/**
+	 * Returns the character written before the digits of a value with the given sign, or zero if no character is
+	 * written.
+	 * 
+	 * @param signum
+	 *            the signum of the value, -1, 0 or 1
+	 * @return the prefix character or zero if none
+	 */
+	final char prefix(int signum) {
+		if (signum < 0) {
+			return this == PARENTHESES ? '(' : '-';
+		}
+		return signum > 0 & this == ALWAYS ? '+' : 0;
+	}
+
+	/**
+	 * Returns the character written after the digits of a value with the given sign, or zero if no character is
+	 * written.
+	 * 
+	 * @param signum
+	 *            the signum of the value, -1, 0 or 1
+	 * @return the suffix character or zero if none
+	 */
+	final char suffix(int signum) {
+		return signum < 0 & this == PARENTHESES ? ')' : 0;
+	}
+}
@@ -0,0 +1,247 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2023 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.format;
+
+import java.io.IOException;
+
+import org.decimal4j.scale.Scales;
+
+/**
+ * Helper methods to write an unscaled decimal value as plain decimal number without exponent. Digits are extracted from
+ * the negated absolute value to also support {@link Long#MIN_VALUE}.
+ */
+final class UnscaledWriter {
+
+	/**
+	 * The maximum number of characters written for an unscaled value: sign, 19 digits and decimal point, or sign,
+	 * leading zero, decimal point and 18 fraction digits.
+	 */
+	static final int MAX_LENGTH = 21;
+
+	/**
+	 * Returns the non-positive value {@code -abs(uDecimal)}.
+	 * 
+	 * @param uDecimal
+	 *            the unscaled value
+	 * @return {@code -abs(uDecimal)} which is also valid for {@link Long#MIN_VALUE}
+	 */
+	static final long negAbs(long uDecimal) {
+		return uDecimal < 0 ? uDecimal : -uDecimal;
+	}
+
+	/**
+	 * Returns the number of decimal digits of the given non-positive value.
+	 * 
+	 * @param negValue
+	 *            the non-positive value
+	 * @return the number of digits, between 1 and 19
+	 */
+	static final int digitCount(long negValue) {
+		int count = 1;
+		long threshold = -10;
+		while (count < 19 && negValue <= threshold) {
+			count++;
+			threshold *= 10;
+		}
+		return count;
+	}
+
+	/**
+	 * Returns the digit at the given position of the non-positive value.
+	 * 
+	 * @param negValue
+	 *            the non-positive value
+	 * @param position
+	 *            the digit position, 0 for the least significant digit, must be in {@code [0, 18]}
+	 * @return the digit at position {@code position}
+	 */
+	static final int digitAt(long negValue, int position) {
+		return (int) -(Scales.getScaleMetrics(position).divideByScaleFactor(negValue) % 10);
+	}
+
+	/**
+	 * Returns the number of fraction digits remaining after removing trailing zeros.
+	 * 
+	 * @param negValue
+	 *            the non-positive value
+	 * @param scale
+	 *            the scale of the value
+	 * @return the number of fraction digits without trailing zeros, between 0 and {@code scale}
+	 */
+	static final int fractionDigitsWithoutTrailingZeros(long negValue, int scale) {
+		int fractionDigits = scale;
+		long value = negValue;
+		while (fractionDigits > 0 && value % 10 == 0) {
+			value /= 10;
+			fractionDigits--;
+		}
+		return fractionDigits;
+	}
+
+	/**
+	 * Returns the number of characters needed to write the given value.
+	 * 
+	 * @param negative
+	 *            true if the value is negative
+	 * @param negValue
+	 *            the non-positive value (absolute value negated)
+	 * @param scale
+	 *            the scale of the value
+	 * @param fractionDigits
+	 *            the number of fraction digits to write, at most {@code scale}
+	 * @return the number of characters that is written
+	 */
+	static final int length(boolean negative, long negValue, int scale, int fractionDigits) {
+		final int integerDigits = Math.max(1, digitCount(negValue) - scale);
+		return (negative ? 1 : 0) + integerDigits + (fractionDigits > 0 ? 1 + fractionDigits : 0);
+	}
+
+	/**
+	 * Writes the given value to the specified char array.
+	 * 
+	 * @param uDecimal
+	 *            the unscaled value
+	 * @param scale
+	 *            the scale of the value
+	 * @param stripTrailingZeros
+	 *            true if trailing fraction zeros should be omitted
+	 * @param dst
+	 *            the destination array
+	 * @param offset
+	 *            the index of the first character to write
+	 * @return the number of characters written
+	 * @throws IndexOutOfBoundsException
+	 *             if the destination array is too small
+	 */
+	static final int write(long uDecimal, int scale, boolean stripTrailingZeros, char[] dst, int offset) {
+		long negValue = negAbs(uDecimal);
+		final int fractionDigits = stripTrailingZeros ? fractionDigitsWithoutTrailingZeros(negValue, scale) : scale;
+		final int length = length(uDecimal < 0, negValue, scale, fractionDigits);
+		checkBounds(dst.length, offset, length);
+		negValue = Scales.getScaleMetrics(scale - fractionDigits).divideByScaleFactor(negValue);
+		int pos = offset + length;
+		for (int i = 0; i < fractionDigits; i++) {
+			dst[--pos] = (char) ('0' - negValue % 10);
+			negValue /= 10;
+		}
+		if (fractionDigits > 0) {
+			dst[--pos] = '.';
+		}
+		do {
+			dst[--pos] = (char) ('0' - negValue % 10);
+			negValue /= 10;
+		} while (negValue != 0);
+		if (uDecimal < 0) {
+			dst[--pos] = '-';
+		}
+		return length;
+	}
+
+	/**
+	 * Writes the given value to the specified byte array using ASCII characters.
+	 * 
+	 * @param uDecimal
+	 *            the unscaled value
+	 * @param scale
+	 *            the scale of the value
+	 * @param stripTrailingZeros
+	 *            true if trailing fraction zeros should be omitted
+	 * @param dst
+	 *            the destination array
+	 * @param offset
+	 *            the index of the first byte to write
+	 * @return the number of bytes written
+	 * @throws IndexOutOfBoundsException
+	 *             if the destination array is too small
+	 */
+	static final int write(long uDecimal, int scale, boolean stripTrailingZeros, byte[] dst, int offset) {
+		long negValue = negAbs(uDecimal);
+		final int fractionDigits = stripTrailingZeros ? fractionDigitsWithoutTrailingZeros(negValue, scale) : scale;
+		final int length = length(uDecimal < 0, negValue, scale, fractionDigits);
+		checkBounds(dst.length, offset, length);
+		negValue = Scales.getScaleMetrics(scale - fractionDigits).divideByScaleFactor(negValue);
+		int pos = offset + length;
+		for (int i = 0; i < fractionDigits; i++) {
+			dst[--pos] = (byte) ('0' - negValue % 10);
+			negValue /= 10;
+		}
+		if (fractionDigits > 0) {
+			dst[--pos] = '.';
+		}
+		do {
+			dst[--pos] = (byte) ('0' - negValue % 10);
+			negValue /= 10;
+		} while (negValue != 0);
+		if (uDecimal < 0) {
+			dst[--pos] = '-';
+		}
+		return length;
+	}
+
+	/**
+	 * Writes the given value to the specified appendable.
+	 * 
+	 * @param uDecimal
+	 *            the unscaled value
+	 * @param scale
+	 *            the scale of the value
+	 * @param stripTrailingZeros
+	 *            true if trailing fraction zeros should be omitted
+	 * @param appendable
+	 *            the appendable to which the characters are appended
+	 * @return the number of characters written
+	 * @throws IOException
+	 *             If an I/O error occurs when appending to {@code appendable}
+	 */
+	static final int write(long uDecimal, int scale, boolean stripTrailingZeros, Appendable appendable) throws IOException {
+		final long negValue = negAbs(uDecimal);
+		final int fractionDigits = stripTrailingZeros ? fractionDigitsWithoutTrailingZeros(negValue, scale) : scale;
+		final int integerDigits = Math.max(1, digitCount(negValue) - scale);
+		if (uDecimal < 0) {
+			appendable.append('-');
+		}
+		for (int pos = integerDigits + scale - 1; pos >= scale; pos--) {
+			appendable.append((char) ('0' + digitAt(negValue, pos)));
+		}
+		if (fractionDigits > 0) {
+			appendable.append('.');
+			for (int pos = scale - 1; pos >= scale - fractionDigits; pos--) {
+				appendable.append((char) ('0' + digitAt(negValue, pos)));
+			}
+		}
+		return length(uDecimal < 0, negValue, scale, fractionDigits);
+	}
+
+	private static final void checkBounds(int arrayLength, int offset, int length) {
+		if (offset < 0 | offset + length > arrayLength) {
+			throw new IndexOutOfBoundsException("Cannot write " + length + " characters at offset " + offset
+					+ " to array of length " + arrayLength);
+		}
+	}
+
+	// no instances
+	private UnscaledWriter() {
+		super();
+	}
+}
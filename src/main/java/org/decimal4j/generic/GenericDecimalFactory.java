@@ -52,6 +52,9 @@ public final class GenericDecimalFactory<S extends ScaleMetrics> implements Deci
 
 	private final S scaleMetrics;
 
+	/** BigDecimal caching of immutable values, or null for the default setting */
+	private volatile Boolean bigDecimalCache;
+
 	/**
 	 * Constructor with scale metrics argument.
 	 * <p>
@@ -87,6 +90,17 @@ public final class GenericDecimalFactory<S extends ScaleMetrics> implements Deci
 		return (Class<? extends GenericMutableDecimal<S>>) (Class<?>) GenericMutableDecimal.class;
 	}
 
+	@Override
+	public boolean isBigDecimalCacheEnabled() {
+		final Boolean enabled = bigDecimalCache;
+		return enabled == null ? DecimalFactory.super.isBigDecimalCacheEnabled() : enabled.booleanValue();
+	}
+
+	@Override
+	public void setBigDecimalCacheEnabled(boolean enabled) {
+		bigDecimalCache = Boolean.valueOf(enabled);
+	}
+
 	@Override
 	public GenericDecimalFactory<?> deriveFactory(int scale) {
 		return Factories.getGenericDecimalFactory(scale);
@@ -0,0 +1,176 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2023 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.stats;
+
+import org.decimal4j.api.DecimalArithmetic;
+
+/**
+ * Exponential moving average (EMA) of unscaled decimal values. The first
+ * value initializes the average; every subsequent value {@code x} updates the
+ * average to
+ * 
+ * <pre>
+ * ema = round(alpha * x + (1 - alpha) * ema)
+ * </pre>
+ * 
+ * where the sum of the two products is computed exactly in a 128-bit
+ * accumulator and rounded once with the rounding mode of the
+ * {@link #getArithmetic() arithmetic}. The update takes constant time and
+ * allocates no objects.
+ * <p>
+ * This class is not thread safe.
+ */
+public final class ExponentialMovingAverage {
+
+	private final DecimalArithmetic arithmetic;
+	private final long alpha;
+	private final long oneMinusAlpha;
+	private final Int128 accumulator = new Int128();
+	private final Int128 scaleFactor = new Int128();
+	private long count;
+	private long value;
+
+	/**
+	 * Creates an exponential moving average with the given smoothing factor.
+	 * 
+	 * @param arithmetic
+	 *            the arithmetic defining scale, rounding mode and overflow
+	 *            mode of values and average
+	 * @param unscaledAlpha
+	 *            the unscaled smoothing factor with the scale of the
+	 *            arithmetic, must be in {@code (0, 1]}
+	 * @throws IllegalArgumentException
+	 *             if {@code unscaledAlpha} is not in {@code (0, 1]}
+	 */
+	public ExponentialMovingAverage(DecimalArithmetic arithmetic, long unscaledAlpha) {
+		final long one = arithmetic.one();
+		if (unscaledAlpha <= 0 | unscaledAlpha > one) {
+			throw new IllegalArgumentException(
+					"alpha must be in (0, 1] but was " + arithmetic.toString(unscaledAlpha));
+		}
+		this.arithmetic = arithmetic;
+		this.alpha = unscaledAlpha;
+		this.oneMinusAlpha = one - unscaledAlpha;
+		this.scaleFactor.set(one);
+	}
+
+	/**
+	 * Returns an exponential moving average with the smoothing factor
+	 * {@code alpha = 2 / (span + 1)} rounded with the arithmetic's rounding
+	 * mode.
+	 * 
+	 * @param arithmetic
+	 *            the arithmetic defining scale, rounding mode and overflow
+	 *            mode of values and average
+	 * @param span
+	 *            the span in number of values, positive
+	 * @return a new exponential moving average for the given span
+	 * @throws IllegalArgumentException
+	 *             if {@code span} is not positive or if the rounded smoothing
+	 *             factor is zero
+	 */
+	public static final ExponentialMovingAverage withSpan(DecimalArithmetic arithmetic, int span) {
+		if (span <= 0) {
+			throw new IllegalArgumentException("span must be positive but was " + span);
+		}
+		return new ExponentialMovingAverage(arithmetic, arithmetic.divideByLong(arithmetic.fromLong(2), span + 1L));
+	}
+
+	/**
+	 * Returns the arithmetic defining scale, rounding mode and overflow mode
+	 * of the values.
+	 * 
+	 * @return the arithmetic of this average
+	 */
+	public final DecimalArithmetic getArithmetic() {
+		return arithmetic;
+	}
+
+	/**
+	 * Returns the smoothing factor.
+	 * 
+	 * @return the unscaled smoothing factor with the scale of the arithmetic
+	 */
+	public final long getAlpha() {
+		return alpha;
+	}
+
+	/**
+	 * Returns the number of values added since creation or the last reset.
+	 * 
+	 * @return the number of values
+	 */
+	public final long getCount() {
+		return count;
+	}
+
+	/**
+	 * Returns the current average.
+	 * 
+	 * @return the unscaled average
+	 * @throws IllegalStateException
+	 *             if no value has been added yet
+	 */
+	public final long getValue() {
+		if (count == 0) {
+			throw new IllegalStateException("No value has been added yet");
+		}
+		return value;
+	}
+
+	/**
+	 * Adds a value and returns the updated average.
+	 * 
+	 * @param unscaledValue
+	 *            the unscaled value to add
+	 * @return the unscaled updated average
+	 * @throws ArithmeticException
+	 *             if the rounding mode is UNNECESSARY and rounding is
+	 *             necessary
+	 */
+	public final long add(long unscaledValue) {
+		if (count == 0) {
+			value = unscaledValue;
+		} else {
+			accumulator.clear().addProduct(alpha, unscaledValue).addProduct(oneMinusAlpha, value);
+			value = Int128.divide(accumulator, scaleFactor, arithmetic);
+		}
+		count++;
+		return value;
+	}
+
+	/**
+	 * Resets this average to its initial state without values.
+	 */
+	public final void reset() {
+		count = 0;
+		value = 0;
+	}
+
+	@Override
+	public final String toString() {
+		return "ExponentialMovingAverage[alpha=" + arithmetic.toString(alpha) + ", count=" + count + ", value="
+				+ (count == 0 ? "n/a" : arithmetic.toString(value)) + ", arithmetic=" + arithmetic + "]";
+	}
+}
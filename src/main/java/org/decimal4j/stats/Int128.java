@@ -0,0 +1,389 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2023 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.stats;
+
+import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.arithmetic.Exceptions;
+import org.decimal4j.arithmetic.FlaggingArithmetic;
+import org.decimal4j.arithmetic.Unsigned;
+import org.decimal4j.truncate.DecimalRounding;
+import org.decimal4j.truncate.StatusFlags;
+
+/**
+ * Mutable signed 128-bit integer in two's complement representation used as
+ * accumulator by the window aggregators. Additions, subtractions and
+ * multiplications are performed modulo 2<sup>128</sup>; intermediate
+ * overflows are therefore harmless as long as the final value of an
+ * accumulated expression is in the range of a signed 128-bit integer.
+ * <p>
+ * Division methods round the quotient with the rounding mode of a given
+ * arithmetic and handle results that do not fit into a long according to the
+ * arithmetic's overflow mode. No objects are allocated by any of the methods.
+ */
+final class Int128 {
+
+	private long hi;
+	private long lo;
+
+	/**
+	 * Sets this value to zero.
+	 * 
+	 * @return this value
+	 */
+	final Int128 clear() {
+		hi = 0;
+		lo = 0;
+		return this;
+	}
+
+	/**
+	 * Sets this value to the given long value.
+	 * 
+	 * @param value
+	 *            the new value
+	 * @return this value
+	 */
+	final Int128 set(long value) {
+		hi = value >> 63;
+		lo = value;
+		return this;
+	}
+
+	/**
+	 * Sets this value to the two's complement value with the given high and
+	 * low 64 bits.
+	 * 
+	 * @param high
+	 *            the high 64 bits
+	 * @param low
+	 *            the low 64 bits
+	 * @return this value
+	 */
+	final Int128 set(long high, long low) {
+		hi = high;
+		lo = low;
+		return this;
+	}
+
+	/**
+	 * Sets this value to the given 128-bit value.
+	 * 
+	 * @param value
+	 *            the new value
+	 * @return this value
+	 */
+	final Int128 set(Int128 value) {
+		hi = value.hi;
+		lo = value.lo;
+		return this;
+	}
+
+	/**
+	 * Returns the high 64 bits of this value.
+	 * 
+	 * @return the high 64 bits
+	 */
+	final long high() {
+		return hi;
+	}
+
+	/**
+	 * Returns the low 64 bits of this value.
+	 * 
+	 * @return the low 64 bits
+	 */
+	final long low() {
+		return lo;
+	}
+
+	/**
+	 * Returns true if this value is in the range of a long.
+	 * 
+	 * @return true if {@code Long.MIN_VALUE <= this <= Long.MAX_VALUE}
+	 */
+	final boolean isLong() {
+		return hi == (lo >> 63);
+	}
+
+	/**
+	 * Returns true if this value is zero.
+	 * 
+	 * @return true if {@code this == 0}
+	 */
+	final boolean isZero() {
+		return (hi | lo) == 0;
+	}
+
+	/**
+	 * Adds the given long value to this value.
+	 * 
+	 * @param value
+	 *            the summand
+	 * @return this value
+	 */
+	final Int128 add(long value) {
+		return add(value >> 63, value);
+	}
+
+	/**
+	 * Subtracts the given long value from this value.
+	 * 
+	 * @param value
+	 *            the subtrahend
+	 * @return this value
+	 */
+	final Int128 subtract(long value) {
+		return subtract(value >> 63, value);
+	}
+
+	/**
+	 * Adds the given 128-bit value to this value.
+	 * 
+	 * @param value
+	 *            the summand
+	 * @return this value
+	 */
+	final Int128 add(Int128 value) {
+		return add(value.hi, value.lo);
+	}
+
+	/**
+	 * Subtracts the given 128-bit value from this value.
+	 * 
+	 * @param value
+	 *            the subtrahend
+	 * @return this value
+	 */
+	final Int128 subtract(Int128 value) {
+		return subtract(value.hi, value.lo);
+	}
+
+	/**
+	 * Adds the full 128-bit product of the two given values to this value.
+	 * 
+	 * @param a
+	 *            the first factor
+	 * @param b
+	 *            the second factor
+	 * @return this value
+	 */
+	final Int128 addProduct(long a, long b) {
+		return add(multiplyHigh(a, b), a * b);
+	}
+
+	/**
+	 * Subtracts the full 128-bit product of the two given values from this
+	 * value.
+	 * 
+	 * @param a
+	 *            the first factor
+	 * @param b
+	 *            the second factor
+	 * @return this value
+	 */
+	final Int128 subtractProduct(long a, long b) {
+		return subtract(multiplyHigh(a, b), a * b);
+	}
+
+	/**
+	 * Multiplies this value by the given factor.
+	 * 
+	 * @param factor
+	 *            the factor
+	 * @return this value
+	 */
+	final Int128 multiply(long factor) {
+		// low word is unsigned, subtract lo from the high part if the sign bit of factor is set
+		hi = hi * factor + Unsigned.multiplyHigh(lo, factor) - ((factor >> 63) & lo);
+		lo = lo * factor;
+		return this;
+	}
+
+	/**
+	 * Squares this value.
+	 * 
+	 * @return this value
+	 */
+	final Int128 square() {
+		hi = ((hi * lo) << 1) + Unsigned.multiplyHigh(lo, lo);
+		lo = lo * lo;
+		return this;
+	}
+
+	private final Int128 add(long h, long l) {
+		final long sum = lo + l;
+		hi += h + (Unsigned.isLess(sum, lo) ? 1 : 0);
+		lo = sum;
+		return this;
+	}
+
+	private final Int128 subtract(long h, long l) {
+		hi -= h + (Unsigned.isLess(lo, l) ? 1 : 0);
+		lo -= l;
+		return this;
+	}
+
+	/**
+	 * Returns the given value as long. If the value does not fit into a long,
+	 * the overflow mode of the arithmetic determines the result.
+	 * 
+	 * @param value
+	 *            the value to convert
+	 * @param arith
+	 *            the arithmetic defining the overflow mode
+	 * @return the value as long
+	 * @throws ArithmeticException
+	 *             if an overflow occurs and the arithmetic's overflow mode is
+	 *             set to throw an exception
+	 */
+	static final long toLong(Int128 value, DecimalArithmetic arith) {
+		return value.isLong() ? value.lo : overflow(arith, value.hi < 0, value.lo);
+	}
+
+	/**
+	 * Returns the quotient {@code dividend / divisor} rounded with the
+	 * arithmetic's rounding mode. If the quotient does not fit into a long,
+	 * the overflow mode of the arithmetic determines the result.
+	 * 
+	 * @param dividend
+	 *            the dividend
+	 * @param divisor
+	 *            the divisor
+	 * @param arith
+	 *            the arithmetic defining rounding and overflow mode
+	 * @return the rounded quotient
+	 * @throws ArithmeticException
+	 *             if {@code divisor} is zero, if the rounding mode is
+	 *             UNNECESSARY and rounding is necessary or if an overflow
+	 *             occurs and the overflow mode is set to throw an exception
+	 */
+	static final long divide(Int128 dividend, Int128 divisor, DecimalArithmetic arith) {
+		if (divisor.isZero()) {
+			throw new ArithmeticException("Division by zero: " + dividend + " / " + divisor);
+		}
+		if (dividend.isLong() & divisor.isLong()) {
+			return arith.divideByLong(dividend.lo, divisor.lo);
+		}
+		final boolean negative = (dividend.hi ^ divisor.hi) < 0;
+		// unsigned magnitudes of dividend and divisor
+		long nh = dividend.hi;
+		long nl = dividend.lo;
+		if (nh < 0) {
+			nh = nl == 0 ? -nh : ~nh;
+			nl = -nl;
+		}
+		long dh = divisor.hi;
+		long dl = divisor.lo;
+		if (dh < 0) {
+			dh = dl == 0 ? -dh : ~dh;
+			dl = -dl;
+		}
+		final long qh;
+		final long ql;
+		long rh;
+		long rl;
+		if (dh == 0) {
+			if (Unsigned.isLess(nh, dl)) {
+				qh = 0;
+				ql = Unsigned.divide(nh, nl, dl);
+			} else {
+				qh = Unsigned.divide(nh, dl);
+				ql = Unsigned.divide(nh - qh * dl, nl, dl);
+			}
+			rh = 0;
+			rl = nl - ql * dl;
+		} else {
+			// see Hacker's Delight, 9-5 unsigned doubleword division
+			final int n = Long.numberOfLeadingZeros(dh);
+			final long v1 = n == 0 ? dh : (dh << n) | (dl >>> (64 - n));
+			final long q1 = Unsigned.divide(nh >>> 1, (nl >>> 1) | (nh << 63), v1);
+			long q0 = q1 >>> (63 - n);
+			if (q0 != 0) {
+				q0--;
+			}
+			// remainder = dividend - q0 * divisor, fits into 128 bits
+			final long pl = q0 * dl;
+			final long ph = q0 * dh + Unsigned.multiplyHigh(q0, dl);
+			rh = nh - ph - (Unsigned.isLess(nl, pl) ? 1 : 0);
+			rl = nl - pl;
+			if (Unsigned.isGreater(rh, dh) | (rh == dh & !Unsigned.isLess(rl, dl))) {
+				q0++;
+				rh -= dh + (Unsigned.isLess(rl, dl) ? 1 : 0);
+				rl -= dl;
+			}
+			qh = 0;
+			ql = q0;
+		}
+		final long truncated = negative ? -ql : ql;
+		final int increment = Unsigned.calculateRoundingIncrement(DecimalRounding.valueOf(arith.getRoundingMode()),
+				negative ? -1 : 1, truncated, rh, rl, dh, dl);
+		final long result = truncated + increment;
+		if (qh != 0 | (ql < 0 & !(negative & ql == Long.MIN_VALUE)) | (increment > 0 & truncated == Long.MAX_VALUE)
+				| (increment < 0 & truncated == Long.MIN_VALUE)) {
+			return overflow(arith, negative, result);
+		}
+		if ((rh | rl) != 0) {
+			inexact(arith);
+		}
+		return result;
+	}
+
+	private static final long overflow(DecimalArithmetic arith, boolean negative, long truncatedResult) {
+		switch (arith.getOverflowMode()) {
+		case UNCHECKED:
+			return truncatedResult;
+		case CHECKED:
+			throw Exceptions.newOverflowArithmeticException("Overflow: result does not fit into a long");
+		case FLAGGING:
+			if (arith instanceof FlaggingArithmetic) {
+				((FlaggingArithmetic) arith).getStatusFlags().raise(StatusFlags.OVERFLOW | StatusFlags.INEXACT);
+			}
+			// fallthrough
+		default:
+			return negative ? Long.MIN_VALUE : Long.MAX_VALUE;
+		}
+	}
+
+	private static final void inexact(DecimalArithmetic arith) {
+		if (arith instanceof FlaggingArithmetic) {
+			((FlaggingArithmetic) arith).getStatusFlags().raise(StatusFlags.INEXACT);
+		}
+	}
+
+	/**
+	 * Returns the high 64 bits of the signed 128-bit product of the given
+	 * values.
+	 */
+	private static final long multiplyHigh(long x, long y) {
+		return Unsigned.multiplyHigh(x, y) - ((x >> 63) & y) - ((y >> 63) & x);
+	}
+
+	@Override
+	public final String toString() {
+		if (isLong()) {
+			return String.valueOf(lo);
+		}
+		return "Int128[hi=" + hi + ", lo=" + Long.toUnsignedString(lo) + "]";
+	}
+}
@@ -0,0 +1,454 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2023 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.stats;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+
+import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.arithmetic.FlaggingArithmetic;
+import org.decimal4j.truncate.StatusFlags;
+
+/**
+ * Parallel aggregation of unscaled decimal columns. Arrays are split into
+ * chunks that are processed by tasks in a {@link ForkJoinPool}; short arrays
+ * are processed in the calling thread.
+ * <p>
+ * Sums are accumulated exactly in 128-bit accumulators per task. The task
+ * results are combined and converted once into a long value with the given
+ * arithmetic, that is, the average is rounded once with the arithmetic's
+ * rounding mode and results that do not fit into a long are handled
+ * according to the arithmetic's overflow mode. The result is therefore
+ * independent of the number of tasks and of the order of the values.
+ * <p>
+ * Prefix sums are computed with a parallel scan: the sums of all chunks are
+ * computed in parallel, the chunk sums are accumulated into an offset per
+ * chunk, and the prefix sums of all chunks are then computed in parallel
+ * starting with the chunk offsets. Flags raised by a
+ * {@link org.decimal4j.truncate.OverflowMode#FLAGGING FLAGGING} arithmetic
+ * are collected per chunk and raised in the arithmetic's status word by the
+ * calling thread, exactly as if the prefix sums were computed sequentially.
+ */
+public final class ParallelDecimalOps {
+
+	/**
+	 * Ranges of at most this length are not split further by the parallel
+	 * tasks.
+	 */
+	static final int PARALLEL_THRESHOLD = 1 << 15;
+
+	/**
+	 * Maximum number of chunks per pool thread for the parallel scan.
+	 */
+	private static final int CHUNKS_PER_THREAD = 4;
+
+	/**
+	 * Returns the sum of the specified unscaled values using the
+	 * {@link ForkJoinPool#commonPool() common pool}.
+	 * 
+	 * @param arith
+	 *            the arithmetic defining the overflow mode of the result
+	 * @param unscaled
+	 *            the unscaled decimal values
+	 * @return the unscaled sum, zero if the array is empty
+	 * @throws ArithmeticException
+	 *             if the sum does not fit into a long and the arithmetic's
+	 *             overflow mode is set to throw an exception
+	 */
+	public static final long sum(DecimalArithmetic arith, long[] unscaled) {
+		return sum(arith, unscaled, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Returns the sum of the specified unscaled values using the given fork
+	 * join pool.
+	 * 
+	 * @param arith
+	 *            the arithmetic defining the overflow mode of the result
+	 * @param unscaled
+	 *            the unscaled decimal values
+	 * @param pool
+	 *            the pool executing the parallel tasks
+	 * @return the unscaled sum, zero if the array is empty
+	 * @throws ArithmeticException
+	 *             if the sum does not fit into a long and the arithmetic's
+	 *             overflow mode is set to throw an exception
+	 */
+	public static final long sum(DecimalArithmetic arith, long[] unscaled, ForkJoinPool pool) {
+		return Int128.toLong(exactSum(unscaled, pool), arith);
+	}
+
+	/**
+	 * Returns the average of the specified unscaled values using the
+	 * {@link ForkJoinPool#commonPool() common pool}.
+	 * 
+	 * @param arith
+	 *            the arithmetic defining rounding and overflow mode of the
+	 *            result
+	 * @param unscaled
+	 *            the unscaled decimal values
+	 * @return the unscaled average {@code round(sum(x) / n)}
+	 * @throws ArithmeticException
+	 *             if the array is empty, or if the rounding mode is
+	 *             UNNECESSARY and rounding is necessary
+	 */
+	public static final long average(DecimalArithmetic arith, long[] unscaled) {
+		return average(arith, unscaled, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Returns the average of the specified unscaled values using the given
+	 * fork join pool.
+	 * 
+	 * @param arith
+	 *            the arithmetic defining rounding and overflow mode of the
+	 *            result
+	 * @param unscaled
+	 *            the unscaled decimal values
+	 * @param pool
+	 *            the pool executing the parallel tasks
+	 * @return the unscaled average {@code round(sum(x) / n)}
+	 * @throws ArithmeticException
+	 *             if the array is empty, or if the rounding mode is
+	 *             UNNECESSARY and rounding is necessary
+	 */
+	public static final long average(DecimalArithmetic arith, long[] unscaled, ForkJoinPool pool) {
+		return Int128.divide(exactSum(unscaled, pool), new Int128().set(unscaled.length), arith);
+	}
+
+	/**
+	 * Returns the minimum of the specified unscaled values using the
+	 * {@link ForkJoinPool#commonPool() common pool}.
+	 * 
+	 * @param unscaled
+	 *            the unscaled decimal values
+	 * @return the smallest unscaled value
+	 * @throws NoSuchElementException
+	 *             if the array is empty
+	 */
+	public static final long min(long[] unscaled) {
+		return min(unscaled, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Returns the minimum of the specified unscaled values using the given
+	 * fork join pool.
+	 * 
+	 * @param unscaled
+	 *            the unscaled decimal values
+	 * @param pool
+	 *            the pool executing the parallel tasks
+	 * @return the smallest unscaled value
+	 * @throws NoSuchElementException
+	 *             if the array is empty
+	 */
+	public static final long min(long[] unscaled, ForkJoinPool pool) {
+		return extremum(unscaled, false, pool);
+	}
+
+	/**
+	 * Returns the maximum of the specified unscaled values using the
+	 * {@link ForkJoinPool#commonPool() common pool}.
+	 * 
+	 * @param unscaled
+	 *            the unscaled decimal values
+	 * @return the largest unscaled value
+	 * @throws NoSuchElementException
+	 *             if the array is empty
+	 */
+	public static final long max(long[] unscaled) {
+		return max(unscaled, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Returns the maximum of the specified unscaled values using the given
+	 * fork join pool.
+	 * 
+	 * @param unscaled
+	 *            the unscaled decimal values
+	 * @param pool
+	 *            the pool executing the parallel tasks
+	 * @return the largest unscaled value
+	 * @throws NoSuchElementException
+	 *             if the array is empty
+	 */
+	public static final long max(long[] unscaled, ForkJoinPool pool) {
+		return extremum(unscaled, true, pool);
+	}
+
+	/**
+	 * Computes the prefix sums {@code result[i] = unscaled[0] + ... + unscaled[i]}
+	 * using the {@link ForkJoinPool#commonPool() common pool}, for instance the
+	 * cumulative P&amp;L of a column of daily P&amp;L values.
+	 * 
+	 * @param arith
+	 *            the arithmetic defining the overflow mode of the results
+	 * @param unscaled
+	 *            the unscaled decimal values
+	 * @param result
+	 *            the array for the unscaled prefix sums, can be the same as
+	 *            {@code unscaled}
+	 * @throws IllegalArgumentException
+	 *             if the arrays have different lengths
+	 * @throws ArithmeticException
+	 *             if a prefix sum does not fit into a long and the
+	 *             arithmetic's overflow mode is set to throw an exception; the
+	 *             content of {@code result} is undefined in this case
+	 */
+	public static final void prefixSum(DecimalArithmetic arith, long[] unscaled, long[] result) {
+		prefixSum(arith, unscaled, result, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Computes the prefix sums {@code result[i] = unscaled[0] + ... + unscaled[i]}
+	 * using the given fork join pool. Every prefix sum is computed exactly and
+	 * converted into a long value according to the arithmetic's overflow mode.
+	 * 
+	 * @param arith
+	 *            the arithmetic defining the overflow mode of the results
+	 * @param unscaled
+	 *            the unscaled decimal values
+	 * @param result
+	 *            the array for the unscaled prefix sums, can be the same as
+	 *            {@code unscaled}
+	 * @param pool
+	 *            the pool executing the parallel tasks
+	 * @throws IllegalArgumentException
+	 *             if the arrays have different lengths
+	 * @throws ArithmeticException
+	 *             if a prefix sum does not fit into a long and the
+	 *             arithmetic's overflow mode is set to throw an exception; the
+	 *             content of {@code result} is undefined in this case
+	 */
+	public static final void prefixSum(DecimalArithmetic arith, long[] unscaled, long[] result, ForkJoinPool pool) {
+		final int length = unscaled.length;
+		if (length != result.length) {
+			throw new IllegalArgumentException("Array lengths must be equal but unscaled.length=" + length
+					+ ", result.length=" + result.length);
+		}
+		if (length <= PARALLEL_THRESHOLD || pool.getParallelism() == 1) {
+			prefixSum(arith, unscaled, 0, length, new Int128(), result);
+			return;
+		}
+		final int maxChunks = CHUNKS_PER_THREAD * pool.getParallelism();
+		final int chunkSize = Math.max(PARALLEL_THRESHOLD, (int) ((length + (long) maxChunks - 1) / maxChunks));
+		final int chunks = (int) ((length + (long) chunkSize - 1) / chunkSize);
+		final Int128[] sums = new Int128[chunks];
+		for (int i = 0; i < chunks; i++) {
+			sums[i] = new Int128();
+		}
+		// 1) sum of every chunk
+		pool.invoke(new ScanTask(arith, unscaled, null, sums, null, chunkSize, 0, chunks));
+		// 2) replace chunk sums with the sum of all preceding chunks
+		final Int128 offset = new Int128();
+		final Int128 chunkSum = new Int128();
+		for (int i = 0; i < chunks; i++) {
+			chunkSum.set(sums[i]);
+			sums[i].set(offset);
+			offset.add(chunkSum);
+		}
+		// 3) prefix sums of every chunk starting with the chunk offset, flags
+		// are collected per chunk as status words are bound to a thread
+		final StatusFlags[] flags = arith instanceof FlaggingArithmetic ? new StatusFlags[chunks] : null;
+		if (flags != null) {
+			for (int i = 0; i < chunks; i++) {
+				flags[i] = new StatusFlags();
+			}
+		}
+		pool.invoke(new ScanTask(arith, unscaled, result, sums, flags, chunkSize, 0, chunks));
+		// 4) raise collected flags in the status word of the calling thread
+		if (flags != null) {
+			final StatusFlags status = ((FlaggingArithmetic) arith).getStatusFlags();
+			for (int i = 0; i < chunks; i++) {
+				status.raise(flags[i].get());
+			}
+		}
+	}
+
+	private static final Int128 exactSum(long[] unscaled, ForkJoinPool pool) {
+		if (unscaled.length <= PARALLEL_THRESHOLD || pool.getParallelism() == 1) {
+			return sum(unscaled, 0, unscaled.length, new Int128());
+		}
+		return pool.invoke(new SumTask(unscaled, 0, unscaled.length));
+	}
+
+	private static final long extremum(long[] unscaled, boolean max, ForkJoinPool pool) {
+		if (unscaled.length == 0) {
+			throw new NoSuchElementException("Cannot compute " + (max ? "max" : "min") + " of an empty array");
+		}
+		if (unscaled.length <= PARALLEL_THRESHOLD || pool.getParallelism() == 1) {
+			return extremum(unscaled, 0, unscaled.length, max);
+		}
+		return pool.invoke(new ExtremumTask(unscaled, 0, unscaled.length, max));
+	}
+
+	private static final Int128 sum(long[] unscaled, int from, int to, Int128 sum) {
+		for (int i = from; i < to; i++) {
+			sum.add(unscaled[i]);
+		}
+		return sum;
+	}
+
+	private static final long extremum(long[] unscaled, int from, int to, boolean max) {
+		long result = unscaled[from];
+		if (max) {
+			for (int i = from + 1; i < to; i++) {
+				result = Math.max(result, unscaled[i]);
+			}
+		} else {
+			for (int i = from + 1; i < to; i++) {
+				result = Math.min(result, unscaled[i]);
+			}
+		}
+		return result;
+	}
+
+	private static final void prefixSum(DecimalArithmetic arith, long[] unscaled, int from, int to, Int128 sum,
+			long[] result) {
+		for (int i = from; i < to; i++) {
+			sum.add(unscaled[i]);
+			result[i] = Int128.toLong(sum, arith);
+		}
+	}
+
+	/**
+	 * Sums the two halves of a range in parallel.
+	 */
+	private static final class SumTask extends RecursiveTask<Int128> {
+		private static final long serialVersionUID = 1L;
+
+		private final long[] unscaled;
+		private final int from;
+		private final int to;
+
+		SumTask(long[] unscaled, int from, int to) {
+			this.unscaled = unscaled;
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected final Int128 compute() {
+			if (to - from <= PARALLEL_THRESHOLD) {
+				return sum(unscaled, from, to, new Int128());
+			}
+			final int mid = (from + to) >>> 1;
+			final SumTask left = new SumTask(unscaled, from, mid);
+			left.fork();
+			final Int128 right = new SumTask(unscaled, mid, to).compute();
+			return left.join().add(right);
+		}
+	}
+
+	/**
+	 * Computes the minimum or maximum of the two halves of a range in
+	 * parallel.
+	 */
+	private static final class ExtremumTask extends RecursiveTask<Long> {
+		private static final long serialVersionUID = 1L;
+
+		private final long[] unscaled;
+		private final int from;
+		private final int to;
+		private final boolean max;
+
+		ExtremumTask(long[] unscaled, int from, int to, boolean max) {
+			this.unscaled = unscaled;
+			this.from = from;
+			this.to = to;
+			this.max = max;
+		}
+
+		@Override
+		protected final Long compute() {
+			if (to - from <= PARALLEL_THRESHOLD) {
+				return extremum(unscaled, from, to, max);
+			}
+			final int mid = (from + to) >>> 1;
+			final ExtremumTask left = new ExtremumTask(unscaled, from, mid, max);
+			left.fork();
+			final long right = new ExtremumTask(unscaled, mid, to, max).compute();
+			final long leftValue = left.join();
+			return max ? Math.max(leftValue, right) : Math.min(leftValue, right);
+		}
+	}
+
+	/**
+	 * Processes a range of chunks of the parallel scan. Without result array,
+	 * the task adds the sum of every chunk to its accumulator. With result
+	 * array, the task computes the prefix sums of every chunk starting with
+	 * the chunk offset in the accumulator; flags of a flagging arithmetic are
+	 * then raised in the status word of the chunk.
+	 */
+	private static final class ScanTask extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+
+		private final DecimalArithmetic arith;
+		private final long[] unscaled;
+		private final long[] result;
+		private final Int128[] accumulators;
+		private final StatusFlags[] flags;
+		private final int chunkSize;
+		private final int fromChunk;
+		private final int toChunk;
+
+		ScanTask(DecimalArithmetic arith, long[] unscaled, long[] result, Int128[] accumulators, StatusFlags[] flags,
+				int chunkSize, int fromChunk, int toChunk) {
+			this.arith = arith;
+			this.unscaled = unscaled;
+			this.result = result;
+			this.accumulators = accumulators;
+			this.flags = flags;
+			this.chunkSize = chunkSize;
+			this.fromChunk = fromChunk;
+			this.toChunk = toChunk;
+		}
+
+		@Override
+		protected final void compute() {
+			if (toChunk - fromChunk == 1) {
+				final int from = fromChunk * chunkSize;
+				final int to = (int) Math.min((long) from + chunkSize, unscaled.length);
+				if (result == null) {
+					sum(unscaled, from, to, accumulators[fromChunk]);
+				} else {
+					final DecimalArithmetic chunkArith = flags == null ? arith
+							: ((FlaggingArithmetic) arith).withStatusFlags(flags[fromChunk]);
+					prefixSum(chunkArith, unscaled, from, to, accumulators[fromChunk], result);
+				}
+			} else {
+				final int mid = (fromChunk + toChunk) >>> 1;
+				invokeAll(new ScanTask(arith, unscaled, result, accumulators, flags, chunkSize, fromChunk, mid),
+						new ScanTask(arith, unscaled, result, accumulators, flags, chunkSize, mid, toChunk));
+			}
+		}
+	}
+
+	// no instances
+	private ParallelDecimalOps() {
+		super();
+	}
+}
@@ -0,0 +1,190 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2023 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.stats;
+
+import org.decimal4j.api.DecimalArithmetic;
+
+/**
+ * Rolling sum, mean and variance of the unscaled decimal values in a
+ * {@link Window}. The sum and the sum of squares of the values in the window
+ * are maintained in 128-bit accumulators which are updated in constant time
+ * when a value is added or evicted. No objects are allocated in steady state.
+ * <p>
+ * All values have the scale of the {@link #getArithmetic() arithmetic}. Each
+ * statistic is computed exactly from the accumulators and rounded once with
+ * the arithmetic's rounding mode; results that do not fit into a long are
+ * handled according to the arithmetic's overflow mode. The variance is exact
+ * as long as {@code n*sum(x^2) - sum(x)^2} of the unscaled values is less
+ * than 2<sup>127</sup>.
+ * <p>
+ * This class is not thread safe.
+ */
+public final class RollingStatistics extends RollingWindow {
+
+	private static final int VALUE = 0;
+
+	private final Int128 sum = new Int128();
+	private final Int128 sumOfSquares = new Int128();
+	// scratch values to avoid allocation
+	private final Int128 dividend = new Int128();
+	private final Int128 divisor = new Int128();
+
+	/**
+	 * Creates rolling statistics for the given arithmetic and window.
+	 * 
+	 * @param arithmetic
+	 *            the arithmetic defining scale, rounding mode and overflow
+	 *            mode of the values and statistics
+	 * @param window
+	 *            the window limiting the values included in the statistics
+	 */
+	public RollingStatistics(DecimalArithmetic arithmetic, Window window) {
+		super(arithmetic, window, 1);
+	}
+
+	/**
+	 * Adds a value to the window with the latest timestamp, evicting the
+	 * oldest value if the window is full.
+	 * 
+	 * @param unscaledValue
+	 *            the unscaled value to add
+	 */
+	public final void add(long unscaledValue) {
+		add(getLatestTimestamp(), unscaledValue);
+	}
+
+	/**
+	 * Adds a value with the given timestamp to the window, evicting the
+	 * values that are too old or exceed the maximum count of the window.
+	 * 
+	 * @param timestamp
+	 *            the timestamp of the value, not before the latest timestamp
+	 * @param unscaledValue
+	 *            the unscaled value to add
+	 * @throws IllegalArgumentException
+	 *             if {@code timestamp} is before the latest timestamp
+	 */
+	public final void add(long timestamp, long unscaledValue) {
+		final int slot = append(timestamp);
+		column(VALUE)[slot] = unscaledValue;
+		sum.add(unscaledValue);
+		sumOfSquares.addProduct(unscaledValue, unscaledValue);
+	}
+
+	@Override
+	final void evicted(int slot) {
+		final long value = column(VALUE)[slot];
+		sum.subtract(value);
+		sumOfSquares.subtractProduct(value, value);
+	}
+
+	@Override
+	final void reset() {
+		sum.clear();
+		sumOfSquares.clear();
+	}
+
+	/**
+	 * Returns the sum of the values in the window.
+	 * 
+	 * @return the unscaled sum of the values, zero if the window is empty
+	 * @throws ArithmeticException
+	 *             if an overflow occurs and the arithmetic's overflow mode is
+	 *             set to throw an exception
+	 */
+	public final long getSum() {
+		return Int128.toLong(sum, arithmetic);
+	}
+
+	/**
+	 * Returns the mean of the values in the window, rounded with the
+	 * arithmetic's rounding mode.
+	 * 
+	 * @return the unscaled mean {@code round(sum(x) / n)}
+	 * @throws ArithmeticException
+	 *             if the window is empty or if the rounding mode is
+	 *             UNNECESSARY and rounding is necessary
+	 */
+	public final long getMean() {
+		return Int128.divide(sum, divisor.set(getCount()), arithmetic);
+	}
+
+	/**
+	 * Returns the population variance of the values in the window, rounded
+	 * with the arithmetic's rounding mode.
+	 * 
+	 * @return the unscaled variance {@code round(sum((x - mean)^2) / n)}
+	 * @throws ArithmeticException
+	 *             if the window is empty, if the rounding mode is UNNECESSARY
+	 *             and rounding is necessary or if an overflow occurs and the
+	 *             arithmetic's overflow mode is set to throw an exception
+	 */
+	public final long getVariance() {
+		return variance(getCount());
+	}
+
+	/**
+	 * Returns the sample variance of the values in the window, rounded with
+	 * the arithmetic's rounding mode.
+	 * 
+	 * @return the unscaled variance {@code round(sum((x - mean)^2) / (n - 1))}
+	 * @throws ArithmeticException
+	 *             if the window contains less than two values, if the rounding
+	 *             mode is UNNECESSARY and rounding is necessary or if an
+	 *             overflow occurs and the arithmetic's overflow mode is set to
+	 *             throw an exception
+	 */
+	public final long getSampleVariance() {
+		return variance(getCount() - 1);
+	}
+
+	/**
+	 * Returns the population standard deviation of the values in the window,
+	 * that is, the square root of the {@link #getVariance() rounded variance}
+	 * rounded again with the arithmetic's rounding mode.
+	 * 
+	 * @return the unscaled standard deviation {@code sqrt(variance)}
+	 * @throws ArithmeticException
+	 *             if the window is empty, if the rounding mode is UNNECESSARY
+	 *             and rounding is necessary or if an overflow occurs and the
+	 *             arithmetic's overflow mode is set to throw an exception
+	 */
+	public final long getStandardDeviation() {
+		return arithmetic.sqrt(getVariance());
+	}
+
+	private final long variance(int degreesOfFreedom) {
+		// variance = (n*sum(x^2) - sum(x)^2) / (n * dof * 10^scale) with a single rounding
+		final int n = getCount();
+		dividend.set(sumOfSquares).multiply(n).subtract(divisor.set(sum).square());
+		divisor.set(n).multiply(degreesOfFreedom).multiply(arithmetic.getScaleMetrics().getScaleFactor());
+		return Int128.divide(dividend, divisor, arithmetic);
+	}
+
+	@Override
+	public final String toString() {
+		return "RollingStatistics[count=" + getCount() + ", sum=" + sum + ", window=" + getWindow() + ", arithmetic="
+				+ arithmetic + "]";
+	}
+}
@@ -0,0 +1,146 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2023 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.stats;
+
+import org.decimal4j.api.DecimalArithmetic;
+
+/**
+ * Rolling volume weighted average price (VWAP) of the trades in a
+ * {@link Window}. The notional {@code sum(price*quantity)} and the volume
+ * {@code sum(quantity)} are maintained in 128-bit accumulators which are
+ * updated in constant time when a trade is added or evicted. No objects are
+ * allocated in steady state.
+ * <p>
+ * Prices have the scale of the {@link #getArithmetic() arithmetic}, quantities
+ * are unscaled values of an arbitrary but fixed scale. The VWAP is computed
+ * exactly from the accumulators and rounded once with the arithmetic's
+ * rounding mode. The result is exact as long as the notional of the unscaled
+ * values is in the range of a signed 128-bit integer.
+ * <p>
+ * This class is not thread safe.
+ */
+public final class RollingVwap extends RollingWindow {
+
+	private static final int PRICE = 0;
+	private static final int QUANTITY = 1;
+
+	private final Int128 notional = new Int128();
+	private final Int128 volume = new Int128();
+
+	/**
+	 * Creates a rolling VWAP for the given price arithmetic and window.
+	 * 
+	 * @param arithmetic
+	 *            the arithmetic defining scale of prices, rounding mode and
+	 *            overflow mode
+	 * @param window
+	 *            the window limiting the trades included in the VWAP
+	 */
+	public RollingVwap(DecimalArithmetic arithmetic, Window window) {
+		super(arithmetic, window, 2);
+	}
+
+	/**
+	 * Adds a trade to the window with the latest timestamp, evicting the
+	 * oldest trade if the window is full.
+	 * 
+	 * @param unscaledPrice
+	 *            the unscaled trade price with the scale of the arithmetic
+	 * @param unscaledQuantity
+	 *            the unscaled trade quantity
+	 */
+	public final void add(long unscaledPrice, long unscaledQuantity) {
+		add(getLatestTimestamp(), unscaledPrice, unscaledQuantity);
+	}
+
+	/**
+	 * Adds a trade with the given timestamp to the window, evicting the trades
+	 * that are too old or exceed the maximum count of the window.
+	 * 
+	 * @param timestamp
+	 *            the timestamp of the trade, not before the latest timestamp
+	 * @param unscaledPrice
+	 *            the unscaled trade price with the scale of the arithmetic
+	 * @param unscaledQuantity
+	 *            the unscaled trade quantity
+	 * @throws IllegalArgumentException
+	 *             if {@code timestamp} is before the latest timestamp
+	 */
+	public final void add(long timestamp, long unscaledPrice, long unscaledQuantity) {
+		final int slot = append(timestamp);
+		column(PRICE)[slot] = unscaledPrice;
+		column(QUANTITY)[slot] = unscaledQuantity;
+		notional.addProduct(unscaledPrice, unscaledQuantity);
+		volume.add(unscaledQuantity);
+	}
+
+	@Override
+	final void evicted(int slot) {
+		final long quantity = column(QUANTITY)[slot];
+		notional.subtractProduct(column(PRICE)[slot], quantity);
+		volume.subtract(quantity);
+	}
+
+	@Override
+	final void reset() {
+		notional.clear();
+		volume.clear();
+	}
+
+	/**
+	 * Returns the traded volume in the window.
+	 * 
+	 * @return the unscaled sum of the quantities with the scale of the
+	 *         quantities
+	 * @throws ArithmeticException
+	 *             if an overflow occurs and the arithmetic's overflow mode is
+	 *             set to throw an exception
+	 */
+	public final long getVolume() {
+		return Int128.toLong(volume, arithmetic);
+	}
+
+	/**
+	 * Returns the volume weighted average price of the trades in the window,
+	 * rounded with the arithmetic's rounding mode.
+	 * 
+	 * @return the unscaled VWAP
+	 *         {@code round(sum(price*quantity) / sum(quantity))} with the
+	 *         scale of the arithmetic
+	 * @throws ArithmeticException
+	 *             if the volume in the window is zero, if the rounding mode is
+	 *             UNNECESSARY and rounding is necessary or if an overflow
+	 *             occurs and the arithmetic's overflow mode is set to throw an
+	 *             exception
+	 */
+	public final long getVwap() {
+		return Int128.divide(notional, volume, arithmetic);
+	}
+
+	@Override
+	public final String toString() {
+		return "RollingVwap[count=" + getCount() + ", volume=" + volume + ", window=" + getWindow() + ", arithmetic="
+				+ arithmetic + "]";
+	}
+}
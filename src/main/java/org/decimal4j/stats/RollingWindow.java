@@ -0,0 +1,204 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2023 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.stats;
+
+import org.decimal4j.api.DecimalArithmetic;
+
+/**
+ * Base class for window aggregators storing the entries of a {@link Window}
+ * in a ring buffer of {@code long} columns. Subclasses write the column values
+ * of new entries into the slot returned by {@link #append(long)} and update
+ * their accumulators; evicted entries are passed to {@link #evicted(int)} so
+ * that they can be subtracted from the accumulators again. The ring buffer
+ * grows by doubling its capacity until it reaches the maximum count of the
+ * window and is never shrunk, hence no objects are allocated in steady state.
+ */
+abstract class RollingWindow {
+
+	private static final int INITIAL_CAPACITY = 16;
+
+	final DecimalArithmetic arithmetic;
+	private final Window window;
+	private long[] timestamps;
+	private long[][] columns;
+	private int head;
+	private int count;
+	private long latestTimestamp = Long.MIN_VALUE;
+
+	RollingWindow(DecimalArithmetic arithmetic, Window window, int columnCount) {
+		this.arithmetic = arithmetic;
+		this.window = window;
+		final int capacity = Math.min(window.getMaxCount(), INITIAL_CAPACITY);
+		this.timestamps = window.isAgeLimited() ? new long[capacity] : null;
+		this.columns = new long[columnCount][capacity];
+	}
+
+	/**
+	 * Returns the arithmetic defining scale, rounding mode and overflow mode
+	 * of the aggregated values.
+	 * 
+	 * @return the arithmetic of this aggregator
+	 */
+	public final DecimalArithmetic getArithmetic() {
+		return arithmetic;
+	}
+
+	/**
+	 * Returns the window definition of this aggregator.
+	 * 
+	 * @return the window limiting the aggregated entries
+	 */
+	public final Window getWindow() {
+		return window;
+	}
+
+	/**
+	 * Returns the number of entries currently in the window.
+	 * 
+	 * @return the number of entries in the window
+	 */
+	public final int getCount() {
+		return count;
+	}
+
+	/**
+	 * Returns the latest timestamp passed to this aggregator.
+	 * 
+	 * @return the latest timestamp, or {@link Long#MIN_VALUE} if no timestamp
+	 *         has been passed yet
+	 */
+	public final long getLatestTimestamp() {
+		return latestTimestamp;
+	}
+
+	/**
+	 * Advances the time of the window to the given timestamp and evicts
+	 * entries that are too old.
+	 * 
+	 * @param timestamp
+	 *            the new time of the window, not before the latest timestamp
+	 * @throws IllegalArgumentException
+	 *             if {@code timestamp} is before the latest timestamp
+	 */
+	public final void advanceTo(long timestamp) {
+		checkTimestamp(timestamp);
+		latestTimestamp = timestamp;
+		evictExpired(timestamp);
+	}
+
+	/**
+	 * Removes all entries from the window and resets the latest timestamp.
+	 */
+	public final void clear() {
+		head = 0;
+		count = 0;
+		latestTimestamp = Long.MIN_VALUE;
+		reset();
+	}
+
+	final long[] column(int index) {
+		return columns[index];
+	}
+
+	/**
+	 * Evicts entries as required by the window, makes room for a new entry
+	 * and returns its slot in the column arrays.
+	 */
+	final int append(long timestamp) {
+		checkTimestamp(timestamp);
+		latestTimestamp = timestamp;
+		evictExpired(timestamp);
+		if (count == window.getMaxCount()) {
+			evictOldest();
+		}
+		final int capacity = columns[0].length;
+		if (count == capacity) {
+			grow(capacity);
+		}
+		int slot = head + count;
+		if (slot >= columns[0].length) {
+			slot -= columns[0].length;
+		}
+		if (timestamps != null) {
+			timestamps[slot] = timestamp;
+		}
+		count++;
+		return slot;
+	}
+
+	/**
+	 * Invoked when the entry in the given slot is evicted from the window.
+	 */
+	abstract void evicted(int slot);
+
+	/**
+	 * Invoked when the window is cleared to reset the accumulators.
+	 */
+	abstract void reset();
+
+	private final void checkTimestamp(long timestamp) {
+		if (timestamp < latestTimestamp) {
+			throw new IllegalArgumentException(
+					"Timestamp " + timestamp + " is before the latest timestamp " + latestTimestamp);
+		}
+	}
+
+	private final void evictExpired(long timestamp) {
+		if (timestamps != null) {
+			final long maxAge = window.getMaxAge();
+			// timestamps are ordered, hence the difference is a non-negative unsigned value
+			while (count > 0 && Long.compareUnsigned(timestamp - timestamps[head], maxAge) >= 0) {
+				evictOldest();
+			}
+		}
+	}
+
+	private final void evictOldest() {
+		evicted(head);
+		head++;
+		if (head == columns[0].length) {
+			head = 0;
+		}
+		count--;
+	}
+
+	private final void grow(int capacity) {
+		final int newCapacity = (int) Math.min(2L * capacity, window.getMaxCount());
+		if (timestamps != null) {
+			timestamps = unroll(timestamps, newCapacity);
+		}
+		for (int i = 0; i < columns.length; i++) {
+			columns[i] = unroll(columns[i], newCapacity);
+		}
+		head = 0;
+	}
+
+	private final long[] unroll(long[] values, int newCapacity) {
+		final long[] unrolled = new long[newCapacity];
+		final int first = Math.min(count, values.length - head);
+		System.arraycopy(values, head, unrolled, 0, first);
+		System.arraycopy(values, 0, unrolled, first, count - first);
+		return unrolled;
+	}
+}
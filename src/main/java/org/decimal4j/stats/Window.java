@@ -0,0 +1,156 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2023 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.stats;
+
+/**
+ * Defines the extent of a rolling window by a maximum number of entries, a
+ * maximum age of entries or both. Ages are measured in the unit of the
+ * timestamps passed to the window aggregators, for instance milliseconds or
+ * nanoseconds. An entry with timestamp {@code t} is evicted from the window
+ * when an entry with a timestamp {@code t + maxAge} or later is added, or
+ * when the window is advanced to such a timestamp.
+ * <p>
+ * Instances of this class are immutable.
+ */
+public final class Window {
+
+	private final int maxCount;
+	private final long maxAge;
+
+	private Window(int maxCount, long maxAge) {
+		this.maxCount = maxCount;
+		this.maxAge = maxAge;
+	}
+
+	/**
+	 * Returns a count based window holding at most the given number of
+	 * entries.
+	 * 
+	 * @param maxCount
+	 *            the maximum number of entries in the window, positive
+	 * @return a window limited by the number of entries
+	 * @throws IllegalArgumentException
+	 *             if {@code maxCount} is not positive
+	 */
+	public static final Window ofCount(int maxCount) {
+		return of(maxCount, Long.MAX_VALUE);
+	}
+
+	/**
+	 * Returns a time based window holding the entries with timestamps less
+	 * than {@code maxAge} time units before the latest timestamp.
+	 * 
+	 * @param maxAge
+	 *            the maximum age of entries in the window, positive
+	 * @return a window limited by the age of entries
+	 * @throws IllegalArgumentException
+	 *             if {@code maxAge} is not positive
+	 */
+	public static final Window ofAge(long maxAge) {
+		return of(Integer.MAX_VALUE, maxAge);
+	}
+
+	/**
+	 * Returns a window limited by both the number and the age of entries.
+	 * 
+	 * @param maxCount
+	 *            the maximum number of entries in the window, positive
+	 * @param maxAge
+	 *            the maximum age of entries in the window, positive
+	 * @return a window limited by the number and the age of entries
+	 * @throws IllegalArgumentException
+	 *             if {@code maxCount} or {@code maxAge} is not positive
+	 */
+	public static final Window of(int maxCount, long maxAge) {
+		if (maxCount <= 0) {
+			throw new IllegalArgumentException("maxCount must be positive but was " + maxCount);
+		}
+		if (maxAge <= 0) {
+			throw new IllegalArgumentException("maxAge must be positive but was " + maxAge);
+		}
+		return new Window(maxCount, maxAge);
+	}
+
+	/**
+	 * Returns the maximum number of entries in the window.
+	 * 
+	 * @return the maximum number of entries, {@link Integer#MAX_VALUE} if the
+	 *         window is not limited by the number of entries
+	 */
+	public final int getMaxCount() {
+		return maxCount;
+	}
+
+	/**
+	 * Returns the maximum age of entries in the window.
+	 * 
+	 * @return the maximum age of entries, {@link Long#MAX_VALUE} if the window
+	 *         is not limited by the age of entries
+	 */
+	public final long getMaxAge() {
+		return maxAge;
+	}
+
+	/**
+	 * Returns true if this window is limited by the number of entries.
+	 * 
+	 * @return true if {@link #getMaxCount()} is less than
+	 *         {@link Integer#MAX_VALUE}
+	 */
+	public final boolean isCountLimited() {
+		return maxCount != Integer.MAX_VALUE;
+	}
+
+	/**
+	 * Returns true if this window is limited by the age of entries.
+	 * 
+	 * @return true if {@link #getMaxAge()} is less than {@link Long#MAX_VALUE}
+	 */
+	public final boolean isAgeLimited() {
+		return maxAge != Long.MAX_VALUE;
+	}
+
+	@Override
+	public final int hashCode() {
+		return 31 * maxCount + (int) (maxAge ^ (maxAge >>> 32));
+	}
+
+	@Override
+	public final boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (obj == null || getClass() != obj.getClass()) {
+			return false;
+		}
+		final Window other = (Window) obj;
+		return maxCount == other.maxCount && maxAge == other.maxAge;
+	}
+
+	@Override
+	public final String toString() {
+		return "Window[maxCount=" + (isCountLimited() ? String.valueOf(maxCount) : "unlimited") + ", maxAge="
+				+ (isAgeLimited() ? String.valueOf(maxAge) : "unlimited") + "]";
+	}
+}
@@ -0,0 +1,37 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2023 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+/**
+ * Provides incremental, allocation-free aggregators for streams of unscaled
+ * decimal values such as the
+ * {@link org.decimal4j.stats.RollingStatistics RollingStatistics} with sum,
+ * mean and variance, the {@link org.decimal4j.stats.RollingVwap RollingVwap}
+ * and the {@link org.decimal4j.stats.ExponentialMovingAverage
+ * ExponentialMovingAverage}. Rolling aggregators are limited by a count or
+ * time based {@link org.decimal4j.stats.Window Window} and use 128-bit
+ * accumulators to avoid intermediate overflows.
+ * {@link org.decimal4j.stats.ParallelDecimalOps ParallelDecimalOps} computes
+ * exact sums, averages, extrema and prefix sums of large unscaled columns in
+ * parallel.
+ */
+package org.decimal4j.stats;
@@ -28,6 +28,8 @@ import java.util.Collections;
 import java.util.EnumSet;
 import java.util.Set;
 
+import org.decimal4j.arithmetic.Exceptions;
+
 /**
  * Defines the same constants as {@link RoundingMode} and implements the
  * functionality to actually perform such rounding.
@@ -212,7 +214,7 @@ public enum DecimalRounding {
 		@Override
 		public final int calculateRoundingIncrement(int sgn, long truncatedValue, TruncatedPart truncatedPart) {
 			if (truncatedPart.isGreaterThanZero()) {
-				throw new ArithmeticException("Rounding necessary");
+				throw Exceptions.newRoundingNecessaryArithmeticException();
 			}
 			return 0;
 		}
@@ -23,6 +23,8 @@
  */
 package org.decimal4j.truncate;
 
+import java.math.RoundingMode;
+
 /**
  * Mode to apply if arithmetic operations cause an overflow.
  */
@@ -31,11 +33,50 @@ public enum OverflowMode {
 	 * Operations causing an overflow silently return the truncated result (the
 	 * low order bytes of the extended result); no exception is thrown.
 	 */
-	UNCHECKED, //
+	UNCHECKED {
+		@Override
+		public final TruncationPolicy getTruncationPolicy(RoundingMode roundingMode) {
+			return UncheckedRounding.valueOf(roundingMode);
+		}
+	},
 	/**
 	 * Operations causing an overflow throw an {@link ArithmeticException}.
 	 */
-	CHECKED;
+	CHECKED {
+		@Override
+		public final TruncationPolicy getTruncationPolicy(RoundingMode roundingMode) {
+			return CheckedRounding.valueOf(roundingMode);
+		}
+	},
+	/**
+	 * Operations causing an overflow return {@link Long#MAX_VALUE} or
+	 * {@link Long#MIN_VALUE} depending on the sign of the exact result; no
+	 * exception is thrown. Conversions from other types such as {@code double}
+	 * or {@code String} still throw an exception if the value is out of range,
+	 * and so does {@code divideAndRemainder(..)} as the two results cannot be
+	 * saturated consistently.
+	 */
+	SATURATING {
+		@Override
+		public final TruncationPolicy getTruncationPolicy(RoundingMode roundingMode) {
+			return SaturatingRounding.valueOf(roundingMode);
+		}
+	},
+	/**
+	 * Operations causing an overflow return the same value as in
+	 * {@link #SATURATING} mode and raise the {@link StatusFlags#OVERFLOW
+	 * OVERFLOW} flag in a status word; operations with a rounded result raise
+	 * the {@link StatusFlags#INEXACT INEXACT} flag. No exception is thrown for
+	 * overflows.
+	 * 
+	 * @see StatusFlags
+	 */
+	FLAGGING {
+		@Override
+		public final TruncationPolicy getTruncationPolicy(RoundingMode roundingMode) {
+			return FlaggingRounding.valueOf(roundingMode);
+		}
+	};
 
 	/**
 	 * Returns true if overflow leads to an {@link ArithmeticException}
@@ -45,4 +86,15 @@ public enum OverflowMode {
 	public final boolean isChecked() {
 		return this == CHECKED;
 	}
+
+	/**
+	 * Returns the truncation policy with this overflow mode and the given
+	 * rounding mode.
+	 * 
+	 * @param roundingMode
+	 *            the rounding mode of the returned policy
+	 * @return the truncation policy for this overflow mode and
+	 *         {@code roundingMode}
+	 */
+	abstract public TruncationPolicy getTruncationPolicy(RoundingMode roundingMode);
 }
@@ -0,0 +1,146 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2023 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.truncate;
+
+/**
+ * Status word with sticky flags raised by arithmetic operations in
+ * {@link OverflowMode#FLAGGING FLAGGING} overflow mode, similar to the status
+ * flags defined by IEEE 754. Flags remain raised until they are explicitly
+ * {@link #clear() cleared}.
+ * <p>
+ * A status word is not thread safe and should only be used by a single thread
+ * at a time. Arithmetic instances obtained through the {@link FlaggingRounding}
+ * policies record their flags in the status word of the {@link #current()
+ * current thread}; an arithmetic with its own status word can be created via
+ * the {@code FlaggingArithmetic} constructors.
+ */
+public final class StatusFlags {
+
+	/**
+	 * Flag raised if the exact result of an operation was too large to be
+	 * represented and the result was saturated.
+	 */
+	public static final int OVERFLOW = 0x1;
+
+	/**
+	 * Flag raised if the result of an operation was rounded or saturated, that
+	 * is, if the result differs from the exact result.
+	 */
+	public static final int INEXACT = 0x2;
+
+	private static final ThreadLocal<StatusFlags> CURRENT = new ThreadLocal<StatusFlags>() {
+		@Override
+		protected StatusFlags initialValue() {
+			return new StatusFlags();
+		}
+	};
+
+	private int flags;
+
+	/**
+	 * Returns the status word associated with the current thread.
+	 * 
+	 * @return the status word of the current thread
+	 */
+	public static final StatusFlags current() {
+		return CURRENT.get();
+	}
+
+	/**
+	 * Raises the given flags. Flags that are already raised remain raised.
+	 * 
+	 * @param flags
+	 *            the flags to raise, a combination of {@link #OVERFLOW} and
+	 *            {@link #INEXACT}
+	 */
+	public final void raise(int flags) {
+		this.flags |= flags;
+	}
+
+	/**
+	 * Returns the currently raised flags.
+	 * 
+	 * @return the raised flags, a combination of {@link #OVERFLOW} and
+	 *         {@link #INEXACT}, or zero if no flag is raised
+	 */
+	public final int get() {
+		return flags;
+	}
+
+	/**
+	 * Returns true if the {@link #OVERFLOW} flag is raised.
+	 * 
+	 * @return true if an overflow has occurred since the flags were last
+	 *         cleared
+	 */
+	public final boolean isOverflow() {
+		return (flags & OVERFLOW) != 0;
+	}
+
+	/**
+	 * Returns true if the {@link #INEXACT} flag is raised.
+	 * 
+	 * @return true if a result has been rounded or saturated since the flags
+	 *         were last cleared
+	 */
+	public final boolean isInexact() {
+		return (flags & INEXACT) != 0;
+	}
+
+	/**
+	 * Clears all flags.
+	 */
+	public final void clear() {
+		flags = 0;
+	}
+
+	/**
+	 * Returns the currently raised flags and clears all flags.
+	 * 
+	 * @return the flags that were raised before clearing them
+	 */
+	public final int getAndClear() {
+		final int result = flags;
+		flags = 0;
+		return result;
+	}
+
+	/**
+	 * Returns a string like "StatusFlags[OVERFLOW|INEXACT]" listing the raised
+	 * flags.
+	 * 
+	 * @return a string representation of this status word
+	 */
+	@Override
+	public final String toString() {
+		final StringBuilder sb = new StringBuilder("StatusFlags[");
+		if (isOverflow()) {
+			sb.append("OVERFLOW");
+		}
+		if (isInexact()) {
+			sb.append(isOverflow() ? "|INEXACT" : "INEXACT");
+		}
+		return sb.append(']').toString();
+	}
+}
@@ -34,13 +34,16 @@ import java.util.Set;
  * {@link #getOverflowMode overflow mode} and {@link #getRoundingMode() rounding
  * mode}.
  * <p>
- * Truncation policies are are defined by {@link UncheckedRounding} and {@link CheckedRounding}.
+ * Truncation policies are are defined by {@link UncheckedRounding}, {@link CheckedRounding},
+ * {@link SaturatingRounding} and {@link FlaggingRounding}.
  * Some special truncation policies are also defined by
  * <ul>
  * <li>{@link #DEFAULT}</li>
  * <li>{@link #VALUES}</li>
  * <li>{@link UncheckedRounding#VALUES}</li>
  * <li>{@link CheckedRounding#VALUES}</li>
+ * <li>{@link SaturatingRounding#VALUES}</li>
+ * <li>{@link FlaggingRounding#VALUES}</li>
  * </ul>
  */
 public interface TruncationPolicy {
@@ -52,11 +55,13 @@ public interface TruncationPolicy {
 	/**
 	 * Unmodifiable set with all possible truncation policies.
 	 */
-	Set<TruncationPolicy> VALUES = Collections.unmodifiableSet(new LinkedHashSet<TruncationPolicy>(UncheckedRounding.VALUES.size(), 2f) {
+	Set<TruncationPolicy> VALUES = Collections.unmodifiableSet(new LinkedHashSet<TruncationPolicy>(UncheckedRounding.VALUES.size(), 4f) {
 		private static final long serialVersionUID = 1L;
 		{
 			addAll(UncheckedRounding.VALUES);
 			addAll(CheckedRounding.VALUES);
+			addAll(SaturatingRounding.VALUES);
+			addAll(FlaggingRounding.VALUES);
 		}
 	});
 
@@ -0,0 +1,196 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2023 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.arithmetic;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Hooks committing Java Flight Recorder events for overflows, conversions
+ * falling back to {@code BigDecimal} or {@code BigInteger}, slow path
+ * calculations and allocations of thread local scratch objects.
+ * <p>
+ * This version replaces the no-op Java 8 version in the multi-release jar on
+ * Java 11 and later. All events are disabled by default and can be enabled
+ * through JFR settings. When an event is disabled, {@link Event#isEnabled()}
+ * is constant false and the event allocation is eliminated by escape analysis.
+ */
+final class DecimalEvents {
+
+	/** Category shared by all decimal4j events */
+	private static final String CATEGORY = "decimal4j";
+
+	/** Nesting depth of sections with suppressed overflow events per thread */
+	private static final ThreadLocal<int[]> SUPPRESSED_OVERFLOWS = ThreadLocal.withInitial(() -> new int[1]);
+
+	@Name("org.decimal4j.Overflow")
+	@Label("Decimal Overflow")
+	@Description("An overflow exception is thrown by a decimal operation")
+	@Category(CATEGORY)
+	@Enabled(false)
+	@StackTrace(true)
+	static final class OverflowEvent extends Event {
+		@Label("Message")
+		String message;
+	}
+
+	@Name("org.decimal4j.ConversionFallback")
+	@Label("Decimal Conversion Fallback")
+	@Description("A conversion is performed through BigDecimal or BigInteger arithmetic")
+	@Category(CATEGORY)
+	@Enabled(false)
+	@StackTrace(true)
+	static final class ConversionFallbackEvent extends Event {
+		@Label("Conversion")
+		String conversion;
+		@Label("Scale")
+		int scale;
+	}
+
+	@Name("org.decimal4j.SlowPath")
+	@Label("Decimal Slow Path")
+	@Description("A decimal operation is calculated with extended precision")
+	@Category(CATEGORY)
+	@Enabled(false)
+	@StackTrace(true)
+	static final class SlowPathEvent extends Event {
+		@Label("Operation")
+		String operation;
+		@Label("Scale")
+		int scale;
+	}
+
+	@Name("org.decimal4j.ThreadLocalAllocation")
+	@Label("Decimal Thread Local Allocation")
+	@Description("A thread local scratch object is allocated")
+	@Category(CATEGORY)
+	@Enabled(false)
+	@StackTrace(true)
+	static final class ThreadLocalAllocationEvent extends Event {
+		@Label("Type")
+		Class<?> type;
+	}
+
+	/**
+	 * Records an overflow exception that is about to be thrown.
+	 * 
+	 * @param message
+	 *            the exception message
+	 */
+	static final void overflow(String message) {
+		final OverflowEvent event = new OverflowEvent();
+		if (event.isEnabled() && SUPPRESSED_OVERFLOWS.get()[0] == 0) {
+			event.message = message;
+			event.commit();
+		}
+	}
+
+	/**
+	 * Starts a section in which overflow exceptions are caught by the caller
+	 * and not thrown to the application, for instance by saturating
+	 * arithmetic. Overflows are not recorded in this section of the current
+	 * thread until it is ended with {@link #restoreOverflows(boolean)}. The
+	 * thread local depth is only accessed if the overflow event is enabled.
+	 * 
+	 * @return the value to pass to {@link #restoreOverflows(boolean)}
+	 */
+	static final boolean suppressOverflows() {
+		if (new OverflowEvent().isEnabled()) {
+			SUPPRESSED_OVERFLOWS.get()[0]++;
+			return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Ends a section started with {@link #suppressOverflows()}.
+	 * 
+	 * @param suppressed
+	 *            the value returned by {@link #suppressOverflows()}
+	 */
+	static final void restoreOverflows(boolean suppressed) {
+		if (suppressed) {
+			SUPPRESSED_OVERFLOWS.get()[0]--;
+		}
+	}
+
+	/**
+	 * Records a conversion that is performed through {@code BigDecimal} or
+	 * {@code BigInteger} arithmetic.
+	 * 
+	 * @param conversion
+	 *            the name of the conversion
+	 * @param scale
+	 *            the scale of the decimal value
+	 */
+	static final void conversionFallback(String conversion, int scale) {
+		final ConversionFallbackEvent event = new ConversionFallbackEvent();
+		if (event.isEnabled()) {
+			event.conversion = conversion;
+			event.scale = scale;
+			event.commit();
+		}
+	}
+
+	/**
+	 * Records a calculation performed with extended precision.
+	 * 
+	 * @param operation
+	 *            the name of the operation
+	 * @param scale
+	 *            the scale of the decimal value
+	 */
+	static final void slowPath(String operation, int scale) {
+		final SlowPathEvent event = new SlowPathEvent();
+		if (event.isEnabled()) {
+			event.operation = operation;
+			event.scale = scale;
+			event.commit();
+		}
+	}
+
+	/**
+	 * Records the allocation of a thread local scratch object.
+	 * 
+	 * @param type
+	 *            the class of the allocated object
+	 */
+	static final void threadLocalAllocation(Class<?> type) {
+		final ThreadLocalAllocationEvent event = new ThreadLocalAllocationEvent();
+		if (event.isEnabled()) {
+			event.type = type;
+			event.commit();
+		}
+	}
+
+	// no instances
+	private DecimalEvents() {
+		super();
+	}
+}
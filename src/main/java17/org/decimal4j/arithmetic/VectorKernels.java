@@ -0,0 +1,200 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2023 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.arithmetic;
+
+import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.scale.ScaleMetrics;
+import org.decimal4j.scale.Scales;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShape;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Bulk kernels using the Vector API with the preferred species of the
+ * platform, for instance 4 long lanes with AVX2 or 8 lanes with AVX-512. The
+ * class must only be loaded if the module {@code jdk.incubator.vector} is
+ * present.
+ * <p>
+ * Checked kernels compute an overflow mask per vector. If any lane overflows,
+ * the remaining elements starting with the current vector are processed by the
+ * scalar operation of the arithmetic which throws the same exception as the
+ * element by element operation.
+ */
+final class VectorKernels {
+
+	private static final VectorSpecies<Long> SPECIES = LongVector.SPECIES_PREFERRED;
+	private static final VectorSpecies<Integer> INT_SPECIES = VectorSpecies.of(int.class,
+			VectorShape.forBitSize(SPECIES.vectorBitSize() / 2));
+
+	static void add(long[] a, long[] b, long[] result, int length) {
+		final int bound = SPECIES.loopBound(length);
+		int i = 0;
+		for (; i < bound; i += SPECIES.length()) {
+			final LongVector va = LongVector.fromArray(SPECIES, a, i);
+			final LongVector vb = LongVector.fromArray(SPECIES, b, i);
+			va.add(vb).intoArray(result, i);
+		}
+		for (; i < length; i++) {
+			result[i] = a[i] + b[i];
+		}
+	}
+
+	static void addChecked(DecimalArithmetic arith, long[] a, long[] b, long[] result, int length) {
+		final int bound = SPECIES.loopBound(length);
+		int i = 0;
+		for (; i < bound; i += SPECIES.length()) {
+			final LongVector va = LongVector.fromArray(SPECIES, a, i);
+			final LongVector vb = LongVector.fromArray(SPECIES, b, i);
+			final LongVector sum = va.add(vb);
+			// overflow if both operands have a different sign than the sum
+			final VectorMask<Long> overflow = va.lanewise(VectorOperators.XOR, sum)
+					.and(vb.lanewise(VectorOperators.XOR, sum)).compare(VectorOperators.LT, 0);
+			if (overflow.anyTrue()) {
+				break;
+			}
+			sum.intoArray(result, i);
+		}
+		for (; i < length; i++) {
+			result[i] = arith.add(a[i], b[i]);
+		}
+	}
+
+	static void subtract(long[] a, long[] b, long[] result, int length) {
+		final int bound = SPECIES.loopBound(length);
+		int i = 0;
+		for (; i < bound; i += SPECIES.length()) {
+			final LongVector va = LongVector.fromArray(SPECIES, a, i);
+			final LongVector vb = LongVector.fromArray(SPECIES, b, i);
+			va.sub(vb).intoArray(result, i);
+		}
+		for (; i < length; i++) {
+			result[i] = a[i] - b[i];
+		}
+	}
+
+	static void subtractChecked(DecimalArithmetic arith, long[] a, long[] b, long[] result, int length) {
+		final int bound = SPECIES.loopBound(length);
+		int i = 0;
+		for (; i < bound; i += SPECIES.length()) {
+			final LongVector va = LongVector.fromArray(SPECIES, a, i);
+			final LongVector vb = LongVector.fromArray(SPECIES, b, i);
+			final LongVector diff = va.sub(vb);
+			// overflow if operands have different signs and the sign of the
+			// difference differs from the minuend
+			final VectorMask<Long> overflow = va.lanewise(VectorOperators.XOR, vb)
+					.and(va.lanewise(VectorOperators.XOR, diff)).compare(VectorOperators.LT, 0);
+			if (overflow.anyTrue()) {
+				break;
+			}
+			diff.intoArray(result, i);
+		}
+		for (; i < length; i++) {
+			result[i] = arith.subtract(a[i], b[i]);
+		}
+	}
+
+	static void multiplyByPowerOf10(long[] a, int n, long[] result, int length) {
+		final long factor = Scales.getScaleMetrics(n).getScaleFactor();
+		final int bound = SPECIES.loopBound(length);
+		int i = 0;
+		for (; i < bound; i += SPECIES.length()) {
+			LongVector.fromArray(SPECIES, a, i).mul(factor).intoArray(result, i);
+		}
+		for (; i < length; i++) {
+			result[i] = a[i] * factor;
+		}
+	}
+
+	static void multiplyByPowerOf10Checked(DecimalArithmetic arith, long[] a, int n, long[] result, int length) {
+		final ScaleMetrics scaleMetrics = Scales.getScaleMetrics(n);
+		final long factor = scaleMetrics.getScaleFactor();
+		final long maxOperand = scaleMetrics.getMaxIntegerValue();
+		final long minOperand = scaleMetrics.getMinIntegerValue();
+		final int bound = SPECIES.loopBound(length);
+		int i = 0;
+		for (; i < bound; i += SPECIES.length()) {
+			final LongVector va = LongVector.fromArray(SPECIES, a, i);
+			final VectorMask<Long> overflow = va.compare(VectorOperators.GT, maxOperand)
+					.or(va.compare(VectorOperators.LT, minOperand));
+			if (overflow.anyTrue()) {
+				break;
+			}
+			va.mul(factor).intoArray(result, i);
+		}
+		for (; i < length; i++) {
+			result[i] = arith.multiplyByPowerOf10(a[i], n);
+		}
+	}
+
+	static void min(long[] a, long[] b, long[] result, int length) {
+		final int bound = SPECIES.loopBound(length);
+		int i = 0;
+		for (; i < bound; i += SPECIES.length()) {
+			final LongVector va = LongVector.fromArray(SPECIES, a, i);
+			final LongVector vb = LongVector.fromArray(SPECIES, b, i);
+			va.min(vb).intoArray(result, i);
+		}
+		for (; i < length; i++) {
+			result[i] = Math.min(a[i], b[i]);
+		}
+	}
+
+	static void max(long[] a, long[] b, long[] result, int length) {
+		final int bound = SPECIES.loopBound(length);
+		int i = 0;
+		for (; i < bound; i += SPECIES.length()) {
+			final LongVector va = LongVector.fromArray(SPECIES, a, i);
+			final LongVector vb = LongVector.fromArray(SPECIES, b, i);
+			va.max(vb).intoArray(result, i);
+		}
+		for (; i < length; i++) {
+			result[i] = Math.max(a[i], b[i]);
+		}
+	}
+
+	static void compare(long[] a, long[] b, int[] result, int length) {
+		final LongVector zero = LongVector.zero(SPECIES);
+		final int bound = SPECIES.loopBound(length);
+		int i = 0;
+		for (; i < bound; i += SPECIES.length()) {
+			final LongVector va = LongVector.fromArray(SPECIES, a, i);
+			final LongVector vb = LongVector.fromArray(SPECIES, b, i);
+			final LongVector signum = zero.blend(-1, va.compare(VectorOperators.LT, vb))
+					.blend(1, va.compare(VectorOperators.GT, vb));
+			((IntVector) signum.convertShape(VectorOperators.L2I, INT_SPECIES, 0)).intoArray(result, i);
+		}
+		for (; i < length; i++) {
+			result[i] = Long.compare(a[i], b[i]);
+		}
+	}
+
+	// no instances
+	private VectorKernels() {
+		super();
+	}
+}
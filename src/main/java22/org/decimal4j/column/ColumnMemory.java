@@ -0,0 +1,96 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2023 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.column;
+
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+
+import org.decimal4j.scale.ScaleMetrics;
+
+/**
+ * Allocates and maps the memory of decimal columns. This Java 22
+ * implementation returns columns backed by a {@link MemorySegment} whose
+ * lifetime is bound to a shared {@link Arena} owned by the column.
+ */
+final class ColumnMemory {
+
+	/**
+	 * Allocates a zero initialised column of the given length.
+	 * 
+	 * @param scaleMetrics
+	 *            the scale metrics of the column values
+	 * @param length
+	 *            the number of values
+	 * @param <S>
+	 *            the scale metrics type
+	 * @return the new column
+	 */
+	static <S extends ScaleMetrics> DecimalColumn<S> allocate(S scaleMetrics, long length) {
+		final Arena arena = Arena.ofShared();
+		try {
+			final MemorySegment segment = arena.allocate(length << 3, Long.BYTES);
+			return new SegmentDecimalColumn<S>(scaleMetrics, arena, segment, false);
+		} catch (RuntimeException | Error e) {
+			arena.close();
+			throw e;
+		}
+	}
+
+	/**
+	 * Maps a column of the given length from a file channel.
+	 * 
+	 * @param scaleMetrics
+	 *            the scale metrics of the column values
+	 * @param channel
+	 *            the file channel to map
+	 * @param mode
+	 *            the map mode
+	 * @param length
+	 *            the number of values
+	 * @param <S>
+	 *            the scale metrics type
+	 * @return the mapped column
+	 * @throws IOException
+	 *             if mapping the file fails
+	 */
+	static <S extends ScaleMetrics> DecimalColumn<S> map(S scaleMetrics, FileChannel channel, MapMode mode, long length)
+			throws IOException {
+		final Arena arena = Arena.ofShared();
+		try {
+			final MemorySegment segment = channel.map(mode, 0, length << 3, arena);
+			return new SegmentDecimalColumn<S>(scaleMetrics, arena, segment, mode == MapMode.READ_ONLY);
+		} catch (IOException | RuntimeException | Error e) {
+			arena.close();
+			throw e;
+		}
+	}
+
+	// no instances
+	private ColumnMemory() {
+		super();
+	}
+}
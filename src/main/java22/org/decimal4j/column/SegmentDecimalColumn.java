@@ -0,0 +1,114 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2023 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.column;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteOrder;
+import java.nio.ReadOnlyBufferException;
+import java.util.Objects;
+
+import org.decimal4j.api.Decimal;
+import org.decimal4j.api.ImmutableDecimal;
+import org.decimal4j.factory.Factories;
+import org.decimal4j.scale.ScaleMetrics;
+
+/**
+ * Decimal column backed by a single native or memory mapped
+ * {@link MemorySegment}. The segment is released when the owning
+ * {@link Arena} is closed by {@link #close()}; access after closing fails
+ * with an {@link IllegalStateException}.
+ * 
+ * @param <S>
+ *            the scale metrics type associated with the values of this column
+ */
+final class SegmentDecimalColumn<S extends ScaleMetrics> implements DecimalColumn<S> {
+
+	private static final ValueLayout.OfLong LAYOUT = ValueLayout.JAVA_LONG.withOrder(ByteOrder.LITTLE_ENDIAN);
+
+	private final S scaleMetrics;
+	private final Arena arena;
+	private final MemorySegment segment;
+	private final long length;
+	private final boolean readOnly;
+
+	SegmentDecimalColumn(S scaleMetrics, Arena arena, MemorySegment segment, boolean readOnly) {
+		this.scaleMetrics = Objects.requireNonNull(scaleMetrics, "scaleMetrics cannot be null");
+		this.arena = Objects.requireNonNull(arena, "arena cannot be null");
+		this.segment = Objects.requireNonNull(segment, "segment cannot be null");
+		this.length = segment.byteSize() >>> 3;
+		this.readOnly = readOnly;
+	}
+
+	@Override
+	public S getScaleMetrics() {
+		return scaleMetrics;
+	}
+
+	@Override
+	public long length() {
+		return length;
+	}
+
+	@Override
+	public boolean isReadOnly() {
+		return readOnly;
+	}
+
+	@Override
+	public long getUnscaled(long index) {
+		return segment.getAtIndex(LAYOUT, index);
+	}
+
+	@Override
+	public void setUnscaled(long index, long unscaled) {
+		if (readOnly) {
+			throw new ReadOnlyBufferException();
+		}
+		segment.setAtIndex(LAYOUT, index, unscaled);
+	}
+
+	@Override
+	public ImmutableDecimal<S> get(long index) {
+		return Factories.getDecimalFactory(scaleMetrics).valueOfUnscaled(getUnscaled(index));
+	}
+
+	@Override
+	public void set(long index, Decimal<S> value) {
+		setUnscaled(index, value.unscaledValue());
+	}
+
+	@Override
+	public void close() {
+		if (arena.scope().isAlive()) {
+			arena.close();
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "DecimalColumn[scale=" + scaleMetrics.getScale() + ", length=" + length + (readOnly ? ", readOnly]" : "]");
+	}
+}
@@ -58,45 +58,34 @@ public final class Decimal${scale}f extends AbstractImmutableDecimal<Scale${scal
      */
 	public static final Decimal${scale}f ULP = new Decimal${scale}f(1);
 
-    /**
-     * Initialize static constant array when class is loaded.
-     */
+    /** Largest absolute integer value returned from the constant cache by {@link #valueOf(long)}.*/
 <#if (scale <= 17)>
     private static final int MAX_CONSTANT = 10;
 <#else>
     private static final int MAX_CONSTANT = 9;
 </#if>
-    private static final Decimal${scale}f POS_CONST[] = new Decimal${scale}f[MAX_CONSTANT+1];
-    private static final Decimal${scale}f NEG_CONST[] = new Decimal${scale}f[MAX_CONSTANT+1];
-
-    static {
-        for (int i = 1; i <= MAX_CONSTANT; i++) {
-            POS_CONST[i] = new Decimal${scale}f(ONE_UNSCALED * i);
-            NEG_CONST[i] = new Decimal${scale}f(-ONE_UNSCALED * i);
-        }
-    }
 
 	/** The {@code Decimal${scale}f} constant 1.*/
-	public static final Decimal${scale}f ONE = valueOf(1);
+	public static final Decimal${scale}f ONE = new Decimal${scale}f(ONE_UNSCALED);
 	/** The {@code Decimal${scale}f} constant 2.*/
-	public static final Decimal${scale}f TWO = valueOf(2);
+	public static final Decimal${scale}f TWO = new Decimal${scale}f(2 * ONE_UNSCALED);
 	/** The {@code Decimal${scale}f} constant 3.*/
-	public static final Decimal${scale}f THREE = valueOf(3);
+	public static final Decimal${scale}f THREE = new Decimal${scale}f(3 * ONE_UNSCALED);
 	/** The {@code Decimal${scale}f} constant 4.*/
-	public static final Decimal${scale}f FOUR = valueOf(4);
+	public static final Decimal${scale}f FOUR = new Decimal${scale}f(4 * ONE_UNSCALED);
 	/** The {@code Decimal${scale}f} constant 5.*/
-	public static final Decimal${scale}f FIVE = valueOf(5);
+	public static final Decimal${scale}f FIVE = new Decimal${scale}f(5 * ONE_UNSCALED);
 	/** The {@code Decimal${scale}f} constant 6.*/
-	public static final Decimal${scale}f SIX = valueOf(6);
+	public static final Decimal${scale}f SIX = new Decimal${scale}f(6 * ONE_UNSCALED);
 	/** The {@code Decimal${scale}f} constant 7.*/
-	public static final Decimal${scale}f SEVEN = valueOf(7);
+	public static final Decimal${scale}f SEVEN = new Decimal${scale}f(7 * ONE_UNSCALED);
 	/** The {@code Decimal${scale}f} constant 8.*/
-	public static final Decimal${scale}f EIGHT = valueOf(8);
+	public static final Decimal${scale}f EIGHT = new Decimal${scale}f(8 * ONE_UNSCALED);
 	/** The {@code Decimal${scale}f} constant 9.*/
-	public static final Decimal${scale}f NINE = valueOf(9);
+	public static final Decimal${scale}f NINE = new Decimal${scale}f(9 * ONE_UNSCALED);
 <#if (scale <= 17)>
 	/** The {@code Decimal${scale}f} constant 10.*/
-	public static final Decimal${scale}f TEN = valueOf(10);
+	public static final Decimal${scale}f TEN = new Decimal${scale}f(10 * ONE_UNSCALED);
 <#if (scale <= 16)>
 	/** The {@code Decimal${scale}f} constant 100.*/
 	public static final Decimal${scale}f HUNDRED = new Decimal${scale}f(100 * ONE_UNSCALED);
@@ -128,7 +117,7 @@ public final class Decimal${scale}f extends AbstractImmutableDecimal<Scale${scal
 </#if>
 
 	/** The {@code Decimal${scale}f} constant -1.*/
-	public static final Decimal${scale}f MINUS_ONE = valueOf(-1);
+	public static final Decimal${scale}f MINUS_ONE = new Decimal${scale}f(-ONE_UNSCALED);
 
 <#if (scale >= 1)>
 	/** The {@code Decimal${scale}f} constant 0.5.*/
@@ -186,6 +175,25 @@ public final class Decimal${scale}f extends AbstractImmutableDecimal<Scale${scal
      */
 	public static final Decimal${scale}f MIN_INTEGER_VALUE = new Decimal${scale}f((Long.MIN_VALUE / ONE_UNSCALED) * ONE_UNSCALED);
 
+	/**
+	 * Holder for the integer constants returned by {@link #valueOf(long)},
+	 * initialized on first use.
+	 */
+	private static final class ConstantCache {
+		private static final Decimal${scale}f[] POS_CONST = { ZERO, ONE, TWO, THREE, FOUR, FIVE, SIX, SEVEN, EIGHT, NINE<#if (scale <= 17)>, TEN</#if> };
+		private static final Decimal${scale}f[] NEG_CONST = initNegativeConstants();
+
+		private static Decimal${scale}f[] initNegativeConstants() {
+			final Decimal${scale}f[] constants = new Decimal${scale}f[MAX_CONSTANT + 1];
+			constants[0] = ZERO;
+			constants[1] = MINUS_ONE;
+			for (int i = 2; i <= MAX_CONSTANT; i++) {
+				constants[i] = new Decimal${scale}f(-ONE_UNSCALED * i);
+			}
+			return constants;
+		}
+	}
+
 	/**
 	 * Private constructor with unscaled value.
 	 *
@@ -200,7 +208,7 @@ public final class Decimal${scale}f extends AbstractImmutableDecimal<Scale${scal
 	 * {@code Decimal${scale}f}. The string representation consists of an
 	 * optional sign, {@code '+'} or {@code '-'} , followed by a sequence of
 	 * zero or more decimal digits ("the integer"), optionally followed by a
-	 * fraction.
+	 * fraction and an exponent.
 	 * <p>
 	 * The fraction consists of a decimal point followed by zero or more decimal
 	 * digits. The string must contain at least one digit in either the integer
@@ -208,6 +216,12 @@ public final class Decimal${scale}f extends AbstractImmutableDecimal<Scale${scal
 	 * value is rounded using {@link RoundingMode#HALF_UP HALF_UP} rounding. An 
 	 * exception is thrown if the value is too large to be represented as a 
 	 * {@code Decimal${scale}f}.
+	 * <p>
+	 * The exponent consists of the character {@code 'e'} or {@code 'E'}
+	 * followed by an optionally signed integer. The value is multiplied by ten
+	 * raised to the power of the exponent before rounding is applied, for
+	 * instance "1.25E+3" and "1250" represent the same value, and so do "5e-4"
+	 * and "0.0005".
 	 *
 	 * @param value
 	 *            String value to convert into a {@code Decimal${scale}f}
@@ -287,9 +301,9 @@ public final class Decimal${scale}f extends AbstractImmutableDecimal<Scale${scal
         if (value == 0)
             return ZERO;
         if (value > 0 & value <= MAX_CONSTANT)
-            return POS_CONST[(int) value];
+            return ConstantCache.POS_CONST[(int) value];
         else if (value < 0 & value >= -MAX_CONSTANT)
-            return NEG_CONST[(int) -value];
+            return ConstantCache.NEG_CONST[(int) -value];
 		return valueOfUnscaled(DEFAULT_CHECKED_ARITHMETIC.fromLong(value));
 	}
 
@@ -472,7 +486,7 @@ public final class Decimal${scale}f extends AbstractImmutableDecimal<Scale${scal
 	 * {@code Decimal${scale}f}. The string representation consists of an
 	 * optional sign, {@code '+'} or {@code '-'} , followed by a sequence of
 	 * zero or more decimal digits ("the integer"), optionally followed by a
-	 * fraction.
+	 * fraction and an exponent.
 	 * <p>
 	 * The fraction consists of a decimal point followed by zero or more decimal
 	 * digits. The string must contain at least one digit in either the integer
@@ -480,6 +494,12 @@ public final class Decimal${scale}f extends AbstractImmutableDecimal<Scale${scal
 	 * value is rounded using {@link RoundingMode#HALF_UP HALF_UP} rounding. An 
 	 * exception is thrown if the value is too large to be represented as a 
 	 * {@code Decimal${scale}f}.
+	 * <p>
+	 * The exponent consists of the character {@code 'e'} or {@code 'E'}
+	 * followed by an optionally signed integer. The value is multiplied by ten
+	 * raised to the power of the exponent before rounding is applied, for
+	 * instance "1.25E+3" and "1250" represent the same value, and so do "5e-4"
+	 * and "0.0005".
 	 *
 	 * @param value
 	 *            String value to convert into a {@code Decimal${scale}f}
@@ -498,13 +518,19 @@ public final class Decimal${scale}f extends AbstractImmutableDecimal<Scale${scal
 	 * {@code Decimal${scale}f}. The string representation consists of an
 	 * optional sign, {@code '+'} or {@code '-'} , followed by a sequence of
 	 * zero or more decimal digits ("the integer"), optionally followed by a
-	 * fraction.
+	 * fraction and an exponent.
 	 * <p>
 	 * The fraction consists of a decimal point followed by zero or more decimal
 	 * digits. The string must contain at least one digit in either the integer
 	 * or the fraction. If the fraction contains more than ${scale} digits, the 
 	 * value is rounded using the specified {@code roundingMode}. An exception 
 	 * is thrown if the value is too large to be represented as a {@code Decimal${scale}f}.
+	 * <p>
+	 * The exponent consists of the character {@code 'e'} or {@code 'E'}
+	 * followed by an optionally signed integer. The value is multiplied by ten
+	 * raised to the power of the exponent before rounding is applied, for
+	 * instance "1.25E+3" and "1250" represent the same value, and so do "5e-4"
+	 * and "0.0005".
 	 *
 	 * @param value
 	 *            String value to convert into a {@code Decimal${scale}f}
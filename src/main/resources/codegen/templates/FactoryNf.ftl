@@ -24,6 +24,9 @@ public enum Factory${scale}f implements DecimalFactory<Scale${scale}f> {
 	 */
 	INSTANCE;
 
+	/** BigDecimal caching of immutable values, or null for the default setting */
+	private volatile Boolean bigDecimalCache;
+
 	@Override
 	public final Scale${scale}f getScaleMetrics() {
 		return Scale${scale}f.INSTANCE;
@@ -44,6 +47,17 @@ public enum Factory${scale}f implements DecimalFactory<Scale${scale}f> {
 		return MutableDecimal${scale}f.class;
 	}
 
+	@Override
+	public final boolean isBigDecimalCacheEnabled() {
+		final Boolean enabled = bigDecimalCache;
+		return enabled == null ? DecimalFactory.super.isBigDecimalCacheEnabled() : enabled.booleanValue();
+	}
+
+	@Override
+	public final void setBigDecimalCacheEnabled(boolean enabled) {
+		bigDecimalCache = Boolean.valueOf(enabled);
+	}
+
 	@Override
 	public final DecimalFactory<?> deriveFactory(int scale) {
 		return Factories.getDecimalFactory(scale);
@@ -50,7 +50,7 @@ public final class MutableDecimal${scale}f extends AbstractMutableDecimal<Scale$
 	 * {@code MutableDecimal${scale}f}. The string representation consists 
 	 * of an optional sign, {@code '+'} or {@code '-'} , followed by a sequence 
 	 * of zero or more decimal digits ("the integer"), optionally followed by a
-	 * fraction.
+	 * fraction and an exponent.
 	 * <p>
 	 * The fraction consists of a decimal point followed by zero or more decimal
 	 * digits. The string must contain at least one digit in either the integer
@@ -58,6 +58,12 @@ public final class MutableDecimal${scale}f extends AbstractMutableDecimal<Scale$
 	 * value is rounded using {@link RoundingMode#HALF_UP HALF_UP} rounding. An 
 	 * exception is thrown if the value is too large to be represented as a 
 	 * {@code MutableDecimal${scale}f}.
+	 * <p>
+	 * The exponent consists of the character {@code 'e'} or {@code 'E'}
+	 * followed by an optionally signed integer. The value is multiplied by ten
+	 * raised to the power of the exponent before rounding is applied, for
+	 * instance "1.25E+3" and "1250" represent the same value, and so do "5e-4"
+	 * and "0.0005".
 	 *
 	 * @param value
 	 *            String value to convert into a {@code MutableDecimal${scale}f}
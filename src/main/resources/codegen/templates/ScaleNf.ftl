@@ -9,6 +9,8 @@ import static java.math.RoundingMode.HALF_EVEN;
 import static java.math.RoundingMode.HALF_UP;
 import static java.math.RoundingMode.UNNECESSARY;
 import static org.decimal4j.truncate.OverflowMode.CHECKED;
+import static org.decimal4j.truncate.OverflowMode.FLAGGING;
+import static org.decimal4j.truncate.OverflowMode.SATURATING;
 import static org.decimal4j.truncate.OverflowMode.UNCHECKED;
 
 import java.math.BigDecimal;
@@ -18,6 +20,9 @@ import java.math.RoundingMode;
 import org.decimal4j.api.DecimalArithmetic;
 import org.decimal4j.arithmetic.CheckedScaleNfRoundingArithmetic;
 import org.decimal4j.arithmetic.CheckedScaleNfTruncatingArithmetic;
+import org.decimal4j.arithmetic.Exceptions;
+import org.decimal4j.arithmetic.FlaggingArithmetic;
+import org.decimal4j.arithmetic.SaturatingArithmetic;
 import org.decimal4j.arithmetic.UncheckedScaleNfRoundingArithmetic;
 import org.decimal4j.arithmetic.UncheckedScaleNfTruncatingArithmetic;
 import org.decimal4j.truncate.DecimalRounding;
@@ -60,15 +65,31 @@ public enum Scale${scale}f implements ScaleMetrics {
 	private static final BigInteger BI_SCALE_FACTOR = BigInteger.valueOf(SCALE_FACTOR);
 	private static final BigDecimal BD_SCALE_FACTOR = BigDecimal.valueOf(SCALE_FACTOR);
 
-	private static final DecimalArithmetic[] UNCHECKED_ARITHMETIC = initArithmetic(UNCHECKED);
-	private static final DecimalArithmetic[] CHECKED_ARITHMETIC = initArithmetic(CHECKED);
+	/**
+	 * Holder classes per overflow mode creating the arithmetic instances on
+	 * first use; {@link Scales} initializes all scale constants at once.
+	 */
+	private static final class UncheckedHolder {
+		private static final DecimalArithmetic[] ARITHMETIC = initArithmetic(UNCHECKED);
+		private static final DecimalArithmetic DEFAULT = ARITHMETIC[HALF_UP.ordinal()];
+		private static final DecimalArithmetic ROUNDING_DOWN = ARITHMETIC[DOWN.ordinal()];
+		private static final DecimalArithmetic ROUNDING_FLOOR = ARITHMETIC[FLOOR.ordinal()];
+		private static final DecimalArithmetic ROUNDING_HALF_EVEN = ARITHMETIC[HALF_EVEN.ordinal()];
+		private static final DecimalArithmetic ROUNDING_UNNECESSARY = ARITHMETIC[UNNECESSARY.ordinal()];
+	}
+
+	private static final class CheckedHolder {
+		private static final DecimalArithmetic[] ARITHMETIC = initArithmetic(CHECKED);
+		private static final DecimalArithmetic DEFAULT = ARITHMETIC[HALF_UP.ordinal()];
+	}
+
+	private static final class SaturatingHolder {
+		private static final DecimalArithmetic[] ARITHMETIC = initSaturatingArithmetic(SATURATING);
+	}
 
-	private static final DecimalArithmetic DEFAULT_ARITHMETIC = UNCHECKED_ARITHMETIC[HALF_UP.ordinal()];
-	private static final DecimalArithmetic DEFAULT_CHECKED_ARITHMETIC = CHECKED_ARITHMETIC[HALF_UP.ordinal()];
-	private static final DecimalArithmetic ROUNDING_DOWN_ARITHMETIC = UNCHECKED_ARITHMETIC[DOWN.ordinal()];
-	private static final DecimalArithmetic ROUNDING_FLOOR_ARITHMETIC = UNCHECKED_ARITHMETIC[FLOOR.ordinal()];
-	private static final DecimalArithmetic ROUNDING_HALF_EVEN_ARITHMETIC = UNCHECKED_ARITHMETIC[HALF_EVEN.ordinal()];
-	private static final DecimalArithmetic ROUNDING_UNNECESSARY_ARITHMETIC = UNCHECKED_ARITHMETIC[UNNECESSARY.ordinal()];
+	private static final class FlaggingHolder {
+		private static final DecimalArithmetic[] ARITHMETIC = initSaturatingArithmetic(FLAGGING);
+	}
 
 	private static final DecimalArithmetic[] initArithmetic(OverflowMode overflowMode) {
 		final boolean checked = overflowMode == CHECKED;
@@ -86,6 +107,17 @@ public enum Scale${scale}f implements ScaleMetrics {
 		return arith;
 	}
 
+	private static final DecimalArithmetic[] initSaturatingArithmetic(OverflowMode overflowMode) {
+		final boolean flagging = overflowMode == FLAGGING;
+		final DecimalArithmetic[] arith = new DecimalArithmetic[DecimalRounding.VALUES.size()];
+		for (final DecimalRounding dr : DecimalRounding.VALUES) {
+			final RoundingMode roundingMode = dr.getRoundingMode();
+			arith[roundingMode.ordinal()] = flagging ? new FlaggingArithmetic(INSTANCE, roundingMode)
+					: new SaturatingArithmetic(INSTANCE, roundingMode);
+		}
+		return arith;
+	}
+
 	@Override
 	public final int getScale() {
 		return SCALE;
@@ -137,7 +169,7 @@ public enum Scale${scale}f implements ScaleMetrics {
 		if (MIN_INTEGER_VALUE <= factor & factor <= MAX_INTEGER_VALUE) {
 			return result;
 		}
-		throw new ArithmeticException("Overflow: " + factor + " * " + SCALE_FACTOR + " = " + result);
+		throw Exceptions.newOverflowArithmeticException("Overflow: " + factor + " * " + SCALE_FACTOR + " = " + result);
 	}
 	
 	@Override
@@ -176,54 +208,63 @@ public enum Scale${scale}f implements ScaleMetrics {
 
 	@Override
 	public final String toString(long value) {
-		return DEFAULT_ARITHMETIC.toString(value);
+		return UncheckedHolder.DEFAULT.toString(value);
 	}
 
 	@Override
 	public final DecimalArithmetic getDefaultArithmetic() {
-		return DEFAULT_ARITHMETIC;
+		return UncheckedHolder.DEFAULT;
 	}
 
 	@Override
 	public final DecimalArithmetic getDefaultCheckedArithmetic() {
-		return DEFAULT_CHECKED_ARITHMETIC;
+		return CheckedHolder.DEFAULT;
 	}
 
 	@Override
 	public final DecimalArithmetic getRoundingDownArithmetic() {
-		return ROUNDING_DOWN_ARITHMETIC;
+		return UncheckedHolder.ROUNDING_DOWN;
 	}
 
 	@Override
 	public final DecimalArithmetic getRoundingFloorArithmetic() {
-		return ROUNDING_FLOOR_ARITHMETIC;
+		return UncheckedHolder.ROUNDING_FLOOR;
 	}
 
 	@Override
 	public final DecimalArithmetic getRoundingHalfEvenArithmetic() {
-		return ROUNDING_HALF_EVEN_ARITHMETIC;
+		return UncheckedHolder.ROUNDING_HALF_EVEN;
 	}
 
 	@Override
 	public final DecimalArithmetic getRoundingUnnecessaryArithmetic() {
-		return ROUNDING_UNNECESSARY_ARITHMETIC;
+		return UncheckedHolder.ROUNDING_UNNECESSARY;
 	}
 
 	@Override
 	public final DecimalArithmetic getArithmetic(RoundingMode roundingMode) {
-		return UNCHECKED_ARITHMETIC[roundingMode.ordinal()];
+		return UncheckedHolder.ARITHMETIC[roundingMode.ordinal()];
 	}
 
 	@Override
 	public final DecimalArithmetic getCheckedArithmetic(RoundingMode roundingMode) {
-		return CHECKED_ARITHMETIC[roundingMode.ordinal()];
+		return CheckedHolder.ARITHMETIC[roundingMode.ordinal()];
 	}
 
 	@Override
 	public final DecimalArithmetic getArithmetic(TruncationPolicy truncationPolicy) {
 		final OverflowMode overflow = truncationPolicy.getOverflowMode();
 		final RoundingMode rounding = truncationPolicy.getRoundingMode();
-		return (overflow == UNCHECKED ? UNCHECKED_ARITHMETIC : CHECKED_ARITHMETIC)[rounding.ordinal()];
+		switch (overflow) {
+		case UNCHECKED:
+			return UncheckedHolder.ARITHMETIC[rounding.ordinal()];
+		case CHECKED:
+			return CheckedHolder.ARITHMETIC[rounding.ordinal()];
+		case SATURATING:
+			return SaturatingHolder.ARITHMETIC[rounding.ordinal()];
+		default:
+			return FlaggingHolder.ARITHMETIC[rounding.ordinal()];
+		}
 	}
 
 	@Override
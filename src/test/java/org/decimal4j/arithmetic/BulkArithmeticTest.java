@@ -0,0 +1,205 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2023 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.arithmetic;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.op.util.LongRandom;
+import org.decimal4j.scale.ScaleMetrics;
+import org.decimal4j.test.TestSettings;
+import org.decimal4j.truncate.TruncationPolicy;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * Unit test for {@link BulkArithmetic}, asserting results and exceptions equal
+ * to the element by element operations.
+ */
+@RunWith(Parameterized.class)
+public class BulkArithmeticTest {
+
+	private static final LongRandom RND = new LongRandom();
+	private static final int[] LENGTHS = { 0, 1, 7, 64, 1000 };
+	private static final long[] SPECIAL = { 0, 1, -1, Long.MAX_VALUE, Long.MIN_VALUE, Long.MAX_VALUE - 1,
+			Long.MIN_VALUE + 1, 1L << 62, -(1L << 62), 999_999_999_999L };
+
+	private final DecimalArithmetic arith;
+
+	public BulkArithmeticTest(ScaleMetrics scaleMetrics, TruncationPolicy policy, boolean instrumented) {
+		final DecimalArithmetic arith = Objects.requireNonNull(scaleMetrics.getArithmetic(policy));
+		this.arith = instrumented ? new InstrumentedArithmetic(arith) : arith;
+	}
+
+	@Parameters(name = "{index}: scale={0}, policy={1}, instrumented={2}")
+	public static Collection<Object[]> getParameters() {
+		final List<Object[]> params = new ArrayList<>();
+		for (final ScaleMetrics sm : TestSettings.SCALES) {
+			for (final TruncationPolicy policy : TestSettings.POLICIES) {
+				params.add(new Object[] { sm, policy, false });
+			}
+			params.add(new Object[] { sm, TruncationPolicy.DEFAULT, true });
+		}
+		return params;
+	}
+
+	private static long[] randomValues(int length, boolean special) {
+		final long[] values = new long[length];
+		for (int i = 0; i < length; i++) {
+			if (special && RND.nextInt(20) == 0) {
+				values[i] = SPECIAL[RND.nextInt(SPECIAL.length)];
+			} else {
+				values[i] = RND.nextLong() >> (1 + RND.nextInt(63));
+			}
+		}
+		return values;
+	}
+
+	private interface ScalarOp {
+		long apply(int index);
+	}
+
+	private interface BulkOp {
+		void apply(long[] result);
+	}
+
+	private static void assertBulk(String name, long[] expectedInit, ScalarOp scalar, BulkOp bulk) {
+		final long[] expected = expectedInit.clone();
+		final long[] actual = expectedInit.clone();
+		ArithmeticException expectedException = null;
+		try {
+			for (int i = 0; i < expected.length; i++) {
+				expected[i] = scalar.apply(i);
+			}
+		} catch (ArithmeticException e) {
+			expectedException = e;
+		}
+		try {
+			bulk.apply(actual);
+			if (expectedException != null) {
+				fail(name + " should throw " + expectedException);
+			}
+		} catch (ArithmeticException e) {
+			if (expectedException == null) {
+				throw e;
+			}
+			assertEquals(name + ": unexpected exception message", expectedException.getMessage(), e.getMessage());
+		}
+		assertArrayEquals(name + ": unexpected result", expected, actual);
+	}
+
+	@Test
+	public void shouldUseVectorKernelsWithJava17Overlay() {
+		assertEquals("unexpected isVectorized()", TestSettings.OVERLAY >= 17, BulkArithmetic.isVectorized());
+	}
+
+	@Test
+	public void shouldAddAndSubtract() {
+		for (final int length : LENGTHS) {
+			for (final boolean special : new boolean[] { false, true }) {
+				final long[] a = randomValues(length, special);
+				final long[] b = randomValues(length, special);
+				final long[] init = new long[length];
+				assertBulk("add", init, i -> arith.add(a[i], b[i]), r -> BulkArithmetic.add(arith, a, b, r));
+				assertBulk("subtract", init, i -> arith.subtract(a[i], b[i]),
+						r -> BulkArithmetic.subtract(arith, a, b, r));
+			}
+		}
+	}
+
+	@Test
+	public void shouldMultiplyByPowerOf10() {
+		for (final int length : LENGTHS) {
+			final long[] a = randomValues(length, true);
+			final long[] init = new long[length];
+			for (int n = -20; n <= 20; n++) {
+				final int exp = n;
+				assertBulk("multiplyByPowerOf10(" + n + ")", init, i -> arith.multiplyByPowerOf10(a[i], exp),
+						r -> BulkArithmetic.multiplyByPowerOf10(arith, a, exp, r));
+			}
+		}
+	}
+
+	@Test
+	public void shouldComputeMinMaxAndCompare() {
+		for (final int length : LENGTHS) {
+			final long[] a = randomValues(length, true);
+			final long[] b = randomValues(length, true);
+			for (int i = 0; i < length; i += 3) {
+				b[i] = a[i];
+			}
+			final long[] init = new long[length];
+			assertBulk("min", init, i -> Math.min(a[i], b[i]), r -> BulkArithmetic.min(a, b, r));
+			assertBulk("max", init, i -> Math.max(a[i], b[i]), r -> BulkArithmetic.max(a, b, r));
+			final int[] expected = new int[length];
+			final int[] actual = new int[length];
+			for (int i = 0; i < length; i++) {
+				expected[i] = Long.compare(a[i], b[i]);
+			}
+			BulkArithmetic.compare(a, b, actual);
+			assertArrayEquals("unexpected comparison result", expected, actual);
+		}
+	}
+
+	@Test
+	public void shouldAllowResultToBeOperand() {
+		final long[] a = randomValues(100, false);
+		final long[] b = randomValues(100, false);
+		final long[] expected = new long[a.length];
+		for (int i = 0; i < a.length; i++) {
+			expected[i] = arith.subtract(a[i], b[i]);
+		}
+		BulkArithmetic.subtract(arith, a, b, a);
+		assertArrayEquals("unexpected result", expected, a);
+	}
+
+	@Test
+	public void shouldThrowForDifferentLengths() {
+		final long[] a = new long[3];
+		final long[] b = new long[4];
+		try {
+			BulkArithmetic.add(arith, a, b, a);
+			fail("add should fail for arrays of different lengths");
+		} catch (IllegalArgumentException e) {
+			// expected
+		}
+		try {
+			BulkArithmetic.compare(a, a, new int[2]);
+			fail("compare should fail for arrays of different lengths");
+		} catch (IllegalArgumentException e) {
+			// expected
+		}
+		assertEquals("arrays should be unchanged", Arrays.toString(new long[3]), Arrays.toString(a));
+	}
+}
@@ -0,0 +1,151 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2023 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.arithmetic;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.op.util.LongRandom;
+import org.decimal4j.scale.ScaleMetrics;
+import org.decimal4j.test.TestSettings;
+import org.decimal4j.truncate.TruncationPolicy;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * Unit test for {@link DecimalDivisor}.
+ */
+@RunWith(Parameterized.class)
+public class DecimalDivisorTest {
+
+	private static final LongRandom RND = new LongRandom();
+
+	private final DecimalArithmetic arithmetic;
+
+	public DecimalDivisorTest(ScaleMetrics scaleMetrics, TruncationPolicy truncationPolicy) {
+		this.arithmetic = scaleMetrics.getArithmetic(truncationPolicy);
+	}
+
+	@Parameters(name = "{index}: {0}, {1}")
+	public static Iterable<Object[]> data() {
+		final List<Object[]> data = new ArrayList<Object[]>();
+		for (final ScaleMetrics s : TestSettings.SCALES) {
+			for (final TruncationPolicy policy : TestSettings.POLICIES) {
+				data.add(new Object[] { s, policy });
+			}
+		}
+		return data;
+	}
+
+	@Test
+	public void runSpecialValueTest() {
+		final long[] specialValues = TestSettings.TEST_CASES.getSpecialValuesFor(arithmetic.getScaleMetrics());
+		for (final long divisor : specialValues) {
+			final DecimalDivisor decimalDivisor = new DecimalDivisor(arithmetic, divisor);
+			for (final long dividend : specialValues) {
+				assertDivide(decimalDivisor, dividend);
+			}
+		}
+	}
+
+	@Test
+	public void runRandomTest() {
+		final int n = TestSettings.getRandomTestCount();
+		for (int i = 0; i < n; i++) {
+			final DecimalDivisor decimalDivisor = new DecimalDivisor(arithmetic, randomLong());
+			for (int j = 0; j < 16; j++) {
+				assertDivide(decimalDivisor, randomLong());
+			}
+		}
+	}
+
+	@Test
+	public void bulkDivideShouldMatchSingleDivide() {
+		final DecimalDivisor decimalDivisor = new DecimalDivisor(arithmetic, arithmetic.fromLong(4));
+		final long[] dividends = new long[100];
+		final long[] expected = new long[dividends.length + 2];
+		for (int i = 0; i < dividends.length; i++) {
+			dividends[i] = 4L * RND.nextInt() * i;// exact also for rounding mode UNNECESSARY
+			expected[i + 2] = decimalDivisor.divide(dividends[i]);
+		}
+		final long[] actual = new long[expected.length];
+		decimalDivisor.divide(dividends, 0, actual, 2, dividends.length);
+		assertArrayEquals(expected, actual);
+	}
+
+	@Test
+	public void bulkDivideShouldSupportInPlaceDivision() {
+		final DecimalDivisor decimalDivisor = new DecimalDivisor(arithmetic, arithmetic.one());
+		final long[] values = { 1, -2, 3, Long.MAX_VALUE, Long.MIN_VALUE };
+		final long[] expected = values.clone();
+		decimalDivisor.divide(values, 0, values, 0, values.length);
+		assertArrayEquals(expected, values);
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void bulkDivideShouldThrowIfOutOfBounds() {
+		new DecimalDivisor(arithmetic, arithmetic.one()).divide(new long[4], 1, new long[4], 0, 4);
+	}
+
+	@Test(expected = ArithmeticException.class)
+	public void divideByZeroShouldThrowException() {
+		new DecimalDivisor(arithmetic, 0).divide(arithmetic.one());
+	}
+
+	private static long randomLong() {
+		switch (RND.nextInt(4)) {
+		case 0:
+			return RND.nextInt();
+		case 1:
+			return RND.nextLong(Long.MAX_VALUE) >> RND.nextInt(63);
+		default:
+			return RND.nextLong();
+		}
+	}
+
+	private void assertDivide(DecimalDivisor decimalDivisor, long dividend) {
+		final long divisor = decimalDivisor.getDivisor();
+		final String message = arithmetic.getTruncationPolicy() + ": " + dividend + " / " + divisor;
+		Class<?> expectedException = null;
+		long expected = 0;
+		try {
+			expected = arithmetic.divide(dividend, divisor);
+		} catch (ArithmeticException e) {
+			expectedException = e.getClass();
+		}
+		try {
+			final long actual = decimalDivisor.divide(dividend);
+			assertEquals(message + " should throw " + expectedException, null, expectedException);
+			assertEquals(message, expected, actual);
+		} catch (ArithmeticException e) {
+			assertEquals(message + " threw " + e, expectedException, e.getClass());
+		}
+	}
+}
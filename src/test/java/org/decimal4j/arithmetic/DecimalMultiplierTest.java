@@ -0,0 +1,166 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2023 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.arithmetic;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.op.util.LongRandom;
+import org.decimal4j.scale.ScaleMetrics;
+import org.decimal4j.scale.Scales;
+import org.decimal4j.test.TestSettings;
+import org.decimal4j.truncate.TruncationPolicy;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * Unit test for {@link DecimalMultiplier}.
+ */
+@RunWith(Parameterized.class)
+public class DecimalMultiplierTest {
+
+	private static final LongRandom RND = new LongRandom();
+
+	private final DecimalArithmetic arithmetic;
+
+	public DecimalMultiplierTest(ScaleMetrics scaleMetrics, TruncationPolicy truncationPolicy) {
+		this.arithmetic = scaleMetrics.getArithmetic(truncationPolicy);
+	}
+
+	@Parameters(name = "{index}: {0}, {1}")
+	public static Iterable<Object[]> data() {
+		final List<Object[]> data = new ArrayList<Object[]>();
+		for (final ScaleMetrics s : TestSettings.SCALES) {
+			for (final TruncationPolicy policy : TestSettings.POLICIES) {
+				data.add(new Object[] { s, policy });
+			}
+		}
+		return data;
+	}
+
+	@Test
+	public void runSpecialValueTest() {
+		final long[] specialValues = TestSettings.TEST_CASES.getSpecialValuesFor(arithmetic.getScaleMetrics());
+		for (final long factor : specialValues) {
+			final DecimalMultiplier multiplier = new DecimalMultiplier(arithmetic, factor);
+			for (final long value : specialValues) {
+				assertMultiply(multiplier, value);
+			}
+		}
+	}
+
+	@Test
+	public void runPowerOfTenTest() {
+		final long[] specialValues = TestSettings.TEST_CASES.getSpecialValuesFor(arithmetic.getScaleMetrics());
+		for (final ScaleMetrics pow10 : Scales.VALUES) {
+			for (final long factor : new long[] { pow10.getScaleFactor(), -pow10.getScaleFactor() }) {
+				final DecimalMultiplier multiplier = new DecimalMultiplier(arithmetic, factor);
+				for (final long value : specialValues) {
+					assertMultiply(multiplier, value);
+				}
+				for (int i = 0; i < 16; i++) {
+					assertMultiply(multiplier, randomLong());
+				}
+			}
+		}
+	}
+
+	@Test
+	public void runRandomTest() {
+		final int n = TestSettings.getRandomTestCount();
+		for (int i = 0; i < n; i++) {
+			final DecimalMultiplier multiplier = new DecimalMultiplier(arithmetic, randomLong());
+			for (int j = 0; j < 16; j++) {
+				assertMultiply(multiplier, randomLong());
+			}
+		}
+	}
+
+	@Test
+	public void bulkMultiplyShouldMatchSingleMultiply() {
+		final long[] factors = { 0, arithmetic.one(), 1000, 3, -7 };
+		for (final long factor : factors) {
+			final DecimalMultiplier multiplier = new DecimalMultiplier(arithmetic, factor);
+			final long[] values = new long[100];
+			final long[] expected = new long[values.length + 2];
+			for (int i = 0; i < values.length; i++) {
+				values[i] = arithmetic.fromLong(RND.nextInt(19) - 9);// exact also for rounding mode UNNECESSARY
+				expected[i + 2] = multiplier.multiply(values[i]);
+			}
+			final long[] actual = new long[expected.length];
+			multiplier.multiply(values, 0, actual, 2, values.length);
+			assertArrayEquals(expected, actual);
+		}
+	}
+
+	@Test
+	public void bulkMultiplyShouldSupportInPlaceMultiplication() {
+		final DecimalMultiplier multiplier = new DecimalMultiplier(arithmetic, arithmetic.one());
+		final long[] values = { 1, -2, 3, Long.MAX_VALUE, Long.MIN_VALUE };
+		final long[] expected = values.clone();
+		multiplier.multiply(values, 0, values, 0, values.length);
+		assertArrayEquals(expected, values);
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void bulkMultiplyShouldThrowIfOutOfBounds() {
+		new DecimalMultiplier(arithmetic, arithmetic.one()).multiply(new long[4], 1, new long[4], 0, 4);
+	}
+
+	private static long randomLong() {
+		switch (RND.nextInt(4)) {
+		case 0:
+			return RND.nextInt();
+		case 1:
+			return RND.nextLong(Long.MAX_VALUE) >> RND.nextInt(63);
+		default:
+			return RND.nextLong();
+		}
+	}
+
+	private void assertMultiply(DecimalMultiplier multiplier, long value) {
+		final long factor = multiplier.getFactor();
+		final String message = arithmetic.getTruncationPolicy() + ": " + value + " * " + factor;
+		Class<?> expectedException = null;
+		long expected = 0;
+		try {
+			expected = arithmetic.multiply(value, factor);
+		} catch (ArithmeticException e) {
+			expectedException = e.getClass();
+		}
+		try {
+			final long actual = multiplier.multiply(value);
+			assertEquals(message + " should throw " + expectedException, null, expectedException);
+			assertEquals(message, expected, actual);
+		} catch (ArithmeticException e) {
+			assertEquals(message + " threw " + e, expectedException, e.getClass());
+		}
+	}
+}
@@ -34,10 +34,8 @@ import org.decimal4j.api.DecimalArithmetic;
 import org.decimal4j.scale.ScaleMetrics;
 import org.decimal4j.scale.Scales;
 import org.decimal4j.test.TestSettings;
-import org.decimal4j.truncate.CheckedRounding;
 import org.decimal4j.truncate.OverflowMode;
 import org.decimal4j.truncate.TruncationPolicy;
-import org.decimal4j.truncate.UncheckedRounding;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.Parameterized;
@@ -79,7 +77,7 @@ public class DeriveArithmeticTest {
 	@Test
 	public void shouldDeriveOtherRoundingMode() {
 		for (final RoundingMode roundingMode : RoundingMode.values()) {
-			final TruncationPolicy tp = arithmetic.getOverflowMode().isChecked() ? CheckedRounding.valueOf(roundingMode) : UncheckedRounding.valueOf(roundingMode);
+			final TruncationPolicy tp = arithmetic.getOverflowMode().getTruncationPolicy(roundingMode);
 			final DecimalArithmetic expected = arithmetic.getScaleMetrics().getArithmetic(tp);
 			assertSame("unexpected arithmetic instance for rounding mode " + roundingMode, expected, arithmetic.deriveArithmetic(roundingMode));
 		}
@@ -88,7 +86,7 @@ public class DeriveArithmeticTest {
 	@Test
 	public void shouldDeriveOtherOverflowMode() {
 		for (final OverflowMode overflowMode : OverflowMode.values()) {
-			final TruncationPolicy tp = overflowMode.isChecked() ? CheckedRounding.valueOf(arithmetic.getRoundingMode()) : UncheckedRounding.valueOf(arithmetic.getRoundingMode());
+			final TruncationPolicy tp = overflowMode.getTruncationPolicy(arithmetic.getRoundingMode());
 			final DecimalArithmetic expected = arithmetic.getScaleMetrics().getArithmetic(tp);
 			assertSame("unexpected arithmetic instance for overflow mode " + overflowMode, expected, arithmetic.deriveArithmetic(overflowMode));
 		}
@@ -97,7 +95,7 @@ public class DeriveArithmeticTest {
 	public void shouldDeriveOtherRoundingModeAndOverflowMode() {
 		for (final RoundingMode roundingMode : RoundingMode.values()) {
 			for (final OverflowMode overflowMode : OverflowMode.values()) {
-				final TruncationPolicy tp = overflowMode.isChecked() ? CheckedRounding.valueOf(roundingMode) : UncheckedRounding.valueOf(roundingMode);
+				final TruncationPolicy tp = overflowMode.getTruncationPolicy(roundingMode);
 				final DecimalArithmetic expected = arithmetic.getScaleMetrics().getArithmetic(tp);
 				assertSame("unexpected arithmetic instance for rounding/overflow mode " + roundingMode + "/" + overflowMode, expected, arithmetic.deriveArithmetic(roundingMode, overflowMode));
 			}
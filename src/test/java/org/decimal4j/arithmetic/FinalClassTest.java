@@ -65,10 +65,12 @@ public class FinalClassTest extends AbstractFinalTest {
 		data.add(new Object[] {AbstractCheckedArithmetic.class});
 		data.add(new Object[] {AbstractCheckedScale0fArithmetic.class});
 		data.add(new Object[] {AbstractCheckedScaleNfArithmetic.class});
+		data.add(new Object[] {AbstractSaturatingArithmetic.class});
 		data.add(new Object[] {AbstractUncheckedArithmetic.class});
 		data.add(new Object[] {AbstractUncheckedScale0fArithmetic.class});
 		data.add(new Object[] {AbstractUncheckedScaleNfArithmetic.class});
 		data.add(new Object[] {Add.class});
+		data.add(new Object[] {ArithmeticMetrics.class});
 		data.add(new Object[] {Avg.class});
 		data.add(new Object[] {BigDecimalConversion.class});
 		data.add(new Object[] {BigIntegerConversion.class});
@@ -78,10 +80,16 @@ public class FinalClassTest extends AbstractFinalTest {
 		data.add(new Object[] {CheckedScaleNfRoundingArithmetic.class});
 		data.add(new Object[] {CheckedScaleNfTruncatingArithmetic.class});
 		data.add(new Object[] {Compare.class});
+		data.add(new Object[] {DecimalDivisor.class});
+		data.add(new Object[] {DecimalEvents.class});
+		data.add(new Object[] {DecimalMultiplier.class});
 		data.add(new Object[] {Div.class});
 		data.add(new Object[] {DoubleConversion.class});
 		data.add(new Object[] {Exceptions.class});
+		data.add(new Object[] {FlaggingArithmetic.class});
 		data.add(new Object[] {FloatConversion.class});
+		data.add(new Object[] {IncrementRounder.class});
+		data.add(new Object[] {InstrumentedArithmetic.class});
 		data.add(new Object[] {Invert.class});
 		data.add(new Object[] {JDKSupport.class});
 		data.add(new Object[] {LongConversion.class});
@@ -91,6 +99,8 @@ public class FinalClassTest extends AbstractFinalTest {
 		data.add(new Object[] {Round.class});
 		data.add(new Object[] {Rounding.class});
 		data.add(new Object[] {RoundingInverse.class});
+		data.add(new Object[] {SaturatingArithmetic.class});
+		data.add(new Object[] {ScaleConverter.class});
 		data.add(new Object[] {Shift.class});
 		data.add(new Object[] {SpecialDivisionResult.class});
 		data.add(new Object[] {SpecialMultiplicationResult.class});
@@ -129,7 +139,10 @@ public class FinalClassTest extends AbstractFinalTest {
 	
 	@Override
 	protected boolean isAllowedNonStaticField(Field field) {
-		return AbstractArithmetic.class.isAssignableFrom(clazz);
+		return AbstractArithmetic.class.isAssignableFrom(clazz) || DecimalDivisor.class.equals(clazz)
+				|| DecimalMultiplier.class.equals(clazz) || IncrementRounder.class.equals(clazz)
+				|| ScaleConverter.class.equals(clazz) || ArithmeticMetrics.class.equals(clazz)
+				|| InstrumentedArithmetic.class.equals(clazz);
 	}
 	
 	@Override
@@ -137,6 +150,9 @@ public class FinalClassTest extends AbstractFinalTest {
 		if (UnsignedDecimal9i36f.class.equals(clazz)) {
 			return Arrays.asList("norm", "pow10", "ival", "val3", "val2", "val1", "val0").contains(field.getName());
 		}
+		if (ArithmeticMetrics.class.equals(clazz)) {
+			return "enabled".equals(field.getName());
+		}
 		return false;
 	}
 
@@ -0,0 +1,177 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2023 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.arithmetic;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.op.util.LongRandom;
+import org.decimal4j.scale.ScaleMetrics;
+import org.decimal4j.scale.Scales;
+import org.decimal4j.test.ArithmeticResult;
+import org.decimal4j.test.TestSettings;
+import org.decimal4j.truncate.TruncationPolicy;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * Unit test for {@link DecimalArithmetic#roundToIncrement(long, long)} and
+ * {@link IncrementRounder}.
+ */
+@RunWith(Parameterized.class)
+public class IncrementRounderTest {
+
+	private static final LongRandom RND = new LongRandom();
+
+	private static final long[] INCREMENTS = { 1, 2, 3, 5, 10, 25, 50, 64, 100, 125, 15625, 1000000007, Long.MAX_VALUE / 3, Long.MAX_VALUE };
+
+	private final DecimalArithmetic arithmetic;
+
+	public IncrementRounderTest(ScaleMetrics scaleMetrics, TruncationPolicy truncationPolicy) {
+		this.arithmetic = scaleMetrics.getArithmetic(truncationPolicy);
+	}
+
+	@Parameters(name = "{index}: {0}, {1}")
+	public static Iterable<Object[]> data() {
+		final List<Object[]> data = new ArrayList<Object[]>();
+		for (final ScaleMetrics s : TestSettings.SCALES) {
+			for (final TruncationPolicy policy : TestSettings.POLICIES) {
+				data.add(new Object[] { s, policy });
+			}
+		}
+		return data;
+	}
+
+	@Test
+	public void runSpecialValueTest() {
+		final long[] specialValues = TestSettings.TEST_CASES.getSpecialValuesFor(arithmetic.getScaleMetrics());
+		for (final long increment : INCREMENTS) {
+			final IncrementRounder rounder = new IncrementRounder(arithmetic, increment);
+			for (final long value : specialValues) {
+				assertRoundToIncrement(rounder, value);
+			}
+		}
+	}
+
+	@Test
+	public void runRandomTest() {
+		final int n = TestSettings.getRandomTestCount();
+		for (int i = 0; i < n; i++) {
+			final long increment = RND.nextBoolean() ? INCREMENTS[RND.nextInt(INCREMENTS.length)] : Math.max(1, RND.nextLong(Long.MAX_VALUE) >> RND.nextInt(63));
+			final IncrementRounder rounder = new IncrementRounder(arithmetic, increment);
+			for (int j = 0; j < 16; j++) {
+				assertRoundToIncrement(rounder, RND.nextBoolean() ? RND.nextLong() : RND.nextInt());
+			}
+		}
+	}
+
+	@Test
+	public void powerOfTenIncrementShouldRoundLikePrecision() {
+		final long[] specialValues = TestSettings.TEST_CASES.getSpecialValuesFor(arithmetic.getScaleMetrics());
+		for (int precision = arithmetic.getScale(); precision >= arithmetic.getScale() - 18; precision--) {
+			final long increment = Scales.getScaleMetrics(arithmetic.getScale() - precision).getScaleFactor();
+			for (final long value : specialValues) {
+				ArithmeticResult<Long> expected;
+				ArithmeticResult<Long> actual;
+				try {
+					expected = ArithmeticResult.forResult("round", arithmetic.round(value, precision));
+				} catch (ArithmeticException e) {
+					expected = ArithmeticResult.forException(e);
+				}
+				try {
+					actual = ArithmeticResult.forResult("roundToIncrement", arithmetic.roundToIncrement(value, increment));
+				} catch (ArithmeticException e) {
+					actual = ArithmeticResult.forException(e);
+				}
+				actual.assertEquivalentTo(expected, arithmetic.getTruncationPolicy() + ": roundToIncrement(" + value + ", " + increment + ")");
+			}
+		}
+	}
+
+	@Test
+	public void bulkRoundShouldMatchSingleRound() {
+		final IncrementRounder rounder = new IncrementRounder(arithmetic, 5);
+		final long[] values = new long[100];
+		final long[] expected = new long[values.length + 2];
+		for (int i = 0; i < values.length; i++) {
+			values[i] = 5L * RND.nextInt();// exact also for rounding mode UNNECESSARY
+			expected[i + 2] = rounder.round(values[i]);
+		}
+		final long[] actual = new long[expected.length];
+		rounder.round(values, 0, actual, 2, values.length);
+		assertArrayEquals(expected, actual);
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void bulkRoundShouldThrowIfOutOfBounds() {
+		new IncrementRounder(arithmetic, 5).round(new long[4], 1, new long[4], 0, 4);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void zeroIncrementShouldThrowException() {
+		new IncrementRounder(arithmetic, 0);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void negativeIncrementShouldThrowException() {
+		arithmetic.roundToIncrement(arithmetic.one(), -5);
+	}
+
+	private void assertRoundToIncrement(IncrementRounder rounder, long value) {
+		final long increment = rounder.getIncrement();
+		final String message = arithmetic.getTruncationPolicy() + ": roundToIncrement(" + value + ", " + increment + ")";
+		ArithmeticResult<Long> expected;
+		try {
+			final BigDecimal bdIncrement = BigDecimal.valueOf(increment, arithmetic.getScale());
+			final BigDecimal multiple = BigDecimal.valueOf(value, arithmetic.getScale()).divide(bdIncrement, 0, arithmetic.getRoundingMode());
+			expected = ArithmeticResult.forResult(arithmetic, multiple.multiply(bdIncrement));
+		} catch (ArithmeticException e) {
+			expected = ArithmeticResult.forException(e);
+		}
+		ArithmeticResult<Long> actual;
+		try {
+			final long result = arithmetic.roundToIncrement(value, increment);
+			actual = ArithmeticResult.forResult(arithmetic.toString(result), result);
+		} catch (ArithmeticException e) {
+			actual = ArithmeticResult.forException(e);
+		}
+		actual.assertEquivalentTo(expected, message);
+
+		ArithmeticResult<Long> rounded;
+		try {
+			final long result = rounder.round(value);
+			rounded = ArithmeticResult.forResult(arithmetic.toString(result), result);
+		} catch (ArithmeticException e) {
+			rounded = ArithmeticResult.forException(e);
+		}
+		rounded.assertEquivalentTo(actual, message + " with rounder");
+	}
+}
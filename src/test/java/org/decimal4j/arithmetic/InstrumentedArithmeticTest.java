@@ -0,0 +1,288 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2023 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.arithmetic;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.op.util.LongRandom;
+import org.decimal4j.scale.ScaleMetrics;
+import org.decimal4j.test.TestSettings;
+import org.decimal4j.truncate.OverflowMode;
+import org.decimal4j.truncate.TruncationPolicy;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * Unit test for {@link InstrumentedArithmetic} and {@link ArithmeticMetrics}.
+ */
+@RunWith(Parameterized.class)
+public class InstrumentedArithmeticTest {
+
+	private static final LongRandom RND = new LongRandom();
+
+	private final ScaleMetrics scaleMetrics;
+	private final DecimalArithmetic delegate;
+	private final DecimalArithmetic exact;
+	private final ArithmeticMetrics metrics;
+	private final InstrumentedArithmetic arithmetic;
+
+	public InstrumentedArithmeticTest(ScaleMetrics scaleMetrics, TruncationPolicy truncationPolicy) {
+		this.scaleMetrics = scaleMetrics;
+		this.delegate = scaleMetrics.getArithmetic(truncationPolicy);
+		this.exact = delegate.deriveArithmetic(RoundingMode.UNNECESSARY);
+		this.metrics = new ArithmeticMetrics();
+		this.arithmetic = new InstrumentedArithmetic(delegate, metrics);
+	}
+
+	@Parameters(name = "{index}: {0}, {1}")
+	public static Iterable<Object[]> data() {
+		final List<Object[]> data = new ArrayList<Object[]>();
+		for (final ScaleMetrics scale : TestSettings.SCALES) {
+			for (final TruncationPolicy policy : TestSettings.POLICIES) {
+				data.add(new Object[] { scale, policy });
+			}
+		}
+		return data;
+	}
+
+	@Test
+	public void propertiesShouldMatchDelegate() {
+		assertSame(delegate, arithmetic.getDelegate());
+		assertSame(metrics, arithmetic.getMetrics());
+		assertSame(scaleMetrics, arithmetic.getScaleMetrics());
+		assertEquals(delegate.getScale(), arithmetic.getScale());
+		assertEquals(delegate.one(), arithmetic.one());
+		assertSame(delegate.getTruncationPolicy(), arithmetic.getTruncationPolicy());
+	}
+
+	@Test
+	public void derivedArithmeticShouldShareMetrics() {
+		final DecimalArithmetic derived = arithmetic.deriveArithmetic(OverflowMode.CHECKED.equals(delegate.getOverflowMode()) ? OverflowMode.UNCHECKED : OverflowMode.CHECKED);
+		assertTrue(derived instanceof InstrumentedArithmetic);
+		assertSame(metrics, ((InstrumentedArithmetic) derived).getMetrics());
+		assertSame(arithmetic, arithmetic.deriveArithmetic(delegate.getTruncationPolicy()));
+		derived.add(1, 2);
+		assertEquals(1, metrics.getInvocationCount(InstrumentedOperation.ADD));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructorShouldRejectInstrumentedDelegate() {
+		new InstrumentedArithmetic(arithmetic);
+	}
+
+	@Test
+	public void resultsShouldMatchDelegate() {
+		final int n = TestSettings.getRandomTestCount();
+		for (int i = 0; i < n; i++) {
+			final long a = randomValue();
+			final long b = randomValue();
+			final int shift = RND.nextInt(130) - 65;
+			assertSameResult("add", delegate, arithmetic, a, b, 0);
+			assertSameResult("multiply", delegate, arithmetic, a, b, 0);
+			assertSameResult("divide", delegate, arithmetic, a, b, 0);
+			assertSameResult("square", delegate, arithmetic, a, b, 0);
+			assertSameResult("shiftRight", delegate, arithmetic, a, b, shift);
+			assertSameResult("multiplyByPowerOf10", delegate, arithmetic, a, b, shift % 20);
+			assertSameResult("fromUnscaled", delegate, arithmetic, a, b, shift % 19);
+		}
+		assertEquals(7L * n, metrics.getInvocationCount());
+	}
+
+	@Test
+	public void inexactCountShouldMatchRoundingNecessary() {
+		final int n = TestSettings.getRandomTestCount();
+		final long bound = 1000000000;
+		final long dividendBound = 1000000000000000000L / scaleMetrics.getScaleFactor();
+		for (int i = 0; i < n; i++) {
+			final long a = RND.nextLong(2 * bound) - bound;
+			final long b = RND.nextLong(2 * bound) - bound;
+			assertInexact("multiply", a, b, 0);
+			final long dividend = RND.nextLong(dividendBound) * (RND.nextBoolean() ? 1 : -1);
+			final long divisor = RND.nextBoolean() ? b : RND.nextLong(100) + 1;
+			if (divisor != 0) {
+				assertInexact("divide", dividend, divisor, 0);
+			}
+			assertInexact("shiftRight", a, 0, RND.nextInt(70));
+			assertInexact("multiplyByPowerOf10", a, 0, -RND.nextInt(20));
+			assertInexact("fromUnscaled", a, 0, RND.nextInt(19));
+		}
+	}
+
+	@Test
+	public void slowPathShouldBeCounted() {
+		final long large = Long.MAX_VALUE / 3;
+		call("multiply", arithmetic, large, -large, 0);
+		call("square", arithmetic, large, 0, 0);
+		call("multiply", arithmetic, 2, 3, 0);
+		if (scaleMetrics.getScale() > 0) {
+			assertEquals(1, metrics.getSlowPathCount(InstrumentedOperation.MULTIPLY));
+			assertEquals(1, metrics.getSlowPathCount(InstrumentedOperation.SQUARE));
+		} else {
+			assertEquals(0, metrics.getSlowPathCount());
+		}
+		call("divide", arithmetic, large, large / 2 + 1, 0);
+		assertEquals(scaleMetrics.getScale() > 0 ? 1 : 0, metrics.getSlowPathCount(InstrumentedOperation.DIVIDE));
+	}
+
+	@Test
+	public void overflowShouldBeCounted() {
+		final Class<?> exception = call("add", arithmetic, Long.MAX_VALUE, Long.MAX_VALUE, 0);
+		if (delegate.getOverflowMode().isChecked()) {
+			assertTrue("should be an arithmetic exception: " + exception, exception != null && ArithmeticException.class.isAssignableFrom(exception));
+			assertEquals(1, metrics.getOverflowCount(InstrumentedOperation.ADD));
+			assertEquals(1, metrics.getExceptionCount(InstrumentedOperation.ADD));
+		} else {
+			assertEquals(null, exception);
+			assertEquals(0, metrics.getOverflowCount());
+		}
+		assertEquals(1, metrics.getInvocationCount(InstrumentedOperation.ADD));
+		assertSame(ArithmeticException.class, call("divide", arithmetic, 1, 0, 0));
+		assertEquals(0, metrics.getOverflowCount(InstrumentedOperation.DIVIDE));
+		assertEquals(1, metrics.getExceptionCount(InstrumentedOperation.DIVIDE));
+	}
+
+	@Test
+	public void conversionFailureShouldOnlyBeCountedAsException() {
+		//given
+		final BigDecimal tooLarge = BigDecimal.valueOf(Long.MAX_VALUE).multiply(BigDecimal.TEN);
+
+		//when
+		try {
+			arithmetic.fromBigDecimal(tooLarge);
+			fail("should throw an exception for " + tooLarge);
+		} catch (IllegalArgumentException e) {
+			//expected
+		}
+
+		//then
+		assertEquals(1, metrics.getExceptionCount(InstrumentedOperation.FROM_BIG_DECIMAL));
+		assertEquals(0, metrics.getOverflowCount());
+		assertEquals(0, metrics.getInexactCount());
+	}
+
+	@Test
+	public void disabledMetricsShouldNotCount() {
+		metrics.setEnabled(false);
+		assertFalse(metrics.isEnabled());
+		call("multiply", arithmetic, Long.MAX_VALUE / 3, 3, 0);
+		call("add", arithmetic, Long.MAX_VALUE, 1, 0);
+		call("divide", arithmetic, 1, 3, 0);
+		assertEquals(0, metrics.getInvocationCount());
+		assertEquals(0, metrics.getInexactCount());
+		assertEquals(0, metrics.getSlowPathCount());
+		assertEquals(0, metrics.getExceptionCount());
+		metrics.setEnabled(true);
+		arithmetic.add(1, 1);
+		assertEquals(1, metrics.getInvocationCount());
+		assertEquals(1, metrics.getInvocationCounts().size());
+		metrics.reset();
+		assertEquals(0, metrics.getInvocationCount());
+		assertTrue(metrics.getInvocationCounts().isEmpty());
+	}
+
+	@Test
+	public void registerMBeanShouldExposeCounts() throws Exception {
+		final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+		final ObjectName name = metrics.registerMBean("test-" + scaleMetrics + "-" + delegate.getTruncationPolicy());
+		try {
+			arithmetic.add(1, 2);
+			arithmetic.subtract(1, 2);
+			assertEquals(2L, server.getAttribute(name, "InvocationCount"));
+			server.invoke(name, "reset", new Object[0], new String[0]);
+			assertEquals(0L, server.getAttribute(name, "InvocationCount"));
+		} finally {
+			server.unregisterMBean(name);
+		}
+	}
+
+	private static long randomValue() {
+		return RND.nextBoolean() ? RND.nextLong() : RND.nextLong() >> RND.nextInt(64);
+	}
+
+	private void assertInexact(String op, long a, long b, int n) {
+		final Class<?> exactException = call(op, exact, a, b, n);
+		final boolean roundingNecessary = exactException != null && ArithmeticException.class.isAssignableFrom(exactException);
+		final long before = metrics.getInexactCount();
+		call(op, arithmetic, a, b, n);
+		final long inexact = metrics.getInexactCount() - before;
+		assertEquals(arithmetic + ": " + op + "(" + a + ", " + b + ", " + n + ") inexact", roundingNecessary ? 1 : 0, inexact);
+	}
+
+	private static void assertSameResult(String op, DecimalArithmetic expected, DecimalArithmetic actual, long a, long b, int n) {
+		final String message = actual + ": " + op + "(" + a + ", " + b + ", " + n + ")";
+		final long[] expectedResult = new long[1];
+		final long[] actualResult = new long[1];
+		final Class<?> expectedException = call(op, expected, a, b, n, expectedResult);
+		final Class<?> actualException = call(op, actual, a, b, n, actualResult);
+		assertSame(message + " exception", expectedException, actualException);
+		assertEquals(message, expectedResult[0], actualResult[0]);
+	}
+
+	private static Class<?> call(String op, DecimalArithmetic arith, long a, long b, int n) {
+		return call(op, arith, a, b, n, new long[1]);
+	}
+
+	private static Class<?> call(String op, DecimalArithmetic arith, long a, long b, int n, long[] result) {
+		try {
+			if ("add".equals(op)) {
+				result[0] = arith.add(a, b);
+			} else if ("multiply".equals(op)) {
+				result[0] = arith.multiply(a, b);
+			} else if ("divide".equals(op)) {
+				result[0] = arith.divide(a, b);
+			} else if ("square".equals(op)) {
+				result[0] = arith.square(a);
+			} else if ("shiftRight".equals(op)) {
+				result[0] = arith.shiftRight(a, n);
+			} else if ("multiplyByPowerOf10".equals(op)) {
+				result[0] = arith.multiplyByPowerOf10(a, n);
+			} else if ("fromUnscaled".equals(op)) {
+				result[0] = arith.fromUnscaled(a, arith.getScale() + n);
+			} else {
+				throw new IllegalArgumentException("unknown operation: " + op);
+			}
+			return null;
+		} catch (ArithmeticException e) {
+			return e.getClass();
+		} catch (IllegalArgumentException e) {
+			return e.getClass();
+		}
+	}
+}
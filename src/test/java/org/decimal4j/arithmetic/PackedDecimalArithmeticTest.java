@@ -0,0 +1,316 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2023 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.arithmetic;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.decimal4j.immutable.Decimal2f;
+import org.decimal4j.op.util.LongRandom;
+import org.decimal4j.scale.Scales;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * Unit test for {@link PackedDecimalArithmetic}, asserting results equal to
+ * the {@link BigDecimal} results rounded to the larger operand scale.
+ */
+@RunWith(Parameterized.class)
+public class PackedDecimalArithmeticTest {
+
+	private static final LongRandom RND = new LongRandom();
+	private static final int RUNS = 2000;
+	private static final BigInteger MAX = BigInteger.valueOf(PackedDecimalArithmetic.MAX_UNSCALED);
+	private static final BigInteger MIN = BigInteger.valueOf(PackedDecimalArithmetic.MIN_UNSCALED);
+
+	private interface Op {
+		long packed(PackedDecimalArithmetic arith, long a, long b);
+
+		BigDecimal expected(BigDecimal a, BigDecimal b, int scale, RoundingMode mode);
+	}
+
+	private final RoundingMode roundingMode;
+	private final PackedDecimalArithmetic arith;
+
+	public PackedDecimalArithmeticTest(RoundingMode roundingMode) {
+		this.roundingMode = roundingMode;
+		this.arith = PackedDecimalArithmetic.getInstance(roundingMode);
+	}
+
+	@Parameters(name = "{index}: roundingMode={0}")
+	public static Collection<Object[]> getParameters() {
+		final List<Object[]> params = new ArrayList<>();
+		for (final RoundingMode mode : RoundingMode.values()) {
+			params.add(new Object[] { mode });
+		}
+		return params;
+	}
+
+	private static long randomPacked() {
+		final int scale = RND.nextInt(Scales.MAX_SCALE + 1);
+		final long unscaled;
+		switch (RND.nextInt(4)) {
+		case 0:
+			unscaled = RND.nextInt(201) - 100;
+			break;
+		case 1:
+			unscaled = RND.nextLong() >> (5 + RND.nextInt(59));
+			break;
+		case 2:
+			unscaled = RND.nextBoolean() ? PackedDecimalArithmetic.MAX_UNSCALED : PackedDecimalArithmetic.MIN_UNSCALED;
+			break;
+		default:
+			unscaled = RND.nextLong() >> 5;
+			break;
+		}
+		return PackedDecimalArithmetic.pack(unscaled, scale);
+	}
+
+	private static long neighbour(long packed) {
+		final long unscaled = PackedDecimalArithmetic.unscaledValue(packed);
+		final long delta = RND.nextInt(2) * (unscaled < 0 ? 1 : -1);
+		return PackedDecimalArithmetic.pack(unscaled + delta, PackedDecimalArithmetic.scale(packed));
+	}
+
+	@Test
+	public void testGetInstance() {
+		assertSame(arith, PackedDecimalArithmetic.getInstance(roundingMode));
+		assertEquals(roundingMode, arith.getRoundingMode());
+	}
+
+	@Test
+	public void testPackUnpack() {
+		for (int i = 0; i < RUNS; i++) {
+			final long packed = randomPacked();
+			final long unscaled = PackedDecimalArithmetic.unscaledValue(packed);
+			final int scale = PackedDecimalArithmetic.scale(packed);
+			assertEquals(packed, PackedDecimalArithmetic.pack(unscaled, scale));
+			final BigDecimal big = PackedDecimalArithmetic.toBigDecimal(packed);
+			assertEquals(BigDecimal.valueOf(unscaled, scale), big);
+			assertEquals(big.toPlainString(), PackedDecimalArithmetic.toString(packed));
+		}
+		assertEquals(PackedDecimalArithmetic.pack(12345, 2), PackedDecimalArithmetic.pack(Decimal2f.valueOf(123.45)));
+	}
+
+	@Test
+	public void testPackInvalid() {
+		final long[][] invalid = { { 0, -1 }, { 0, 19 }, { PackedDecimalArithmetic.MAX_UNSCALED + 1, 0 },
+				{ PackedDecimalArithmetic.MIN_UNSCALED - 1, 18 }, { Long.MAX_VALUE, 2 } };
+		for (final long[] args : invalid) {
+			try {
+				PackedDecimalArithmetic.pack(args[0], (int) args[1]);
+				fail("expected IllegalArgumentException for " + args[0] + ", scale=" + args[1]);
+			} catch (IllegalArgumentException e) {
+				// expected
+			}
+		}
+	}
+
+	@Test
+	public void testCompareEqualsHashCode() {
+		for (int i = 0; i < RUNS; i++) {
+			final long a = randomPacked();
+			final long b = RND.nextInt(4) == 0 ? neighbour(a) : randomPacked();
+			final BigDecimal bigA = PackedDecimalArithmetic.toBigDecimal(a);
+			final BigDecimal bigB = PackedDecimalArithmetic.toBigDecimal(b);
+			assertEquals(bigA + " <=> " + bigB, Integer.signum(bigA.compareTo(bigB)),
+					Integer.signum(PackedDecimalArithmetic.compare(a, b)));
+			assertEquals(bigA.equals(bigB), a == b);
+			if (a == b) {
+				assertEquals(PackedDecimalArithmetic.hashCode(a), PackedDecimalArithmetic.hashCode(b));
+			}
+		}
+		final long one = PackedDecimalArithmetic.pack(10, 1);
+		final long oneScale2 = PackedDecimalArithmetic.pack(100, 2);
+		assertEquals(0, PackedDecimalArithmetic.compare(one, oneScale2));
+		assertNotEquals(one, oneScale2);
+	}
+
+	@Test
+	public void testAdd() {
+		runBinaryTest("+", new Op() {
+			@Override
+			public long packed(PackedDecimalArithmetic arith, long a, long b) {
+				return arith.add(a, b);
+			}
+
+			@Override
+			public BigDecimal expected(BigDecimal a, BigDecimal b, int scale, RoundingMode mode) {
+				return a.add(b);
+			}
+		});
+	}
+
+	@Test
+	public void testSubtract() {
+		runBinaryTest("-", new Op() {
+			@Override
+			public long packed(PackedDecimalArithmetic arith, long a, long b) {
+				return arith.subtract(a, b);
+			}
+
+			@Override
+			public BigDecimal expected(BigDecimal a, BigDecimal b, int scale, RoundingMode mode) {
+				return a.subtract(b);
+			}
+		});
+	}
+
+	@Test
+	public void testMultiply() {
+		runBinaryTest("*", new Op() {
+			@Override
+			public long packed(PackedDecimalArithmetic arith, long a, long b) {
+				return arith.multiply(a, b);
+			}
+
+			@Override
+			public BigDecimal expected(BigDecimal a, BigDecimal b, int scale, RoundingMode mode) {
+				return a.multiply(b).setScale(scale, mode);
+			}
+		});
+	}
+
+	@Test
+	public void testDivide() {
+		runBinaryTest("/", new Op() {
+			@Override
+			public long packed(PackedDecimalArithmetic arith, long a, long b) {
+				return arith.divide(a, b);
+			}
+
+			@Override
+			public BigDecimal expected(BigDecimal a, BigDecimal b, int scale, RoundingMode mode) {
+				return a.divide(b, scale, mode);
+			}
+		});
+	}
+
+	@Test
+	public void testNegateAbs() {
+		for (int i = 0; i < RUNS; i++) {
+			final long a = randomPacked();
+			final BigDecimal bigA = PackedDecimalArithmetic.toBigDecimal(a);
+			assertResult("-" + bigA, bigA.negate(), new Op() {
+				@Override
+				public long packed(PackedDecimalArithmetic arith, long a, long b) {
+					return arith.negate(a);
+				}
+
+				@Override
+				public BigDecimal expected(BigDecimal a, BigDecimal b, int scale, RoundingMode mode) {
+					return null;
+				}
+			}, a, 0);
+			assertResult("|" + bigA + "|", bigA.abs(), new Op() {
+				@Override
+				public long packed(PackedDecimalArithmetic arith, long a, long b) {
+					return arith.abs(a);
+				}
+
+				@Override
+				public BigDecimal expected(BigDecimal a, BigDecimal b, int scale, RoundingMode mode) {
+					return null;
+				}
+			}, a, 0);
+		}
+	}
+
+	@Test
+	public void testRescale() {
+		for (int i = 0; i < RUNS; i++) {
+			final long a = randomPacked();
+			final int scale = RND.nextInt(Scales.MAX_SCALE + 1);
+			final BigDecimal bigA = PackedDecimalArithmetic.toBigDecimal(a);
+			BigDecimal expected;
+			try {
+				expected = bigA.setScale(scale, roundingMode);
+			} catch (ArithmeticException e) {
+				expected = null;
+			}
+			assertResult(bigA + ".setScale(" + scale + ")", expected, new Op() {
+				@Override
+				public long packed(PackedDecimalArithmetic arith, long a, long b) {
+					return arith.rescale(a, (int) b);
+				}
+
+				@Override
+				public BigDecimal expected(BigDecimal a, BigDecimal b, int scale, RoundingMode mode) {
+					return null;
+				}
+			}, a, scale);
+		}
+		try {
+			arith.rescale(PackedDecimalArithmetic.pack(1, 0), 19);
+			fail("expected IllegalArgumentException");
+		} catch (IllegalArgumentException e) {
+			// expected
+		}
+	}
+
+	private void runBinaryTest(String opName, Op op) {
+		for (int i = 0; i < RUNS; i++) {
+			final long a = randomPacked();
+			final long b = randomPacked();
+			final BigDecimal bigA = PackedDecimalArithmetic.toBigDecimal(a);
+			final BigDecimal bigB = PackedDecimalArithmetic.toBigDecimal(b);
+			final int scale = Math.max(bigA.scale(), bigB.scale());
+			BigDecimal expected;
+			try {
+				expected = op.expected(bigA, bigB, scale, roundingMode);
+			} catch (ArithmeticException e) {
+				// division by zero or rounding necessary
+				expected = null;
+			}
+			assertResult(bigA + " " + opName + " " + bigB, expected, op, a, b);
+		}
+	}
+
+	private void assertResult(String message, BigDecimal expected, Op op, long a, long b) {
+		final BigInteger unscaled = expected == null ? null : expected.unscaledValue();
+		if (unscaled == null || unscaled.compareTo(MAX) > 0 || unscaled.compareTo(MIN) < 0) {
+			try {
+				final long result = op.packed(arith, a, b);
+				fail(message + " should throw ArithmeticException but returned "
+						+ PackedDecimalArithmetic.toString(result));
+			} catch (ArithmeticException e) {
+				// expected
+			}
+		} else {
+			final long result = op.packed(arith, a, b);
+			assertEquals(message, expected, PackedDecimalArithmetic.toBigDecimal(result));
+		}
+	}
+}
@@ -25,6 +25,9 @@ package org.decimal4j.arithmetic;
 
 import static org.junit.Assert.assertEquals;
 
+import java.util.Random;
+
+import org.decimal4j.truncate.DecimalRounding;
 import org.decimal4j.truncate.TruncatedPart;
 import org.junit.Test;
 
@@ -85,4 +88,74 @@ public class RoundingUtilTest {
 		assertEquals(TruncatedPart.GREATER_THAN_HALF, Rounding.truncatedPartFor(Math.abs(Long.MIN_VALUE/2)+1, Long.MIN_VALUE));
 	}
 
+	@Test
+	public void testTruncatedPartOrdinalForEdgeCases() {
+		final long[] divisors = {1, 2, 3, 10, 11, 1000, Long.MAX_VALUE - 1, Long.MAX_VALUE, Long.MIN_VALUE};
+		for (final long divisor : divisors) {
+			final long half = divisor >>> 1;
+			final long[] remainders = {0, 1, half - 1, half, half + 1, divisor - 1, Long.MAX_VALUE};
+			for (final long remainder : remainders) {
+				if (remainder >= 0 && (divisor < 0 || remainder < divisor)) {
+					assertTruncatedPartOrdinal(remainder, divisor);
+				}
+			}
+		}
+	}
+	@Test
+	public void testTruncatedPartOrdinalForRandom() {
+		final Random rnd = new Random();
+		for (int i = 0; i < 10000; i++) {
+			final long divisor = Math.max(1, rnd.nextLong() >>> rnd.nextInt(64));
+			final long remainder = (rnd.nextLong() >>> 1) % divisor;
+			assertTruncatedPartOrdinal(remainder, divisor);
+		}
+	}
+	@Test
+	public void testCalculateRoundingIncrementEqualsDecimalRounding() {
+		final long[] divisors = {2, 3, 10, 1000};
+		for (final DecimalRounding rounding : DecimalRounding.VALUES) {
+			for (final long divisor : divisors) {
+				for (long truncatedDigits = 1 - divisor; truncatedDigits < divisor; truncatedDigits++) {
+					for (long truncatedValue = -2; truncatedValue <= 2; truncatedValue++) {
+						assertIncrement(rounding, truncatedValue, truncatedDigits, divisor);
+					}
+				}
+			}
+		}
+	}
+	private static void assertTruncatedPartOrdinal(long remainder, long divisor) {
+		assertEquals("remainder=" + remainder + ", divisor=" + divisor, Rounding.truncatedPartFor(remainder, divisor).ordinal(),
+				Rounding.truncatedPartOrdinalFor(remainder, divisor));
+	}
+	private static void assertIncrement(DecimalRounding rounding, long value, long truncatedDigits, long divisor) {
+		final String message = rounding + ": value=" + value + ", truncatedDigits=" + truncatedDigits + ", divisor=" + divisor;
+		final TruncatedPart truncatedPart = Rounding.truncatedPartFor(Math.abs(truncatedDigits), divisor);
+		Object expected;
+		try {
+			expected = truncatedDigits == 0 ? 0 : rounding.calculateRoundingIncrement(Long.signum(truncatedDigits), value, truncatedPart);
+		} catch (ArithmeticException e) {
+			expected = ArithmeticException.class;
+		}
+		assertEquals(message, expected, increment(rounding, value, truncatedDigits, divisor, false));
+		assertEquals(message, expected, increment(rounding, value, truncatedDigits, divisor, true));
+		assertEquals(message, expected, increment(rounding, value, -truncatedDigits, -divisor, true));
+		assertEquals(message, expected, increment(rounding, truncatedDigits < 0 ? -1 : 1, value, Math.abs(truncatedDigits), divisor, false));
+		assertEquals(message, expected, increment(rounding, truncatedDigits < 0 ? -1 : 1, value, Math.abs(truncatedDigits), divisor, true));
+	}
+	private static Object increment(DecimalRounding rounding, long value, long truncatedDigits, long divisor, boolean division) {
+		try {
+			return division ? Rounding.calculateRoundingIncrementForDivision(rounding, value, truncatedDigits, divisor)
+					: Rounding.calculateRoundingIncrement(rounding, value, truncatedDigits, divisor);
+		} catch (ArithmeticException e) {
+			return ArithmeticException.class;
+		}
+	}
+	private static Object increment(DecimalRounding rounding, int sign, long value, long remainder, long divisor, boolean truncatedPart) {
+		try {
+			return truncatedPart ? Rounding.calculateRoundingIncrement(rounding, sign, value, Rounding.truncatedPartFor(remainder, divisor))
+					: Rounding.calculateRoundingIncrement(rounding, sign, value, remainder, divisor);
+		} catch (ArithmeticException e) {
+			return ArithmeticException.class;
+		}
+	}
 }
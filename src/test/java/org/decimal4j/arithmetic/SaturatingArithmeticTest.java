@@ -0,0 +1,383 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2023 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.arithmetic;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.op.arith.SqrtTest;
+import org.decimal4j.op.util.LongRandom;
+import org.decimal4j.scale.ScaleMetrics;
+import org.decimal4j.scale.Scales;
+import org.decimal4j.test.ArithmeticResult;
+import org.decimal4j.test.TestSettings;
+import org.decimal4j.truncate.OverflowMode;
+import org.decimal4j.truncate.StatusFlags;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * Unit test for {@link SaturatingArithmetic} and {@link FlaggingArithmetic}.
+ */
+@RunWith(Parameterized.class)
+public class SaturatingArithmeticTest {
+
+	private static final LongRandom RND = new LongRandom();
+
+	private static enum Op {
+		ADD, SUBTRACT, ADD_LONG, ADD_UNSCALED, MULTIPLY, MULTIPLY_BY_LONG, MULTIPLY_BY_UNSCALED, MULTIPLY_BY_POWER_OF_10, DIVIDE, DIVIDE_BY_LONG, DIVIDE_BY_UNSCALED, DIVIDE_BY_POWER_OF_10, AVG, INVERT, SQUARE, SQRT, NEGATE, ABS, SHIFT_LEFT, SHIFT_RIGHT, FROM_UNSCALED, FROM_DOUBLE, TO_LONG, TO_UNSCALED
+	}
+
+	private final ScaleMetrics scaleMetrics;
+	private final DecimalArithmetic arithmetic;
+	private final StatusFlags flags = new StatusFlags();
+
+	public SaturatingArithmeticTest(ScaleMetrics scaleMetrics, OverflowMode overflowMode, RoundingMode roundingMode) {
+		this.scaleMetrics = scaleMetrics;
+		this.arithmetic = overflowMode == OverflowMode.FLAGGING ? new FlaggingArithmetic(scaleMetrics, roundingMode, flags)
+				: scaleMetrics.getArithmetic(overflowMode.getTruncationPolicy(roundingMode));
+	}
+
+	@Parameters(name = "{index}: {0}, {1}, {2}")
+	public static Iterable<Object[]> data() {
+		final List<Object[]> data = new ArrayList<Object[]>();
+		for (final ScaleMetrics s : TestSettings.SCALES) {
+			for (final RoundingMode roundingMode : TestSettings.UNCHECKED_ROUNDING_MODES) {
+				data.add(new Object[] { s, OverflowMode.SATURATING, roundingMode });
+				data.add(new Object[] { s, OverflowMode.FLAGGING, roundingMode });
+			}
+		}
+		return data;
+	}
+
+	@Test
+	public void shouldUseSaturatingArithmeticForPolicy() {
+		final DecimalArithmetic arith = scaleMetrics.getArithmetic(arithmetic.getTruncationPolicy());
+		assertSame("unexpected overflow mode", arithmetic.getOverflowMode(), arith.getOverflowMode());
+		assertSame("unexpected rounding mode", arithmetic.getRoundingMode(), arith.getRoundingMode());
+		assertSame("unexpected arithmetic", arith, arith.deriveArithmetic(arithmetic.getTruncationPolicy()));
+	}
+
+	@Test
+	public void shouldDeriveFlaggingArithmeticWithSameStatusFlags() {
+		if (arithmetic.getOverflowMode() != OverflowMode.FLAGGING) {
+			return;
+		}
+		final int otherScale = (scaleMetrics.getScale() + 1) % (Scales.MAX_SCALE + 1);
+		final RoundingMode otherRounding = arithmetic.getRoundingMode() == RoundingMode.DOWN ? RoundingMode.UP : RoundingMode.DOWN;
+		final DecimalArithmetic[] derived = {
+				arithmetic.deriveArithmetic(otherScale),
+				arithmetic.deriveArithmetic(otherRounding),
+				arithmetic.deriveArithmetic(otherRounding, OverflowMode.FLAGGING),
+				arithmetic.deriveArithmetic(OverflowMode.FLAGGING.getTruncationPolicy(otherRounding))
+		};
+		for (final DecimalArithmetic arith : derived) {
+			assertTrue("should be flagging: " + arith, arith instanceof FlaggingArithmetic);
+			assertSame("unexpected status flags", flags, ((FlaggingArithmetic) arith).getStatusFlags());
+			flags.clear();
+			StatusFlags.current().clear();
+			arith.add(Long.MAX_VALUE, 1);
+			assertEquals("unexpected flags", StatusFlags.OVERFLOW | StatusFlags.INEXACT, flags.get());
+			assertEquals("unexpected thread flags", 0, StatusFlags.current().get());
+		}
+		assertEquals(otherScale, derived[0].getScale());
+		assertSame(arithmetic.getRoundingMode(), derived[0].getRoundingMode());
+		assertSame(otherRounding, derived[1].getRoundingMode());
+		assertSame(arithmetic, arithmetic.deriveArithmetic(scaleMetrics.getScale()));
+		assertSame(arithmetic, arithmetic.deriveArithmetic(arithmetic.getRoundingMode()));
+		assertSame(OverflowMode.SATURATING, arithmetic.deriveArithmetic(OverflowMode.SATURATING).getOverflowMode());
+	}
+
+	@Test
+	public void runSpecialValueTest() {
+		final long[] specialValues = TestSettings.TEST_CASES.getSpecialValuesFor(scaleMetrics);
+		for (final Op op : Op.values()) {
+			for (final long a : specialValues) {
+				for (final long b : specialValues) {
+					assertOperation(op, a, b);
+				}
+			}
+		}
+	}
+
+	@Test
+	public void runRandomTest() {
+		final int n = TestSettings.getRandomTestCount();
+		for (final Op op : Op.values()) {
+			for (int i = 0; i < n; i++) {
+				assertOperation(op, randomLong(), randomLong());
+			}
+		}
+	}
+
+	@Test
+	public void shouldFlagInexactParseAndConversion() {
+		if (arithmetic.getOverflowMode() != OverflowMode.FLAGGING) {
+			return;
+		}
+		final int n = TestSettings.getRandomTestCount();
+		for (int i = 0; i < n; i++) {
+			final BigDecimal value = BigDecimal.valueOf(RND.nextInt() >> RND.nextInt(32), RND.nextInt(60) - 20);
+			final ArithmeticResult<Long> expected = ArithmeticResult.forResult(arithmetic, value);
+			if (expected.isOverflow()) {
+				continue;
+			}
+			final int expectedFlags = value.compareTo(value.setScale(scaleMetrics.getScale(), RoundingMode.DOWN)) != 0
+					? StatusFlags.INEXACT : 0;
+			for (final String s : new String[] { value.toString(), value.toPlainString(), value.toEngineeringString() }) {
+				flags.clear();
+				assertEquals("parse(" + s + ")", expected.getCompareValue().longValue(), arithmetic.parse(s));
+				assertEquals("parse(" + s + ") flags", expectedFlags, flags.get());
+			}
+			flags.clear();
+			assertEquals("fromBigDecimal(" + value + ")", expected.getCompareValue().longValue(), arithmetic.fromBigDecimal(value));
+			assertEquals("fromBigDecimal(" + value + ") flags", expectedFlags, flags.get());
+		}
+	}
+
+	@Test
+	public void shouldSaturateAtLongBounds() {
+		assertEquals(Long.MAX_VALUE, arithmetic.add(Long.MAX_VALUE, 1));
+		assertEquals(Long.MIN_VALUE, arithmetic.subtract(Long.MIN_VALUE, 1));
+		assertEquals(Long.MAX_VALUE, arithmetic.negate(Long.MIN_VALUE));
+		assertEquals(Long.MAX_VALUE, arithmetic.multiplyByLong(Long.MIN_VALUE, -2));
+		assertEquals(Long.MIN_VALUE, arithmetic.multiplyByLong(Long.MAX_VALUE, -2));
+		assertEquals(Long.MAX_VALUE, arithmetic.divideByLong(Long.MIN_VALUE, -1));
+		assertEquals(Long.MIN_VALUE, arithmetic.pow(-Long.MAX_VALUE, 3));
+	}
+
+	private static long randomLong() {
+		switch (RND.nextInt(4)) {
+		case 0:
+			return RND.nextInt();
+		case 1:
+			return RND.nextLong(Long.MAX_VALUE) >> RND.nextInt(40);
+		default:
+			return RND.nextLong();
+		}
+	}
+
+	private void assertOperation(Op op, long a, long b) {
+		if ((op == Op.DIVIDE | op == Op.DIVIDE_BY_LONG | op == Op.DIVIDE_BY_UNSCALED) & b == 0
+				| (op == Op.INVERT & a == 0) | (op == Op.SQRT & a < 0)) {
+			return;
+		}
+		final boolean unscaledScale = op == Op.TO_UNSCALED | op == Op.ADD_UNSCALED | op == Op.MULTIPLY_BY_UNSCALED
+				| op == Op.DIVIDE_BY_UNSCALED | op == Op.FROM_UNSCALED;
+		final int n = unscaledScale ? (int) ((b & 0xff) % 19) : op == Op.TO_LONG ? 0 : (int) (b & 0x3f) - 20;
+		final BigDecimal exact = exactResult(op, a, b, n);
+		final boolean unscaledResult = op == Op.TO_UNSCALED | op == Op.TO_LONG;
+		final int resultScale = unscaledResult ? n : scaleMetrics.getScale();
+		ArithmeticResult<Long> expected;
+		try {
+			expected = unscaledResult ? expectedUnscaled(exact, n) : ArithmeticResult.forResult(arithmetic, exact);
+		} catch (ArithmeticException e) {
+			expected = ArithmeticResult.forException(e);
+		}
+		flags.clear();
+		ArithmeticResult<Long> actual;
+		try {
+			final long result = actualResult(op, a, b, n);
+			actual = ArithmeticResult.forResult(String.valueOf(result), result);
+		} catch (ArithmeticException e) {
+			actual = ArithmeticResult.forException(e);
+		}
+		final String message = arithmetic.getTruncationPolicy() + ": " + op + "(" + a + ", " + b + ", " + n + ")";
+		actual.assertEquivalentTo(expected, message);
+		if (arithmetic.getOverflowMode() == OverflowMode.FLAGGING && !expected.isException()) {
+			final BigDecimal result = BigDecimal.valueOf(expected.getCompareValue(), resultScale);
+			final int expectedFlags = (expected.isOverflow() ? StatusFlags.OVERFLOW : 0)
+					| (result.compareTo(exact) != 0 ? StatusFlags.INEXACT : 0);
+			assertEquals(message + " flags", expectedFlags, flags.get());
+		}
+	}
+
+	private ArithmeticResult<Long> expectedUnscaled(BigDecimal exact, int scale) {
+		final BigDecimal truncated = exact.setScale(scale, RoundingMode.DOWN);
+		final BigDecimal rounded = truncated.unscaledValue().bitLength() > 63 ? truncated : exact.setScale(scale, arithmetic.getRoundingMode());
+		if (rounded.unscaledValue().bitLength() > 63) {
+			return ArithmeticResult.forResult(exact.toPlainString(), rounded.signum() < 0 ? Long.MIN_VALUE : Long.MAX_VALUE, true);
+		}
+		return ArithmeticResult.forResult(exact.toPlainString(), rounded.unscaledValue().longValue(), false);
+	}
+
+	private BigDecimal exactResult(Op op, long a, long b, int n) {
+		final int scale = scaleMetrics.getScale();
+		final BigDecimal bdA = BigDecimal.valueOf(a, scale);
+		final BigDecimal bdB = BigDecimal.valueOf(b, scale);
+		switch (op) {
+		case ADD:
+			return bdA.add(bdB);
+		case SUBTRACT:
+			return bdA.subtract(bdB);
+		case ADD_LONG:
+			return bdA.add(BigDecimal.valueOf(b));
+		case ADD_UNSCALED:
+			return bdA.add(BigDecimal.valueOf(b, n));
+		case MULTIPLY:
+			return bdA.multiply(bdB);
+		case MULTIPLY_BY_LONG:
+			return bdA.multiply(BigDecimal.valueOf(b));
+		case MULTIPLY_BY_UNSCALED:
+			return bdA.multiply(BigDecimal.valueOf(b, n));
+		case MULTIPLY_BY_POWER_OF_10:
+			return bdA.scaleByPowerOfTen(n);
+		case DIVIDE:
+			return divide(bdA, bdB);
+		case DIVIDE_BY_LONG:
+			return divide(bdA, BigDecimal.valueOf(b));
+		case DIVIDE_BY_UNSCALED:
+			return divide(bdA, BigDecimal.valueOf(b, n));
+		case DIVIDE_BY_POWER_OF_10:
+			return bdA.scaleByPowerOfTen(-n);
+		case AVG:
+			return bdA.add(bdB).multiply(new BigDecimal("0.5"));
+		case INVERT:
+			return divide(BigDecimal.ONE, bdA);
+		case SQUARE:
+			return bdA.multiply(bdA);
+		case SQRT:
+			return sqrt(bdA);
+		case NEGATE:
+			return bdA.negate();
+		case ABS:
+			return bdA.abs();
+		case SHIFT_LEFT:
+			return shift(a, n);
+		case SHIFT_RIGHT:
+			return shift(a, -n);
+		case FROM_UNSCALED:
+			return BigDecimal.valueOf(b, n);
+		case FROM_DOUBLE:
+			return new BigDecimal(doubleValue(a, n));
+		case TO_LONG:
+		case TO_UNSCALED:
+			return bdA;
+		default:
+			throw new IllegalArgumentException("unsupported op: " + op);
+		}
+	}
+
+	private BigDecimal shift(long a, int n) {
+		final int scale = scaleMetrics.getScale();
+		return n >= 0 ? BigDecimal.valueOf(a, scale).multiply(new BigDecimal(BigInteger.ONE.shiftLeft(n))) : new BigDecimal(BigInteger.valueOf(a).multiply(BigInteger.valueOf(5).pow(-n)), scale - n);
+	}
+
+	/**
+	 * Returns a double value whose unscaled decimal value is in the long range.
+	 */
+	private double doubleValue(long a, int n) {
+		return Math.scalb((double) a, -1 - Math.abs(n)) / scaleMetrics.getScaleFactor();
+	}
+
+	/**
+	 * Returns the square root truncated to 40 fraction digits with an
+	 * additional digit for a non-zero remainder, see {@link #divide(BigDecimal, BigDecimal)}.
+	 */
+	private static BigDecimal sqrt(BigDecimal value) {
+		final BigDecimal root = SqrtTest.sqrt(value.setScale(40));
+		if (root.multiply(root).compareTo(value) == 0) {
+			return root;
+		}
+		return root.add(BigDecimal.valueOf(1, 41));
+	}
+
+	/**
+	 * Returns the quotient truncated to 40 fraction digits; a non-zero
+	 * remainder is indicated by an additional digit so that the quotient
+	 * rounds like the exact value.
+	 */
+	private static BigDecimal divide(BigDecimal dividend, BigDecimal divisor) {
+		final BigDecimal quotient = dividend.divide(divisor, 40, RoundingMode.DOWN);
+		if (quotient.multiply(divisor).compareTo(dividend) == 0) {
+			return quotient;
+		}
+		return quotient.add(BigDecimal.valueOf(dividend.signum() * divisor.signum(), 41));
+	}
+
+	private long actualResult(Op op, long a, long b, int n) {
+		switch (op) {
+		case ADD:
+			return arithmetic.add(a, b);
+		case SUBTRACT:
+			return arithmetic.subtract(a, b);
+		case ADD_LONG:
+			return arithmetic.addLong(a, b);
+		case ADD_UNSCALED:
+			return arithmetic.addUnscaled(a, b, n);
+		case MULTIPLY:
+			return arithmetic.multiply(a, b);
+		case MULTIPLY_BY_LONG:
+			return arithmetic.multiplyByLong(a, b);
+		case MULTIPLY_BY_UNSCALED:
+			return arithmetic.multiplyByUnscaled(a, b, n);
+		case MULTIPLY_BY_POWER_OF_10:
+			return arithmetic.multiplyByPowerOf10(a, n);
+		case DIVIDE:
+			return arithmetic.divide(a, b);
+		case DIVIDE_BY_LONG:
+			return arithmetic.divideByLong(a, b);
+		case DIVIDE_BY_UNSCALED:
+			return arithmetic.divideByUnscaled(a, b, n);
+		case DIVIDE_BY_POWER_OF_10:
+			return arithmetic.divideByPowerOf10(a, n);
+		case AVG:
+			return arithmetic.avg(a, b);
+		case INVERT:
+			return arithmetic.invert(a);
+		case SQUARE:
+			return arithmetic.square(a);
+		case SQRT:
+			return arithmetic.sqrt(a);
+		case NEGATE:
+			return arithmetic.negate(a);
+		case ABS:
+			return arithmetic.abs(a);
+		case SHIFT_LEFT:
+			return arithmetic.shiftLeft(a, n);
+		case SHIFT_RIGHT:
+			return arithmetic.shiftRight(a, n);
+		case FROM_UNSCALED:
+			return arithmetic.fromUnscaled(b, n);
+		case FROM_DOUBLE:
+			return arithmetic.fromDouble(doubleValue(a, n));
+		case TO_LONG:
+			return arithmetic.toLong(a);
+		case TO_UNSCALED:
+			return arithmetic.toUnscaled(a, n);
+		default:
+			throw new IllegalArgumentException("unsupported op: " + op);
+		}
+	}
+}
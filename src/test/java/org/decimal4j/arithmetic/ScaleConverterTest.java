@@ -0,0 +1,143 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2023 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.arithmetic;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.op.util.LongRandom;
+import org.decimal4j.scale.ScaleMetrics;
+import org.decimal4j.scale.Scales;
+import org.decimal4j.test.TestSettings;
+import org.decimal4j.truncate.TruncationPolicy;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * Unit test for {@link ScaleConverter}.
+ */
+@RunWith(Parameterized.class)
+public class ScaleConverterTest {
+
+	private static final LongRandom RND = new LongRandom();
+
+	private final ScaleMetrics sourceScaleMetrics;
+	private final ScaleConverter converter;
+	private final DecimalArithmetic targetArithmetic;
+
+	public ScaleConverterTest(ScaleMetrics sourceScaleMetrics, ScaleMetrics targetScaleMetrics, TruncationPolicy truncationPolicy) {
+		this.sourceScaleMetrics = sourceScaleMetrics;
+		this.converter = ScaleConverter.valueOf(sourceScaleMetrics, targetScaleMetrics, truncationPolicy);
+		this.targetArithmetic = targetScaleMetrics.getArithmetic(truncationPolicy);
+	}
+
+	@Parameters(name = "{index}: {0} -> {1}, {2}")
+	public static Iterable<Object[]> data() {
+		final List<Object[]> data = new ArrayList<Object[]>();
+		for (final ScaleMetrics source : TestSettings.SCALES) {
+			for (final ScaleMetrics target : TestSettings.SCALES) {
+				for (final TruncationPolicy policy : TestSettings.POLICIES) {
+					data.add(new Object[] { source, target, policy });
+				}
+			}
+		}
+		return data;
+	}
+
+	@Test
+	public void valueOfShouldReturnCachedConverter() {
+		assertSame(converter, ScaleConverter.valueOf(sourceScaleMetrics, converter.getTargetScaleMetrics(), converter.getTruncationPolicy()));
+		assertSame(sourceScaleMetrics, converter.getSourceScaleMetrics());
+		assertSame(targetArithmetic.getScaleMetrics(), converter.getTargetScaleMetrics());
+		assertSame(targetArithmetic.getTruncationPolicy(), converter.getTruncationPolicy());
+	}
+
+	@Test
+	public void runSpecialValueTest() {
+		for (final long value : TestSettings.TEST_CASES.getSpecialValuesFor(sourceScaleMetrics)) {
+			assertConvert(value);
+		}
+		for (final ScaleMetrics pow10 : Scales.VALUES) {
+			assertConvert(pow10.getScaleFactor());
+			assertConvert(-pow10.getScaleFactor());
+			assertConvert(5 * pow10.getScaleFactor() / 10);
+			assertConvert(-5 * pow10.getScaleFactor() / 10);
+		}
+	}
+
+	@Test
+	public void runRandomTest() {
+		final int n = TestSettings.getRandomTestCount();
+		for (int i = 0; i < n; i++) {
+			assertConvert(RND.nextBoolean() ? RND.nextLong() : RND.nextLong() >> RND.nextInt(64));
+		}
+	}
+
+	@Test
+	public void bulkConvertShouldMatchSingleConvert() {
+		final long[] values = new long[100];
+		final long[] expected = new long[values.length + 2];
+		for (int i = 0; i < values.length; i++) {
+			values[i] = sourceScaleMetrics.multiplyByScaleFactor(RND.nextInt(19) - 9);// exact also for rounding mode UNNECESSARY
+			expected[i + 2] = converter.convert(values[i]);
+		}
+		final long[] actual = new long[expected.length];
+		converter.convert(values, 0, actual, 2, values.length);
+		assertArrayEquals(expected, actual);
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void bulkConvertShouldThrowIfOutOfBounds() {
+		converter.convert(new long[4], 1, new long[4], 0, 4);
+	}
+
+	private void assertConvert(long value) {
+		final String message = converter + ": convert(" + value + ")";
+		Class<?> expectedException = null;
+		long expected = 0;
+		try {
+			expected = targetArithmetic.fromUnscaled(value, sourceScaleMetrics.getScale());
+		} catch (ArithmeticException e) {
+			expectedException = e.getClass();
+		} catch (IllegalArgumentException e) {
+			expectedException = e.getClass();
+		}
+		try {
+			final long actual = converter.convert(value);
+			assertEquals(message + " should throw " + expectedException, null, expectedException);
+			assertEquals(message, expected, actual);
+		} catch (ArithmeticException e) {
+			assertEquals(message + " threw " + e, expectedException, e.getClass());
+		} catch (IllegalArgumentException e) {
+			assertEquals(message + " threw " + e, expectedException, e.getClass());
+		}
+	}
+}
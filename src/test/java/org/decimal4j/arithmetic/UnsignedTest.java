@@ -26,11 +26,17 @@ package org.decimal4j.arithmetic;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Random;
 
 import junitparams.JUnitParamsRunner;
 import junitparams.Parameters;
 import junitparams.naming.TestCaseName;
 
+import org.decimal4j.truncate.DecimalRounding;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 
@@ -87,6 +93,82 @@ public class UnsignedTest {
 		assertGreater(second, first);
 	}
 
+	// Multiplication
+
+	@Test
+	public void unsignedMultiplyHigh() {
+		final long[] values = { 0, 1, 2, 0xffffffffL, 0x100000000L, Long.MAX_VALUE, FIRST_LARGE_VALUE, LARGE_VALUE,
+				LAST_LARGE_VALUE, 0x123456789abcdefL, 0xfedcba9876543210L };
+		final Random random = new Random(42);
+		for (int i = 0; i < 1000; i++) {
+			final long a = i < values.length * values.length ? values[i % values.length] : random.nextLong();
+			final long b = i < values.length * values.length ? values[i / values.length] : random.nextLong();
+			final BigInteger product = toUnsignedBigInteger(a).multiply(toUnsignedBigInteger(b));
+			assertEquals(a + " * " + b, product.shiftRight(64).longValue(), Unsigned.multiplyHigh(a, b));
+		}
+	}
+
+	@Test
+	public void unsignedDivide128() {
+		final long[] values = { 1, 2, 0xffffffffL, 0x100000000L, Long.MAX_VALUE, FIRST_LARGE_VALUE, LARGE_VALUE,
+				LAST_LARGE_VALUE, 0x123456789abcdefL, 0xfedcba9876543210L };
+		final Random random = new Random(42);
+		for (int i = 0; i < 1000; i++) {
+			final long bits = random.nextLong() >>> random.nextInt(64);
+			final long divisor = i < values.length ? values[i] : bits == 0 ? 1 : bits;
+			final long high = Long.remainderUnsigned(random.nextLong(), divisor);
+			final long low = random.nextLong();
+			final BigInteger dividend = toUnsignedBigInteger(high).shiftLeft(64).or(toUnsignedBigInteger(low));
+			final BigInteger quotient = dividend.divide(toUnsignedBigInteger(divisor));
+			assertEquals(dividend + " / " + divisor, quotient.longValue(), Unsigned.divide(high, low, divisor));
+		}
+	}
+
+	@Test
+	public void calculateRoundingIncrement128() {
+		final Random random = new Random(42);
+		for (int i = 0; i < 1000; i++) {
+			final long hDivisor = i % 3 == 0 ? 0 : random.nextLong() >>> random.nextInt(64);
+			final long lDivisor = hDivisor == 0 ? random.nextLong() | 1 : random.nextLong();
+			final BigInteger divisor = toUnsignedBigInteger(hDivisor).shiftLeft(64).or(toUnsignedBigInteger(lDivisor));
+			final BigInteger remainder;
+			switch (i % 4) {
+			case 0:
+				remainder = divisor.shiftRight(1);
+				break;
+			case 1:
+				remainder = divisor.shiftRight(1).add(BigInteger.ONE);
+				break;
+			default:
+				remainder = new BigInteger(128, random).mod(divisor);
+			}
+			final long hRemainder = remainder.shiftRight(64).longValue();
+			final long lRemainder = remainder.longValue();
+			for (final DecimalRounding rounding : DecimalRounding.VALUES) {
+				for (final int sign : new int[] { -1, 1 }) {
+					// value = sign * (10 + remainder / divisor)
+					final BigInteger numerator = divisor.multiply(BigInteger.TEN).add(remainder).multiply(BigInteger.valueOf(sign));
+					final String message = rounding + ": " + numerator + " / " + divisor;
+					final int expected;
+					try {
+						expected = new BigDecimal(numerator).divide(new BigDecimal(divisor), 0, rounding.getRoundingMode())
+								.intValueExact() - sign * 10;
+					} catch (ArithmeticException e) {
+						try {
+							Unsigned.calculateRoundingIncrement(rounding, sign, sign * 10, hRemainder, lRemainder, hDivisor, lDivisor);
+							fail("expected exception for " + message);
+						} catch (ArithmeticException ex) {
+							//expected
+						}
+						continue;
+					}
+					assertEquals(message, expected,
+							Unsigned.calculateRoundingIncrement(rounding, sign, sign * 10, hRemainder, lRemainder, hDivisor, lDivisor));
+				}
+			}
+		}
+	}
+
 	/**
 	 * Provides arguments for division tests where dividend and divisor are
 	 * unsigned long values.
@@ -210,4 +292,8 @@ public class UnsignedTest {
 		assertFalse(Unsigned.isLessOrEqual(first, second));
 	}
 
+	private static BigInteger toUnsignedBigInteger(long value) {
+		final BigInteger big = BigInteger.valueOf(value);
+		return value >= 0 ? big : big.add(BigInteger.ONE.shiftLeft(64));
+	}
 }
@@ -0,0 +1,161 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2023 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.collection;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.decimal4j.api.Decimal;
+import org.decimal4j.factory.Factories;
+import org.decimal4j.op.util.LongRandom;
+import org.decimal4j.scale.ScaleMetrics;
+import org.decimal4j.scale.Scales;
+import org.decimal4j.test.TestSettings;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * Unit test for {@link DecimalHashMap}.
+ */
+@RunWith(Parameterized.class)
+public class DecimalHashMapTest {
+
+	private static final LongRandom RND = new LongRandom();
+
+	private final ScaleMetrics scaleMetrics;
+
+	public DecimalHashMapTest(ScaleMetrics scaleMetrics) {
+		this.scaleMetrics = scaleMetrics;
+	}
+
+	@Parameters(name = "{index}: scale={0}")
+	public static Iterable<Object[]> data() {
+		final List<Object[]> data = new ArrayList<Object[]>();
+		for (final ScaleMetrics scaleMetrics : TestSettings.SCALES) {
+			data.add(new Object[] { scaleMetrics });
+		}
+		return data;
+	}
+
+	@Test
+	public void randomOperationsShouldMatchHashMap() {
+		final DecimalHashMap<ScaleMetrics, Long> map = new DecimalHashMap<ScaleMetrics, Long>(scaleMetrics, 4);
+		final Map<Long, Long> expected = new HashMap<Long, Long>();
+		final int n = 20 * TestSettings.getRandomTestCount();
+		for (int i = 0; i < n; i++) {
+			final long key = randomKey(i);
+			final Long value = Long.valueOf(i);
+			switch (RND.nextInt(3)) {
+			case 0:
+				assertEquals("put " + key, expected.put(key, value), map.put(key, value));
+				break;
+			case 1:
+				assertEquals("remove " + key, expected.remove(key), map.remove(key));
+				break;
+			default:
+				assertEquals("get " + key, expected.get(key), map.get(key));
+				assertEquals("containsKey " + key, expected.containsKey(key), map.containsKey(key));
+				break;
+			}
+			assertEquals(expected.size(), map.size());
+		}
+		assertEntries(expected, map);
+		for (final Long key : expected.keySet()) {
+			assertEquals(expected.get(key), map.get(key.longValue()));
+		}
+		map.clear();
+		assertTrue(map.isEmpty());
+		assertEquals(-1, map.first());
+	}
+
+	@Test
+	public void decimalKeysShouldMatchUnscaledKeys() {
+		final DecimalHashMap<ScaleMetrics, String> map = new DecimalHashMap<ScaleMetrics, String>(scaleMetrics);
+		final long unscaled = scaleMetrics.getScaleFactor() + 5;
+		assertNull(map.put(Factories.getDecimalFactory(scaleMetrics).valueOfUnscaled(unscaled), "a"));
+		assertEquals("a", map.get(unscaled));
+		assertTrue(map.containsKey(Factories.getDecimalFactory(scaleMetrics).valueOfUnscaled(unscaled)));
+		assertEquals("a", map.remove(Factories.getDecimalFactory(scaleMetrics).valueOfUnscaled(unscaled)));
+		assertFalse(map.containsKey(unscaled));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void keyWithOtherScaleShouldThrowException() {
+		final DecimalHashMap<ScaleMetrics, String> map = new DecimalHashMap<ScaleMetrics, String>(scaleMetrics);
+		final ScaleMetrics other = Scales.getScaleMetrics((scaleMetrics.getScale() + 1) % Scales.VALUES.size());
+		@SuppressWarnings({ "rawtypes", "unchecked" })
+		final Decimal<ScaleMetrics> key = (Decimal) Factories.getDecimalFactory(other).valueOf(1);
+		map.put(key, "a");
+	}
+
+	@Test(expected = NullPointerException.class)
+	public void nullValueShouldThrowException() {
+		new DecimalHashMap<ScaleMetrics, String>(scaleMetrics).put(1, null);
+	}
+
+	@Test
+	public void toStringShouldFormatKeys() {
+		final DecimalHashMap<ScaleMetrics, String> map = new DecimalHashMap<ScaleMetrics, String>(scaleMetrics);
+		assertEquals("{}", map.toString());
+		map.put(scaleMetrics.getScaleFactor(), "a");
+		assertEquals("{" + scaleMetrics.getDefaultArithmetic().toString(scaleMetrics.getScaleFactor()) + "=a}", map.toString());
+	}
+
+	private static long randomKey(int i) {
+		switch (i % 4) {
+		case 0:
+			return RND.nextLong();
+		case 1:
+			// collide in low bits
+			return RND.nextLong(64) << 32;
+		default:
+			return RND.nextLong(200) - 100;
+		}
+	}
+
+	private static void assertEntries(final Map<Long, Long> expected, DecimalHashMap<ScaleMetrics, Long> map) {
+		final Map<Long, Long> cursorEntries = new HashMap<Long, Long>();
+		for (int cursor = map.first(); cursor >= 0; cursor = map.next(cursor)) {
+			assertNull("duplicate key", cursorEntries.put(map.keyAt(cursor), map.valueAt(cursor)));
+		}
+		assertEquals(expected, cursorEntries);
+		final Map<Long, Long> consumerEntries = new HashMap<Long, Long>();
+		map.forEach(new UnscaledEntryConsumer<Long>() {
+			@Override
+			public void accept(long unscaledKey, Long value) {
+				consumerEntries.put(unscaledKey, value);
+			}
+		});
+		assertEquals(expected, consumerEntries);
+	}
+}
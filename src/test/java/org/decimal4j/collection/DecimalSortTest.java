@@ -0,0 +1,191 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2023 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.collection;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.decimal4j.api.Decimal;
+import org.decimal4j.immutable.Decimal2f;
+import org.decimal4j.immutable.Decimal6f;
+import org.decimal4j.op.util.LongRandom;
+import org.decimal4j.scale.Scale6f;
+import org.junit.AfterClass;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * Unit test for {@link DecimalSort}.
+ */
+@RunWith(Parameterized.class)
+public class DecimalSortTest {
+
+	private static final LongRandom RND = new LongRandom();
+	private static final ForkJoinPool POOL = new ForkJoinPool(4);
+
+	private final int length;
+	private final long bound;
+
+	public DecimalSortTest(int length, long bound) {
+		this.length = length;
+		this.bound = bound;
+	}
+
+	@Parameters(name = "{index}: length={0}, bound={1}")
+	public static Iterable<Object[]> data() {
+		final List<Object[]> data = new ArrayList<Object[]>();
+		for (final int length : new int[] { 0, 1, 2, 17, 63, 64, 1000, 3 * DecimalSort.PARALLEL_THRESHOLD + 7 }) {
+			// bound 0 means the full long range
+			for (final long bound : new long[] { 0, 10, 1000000 }) {
+				data.add(new Object[] { length, bound });
+			}
+		}
+		return data;
+	}
+
+	@AfterClass
+	public static void shutdownPool() {
+		POOL.shutdown();
+	}
+
+	@Test
+	public void sortShouldMatchArraysSort() {
+		final long[] values = randomValues();
+		final long[] expected = values.clone();
+		Arrays.sort(expected);
+		final long[] actual = values.clone();
+		DecimalSort.sort(actual);
+		assertArrayEquals(expected, actual);
+	}
+
+	@Test
+	public void sortRangeShouldOnlySortRange() {
+		final long[] values = randomValues();
+		final int from = length / 3;
+		final int to = length - length / 4;
+		final long[] expected = values.clone();
+		Arrays.sort(expected, from, to);
+		final long[] actual = values.clone();
+		DecimalSort.sort(actual, from, to);
+		assertArrayEquals(expected, actual);
+	}
+
+	@Test
+	public void parallelSortShouldMatchArraysSort() {
+		final long[] values = randomValues();
+		final long[] expected = values.clone();
+		Arrays.sort(expected);
+		final long[] actual = values.clone();
+		DecimalSort.parallelSort(actual, POOL);
+		assertArrayEquals(expected, actual);
+	}
+
+	@Test
+	public void argsortShouldReturnStablePermutation() {
+		final long[] values = randomValues();
+		assertStablePermutation(values, DecimalSort.argsort(values));
+	}
+
+	@Test
+	public void parallelArgsortShouldReturnStablePermutation() {
+		final long[] values = randomValues();
+		assertStablePermutation(values, DecimalSort.parallelArgsort(values, POOL));
+	}
+
+	@Test
+	public void permuteShouldReorderParallelColumn() {
+		final long[] prices = randomValues();
+		final long[] quantities = new long[length];
+		for (int i = 0; i < length; i++) {
+			quantities[i] = prices[i] * 31 + i;
+		}
+		final int[] permutation = DecimalSort.argsort(prices);
+		final long[] sortedPrices = DecimalSort.permute(prices, permutation);
+		final long[] sortedQuantities = DecimalSort.permute(quantities, permutation, new long[length]);
+		for (int i = 0; i < length; i++) {
+			assertEquals(sortedPrices[i] * 31 + permutation[i], sortedQuantities[i]);
+		}
+	}
+
+	@Test
+	public void sortShouldSortDecimalArray() {
+		final long[] values = randomValues();
+		final Decimal6f[] decimals = new Decimal6f[length];
+		for (int i = 0; i < length; i++) {
+			decimals[i] = Decimal6f.valueOfUnscaled(values[i]);
+		}
+		final Decimal6f[] expected = decimals.clone();
+		Arrays.sort(expected);
+		final Decimal6f[] actual = decimals.clone();
+		DecimalSort.sort(actual);
+		assertArrayEquals(expected, actual);
+		final Decimal6f[] parallel = decimals.clone();
+		DecimalSort.<Scale6f, Decimal6f> parallelSort(parallel, POOL);
+		assertArrayEquals(expected, parallel);
+		// sort must be stable and preserve instances
+		for (int i = 0; i < length; i++) {
+			assertTrue(actual[i] == parallel[i]);
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void sortShouldThrowExceptionForMixedScales() {
+		@SuppressWarnings({ "rawtypes", "unchecked" })
+		final Decimal<Scale6f>[] decimals = new Decimal[] { Decimal6f.ONE, Decimal2f.ONE };
+		DecimalSort.sort(decimals);
+	}
+
+	private long[] randomValues() {
+		final long[] values = new long[length];
+		for (int i = 0; i < length; i++) {
+			values[i] = bound == 0 ? RND.nextLong() : RND.nextLong(2 * bound) - bound;
+		}
+		return values;
+	}
+
+	private static void assertStablePermutation(long[] values, int[] permutation) {
+		assertEquals(values.length, permutation.length);
+		final boolean[] seen = new boolean[values.length];
+		for (int i = 0; i < permutation.length; i++) {
+			assertTrue("duplicate index " + permutation[i], !seen[permutation[i]]);
+			seen[permutation[i]] = true;
+			if (i > 0) {
+				final long previous = values[permutation[i - 1]];
+				final long current = values[permutation[i]];
+				assertTrue("not sorted at " + i, previous <= current);
+				if (previous == current) {
+					assertTrue("not stable at " + i, permutation[i - 1] < permutation[i]);
+				}
+			}
+		}
+	}
+}
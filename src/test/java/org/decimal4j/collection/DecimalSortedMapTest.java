@@ -0,0 +1,215 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2023 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.collection;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.decimal4j.api.Decimal;
+import org.decimal4j.factory.Factories;
+import org.decimal4j.op.util.LongRandom;
+import org.decimal4j.scale.ScaleMetrics;
+import org.decimal4j.scale.Scales;
+import org.decimal4j.test.TestSettings;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * Unit test for {@link DecimalSortedMap}.
+ */
+@RunWith(Parameterized.class)
+public class DecimalSortedMapTest {
+
+	private static final LongRandom RND = new LongRandom();
+
+	private final ScaleMetrics scaleMetrics;
+
+	public DecimalSortedMapTest(ScaleMetrics scaleMetrics) {
+		this.scaleMetrics = scaleMetrics;
+	}
+
+	@Parameters(name = "{index}: scale={0}")
+	public static Iterable<Object[]> data() {
+		final List<Object[]> data = new ArrayList<Object[]>();
+		for (final ScaleMetrics scaleMetrics : TestSettings.SCALES) {
+			data.add(new Object[] { scaleMetrics });
+		}
+		return data;
+	}
+
+	@Test
+	public void randomOperationsShouldMatchTreeMap() {
+		final DecimalSortedMap<ScaleMetrics, Long> map = new DecimalSortedMap<ScaleMetrics, Long>(scaleMetrics);
+		final TreeMap<Long, Long> expected = new TreeMap<Long, Long>();
+		final int n = 50 * TestSettings.getRandomTestCount();
+		for (int i = 0; i < n; i++) {
+			final long key = randomKey(i);
+			final Long value = Long.valueOf(i);
+			// more puts than removes in the first half, the opposite in the second half
+			final int op = RND.nextInt(5);
+			if (i < n / 2 ? op < 3 : op < 1) {
+				assertEquals("put " + key, expected.put(key, value), map.put(key, value));
+			} else if (op < 4) {
+				assertEquals("remove " + key, expected.remove(key), map.remove(key));
+			} else {
+				assertEquals("get " + key, expected.get(key), map.get(key));
+				assertEquals("containsKey " + key, expected.containsKey(key), map.containsKey(key));
+				assertNavigation(expected, map, key);
+			}
+			assertEquals(expected.size(), map.size());
+			if (i % 4096 == 0) {
+				assertEntries(expected, map);
+			}
+		}
+		assertEntries(expected, map);
+		map.clear();
+		assertTrue(map.isEmpty());
+		assertEquals(-1, map.first());
+		assertEquals(-1, map.last());
+		assertEquals(-1, map.floor(Long.MAX_VALUE));
+		assertEquals(-1, map.ceiling(Long.MIN_VALUE));
+	}
+
+	@Test
+	public void ascendingAndDescendingInsertsShouldMatchTreeMap() {
+		final DecimalSortedMap<ScaleMetrics, Long> map = new DecimalSortedMap<ScaleMetrics, Long>(scaleMetrics);
+		final TreeMap<Long, Long> expected = new TreeMap<Long, Long>();
+		for (long key = 0; key < 1000; key++) {
+			map.put(key, key);
+			map.put(-key - 1, key);
+			expected.put(key, key);
+			expected.put(-key - 1, key);
+		}
+		assertEntries(expected, map);
+		for (long key = -1000; key < 1000; key += 3) {
+			assertEquals(expected.remove(key), map.remove(key));
+		}
+		assertEntries(expected, map);
+		for (long key = -1001; key <= 1001; key++) {
+			assertNavigation(expected, map, key);
+		}
+	}
+
+	@Test
+	public void extremeKeysShouldBeNavigable() {
+		final DecimalSortedMap<ScaleMetrics, String> map = new DecimalSortedMap<ScaleMetrics, String>(scaleMetrics);
+		map.put(Long.MIN_VALUE, "min");
+		map.put(Long.MAX_VALUE, "max");
+		assertEquals(-1, map.lower(Long.MIN_VALUE));
+		assertEquals(-1, map.higher(Long.MAX_VALUE));
+		assertEquals("min", map.valueAt(map.lower(0)));
+		assertEquals("max", map.valueAt(map.higher(0)));
+		assertEquals(Long.MAX_VALUE, map.keyAt(map.last()));
+		assertEquals(Long.MIN_VALUE, map.keyAt(map.first()));
+	}
+
+	@Test
+	public void decimalKeysShouldMatchUnscaledKeys() {
+		final DecimalSortedMap<ScaleMetrics, String> map = new DecimalSortedMap<ScaleMetrics, String>(scaleMetrics);
+		final long unscaled = scaleMetrics.getScaleFactor() + 5;
+		assertNull(map.put(Factories.getDecimalFactory(scaleMetrics).valueOfUnscaled(unscaled), "a"));
+		assertEquals("a", map.get(unscaled));
+		assertTrue(map.containsKey(Factories.getDecimalFactory(scaleMetrics).valueOfUnscaled(unscaled)));
+		assertEquals("a", map.remove(Factories.getDecimalFactory(scaleMetrics).valueOfUnscaled(unscaled)));
+		assertFalse(map.containsKey(unscaled));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void keyWithOtherScaleShouldThrowException() {
+		final DecimalSortedMap<ScaleMetrics, String> map = new DecimalSortedMap<ScaleMetrics, String>(scaleMetrics);
+		final ScaleMetrics other = Scales.getScaleMetrics((scaleMetrics.getScale() + 1) % Scales.VALUES.size());
+		@SuppressWarnings({ "rawtypes", "unchecked" })
+		final Decimal<ScaleMetrics> key = (Decimal) Factories.getDecimalFactory(other).valueOf(1);
+		map.put(key, "a");
+	}
+
+	@Test(expected = NullPointerException.class)
+	public void nullValueShouldThrowException() {
+		new DecimalSortedMap<ScaleMetrics, String>(scaleMetrics).put(1, null);
+	}
+
+	@Test
+	public void toStringShouldFormatKeysInAscendingOrder() {
+		final DecimalSortedMap<ScaleMetrics, String> map = new DecimalSortedMap<ScaleMetrics, String>(scaleMetrics);
+		assertEquals("{}", map.toString());
+		map.put(2, "b");
+		map.put(-1, "a");
+		assertEquals("{" + scaleMetrics.getDefaultArithmetic().toString(-1) + "=a, "
+				+ scaleMetrics.getDefaultArithmetic().toString(2) + "=b}", map.toString());
+	}
+
+	private static long randomKey(int i) {
+		return i % 8 == 0 ? RND.nextLong() : RND.nextLong(2000) - 1000;
+	}
+
+	private static void assertNavigation(TreeMap<Long, Long> expected, DecimalSortedMap<ScaleMetrics, Long> map, long key) {
+		assertCursor("floor " + key, expected.floorEntry(key), map, map.floor(key));
+		assertCursor("ceiling " + key, expected.ceilingEntry(key), map, map.ceiling(key));
+		assertCursor("lower " + key, expected.lowerEntry(key), map, map.lower(key));
+		assertCursor("higher " + key, expected.higherEntry(key), map, map.higher(key));
+	}
+
+	private static void assertCursor(String message, Map.Entry<Long, Long> expected, DecimalSortedMap<ScaleMetrics, Long> map, int cursor) {
+		if (expected == null) {
+			assertEquals(message, -1, cursor);
+		} else {
+			assertEquals(message, expected.getKey().longValue(), map.keyAt(cursor));
+			assertEquals(message, expected.getValue(), map.valueAt(cursor));
+		}
+	}
+
+	private static void assertEntries(final TreeMap<Long, Long> expected, DecimalSortedMap<ScaleMetrics, Long> map) {
+		final List<Long> expectedKeys = new ArrayList<Long>(expected.keySet());
+		final List<Long> ascending = new ArrayList<Long>();
+		for (int cursor = map.first(); cursor >= 0; cursor = map.next(cursor)) {
+			assertEquals(expected.get(map.keyAt(cursor)), map.valueAt(cursor));
+			ascending.add(map.keyAt(cursor));
+		}
+		assertEquals(expectedKeys, ascending);
+		final List<Long> descending = new ArrayList<Long>();
+		for (int cursor = map.last(); cursor >= 0; cursor = map.previous(cursor)) {
+			descending.add(map.keyAt(cursor));
+		}
+		Collections.reverse(descending);
+		assertEquals(expectedKeys, descending);
+		final List<Long> consumed = new ArrayList<Long>();
+		map.forEach(new UnscaledEntryConsumer<Long>() {
+			@Override
+			public void accept(long unscaledKey, Long value) {
+				consumed.add(unscaledKey);
+			}
+		});
+		assertEquals(expectedKeys, consumed);
+	}
+}
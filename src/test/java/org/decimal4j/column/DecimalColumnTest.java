@@ -0,0 +1,264 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2023 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.column;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ReadOnlyBufferException;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.factory.Factories;
+import org.decimal4j.op.util.LongRandom;
+import org.decimal4j.scale.ScaleMetrics;
+import org.decimal4j.scale.Scales;
+import org.decimal4j.test.TestSettings;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * Unit test for {@link DecimalColumn} and {@link DecimalColumns}.
+ */
+@RunWith(Parameterized.class)
+public class DecimalColumnTest {
+
+	private static final LongRandom RND = new LongRandom();
+	private static final int LENGTH = 1000;
+
+	private final ScaleMetrics scaleMetrics;
+	private final DecimalArithmetic arith;
+
+	public DecimalColumnTest(ScaleMetrics scaleMetrics) {
+		this.scaleMetrics = Objects.requireNonNull(scaleMetrics, "scaleMetrics cannot be null");
+		this.arith = scaleMetrics.getDefaultArithmetic();
+	}
+
+	@Parameters(name = "{index}: {0}")
+	public static Collection<Object[]> getParameters() {
+		final List<Object[]> params = new ArrayList<>();
+		for (final ScaleMetrics sm : TestSettings.SCALES) {
+			params.add(new Object[] { sm });
+		}
+		return params;
+	}
+
+	private long[] randomValues() {
+		final long[] values = new long[LENGTH];
+		for (int i = 0; i < LENGTH; i++) {
+			values[i] = RND.nextLong() >> RND.nextInt(64);
+		}
+		return values;
+	}
+
+	private DecimalColumn<ScaleMetrics> column(long[] values) {
+		final DecimalColumn<ScaleMetrics> column = DecimalColumns.allocate(scaleMetrics, values.length);
+		for (int i = 0; i < values.length; i++) {
+			column.setUnscaled(i, values[i]);
+		}
+		return column;
+	}
+
+	@Test
+	public void shouldUseColumnImplementationOfOverlay() {
+		final String expected = TestSettings.OVERLAY >= 22 ? "SegmentDecimalColumn" : BufferDecimalColumn.class.getSimpleName();
+		try (final DecimalColumn<ScaleMetrics> column = DecimalColumns.allocate(scaleMetrics, LENGTH)) {
+			assertEquals("unexpected column implementation", expected, column.getClass().getSimpleName());
+		}
+	}
+
+	@Test
+	public void shouldAllocateZeroColumn() {
+		try (final DecimalColumn<ScaleMetrics> column = DecimalColumns.allocate(scaleMetrics, LENGTH)) {
+			assertEquals("unexpected length", LENGTH, column.length());
+			assertEquals("unexpected scale", scaleMetrics, column.getScaleMetrics());
+			assertFalse("column should not be read-only", column.isReadOnly());
+			for (int i = 0; i < LENGTH; i++) {
+				assertEquals("value should be zero at index " + i, 0, column.getUnscaled(i));
+			}
+		}
+	}
+
+	@Test
+	public void shouldGetAndSetValues() {
+		final long[] values = randomValues();
+		try (final DecimalColumn<ScaleMetrics> column = column(values)) {
+			for (int i = 0; i < LENGTH; i++) {
+				assertEquals("unexpected unscaled value at index " + i, values[i], column.getUnscaled(i));
+				assertEquals("unexpected value at index " + i,
+						Factories.getDecimalFactory(scaleMetrics).valueOfUnscaled(values[i]), column.get(i));
+			}
+			column.set(7, Factories.getDecimalFactory(scaleMetrics).valueOfUnscaled(42));
+			assertEquals("unexpected value after set", 42, column.getUnscaled(7));
+		}
+	}
+
+	@Test
+	public void shouldApplyBulkArithmetic() {
+		final long[] a = randomValues();
+		final long[] b = randomValues();
+		for (int i = 0; i < LENGTH; i++) {
+			if (b[i] == 0) {
+				b[i] = 1;
+			}
+		}
+		try (final DecimalColumn<ScaleMetrics> ca = column(a);
+				final DecimalColumn<ScaleMetrics> cb = column(b);
+				final DecimalColumn<ScaleMetrics> result = DecimalColumns.allocate(scaleMetrics, LENGTH)) {
+			DecimalColumns.add(arith, ca, cb, result);
+			for (int i = 0; i < LENGTH; i++) {
+				assertEquals("unexpected sum at index " + i, arith.add(a[i], b[i]), result.getUnscaled(i));
+			}
+			DecimalColumns.subtract(arith, ca, cb, result);
+			for (int i = 0; i < LENGTH; i++) {
+				assertEquals("unexpected difference at index " + i, arith.subtract(a[i], b[i]), result.getUnscaled(i));
+			}
+			DecimalColumns.multiply(arith, ca, cb, result);
+			for (int i = 0; i < LENGTH; i++) {
+				assertEquals("unexpected product at index " + i, arith.multiply(a[i], b[i]), result.getUnscaled(i));
+			}
+			DecimalColumns.divide(arith, ca, cb, result);
+			for (int i = 0; i < LENGTH; i++) {
+				assertEquals("unexpected quotient at index " + i, arith.divide(a[i], b[i]), result.getUnscaled(i));
+			}
+			DecimalColumns.apply(arith::avg, ca, cb, ca);
+			for (int i = 0; i < LENGTH; i++) {
+				assertEquals("unexpected average at index " + i, arith.avg(a[i], b[i]), ca.getUnscaled(i));
+			}
+		}
+	}
+
+	@Test
+	public void shouldSumAndFill() {
+		final long[] values = randomValues();
+		long expected = 0;
+		for (final long value : values) {
+			expected = arith.add(expected, value);
+		}
+		try (final DecimalColumn<ScaleMetrics> column = column(values)) {
+			assertEquals("unexpected sum", expected, DecimalColumns.sum(arith, column));
+			DecimalColumns.fill(column, 3);
+			assertEquals("unexpected sum after fill", 3 * LENGTH, DecimalColumns.sum(arith, column));
+		}
+	}
+
+	@Test
+	public void shouldMapColumnFromFile() throws IOException {
+		final long[] values = randomValues();
+		final File file = File.createTempFile("decimal-column", ".bin");
+		file.deleteOnExit();
+		final Path path = file.toPath();
+		try (final DecimalColumn<ScaleMetrics> column = DecimalColumns.map(scaleMetrics, path, MapMode.READ_WRITE, LENGTH)) {
+			for (int i = 0; i < LENGTH; i++) {
+				column.setUnscaled(i, values[i]);
+			}
+		}
+		assertEquals("unexpected file size", LENGTH * 8L, Files.size(path));
+		assertEquals("values should be little endian", (byte) values[0], Files.readAllBytes(path)[0]);
+		try (final DecimalColumn<ScaleMetrics> column = DecimalColumns.map(scaleMetrics, path, MapMode.READ_ONLY)) {
+			assertEquals("unexpected length", LENGTH, column.length());
+			assertTrue("column should be read-only", column.isReadOnly());
+			for (int i = 0; i < LENGTH; i++) {
+				assertEquals("unexpected mapped value at index " + i, values[i], column.getUnscaled(i));
+			}
+			try {
+				column.setUnscaled(0, 1);
+				fail("set should fail for read-only column");
+			} catch (ReadOnlyBufferException e) {
+				// expected
+			}
+		}
+	}
+
+	@Test
+	public void shouldThrowForInvalidAccess() {
+		final DecimalColumn<ScaleMetrics> column = DecimalColumns.allocate(scaleMetrics, LENGTH);
+		for (final long index : new long[] { -1, LENGTH, Long.MAX_VALUE }) {
+			try {
+				column.getUnscaled(index);
+				fail("get should fail for index " + index);
+			} catch (IndexOutOfBoundsException e) {
+				// expected
+			}
+		}
+		column.close();
+		column.close();
+		try {
+			column.getUnscaled(0);
+			fail("get should fail for closed column");
+		} catch (IllegalStateException e) {
+			// expected
+		}
+	}
+
+	@Test
+	public void shouldThrowForIllegalArguments() {
+		try (final DecimalColumn<ScaleMetrics> a = DecimalColumns.allocate(scaleMetrics, LENGTH);
+				final DecimalColumn<ScaleMetrics> b = DecimalColumns.allocate(scaleMetrics, LENGTH + 1)) {
+			try {
+				DecimalColumns.add(arith, a, b, a);
+				fail("add should fail for columns of different length");
+			} catch (IllegalArgumentException e) {
+				// expected
+			}
+			final ScaleMetrics other = Scales.getScaleMetrics((scaleMetrics.getScale() + 1) % (Scales.MAX_SCALE + 1));
+			try {
+				DecimalColumns.sum(other.getDefaultArithmetic(), a);
+				fail("sum should fail for arithmetic with different scale");
+			} catch (IllegalArgumentException e) {
+				// expected
+			}
+			try {
+				DecimalColumns.allocate(scaleMetrics, -1);
+				fail("allocate should fail for negative length");
+			} catch (IllegalArgumentException e) {
+				// expected
+			}
+		}
+	}
+
+	@Test
+	public void shouldSplitIntoChunks() {
+		final long chunk = 1L << BufferDecimalColumn.CHUNK_SHIFT;
+		assertEquals(0, BufferDecimalColumn.chunkCount(0));
+		assertEquals(1, BufferDecimalColumn.chunkCount(1));
+		assertEquals(1, BufferDecimalColumn.chunkCount(chunk));
+		assertEquals(2, BufferDecimalColumn.chunkCount(chunk + 1));
+		assertEquals(1 << 30, BufferDecimalColumn.chunkBytes(chunk + 1, 0));
+		assertEquals(8, BufferDecimalColumn.chunkBytes(chunk + 1, 1));
+		assertEquals(1 << 20, BufferDecimalColumn.chunkCount(chunk << 20));
+	}
+}
@@ -24,11 +24,14 @@
 package org.decimal4j.factory;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
+import java.math.BigDecimal;
+
 import org.decimal4j.api.ImmutableDecimal;
 import org.decimal4j.api.MutableDecimal;
 import org.decimal4j.generic.GenericImmutableDecimal;
@@ -160,4 +163,62 @@ public class FactoriesTest {
 		}
 	}
 
+	@Test
+	public void immutableConversionsShouldBeCachedAsConfigured() {
+		for (int scale = Scales.MIN_SCALE; scale <= Scales.MAX_SCALE; scale++) {
+			assertConversionsCached(Factories.getDecimalFactory(scale));
+			assertConversionsCached(Factories.getGenericDecimalFactory(scale));
+		}
+	}
+
+	@Test
+	public void bigDecimalCacheShouldBeConfigurablePerFactory() {
+		for (int scale = Scales.MIN_SCALE; scale <= Scales.MAX_SCALE; scale++) {
+			final DecimalFactory<?> other = Factories.getDecimalFactory((scale + 1) % Scales.VALUES.size());
+			assertBigDecimalCacheConfigurable(Factories.getDecimalFactory(scale), Factories.getGenericDecimalFactory(scale), other);
+			assertBigDecimalCacheConfigurable(Factories.getGenericDecimalFactory(scale), Factories.getDecimalFactory(scale), other);
+		}
+	}
+
+	private static void assertBigDecimalCacheConfigurable(DecimalFactory<?> factory, DecimalFactory<?>... others) {
+		//given
+		final boolean bigDecimalCache = Boolean.getBoolean("decimal4j.bigDecimalCache");
+		try {
+			//when
+			factory.setBigDecimalCacheEnabled(!bigDecimalCache);
+			final ImmutableDecimal<?> value = factory.valueOfUnscaled(-123456789);
+			final BigDecimal bigDecimal = value.toBigDecimal();
+			//then
+			assertEquals("unexpected BigDecimal cache setting for " + factory, !bigDecimalCache, factory.isBigDecimalCacheEnabled());
+			assertEquals(!bigDecimalCache, bigDecimal == value.toBigDecimal());
+			for (final DecimalFactory<?> other : others) {
+				assertEquals("unexpected BigDecimal cache setting for " + other, bigDecimalCache, other.isBigDecimalCacheEnabled());
+				final ImmutableDecimal<?> otherValue = other.valueOfUnscaled(-123456789);
+				assertEquals(bigDecimalCache, otherValue.toBigDecimal() == otherValue.toBigDecimal());
+			}
+		} finally {
+			factory.setBigDecimalCacheEnabled(bigDecimalCache);
+		}
+		assertEquals("unexpected BigDecimal cache setting for " + factory, bigDecimalCache, factory.isBigDecimalCacheEnabled());
+	}
+
+	private static void assertConversionsCached(DecimalFactory<?> factory) {
+		//given
+		final boolean bigDecimalCache = Boolean.getBoolean("decimal4j.bigDecimalCache");
+		final ImmutableDecimal<?> value = factory.valueOfUnscaled(-987654321);
+		final ImmutableDecimal<?> other = factory.valueOfUnscaled(123456789);
+		//when
+		final String string = value.toString();
+		final BigDecimal bigDecimal = value.toBigDecimal();
+		final BigDecimal otherBigDecimal = other.toBigDecimal();
+		final String otherString = other.toString();
+		//then
+		assertEquals("unexpected BigDecimal cache setting for " + factory, bigDecimalCache, factory.isBigDecimalCacheEnabled());
+		assertEquals(factory.getScaleMetrics().getDefaultArithmetic().toBigDecimal(-987654321), bigDecimal);
+		assertSame("String should be cached", string, value.toString());
+		assertSame("String should be cached", otherString, other.toString());
+		assertEquals(bigDecimalCache, bigDecimal == value.toBigDecimal());
+		assertEquals(bigDecimalCache, otherBigDecimal == other.toBigDecimal());
+		assertNotSame("BigDecimal should not be shared", bigDecimal, other.toBigDecimal());
+	}
 }
@@ -23,6 +23,7 @@
  */
 package org.decimal4j.factory;
 
+import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.List;
@@ -88,4 +89,9 @@ public class FinalFactoryTest extends AbstractFinalTest {
 	public void allFieldsShouldBeFinal() {
 		assertAllFieldsAreFinal(clazz);
 	}
+
+	@Override
+	protected boolean isAllowedNonFinalField(Field field) {
+		return DecimalFactory.class.isAssignableFrom(clazz) && "bigDecimalCache".equals(field.getName());
+	}
 }
@@ -0,0 +1,272 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2023 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.flyweight;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.ReadOnlyBufferException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.generic.GenericImmutableDecimal;
+import org.decimal4j.op.util.LongRandom;
+import org.decimal4j.scale.ScaleMetrics;
+import org.decimal4j.scale.Scales;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * Unit test for {@link DecimalFlyweight} and {@link MutableDecimalFlyweight}.
+ */
+@RunWith(Parameterized.class)
+public class DecimalFlyweightTest {
+
+	private static final LongRandom RND = new LongRandom();
+	private static final int FIELDS = 16;
+
+	private final ScaleMetrics scaleMetrics;
+	private final ByteOrder byteOrder;
+
+	public DecimalFlyweightTest(ScaleMetrics scaleMetrics, ByteOrder byteOrder) {
+		this.scaleMetrics = Objects.requireNonNull(scaleMetrics, "scaleMetrics cannot be null");
+		this.byteOrder = Objects.requireNonNull(byteOrder, "byteOrder cannot be null");
+	}
+
+	@Parameters(name = "{index}: {0}, {1}")
+	public static Collection<Object[]> getParameters() {
+		final List<Object[]> params = new ArrayList<>();
+		for (final ScaleMetrics sm : Scales.VALUES) {
+			params.add(new Object[] { sm, ByteOrder.BIG_ENDIAN });
+			params.add(new Object[] { sm, ByteOrder.LITTLE_ENDIAN });
+		}
+		return params;
+	}
+
+	@Test
+	public void shouldReadUnscaledValuesInByteOrder() {
+		// given
+		final ByteBuffer buffer = ByteBuffer.allocate(1 + FIELDS * Long.BYTES).order(byteOrder);
+		final long[] values = new long[FIELDS];
+		for (int i = 0; i < FIELDS; i++) {
+			values[i] = RND.nextLong();
+			buffer.putLong(1 + i * Long.BYTES, values[i]);
+		}
+		// mismatched buffer order must not matter for the flyweight
+		buffer.order(ByteOrder.BIG_ENDIAN == byteOrder ? ByteOrder.LITTLE_ENDIAN : ByteOrder.BIG_ENDIAN);
+
+		// when
+		final DecimalFlyweight<ScaleMetrics> flyweight = new DecimalFlyweight<>(scaleMetrics, byteOrder).wrap(buffer, 1);
+
+		// then
+		for (int i = 0; i < FIELDS; i++) {
+			flyweight.moveTo(1 + i * Long.BYTES);
+			final GenericImmutableDecimal<ScaleMetrics> expected = new GenericImmutableDecimal<>(scaleMetrics, values[i]);
+			assertEquals("unexpected unscaled value at field " + i, values[i], flyweight.unscaledValue());
+			assertEquals("flyweight should equal immutable decimal", expected, flyweight);
+			assertEquals("immutable decimal should equal flyweight", expected.hashCode(), flyweight.hashCode());
+			assertEquals("unexpected string", expected.toString(), flyweight.toString());
+			assertEquals("unexpected scale", scaleMetrics.getScale(), flyweight.getScale());
+		}
+		assertEquals("buffer position should not change", 0, buffer.position());
+	}
+
+	@Test
+	public void shouldReadValueLazily() {
+		// given
+		final ByteBuffer buffer = ByteBuffer.allocate(Long.BYTES).order(byteOrder);
+		final DecimalFlyweight<ScaleMetrics> flyweight = new DecimalFlyweight<>(scaleMetrics, byteOrder).wrap(buffer, 0);
+		final long unscaled = RND.nextLong();
+
+		// when
+		buffer.putLong(0, unscaled);
+
+		// then
+		assertEquals("flyweight should see value written to buffer", unscaled, flyweight.unscaledValue());
+	}
+
+	@Test
+	public void shouldReturnImmutableResultsForReadOnlyFlyweight() {
+		// given
+		final DecimalArithmetic arith = scaleMetrics.getDefaultCheckedArithmetic();
+		final ByteBuffer buffer = ByteBuffer.allocate(2 * Long.BYTES);
+		final long a = RND.nextLong() >> 2;
+		final long b = RND.nextLong() >> 2;
+		final DecimalFlyweight<ScaleMetrics> fa = new DecimalFlyweight<>(scaleMetrics).wrap(buffer, 0);
+		final DecimalFlyweight<ScaleMetrics> fb = new DecimalFlyweight<>(scaleMetrics).wrap(buffer, Long.BYTES);
+		buffer.putLong(0, a).putLong(Long.BYTES, b);
+
+		// when
+		final GenericImmutableDecimal<ScaleMetrics> sum = fa.addUnscaled(b);
+		final GenericImmutableDecimal<ScaleMetrics> abs = fa.abs();
+
+		// then
+		assertEquals("unexpected sum", arith.add(a, b), sum.unscaledValue());
+		assertEquals("unexpected abs", arith.abs(a), abs.unscaledValue());
+		assertEquals("operand should not change", a, fa.unscaledValue());
+		assertEquals("unexpected min", Math.min(a, b), fa.min(fb.toImmutableDecimal()).unscaledValue());
+
+		// when
+		buffer.putLong(0, Math.abs(a) + 1);
+
+		// then
+		assertEquals("abs should be a snapshot", arith.abs(a), abs.unscaledValue());
+	}
+
+	@Test
+	public void shouldWriteThroughMutableFlyweight() {
+		// given
+		final DecimalArithmetic arith = scaleMetrics.getDefaultArithmetic();
+		final ByteBuffer buffer = ByteBuffer.allocateDirect(3 * Long.BYTES);
+		final long a = RND.nextLong();
+		final long b = RND.nextLong();
+		final MutableDecimalFlyweight<ScaleMetrics> fa = new MutableDecimalFlyweight<>(scaleMetrics, byteOrder);
+		final MutableDecimalFlyweight<ScaleMetrics> fb = new MutableDecimalFlyweight<>(scaleMetrics, byteOrder);
+		final MutableDecimalFlyweight<ScaleMetrics> fc = new MutableDecimalFlyweight<>(scaleMetrics, byteOrder);
+		final MemoryAccessor memory = new ByteBufferAccessor(buffer);
+		fa.wrap(memory, 0).setUnscaled(a);
+		fb.wrap(memory, Long.BYTES).setUnscaled(b);
+		fc.wrap(memory, 2 * Long.BYTES);
+
+		// when
+		final MutableDecimalFlyweight<ScaleMetrics> result = fc.set(fa).multiply(fb);
+
+		// then
+		assertSame("result should be flyweight", fc, result);
+		assertEquals("unexpected product", arith.multiply(a, b), memory.getLong(2 * Long.BYTES, byteOrder));
+		assertEquals("operand a should not change", a, fa.unscaledValue());
+
+		// when
+		fc.setUnscaled(arith.subtract(fa.unscaledValue(), fb.unscaledValue()));
+
+		// then
+		assertEquals("unexpected difference", arith.subtract(a, b), memory.getLong(2 * Long.BYTES, byteOrder));
+		assertEquals("unexpected difference", arith.subtract(a, b), fc.unscaledValue());
+	}
+
+	@Test
+	public void shouldReturnDetachedValuesForDivideAndRemainder() {
+		// given
+		final ByteBuffer buffer = ByteBuffer.allocate(2 * Long.BYTES);
+		final MutableDecimalFlyweight<ScaleMetrics> dividend = new MutableDecimalFlyweight<>(scaleMetrics).wrap(buffer, 0);
+		final MutableDecimalFlyweight<ScaleMetrics> divisor = new MutableDecimalFlyweight<>(scaleMetrics).wrap(buffer, Long.BYTES);
+		dividend.setUnscaled(RND.nextLong());
+		divisor.setUnscaled(RND.nextLong() >> 17);
+		if (divisor.isZero()) {
+			divisor.setUnscaled(1);
+		}
+		final GenericImmutableDecimal<ScaleMetrics> expectedDividend = dividend.toImmutableDecimal();
+		final GenericImmutableDecimal<ScaleMetrics>[] expected = expectedDividend.divideAndRemainder(divisor);
+
+		// when
+		final MutableDecimalFlyweight<ScaleMetrics>[] actual = dividend.divideAndRemainder(divisor);
+
+		// then
+		assertEquals("unexpected integral part", expected[0], actual[0]);
+		assertEquals("unexpected remainder", expected[1], actual[1]);
+		assertEquals("dividend should not change", expectedDividend, dividend);
+		assertTrue("result should be detached", actual[0].getMemory() != dividend.getMemory());
+	}
+
+	@Test
+	public void shouldSerializeImmutableCopy() throws Exception {
+		// given
+		final ByteBuffer buffer = ByteBuffer.allocate(Long.BYTES);
+		final DecimalFlyweight<ScaleMetrics> flyweight = new DecimalFlyweight<>(scaleMetrics).wrap(buffer, 0);
+		buffer.putLong(0, RND.nextLong());
+
+		// when
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (final ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+			out.writeObject(flyweight);
+		}
+		final Object copy;
+		try (final ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+			copy = in.readObject();
+		}
+
+		// then
+		assertEquals("copy should be immutable", GenericImmutableDecimal.class, copy.getClass());
+		assertEquals("copy should equal flyweight", flyweight, copy);
+	}
+
+	@Test
+	public void shouldReuseAccessorForSameBuffer() {
+		// given
+		final ByteBuffer buffer = ByteBuffer.allocate(2 * Long.BYTES).order(byteOrder);
+		final ByteBuffer other = ByteBuffer.allocate(2 * Long.BYTES).order(byteOrder);
+		final MutableDecimalFlyweight<ScaleMetrics> flyweight = new MutableDecimalFlyweight<>(scaleMetrics, byteOrder);
+
+		// when
+		final MemoryAccessor first = flyweight.wrap(buffer, 0).getMemory();
+		final MemoryAccessor second = flyweight.wrap(buffer, Long.BYTES).getMemory();
+		final MemoryAccessor third = flyweight.wrap(other, 0).getMemory();
+		flyweight.wrap(buffer, 0).setUnscaled(42);
+
+		// then
+		assertSame("accessor should be reused for same buffer", first, second);
+		assertSame("accessor should access other buffer", other, ((ByteBufferAccessor) third).getBuffer());
+		assertSame("accessor should access buffer after re-wrap", buffer, ((ByteBufferAccessor) flyweight.getMemory()).getBuffer());
+		assertEquals("value should be written to buffer", 42, buffer.getLong(0));
+	}
+
+	@Test
+	public void shouldThrowForInvalidIndex() {
+		final ByteBuffer buffer = ByteBuffer.allocate(2 * Long.BYTES);
+		final DecimalFlyweight<ScaleMetrics> flyweight = new DecimalFlyweight<>(scaleMetrics);
+		for (final int index : new int[] { -1, Long.BYTES + 1, Integer.MAX_VALUE }) {
+			try {
+				flyweight.wrap(buffer, index);
+				fail("wrap should fail for index " + index);
+			} catch (IndexOutOfBoundsException e) {
+				// expected
+			}
+		}
+		try {
+			flyweight.moveTo(0);
+			fail("moveTo should fail if not wrapped");
+		} catch (IllegalStateException e) {
+			// expected
+		}
+	}
+
+	@Test(expected = ReadOnlyBufferException.class)
+	public void shouldNotWriteToReadOnlyBuffer() {
+		final ByteBuffer buffer = ByteBuffer.allocate(Long.BYTES).asReadOnlyBuffer();
+		new MutableDecimalFlyweight<>(scaleMetrics).wrap(buffer, 0).setUnscaled(1);
+	}
+}
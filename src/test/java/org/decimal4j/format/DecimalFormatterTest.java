@@ -0,0 +1,195 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2023 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.format;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.op.util.LongRandom;
+import org.decimal4j.scale.ScaleMetrics;
+import org.decimal4j.scale.Scales;
+import org.decimal4j.test.TestSettings;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * Unit test for {@link DecimalFormatter} comparing the result with {@link DecimalFormat} applied to
+ * {@link BigDecimal} values.
+ */
+@RunWith(Parameterized.class)
+public class DecimalFormatterTest {
+
+	private static final LongRandom RND = new LongRandom();
+
+	private static final char[] SEPARATORS = { '.', ',', '\'', ' ' };
+
+	private final DecimalArithmetic arithmetic;
+	private final RoundingMode roundingMode;
+
+	public DecimalFormatterTest(ScaleMetrics s, RoundingMode mode) {
+		this.arithmetic = s.getArithmetic(mode);
+		this.roundingMode = mode;
+	}
+
+	@Parameters(name = "{index}: {0}, {1}")
+	public static Iterable<Object[]> data() {
+		final List<Object[]> data = new ArrayList<Object[]>();
+		for (final ScaleMetrics s : TestSettings.SCALES) {
+			for (final RoundingMode mode : TestSettings.UNCHECKED_ROUNDING_MODES) {
+				data.add(new Object[] { s, mode });
+			}
+		}
+		return data;
+	}
+
+	@Test
+	public void testDefault() throws IOException {
+		final DecimalFormatter formatter = new DecimalFormatter(arithmetic);
+		for (final long value : TestSettings.TEST_CASES.getSpecialValuesFor(arithmetic.getScaleMetrics())) {
+			assertEquals(arithmetic.toString(value), formatter.format(value));
+		}
+	}
+
+	@Test
+	public void testSpecialValues() throws IOException {
+		for (final long value : TestSettings.TEST_CASES.getSpecialValuesFor(arithmetic.getScaleMetrics())) {
+			assertFormat(value, randomFormatter());
+		}
+	}
+
+	@Test
+	public void testRandomValues() throws IOException {
+		final int n = TestSettings.getRandomTestCount();
+		for (int i = 0; i < n; i++) {
+			assertFormat(RND.nextLong(), randomFormatter());
+		}
+	}
+
+	@Test
+	public void testExamples() {
+		final DecimalFormatter formatter = new DecimalFormatter(Scales.getScaleMetrics(6).getDefaultArithmetic())
+				.withFractionDigits(2, 4).withGroupingSeparator(',');
+		assertEquals("1,234,567.50", formatter.format(1234567500000L));
+		assertEquals("    1,234,567.50", formatter.withWidth(16, ' ').format(1234567500000L));
+		assertEquals("-0001.2346", formatter.withWidth(10, '0').format(-1234567L));
+		assertEquals("(1.2346)", formatter.withSignStyle(SignStyle.PARENTHESES).format(-1234567L));
+		assertEquals("+1.00", formatter.withSignStyle(SignStyle.ALWAYS).format(1000000L));
+		assertEquals("0.00", formatter.withSignStyle(SignStyle.ALWAYS).format(-1L));
+		assertEquals("1", formatter.withFractionDigits(0, 18).format(1000000L));
+		assertEquals("1,5", formatter.withDecimalSeparator(',').withFractionDigits(1).format(1500000L));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testIllegalFractionDigits() {
+		new DecimalFormatter(arithmetic).withFractionDigits(3, 2);
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void testFormatOutOfBounds() {
+		new DecimalFormatter(arithmetic).withWidth(10, ' ').format(0, new char[10], 1);
+	}
+
+	private DecimalFormatter randomFormatter() {
+		final int maxFractionDigits = RND.nextInt(Scales.MAX_SCALE + 1);
+		final int minFractionDigits = RND.nextInt(maxFractionDigits + 1);
+		final char decimalSeparator = SEPARATORS[RND.nextInt(2)];
+		final char groupingSeparator = RND.nextBoolean() ? 0 : SEPARATORS[RND.nextInt(SEPARATORS.length)];
+		return new DecimalFormatter(arithmetic)//
+				.withFractionDigits(minFractionDigits, maxFractionDigits)//
+				.withRoundingMode(roundingMode)//
+				.withDecimalSeparator(decimalSeparator)//
+				.withGroupingSeparator(groupingSeparator == decimalSeparator ? 0 : groupingSeparator)//
+				.withSignStyle(SignStyle.values()[RND.nextInt(SignStyle.values().length)])//
+				.withWidth(RND.nextInt(40), RND.nextBoolean() ? ' ' : '0');
+	}
+
+	private void assertFormat(long value, DecimalFormatter formatter) throws IOException {
+		final String msg = formatter + ": format " + value;
+		final String expected;
+		try {
+			expected = expectedResult(value, formatter);
+		} catch (ArithmeticException e) {
+			try {
+				formatter.format(value);
+			} catch (ArithmeticException ex) {
+				return;
+			}
+			throw new AssertionError(msg + ": expected ArithmeticException");
+		}
+		final int offset = RND.nextInt(4);
+		final char[] chars = new char[offset + expected.length()];
+		final byte[] bytes = new byte[offset + expected.length()];
+		final StringBuilder sb = new StringBuilder();
+		assertEquals(msg, expected, formatter.format(value));
+		assertEquals(msg, expected.length(), formatter.length(value));
+		assertEquals(msg, expected.length(), formatter.format(value, chars, offset));
+		assertEquals(msg, expected, new String(chars, offset, expected.length()));
+		assertEquals(msg, expected.length(), formatter.format(value, bytes, offset));
+		assertEquals(msg, expected, new String(bytes, offset, expected.length(), StandardCharsets.ISO_8859_1));
+		assertEquals(msg, expected.length(), formatter.format(value, sb));
+		assertEquals(msg, expected, sb.toString());
+	}
+
+	private static String expectedResult(long value, DecimalFormatter formatter) {
+		final int scale = formatter.getArithmetic().getScale();
+		final BigDecimal rounded = BigDecimal.valueOf(value, scale)
+				.setScale(Math.min(scale, formatter.getMaxFractionDigits()), formatter.getRoundingMode());
+		final DecimalFormatSymbols symbols = DecimalFormatSymbols.getInstance(Locale.ROOT);
+		symbols.setDecimalSeparator(formatter.getDecimalSeparator());
+		if (formatter.getGroupingSeparator() != 0) {
+			symbols.setGroupingSeparator(formatter.getGroupingSeparator());
+		}
+		final DecimalFormat format = new DecimalFormat("0", symbols);
+		format.setMinimumFractionDigits(formatter.getMinFractionDigits());
+		format.setMaximumFractionDigits(formatter.getMaxFractionDigits());
+		format.setRoundingMode(RoundingMode.UNNECESSARY);
+		format.setGroupingUsed(formatter.getGroupingSeparator() != 0);
+		format.setGroupingSize(3);
+		final String digits = format.format(rounded.abs());
+		final SignStyle signStyle = formatter.getSignStyle();
+		final String prefix = rounded.signum() < 0 ? (signStyle == SignStyle.PARENTHESES ? "(" : "-")
+				: rounded.signum() > 0 && signStyle == SignStyle.ALWAYS ? "+" : "";
+		final String suffix = rounded.signum() < 0 && signStyle == SignStyle.PARENTHESES ? ")" : "";
+		final StringBuilder padding = new StringBuilder();
+		while (padding.length() + prefix.length() + digits.length() + suffix.length() < formatter.getWidth()) {
+			padding.append(formatter.getPadChar());
+		}
+		if (formatter.getPadChar() == '0') {
+			return prefix + padding + digits + suffix;
+		}
+		return padding + prefix + digits + suffix;
+	}
+}
@@ -0,0 +1,211 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2023 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.format;
+
+import static org.junit.Assert.assertEquals;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.op.util.LongRandom;
+import org.decimal4j.scale.ScaleMetrics;
+import org.decimal4j.scale.Scales;
+import org.decimal4j.test.ArithmeticResult;
+import org.decimal4j.test.TestSettings;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * Unit test for {@link DecimalParser} parsing values formatted with {@link DecimalFormat} for different locales.
+ */
+@RunWith(Parameterized.class)
+public class DecimalParserTest {
+
+	private static final LongRandom RND = new LongRandom();
+
+	private static final Locale[] LOCALES = { Locale.US, Locale.GERMANY, Locale.FRANCE, new Locale("de", "CH"),
+			Locale.ITALY };
+
+	private final DecimalArithmetic arithmetic;
+
+	public DecimalParserTest(ScaleMetrics s, RoundingMode mode) {
+		this.arithmetic = s.getArithmetic(mode);
+	}
+
+	@Parameters(name = "{index}: {0}, {1}")
+	public static Iterable<Object[]> data() {
+		final List<Object[]> data = new ArrayList<Object[]>();
+		for (final ScaleMetrics s : TestSettings.SCALES) {
+			for (final RoundingMode mode : TestSettings.UNCHECKED_ROUNDING_MODES) {
+				data.add(new Object[] { s, mode });
+			}
+		}
+		return data;
+	}
+
+	@Test
+	public void testExamples() {
+		final DecimalArithmetic arith = Scales.getScaleMetrics(2).getDefaultArithmetic();
+		final DecimalParser parser = new DecimalParser(arith);
+		assertEquals(123456789, parser.withDecimalSeparator(',').withGroupingSeparator('.').parse("1.234.567,89"));
+		assertEquals(123456789, parser.withGroupingSeparator(' ').parse("1 234 567.89"));
+		assertEquals(123456789, parser.withGroupingSeparator(' ').parse("1\u00A0234\u00A0567.89"));
+		assertEquals(-123450, parser.withGroupingSeparator('\'').withCurrencySymbol("CHF").parse(" (CHF 1'234.50) "));
+		assertEquals(-123450, parser.withGroupingSeparator(',').withCurrencySymbol("$").parse("-$1,234.5"));
+		assertEquals(123450, parser.withGroupingSeparator(',').withCurrencySymbol("$").parse("$+1,234.5"));
+		assertEquals(123450, parser.withGroupingSeparator(',').withCurrencySymbol("EUR").parse("+1,234.50 EUR"));
+		assertEquals(50, parser.parse(".5"));
+		assertEquals(-1235, parser.parse("-12.345"));
+	}
+
+	@Test
+	public void testInvalid() {
+		final DecimalParser parser = new DecimalParser(arithmetic).withGroupingSeparator(',').withCurrencySymbol("$");
+		final String[] invalid = { "", " ", "-", "$", "()", "(-1)", "--1", "1,", ",1", "1,,000", "1.000,5", "1.2.3",
+				"1 2", "$1$", "1e5", "- 1", "1-", "A1" };
+		for (final String value : invalid) {
+			try {
+				parser.parse(value);
+				throw new AssertionError("NumberFormatException expected for input: " + value);
+			} catch (NumberFormatException e) {
+				// expected
+			}
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testSameSeparators() {
+		new DecimalParser(arithmetic).withGroupingSeparator('.');
+	}
+
+	@Test
+	public void testRandomValues() {
+		final int n = TestSettings.getRandomTestCount();
+		for (int i = 0; i < n; i++) {
+			runTest("[" + i + "]", RND.nextLong(), RND.nextInt(Scales.MAX_SCALE + 1),
+					LOCALES[RND.nextInt(LOCALES.length)]);
+		}
+	}
+
+	@Test
+	public void testSpecialValues() {
+		int index = 0;
+		for (final long unscaled : TestSettings.TEST_CASES.getSpecialValuesFor(arithmetic.getScaleMetrics())) {
+			for (final Locale locale : LOCALES) {
+				runTest("[" + index++ + "]", unscaled, arithmetic.getScale() + RND.nextInt(3) - 1, locale);
+			}
+		}
+	}
+
+	@Test
+	public void testManySignificantDigits() {
+		final DecimalParser parser = new DecimalParser(arithmetic).withGroupingSeparator(',');
+		final String[] values = { "0.92233720368547758091", "-0.92233720368547758091", "922,337,203,685,477,580.91",
+				"-922337203685477580.91", "9,223,372,036,854,775,807.5", "-9223372036854775808.5",
+				"1,234,567,890,123,456,789.0123456789", "0.000000000000000000050000000000000000001" };
+		for (int i = 0; i < values.length; i++) {
+			final String messagePrefix = getClass().getSimpleName() + "[" + i + "]: parse " + values[i];
+			ArithmeticResult<Long> expected;
+			try {
+				final BigDecimal result = new BigDecimal(values[i].replace(",", "")).setScale(arithmetic.getScale(),
+						arithmetic.getRoundingMode());
+				if (result.unscaledValue().bitLength() > 63) {
+					throw new NumberFormatException("Overflow: " + result);
+				}
+				expected = ArithmeticResult.forResult(arithmetic, result);
+			} catch (ArithmeticException e) {
+				expected = ArithmeticResult.forException(e);
+			} catch (IllegalArgumentException e) {
+				expected = ArithmeticResult.forException(e);
+			}
+			ArithmeticResult<Long> actual;
+			try {
+				final long result = parser.parse(values[i]);
+				actual = ArithmeticResult.forResult(arithmetic, BigDecimal.valueOf(result, arithmetic.getScale()));
+			} catch (ArithmeticException e) {
+				actual = ArithmeticResult.forException(e);
+			} catch (IllegalArgumentException e) {
+				actual = ArithmeticResult.forException(e);
+			}
+			actual.assertEquivalentTo(expected, messagePrefix);
+		}
+	}
+
+	private void runTest(String name, long unscaled, int scale, Locale locale) {
+		final BigDecimal value = BigDecimal.valueOf(unscaled, Math.max(0, scale));
+		final DecimalFormatSymbols symbols = DecimalFormatSymbols.getInstance(locale);
+		final DecimalFormat format = new DecimalFormat("#,##0", symbols);
+		format.setMaximumFractionDigits(Scales.MAX_SCALE + 1);
+		final String currency = symbols.getCurrencySymbol();
+		final String formatted;
+		switch (RND.nextInt(4)) {
+		case 0:
+			formatted = currency + format.format(value);
+			break;
+		case 1:
+			formatted = format.format(value) + " " + currency;
+			break;
+		case 2:
+			formatted = value.signum() < 0 ? "(" + format.format(value.negate()) + ")" : format.format(value);
+			break;
+		default:
+			formatted = format.format(value);
+			break;
+		}
+		final String messagePrefix = getClass().getSimpleName() + name + ": parse " + formatted + " [" + locale + "]";
+
+		ArithmeticResult<Long> expected;
+		try {
+			final BigDecimal result = value.setScale(arithmetic.getScale(), arithmetic.getRoundingMode());
+			if (result.unscaledValue().bitLength() > 63) {
+				throw new NumberFormatException("Overflow: " + result);
+			}
+			expected = ArithmeticResult.forResult(arithmetic, result);
+		} catch (ArithmeticException e) {
+			expected = ArithmeticResult.forException(e);
+		} catch (IllegalArgumentException e) {
+			expected = ArithmeticResult.forException(e);
+		}
+
+		ArithmeticResult<Long> actual;
+		try {
+			final long result = DecimalParser.forLocale(arithmetic, locale).parse(formatted);
+			actual = ArithmeticResult.forResult(arithmetic, BigDecimal.valueOf(result, arithmetic.getScale()));
+		} catch (ArithmeticException e) {
+			actual = ArithmeticResult.forException(e);
+		} catch (IllegalArgumentException e) {
+			actual = ArithmeticResult.forException(e);
+		}
+
+		actual.assertEquivalentTo(expected, messagePrefix);
+	}
+}
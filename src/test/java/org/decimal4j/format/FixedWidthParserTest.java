@@ -0,0 +1,190 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2023 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.format;
+
+import static org.junit.Assert.assertEquals;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.op.util.LongRandom;
+import org.decimal4j.scale.ScaleMetrics;
+import org.decimal4j.scale.Scales;
+import org.decimal4j.test.ArithmeticResult;
+import org.decimal4j.test.TestSettings;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * Unit test for {@link FixedWidthParser} comparing the result with {@link BigDecimal}.
+ */
+@RunWith(Parameterized.class)
+public class FixedWidthParserTest {
+
+	private static final LongRandom RND = new LongRandom();
+
+	private static final int FIELDS = 17;
+
+	private final DecimalArithmetic arithmetic;
+
+	public FixedWidthParserTest(ScaleMetrics s, RoundingMode mode) {
+		this.arithmetic = s.getArithmetic(mode);
+	}
+
+	@Parameters(name = "{index}: {0}, {1}")
+	public static Iterable<Object[]> data() {
+		final List<Object[]> data = new ArrayList<Object[]>();
+		for (final ScaleMetrics s : TestSettings.SCALES) {
+			for (final RoundingMode mode : TestSettings.UNCHECKED_ROUNDING_MODES) {
+				data.add(new Object[] { s, mode });
+			}
+		}
+		return data;
+	}
+
+	@Test
+	public void testExamples() {
+		final FixedWidthParser parser = new FixedWidthParser(Scales.getScaleMetrics(2), 6, 2);
+		assertEquals(12345, parser.parse("000123.45".getBytes(StandardCharsets.US_ASCII), 0));
+		assertEquals(12345, parser.withDecimalPoint(false).parse("xx00012345".getBytes(StandardCharsets.US_ASCII), 2));
+		assertEquals(-12345, parser.withSign(true).parse("-000123.45".getBytes(StandardCharsets.US_ASCII), 0));
+		assertEquals(1235, new FixedWidthParser(Scales.getScaleMetrics(1), 6, 2).parse("000123.45".getBytes(StandardCharsets.US_ASCII), 0));
+	}
+
+	@Test
+	public void testInvalid() {
+		final FixedWidthParser parser = new FixedWidthParser(Scales.getScaleMetrics(2), 10, 6).withSign(true);
+		final String[] invalid = { "+0000000000,000000", "+0000000000.00000a", "+000000000a.000000",
+				"*0000000000.000000", "+0000000000.0000 0", "+/000000000.000000", "+:000000000.000000" };
+		for (final String value : invalid) {
+			try {
+				parser.parse(value.getBytes(StandardCharsets.US_ASCII), 0);
+				throw new AssertionError("NumberFormatException expected for input: " + value);
+			} catch (NumberFormatException e) {
+				// expected
+			}
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testTooManyDigits() {
+		new FixedWidthParser(arithmetic.getScaleMetrics(), 10, 9);
+	}
+
+	@Test
+	public void testRandomFields() {
+		final int n = TestSettings.getRandomTestCount() / FIELDS + 1;
+		for (int i = 0; i < n; i++) {
+			final int digits = 1 + RND.nextInt(Scales.MAX_SCALE);
+			final int fractionDigits = RND.nextInt(digits + 1);
+			final boolean signed = RND.nextBoolean();
+			final boolean decimalPoint = RND.nextBoolean();
+			final FixedWidthParser parser = new FixedWidthParser(arithmetic.getScaleMetrics(), digits - fractionDigits,
+					fractionDigits).withSign(signed).withDecimalPoint(decimalPoint)
+							.withRoundingMode(arithmetic.getRoundingMode());
+			runTest("[" + i + "]", parser, digits, fractionDigits, signed, decimalPoint);
+		}
+	}
+
+	private void runTest(String name, FixedWidthParser parser, int digits, int fractionDigits, boolean signed,
+			boolean decimalPoint) {
+		final int width = parser.getWidth();
+		final int stride = width + RND.nextInt(3);
+		final int offset = RND.nextInt(10);
+		final byte[] src = new byte[offset + FIELDS * stride];
+		final BigDecimal[] values = new BigDecimal[FIELDS];
+		for (int i = 0; i < FIELDS; i++) {
+			final long unscaled = RND.nextLong(Scales.getScaleMetrics(digits).getScaleFactor());
+			final boolean negative = signed && RND.nextBoolean();
+			values[i] = BigDecimal.valueOf(negative ? -unscaled : unscaled, fractionDigits);
+			final String field = toField(unscaled, negative, digits, fractionDigits, signed, decimalPoint);
+			assertEquals(width, field.length());
+			System.arraycopy(field.getBytes(StandardCharsets.US_ASCII), 0, src, offset + i * stride, width);
+		}
+		final long[] actual = new long[FIELDS];
+		ArithmeticResult<Long> exception = null;
+		try {
+			if (RND.nextBoolean()) {
+				parser.parse(src, offset, stride, actual, 0, FIELDS);
+			} else {
+				final ByteBuffer direct = ByteBuffer.allocateDirect(src.length);
+				direct.put(src).flip();
+				parser.parse(direct, offset, stride, actual, 0, FIELDS);
+			}
+		} catch (ArithmeticException e) {
+			exception = ArithmeticResult.forException(e);
+		} catch (IllegalArgumentException e) {
+			exception = ArithmeticResult.forException(e);
+		}
+		for (int i = 0; i < FIELDS; i++) {
+			final String messagePrefix = getClass().getSimpleName() + name + ": " + parser + " parse " + values[i];
+			final ArithmeticResult<Long> expected = expectedResult(values[i]);
+			if (exception == null) {
+				expected.assertEquivalentTo(ArithmeticResult.forResult(arithmetic, BigDecimal.valueOf(actual[i], arithmetic.getScale())), messagePrefix);
+			} else if (expected.isException()) {
+				exception.assertEquivalentTo(expected, messagePrefix);
+				return;
+			}
+		}
+		if (exception != null) {
+			throw new AssertionError(name + ": " + parser + ": unexpected " + exception);
+		}
+	}
+
+	private static String toField(long unscaled, boolean negative, int digits, int fractionDigits, boolean signed,
+			boolean decimalPoint) {
+		final StringBuilder sb = new StringBuilder(Long.toString(unscaled));
+		while (sb.length() < digits) {
+			sb.insert(0, '0');
+		}
+		if (decimalPoint) {
+			sb.insert(digits - fractionDigits, '.');
+		}
+		if (signed) {
+			sb.insert(0, negative ? '-' : RND.nextBoolean() ? '+' : ' ');
+		}
+		return sb.toString();
+	}
+
+	private ArithmeticResult<Long> expectedResult(BigDecimal value) {
+		try {
+			final BigDecimal result = value.setScale(arithmetic.getScale(), arithmetic.getRoundingMode());
+			if (result.unscaledValue().bitLength() > 63) {
+				throw new NumberFormatException("Overflow: " + result);
+			}
+			return ArithmeticResult.forResult(arithmetic, result);
+		} catch (ArithmeticException e) {
+			return ArithmeticResult.forException(e);
+		} catch (IllegalArgumentException e) {
+			return ArithmeticResult.forException(e);
+		}
+	}
+}
@@ -0,0 +1,279 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2023 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.format;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import org.decimal4j.api.Decimal;
+import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.op.AbstractRandomAndSpecialValueTest;
+import org.decimal4j.scale.ScaleMetrics;
+import org.decimal4j.test.ArithmeticResult;
+import org.decimal4j.test.TestSettings;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Test {@link JsonNumberReader#read(char[], int, int)}, {@link JsonNumberReader#read(byte[], int, int)} and
+ * {@link JsonNumberReader#read(CharSequence, int, int)} comparing the result with {@link BigDecimal}.
+ */
+@RunWith(Parameterized.class)
+public class JsonNumberReaderTest extends AbstractRandomAndSpecialValueTest {
+
+	private static final Pattern JSON_NUMBER = Pattern.compile("-?(0|[1-9][0-9]*)(\\.[0-9]+)?([eE][+-]?[0-9]+)?");
+
+	private final JsonNumberReader reader;
+
+	public JsonNumberReaderTest(ScaleMetrics s, RoundingMode mode, DecimalArithmetic arithmetic) {
+		super(arithmetic);
+		this.reader = new JsonNumberReader(arithmetic);
+	}
+
+	@Parameters(name = "{index}: {0}, {1}")
+	public static Iterable<Object[]> data() {
+		final List<Object[]> data = new ArrayList<Object[]>();
+		for (final ScaleMetrics s : TestSettings.SCALES) {
+			for (final RoundingMode mode : TestSettings.UNCHECKED_ROUNDING_MODES) {
+				final DecimalArithmetic arith = s.getArithmetic(mode);
+				data.add(new Object[] { s, mode, arith });
+			}
+		}
+		return data;
+	}
+
+	@Override
+	protected String operation() {
+		return "readJson";
+	}
+
+	@Test
+	public void testScan() {
+		final String json = "[12.5e-3,-7,0.25]";
+		final char[] chars = json.toCharArray();
+		final byte[] bytes = json.getBytes(StandardCharsets.US_ASCII);
+		assertEquals(8, reader.scan(chars, 1, chars.length));
+		assertEquals(8, reader.scan(bytes, 1, bytes.length));
+		assertEquals(8, reader.scan(json, 1, json.length()));
+		assertEquals(11, reader.scan(json, 9, json.length()));
+		assertEquals(16, reader.scan(json, 12, json.length()));
+		assertEquals(0, reader.scan(json, 0, json.length()));
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void testReadOutOfBounds() {
+		reader.read(new char[3], 1, 4);
+	}
+
+	protected String randomStringOperand() {
+		final String s = Long.toString(RND.nextLong());
+		final String decimal = toDecimalString(s, RND.nextInt(s.length() + 1));
+		switch (RND.nextInt(4)) {
+		case 0:
+			return decimal + "e" + (RND.nextInt(41) - 20);
+		case 1:
+			return decimal + "E+" + RND.nextInt(20);
+		default:
+			return decimal;
+		}
+	}
+
+	private static String toDecimalString(String s, int decimalIndex) {
+		final int minIndex = s.startsWith("-") ? 2 : 1;
+		if (decimalIndex < minIndex || decimalIndex >= s.length()) {
+			return s;
+		}
+		return s.substring(0, decimalIndex) + "." + s.substring(decimalIndex);
+	}
+
+	protected String[] getSpecialStringOperands() {
+		final Set<String> values = new LinkedHashSet<String>();
+		for (final long value : TestSettings.TEST_CASES.getSpecialValuesFor(getScaleMetrics())) {
+			final String s = Long.toString(value);
+			for (int i = 0; i <= s.length(); i++) {
+				final String decimalString = toDecimalString(s, i);
+				values.add(decimalString);
+				values.add(decimalString + "e0");
+				values.add(decimalString + "e1");
+				values.add(decimalString + "E-1");
+				values.add(decimalString + "e-" + getScale());
+				values.add(decimalString + "e+" + getScale());
+				values.add(decimalString + "e-19");
+				values.add(decimalString + "e-20");
+				values.add(decimalString + "e-100");
+				values.add(decimalString + "e100");
+				if (decimalString.indexOf('.') >= 0) {
+					values.add(decimalString + "5");
+					values.add(decimalString + "0000000000000000000000000000000");
+					values.add(decimalString + "0000000000000000000000000000001");
+					values.add(decimalString + "4999999999999999999999999999999");
+					values.add(decimalString + "5000000000000000000000000000000");
+					values.add(decimalString + "5000000000000000000000000000001");
+					values.add(decimalString + "9999999999999999999999999999999e3");
+				}
+				// some invalid
+				values.add("+" + decimalString);
+				values.add(decimalString + "A");
+				values.add(decimalString + "e");
+				values.add(decimalString + "e+");
+			}
+		}
+		// some potential overflow values
+		values.add("9223372036854775808");// Long.MAX_VALUE + 1
+		values.add("-9223372036854775809");// Long.MIN_VALUE - 1
+		values.add("9223372036854775807000000000000000000000e-22");
+		values.add("-9223372036854775808000000000000000000000e-22");
+		values.add("-9223372036854775808000000000000000000001e-22");
+		values.add("0.00000000000000000000000000000000000000009223372036854775807e40");
+		values.add(Long.MAX_VALUE + "0");
+		values.add(Long.MAX_VALUE + ".5");
+		values.add(Long.MIN_VALUE + ".5");
+		values.add(Long.MIN_VALUE + ".9");
+		// more than 19 significant digits with fraction or exponent, digits after the first dropped digit must not
+		// be appended to the significand
+		values.add("0.92233720368547758091");
+		values.add("-0.92233720368547758091");
+		values.add("922337203685477580.91");
+		values.add("-922337203685477580.91");
+		values.add("92233720368547758091e-2");
+		values.add("-92233720368547758091e-2");
+		values.add("1234567890123456789.0123456789");
+		values.add("0.12345678901234567890123456789e10");
+		values.add("0e99999");
+		values.add("1e999999999999");
+		values.add("-0");
+		values.add("-0.0e-5");
+		// some invalid values
+		values.add("");
+		values.add("-");
+		values.add(" 1");
+		values.add("1 ");
+		values.add("01");
+		values.add("-01.5");
+		values.add(".5");
+		values.add("1.");
+		values.add("1.e5");
+		values.add("1e5.5");
+		values.add("--1");
+		values.add("1-");
+		values.add("0x10");
+		values.add("Infinity");
+		values.add("NaN");
+		return values.toArray(new String[values.size()]);
+	}
+
+	@Override
+	protected <S extends ScaleMetrics> void runRandomTest(S scaleMetrics, int index) {
+		runTest(scaleMetrics, "[" + index + "]", randomStringOperand());
+	}
+
+	@Override
+	protected <S extends ScaleMetrics> void runSpecialValueTest(S scaleMetrics) {
+		final String[] specialOperands = getSpecialStringOperands();
+		for (int i = 0; i < specialOperands.length; i++) {
+			runTest(scaleMetrics, "[" + i + "]", specialOperands[i]);
+		}
+	}
+
+	protected <S extends ScaleMetrics> void runTest(S scaleMetrics, String name, String operand) {
+		final String messagePrefix = getClass().getSimpleName() + name + ": " + operation() + " " + operand;
+
+		// expected
+		ArithmeticResult<Long> expected;
+		try {
+			expected = ArithmeticResult.forResult(arithmetic, expectedResult(operand));
+		} catch (ArithmeticException e) {
+			expected = ArithmeticResult.forException(e);
+		} catch (IllegalArgumentException e) {
+			expected = ArithmeticResult.forException(e);
+		}
+
+		// actual
+		ArithmeticResult<Long> actual;
+		try {
+			actual = ArithmeticResult.forResult(actualResult(scaleMetrics, operand));
+		} catch (ArithmeticException e) {
+			actual = ArithmeticResult.forException(e);
+		} catch (IllegalArgumentException e) {
+			actual = ArithmeticResult.forException(e);
+		}
+
+		// assert
+		actual.assertEquivalentTo(expected, messagePrefix);
+	}
+
+	protected BigDecimal expectedResult(String operand) {
+		if (!JSON_NUMBER.matcher(operand).matches()) {
+			throw new NumberFormatException("Not a JSON number: " + operand);
+		}
+		final BigDecimal value = new BigDecimal(operand);
+		if (value.signum() == 0) {
+			return BigDecimal.ZERO.setScale(getScale());
+		}
+		if (value.precision() - value.scale() > 19) {
+			throw new NumberFormatException("Overflow: " + operand);
+		}
+		if (value.setScale(getScale(), RoundingMode.DOWN).unscaledValue().bitLength() > 63) {
+			throw new NumberFormatException("Overflow: " + operand);
+		}
+		final BigDecimal result = value.setScale(getScale(), getRoundingMode());
+		if (result.unscaledValue().bitLength() > 63) {
+			throw new NumberFormatException("Overflow: " + result);
+		}
+		return result;
+	}
+
+	protected <S extends ScaleMetrics> Decimal<S> actualResult(S scaleMetrics, String operand) {
+		//prepend and append some crap chars
+		final String blabla = "BLABLA";
+		final String prefix = blabla.substring(0, RND.nextInt(blabla.length()));
+		final String postfix = blabla.substring(0, RND.nextInt(blabla.length()));
+		final String input = prefix + operand + postfix;
+		final int start = prefix.length();
+		final int end = start + operand.length();
+		final long unscaled;
+		switch (RND.nextInt(3)) {
+		case 0:
+			unscaled = reader.read(input.toCharArray(), start, end);
+			break;
+		case 1:
+			unscaled = reader.read(input.getBytes(StandardCharsets.US_ASCII), start, end);
+			break;
+		default:
+			unscaled = reader.read(new StringBuilder(input), start, end);
+			break;
+		}
+		return getDecimalFactory(scaleMetrics).valueOfUnscaled(unscaled);
+	}
+}
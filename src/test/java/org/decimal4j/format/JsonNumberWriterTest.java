@@ -0,0 +1,119 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2023 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.format;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.op.util.LongRandom;
+import org.decimal4j.scale.ScaleMetrics;
+import org.decimal4j.test.TestSettings;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * Unit test for {@link JsonNumberWriter}
+ */
+@RunWith(Parameterized.class)
+public class JsonNumberWriterTest {
+
+	private static final LongRandom RND = new LongRandom();
+
+	private final DecimalArithmetic arithmetic;
+
+	public JsonNumberWriterTest(ScaleMetrics s) {
+		this.arithmetic = s.getDefaultArithmetic();
+	}
+
+	@Parameters(name = "{index}: scale={0}")
+	public static Iterable<Object[]> data() {
+		final List<Object[]> data = new ArrayList<Object[]>();
+		for (final ScaleMetrics s : TestSettings.SCALES) {
+			data.add(new Object[] { s });
+		}
+		return data;
+	}
+
+	@Test
+	public void testSpecialValues() throws IOException {
+		for (final long value : TestSettings.TEST_CASES.getSpecialValuesFor(arithmetic.getScaleMetrics())) {
+			assertWrite(value);
+		}
+	}
+
+	@Test
+	public void testRandomValues() throws IOException {
+		final int n = TestSettings.getRandomTestCount();
+		for (int i = 0; i < n; i++) {
+			assertWrite(RND.nextLong());
+		}
+	}
+
+	@Test
+	public void testRoundTrip() {
+		final JsonNumberReader reader = new JsonNumberReader(arithmetic);
+		final JsonNumberWriter writer = new JsonNumberWriter(arithmetic, true);
+		final byte[] buf = new byte[JsonNumberWriter.MAX_LENGTH];
+		final int n = TestSettings.getRandomTestCount();
+		for (int i = 0; i < n; i++) {
+			final long value = RND.nextLong();
+			final int len = writer.write(value, buf, 0);
+			assertEquals("round trip of " + value, value, reader.read(buf, 0, len));
+		}
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void testWriteOutOfBounds() {
+		new JsonNumberWriter(arithmetic).write(Long.MIN_VALUE, new char[JsonNumberWriter.MAX_LENGTH], JsonNumberWriter.MAX_LENGTH - 1);
+	}
+
+	private void assertWrite(long value) throws IOException {
+		final BigDecimal bigDecimal = BigDecimal.valueOf(value, arithmetic.getScale());
+		assertWrite(value, new JsonNumberWriter(arithmetic), arithmetic.toString(value));
+		assertWrite(value, new JsonNumberWriter(arithmetic, true), bigDecimal.stripTrailingZeros().toPlainString());
+	}
+
+	private void assertWrite(long value, JsonNumberWriter writer, String expected) throws IOException {
+		final String msg = writer + ": write " + value;
+		final int offset = RND.nextInt(4);
+		final char[] chars = new char[offset + JsonNumberWriter.MAX_LENGTH];
+		final byte[] bytes = new byte[offset + JsonNumberWriter.MAX_LENGTH];
+		final StringBuilder sb = new StringBuilder();
+		assertEquals(msg, expected.length(), writer.length(value));
+		assertEquals(msg, expected.length(), writer.write(value, chars, offset));
+		assertEquals(msg, expected, new String(chars, offset, expected.length()));
+		assertEquals(msg, expected.length(), writer.write(value, bytes, offset));
+		assertEquals(msg, expected, new String(bytes, offset, expected.length(), StandardCharsets.US_ASCII));
+		assertEquals(msg, expected.length(), writer.write(value, sb));
+		assertEquals(msg, expected, sb.toString());
+	}
+}
@@ -31,6 +31,7 @@ import org.decimal4j.api.DecimalArithmetic;
 import org.decimal4j.scale.ScaleMetrics;
 import org.decimal4j.test.TestSettings;
 import org.decimal4j.truncate.OverflowMode;
+import org.decimal4j.truncate.TruncationPolicy;
 import org.junit.runners.Parameterized.Parameters;
 
 /**
@@ -48,7 +49,7 @@ abstract public class AbstractDecimalLongToDecimalTest extends AbstractDecimalLo
 		final List<Object[]> data = new ArrayList<Object[]>();
 		for (final ScaleMetrics s : TestSettings.SCALES) {
 			for (final OverflowMode om : OverflowMode.values()) {
-				final DecimalArithmetic arith = om.isChecked() ? s.getDefaultCheckedArithmetic() : s.getDefaultArithmetic();
+				final DecimalArithmetic arith = s.getArithmetic(om.getTruncationPolicy(TruncationPolicy.DEFAULT.getRoundingMode()));
 				data.add(new Object[] { s, om, arith });
 			}
 		}
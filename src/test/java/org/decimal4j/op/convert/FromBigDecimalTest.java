@@ -69,6 +69,16 @@ public class FromBigDecimalTest extends AbstractBigDecimalToDecimalTest {
 		return "fromBigDecimal";
 	}
 
+	@Override
+	protected BigDecimal randomBigDecimalOperand() {
+		final BigDecimal operand = super.randomBigDecimalOperand();
+		if (RND.nextInt(4) == 0) {
+			// negative scales and scales larger than 18
+			return new BigDecimal(operand.unscaledValue(), RND.nextInt(64) - 24);
+		}
+		return operand;
+	}
+
 	@Override
 	protected BigDecimal expectedResult(BigDecimal operand) {
 		final BigDecimal result = operand.setScale(getScale(), getRoundingMode());
@@ -76,7 +76,11 @@ public class FromStringTest extends AbstractRandomAndSpecialValueTest {
 
 	protected String randomStringOperand() {
 		final String s = Long.toString(RND.nextLong());
-		return toDecimalString(s, RND.nextInt(s.length() + 1));
+		final String decimalString = toDecimalString(s, RND.nextInt(s.length() + 1));
+		if (RND.nextInt(4) == 0) {
+			return decimalString + (RND.nextBoolean() ? "e" : "E") + (RND.nextInt(45) - 22);
+		}
+		return decimalString;
 	}
 
 	private static String toDecimalString(String s, int decimalIndex) {
@@ -110,8 +114,23 @@ public class FromStringTest extends AbstractRandomAndSpecialValueTest {
 					values.add(decimalString + "5000000000000000000000000000001");
 					values.add(decimalString + "9999999999999999999999999999999");
 				}
+				// exponent notation
+				values.add(decimalString + "e0");
+				values.add(decimalString + "E1");
+				values.add(decimalString + "e+2");
+				values.add(decimalString + "e-1");
+				values.add(decimalString + "E-" + getScale());
+				values.add(decimalString + "e-19");
+				values.add(decimalString + "e-20");
+				values.add(decimalString + "e-99");
+				values.add(decimalString + "e99");
+				values.add(decimalString + "5555555555555555555555555e-2");
 				// some invalid
 				values.add(decimalString + "A");
+				values.add(decimalString + "e");
+				values.add(decimalString + "e+");
+				values.add(decimalString + "e1.5");
+				values.add(decimalString + "e1e1");
 				values.add(decimalString + "000000000000000000000000000000Z");
 			}
 		}
@@ -124,6 +143,11 @@ public class FromStringTest extends AbstractRandomAndSpecialValueTest {
 		// Long.MIN_VALUE - 1, with decimal point
 		values.add("-9223372036854775809".substring(0, 20 - getScale()) + "."
 				+ "-9223372036854775809".substring(20 - getScale()));
+		// more than 19 significant digits with fraction or exponent
+		values.add("0.92233720368547758091");
+		values.add("922337203685477580.91");
+		values.add("92233720368547758091e-2");
+		values.add("-92233720368547758091E-2");
 		values.add(Long.MAX_VALUE + "0");
 		values.add(Long.MAX_VALUE + "0.0");
 		values.add(Long.MAX_VALUE + ".1");
@@ -149,6 +173,12 @@ public class FromStringTest extends AbstractRandomAndSpecialValueTest {
 		values.add("-1.");
 		values.add("+1.A");
 		values.add("-1.A");
+		values.add("e1");
+		values.add(".e1");
+		values.add("-e1");
+		values.add("1.2.3e1");
+		values.add("1e999999999999");
+		values.add("-1E999999999999");
 		values.add(null);// test null input
 		return values.toArray(new String[values.size()]);
 	}
@@ -198,7 +228,14 @@ public class FromStringTest extends AbstractRandomAndSpecialValueTest {
 	}
 
 	protected BigDecimal expectedResult(String operand) {
-		final BigDecimal result = new BigDecimal(operand).setScale(getScale(), getRoundingMode());
+		final BigDecimal value = new BigDecimal(operand);
+		if (operand.indexOf('e') >= 0 | operand.indexOf('E') >= 0) {
+			// with exponent notation, overflow is detected before rounding
+			if (value.signum() != 0 && (value.precision() - value.scale() > 19 || value.setScale(getScale(), RoundingMode.DOWN).unscaledValue().bitLength() > 63)) {
+				throw new NumberFormatException("Overflow: " + operand);
+			}
+		}
+		final BigDecimal result = value.setScale(getScale(), getRoundingMode());
 		if (result.unscaledValue().bitLength() > 63) {
 			throw new NumberFormatException("Overflow: " + result);
 		}
@@ -0,0 +1,84 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2023 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.stats;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.truncate.OverflowMode;
+
+/**
+ * Computes expected results of the aggregators with {@link BigInteger}
+ * arithmetic.
+ */
+final class Expected {
+
+	private static final BigInteger MIN_LONG = BigInteger.valueOf(Long.MIN_VALUE);
+	private static final BigInteger MAX_LONG = BigInteger.valueOf(Long.MAX_VALUE);
+
+	/**
+	 * Returns the expected quotient as Long, or the expected exception class.
+	 */
+	static Object quotient(BigInteger dividend, BigInteger divisor, DecimalArithmetic arith) {
+		if (divisor.signum() == 0) {
+			return ArithmeticException.class;
+		}
+		final BigInteger quotient;
+		try {
+			quotient = new BigDecimal(dividend).divide(new BigDecimal(divisor), 0, arith.getRoundingMode())
+					.toBigIntegerExact();
+		} catch (ArithmeticException e) {
+			return ArithmeticException.class;
+		}
+		return value(quotient, arith);
+	}
+
+	/**
+	 * Returns the expected long value as Long, or the expected exception
+	 * class if the value overflows with the arithmetic's overflow mode.
+	 */
+	static Object value(BigInteger value, DecimalArithmetic arith) {
+		if (value.bitLength() < 64) {
+			return value.longValue();
+		}
+		final OverflowMode overflowMode = arith.getOverflowMode();
+		if (overflowMode == OverflowMode.UNCHECKED) {
+			return value.longValue();
+		}
+		if (overflowMode == OverflowMode.CHECKED) {
+			return ArithmeticException.class;
+		}
+		return value.signum() < 0 ? MIN_LONG.longValue() : MAX_LONG.longValue();
+	}
+
+	static BigInteger toBigInteger(long high, long low) {
+		return BigInteger.valueOf(high).shiftLeft(64).add(new BigInteger(Long.toUnsignedString(low)));
+	}
+
+	// no instances
+	private Expected() {
+		super();
+	}
+}
@@ -0,0 +1,121 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2023 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.stats;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.op.util.LongRandom;
+import org.decimal4j.scale.ScaleMetrics;
+import org.decimal4j.test.TestSettings;
+import org.decimal4j.truncate.TruncationPolicy;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * Unit test for {@link ExponentialMovingAverage}.
+ */
+@RunWith(Parameterized.class)
+public class ExponentialMovingAverageTest {
+
+	private static final LongRandom RND = new LongRandom();
+
+	private final DecimalArithmetic arithmetic;
+
+	public ExponentialMovingAverageTest(ScaleMetrics scaleMetrics, TruncationPolicy truncationPolicy) {
+		this.arithmetic = scaleMetrics.getArithmetic(truncationPolicy);
+	}
+
+	@Parameters(name = "{index}: {0}, {1}")
+	public static Iterable<Object[]> data() {
+		final List<Object[]> data = new ArrayList<Object[]>();
+		for (final ScaleMetrics scaleMetrics : TestSettings.SCALES) {
+			if (scaleMetrics.getScale() > 0) {
+				for (final TruncationPolicy policy : TestSettings.POLICIES) {
+					data.add(new Object[] { scaleMetrics, policy });
+				}
+			}
+		}
+		return data;
+	}
+
+	@Test
+	public void addShouldMatchBigInteger() {
+		final long alpha = 1 + RND.nextLong(arithmetic.one());
+		final ExponentialMovingAverage ema = new ExponentialMovingAverage(arithmetic, alpha);
+		final BigInteger one = BigInteger.valueOf(arithmetic.one());
+		final BigInteger a = BigInteger.valueOf(alpha);
+		long expected = 0;
+		for (int i = 0; i < TestSettings.getRandomTestCount(); i++) {
+			final long value = RND.nextLong() >> RND.nextInt(64);
+			if (i == 0) {
+				expected = value;
+			} else {
+				final BigInteger dividend = a.multiply(BigInteger.valueOf(value))
+						.add(one.subtract(a).multiply(BigInteger.valueOf(expected)));
+				final Object quotient = Expected.quotient(dividend, one, arithmetic);
+				if (quotient instanceof Class) {
+					try {
+						ema.add(value);
+						fail("expected " + quotient);
+					} catch (ArithmeticException e) {
+						return;
+					}
+				}
+				expected = (Long) quotient;
+			}
+			assertEquals(expected, ema.add(value));
+			assertEquals(expected, ema.getValue());
+		}
+	}
+
+	@Test
+	public void withSpanShouldUseAlphaTwoOverSpanPlusOne() {
+		final ExponentialMovingAverage ema = ExponentialMovingAverage.withSpan(arithmetic, 9);
+		assertEquals(arithmetic.divideByLong(arithmetic.fromLong(2), 10), ema.getAlpha());
+		assertEquals(0, ema.getCount());
+		ema.add(arithmetic.fromLong(5));
+		ema.add(0);
+		assertEquals(arithmetic.fromLong(4), ema.getValue());
+		ema.reset();
+		assertEquals(0, ema.getCount());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void alphaGreaterThanOneShouldThrowException() {
+		new ExponentialMovingAverage(arithmetic, arithmetic.one() + 1);
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void valueWithoutAddShouldThrowException() {
+		new ExponentialMovingAverage(arithmetic, arithmetic.one()).getValue();
+	}
+}
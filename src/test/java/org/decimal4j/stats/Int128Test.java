@@ -0,0 +1,168 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2023 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.stats;
+
+import static org.junit.Assert.assertEquals;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.op.util.LongRandom;
+import org.decimal4j.scale.Scales;
+import org.decimal4j.test.TestSettings;
+import org.decimal4j.truncate.FlaggingRounding;
+import org.decimal4j.truncate.SaturatingRounding;
+import org.decimal4j.truncate.TruncationPolicy;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * Unit test for {@link Int128}.
+ */
+@RunWith(Parameterized.class)
+public class Int128Test {
+
+	private static final LongRandom RND = new LongRandom();
+	private static final BigInteger TWO_POW_128 = BigInteger.ONE.shiftLeft(128);
+
+	private final DecimalArithmetic arithmetic;
+
+	public Int128Test(TruncationPolicy truncationPolicy) {
+		this.arithmetic = Scales.getScaleMetrics(0).getArithmetic(truncationPolicy);
+	}
+
+	@Parameters(name = "{index}: {0}")
+	public static Iterable<Object[]> data() {
+		final List<Object[]> data = new ArrayList<Object[]>();
+		for (final TruncationPolicy policy : TestSettings.POLICIES) {
+			data.add(new Object[] { policy });
+		}
+		data.add(new Object[] { SaturatingRounding.HALF_UP });
+		data.add(new Object[] { FlaggingRounding.DOWN });
+		return data;
+	}
+
+	@Test
+	public void arithmeticShouldMatchBigInteger() {
+		final Int128 value = new Int128();
+		BigInteger expected = BigInteger.ZERO;
+		for (int i = 0; i < 10 * TestSettings.getRandomTestCount(); i++) {
+			final long a = randomLong();
+			final long b = randomLong();
+			switch (RND.nextInt(6)) {
+			case 0:
+				value.add(a);
+				expected = expected.add(BigInteger.valueOf(a));
+				break;
+			case 1:
+				value.subtract(a);
+				expected = expected.subtract(BigInteger.valueOf(a));
+				break;
+			case 2:
+				value.addProduct(a, b);
+				expected = expected.add(BigInteger.valueOf(a).multiply(BigInteger.valueOf(b)));
+				break;
+			case 3:
+				value.subtractProduct(a, b);
+				expected = expected.subtract(BigInteger.valueOf(a).multiply(BigInteger.valueOf(b)));
+				break;
+			case 4:
+				value.multiply(a);
+				expected = expected.multiply(BigInteger.valueOf(a));
+				break;
+			default:
+				value.square();
+				expected = expected.multiply(expected);
+				break;
+			}
+			expected = wrap(expected);
+			assertEquals(expected, Expected.toBigInteger(value.high(), value.low()));
+			if (RND.nextInt(10) == 0) {
+				value.set(a);
+				expected = BigInteger.valueOf(a);
+			}
+		}
+	}
+
+	@Test
+	public void divideShouldMatchBigDecimal() {
+		final Int128 dividend = new Int128();
+		final Int128 divisor = new Int128();
+		for (int i = 0; i < 10 * TestSettings.getRandomTestCount(); i++) {
+			dividend.set(randomLong(), RND.nextLong());
+			divisor.set(randomLong(), RND.nextLong());
+			if (RND.nextBoolean()) {
+				divisor.set(randomLong());
+			}
+			if (RND.nextInt(10) == 0) {
+				// exact division or division with remainder equal to half the divisor
+				dividend.set(divisor).multiply(randomLong() >> 32).add(RND.nextBoolean() ? 0 : divisor.low() / 2);
+			}
+			assertDivide(dividend, divisor);
+		}
+	}
+
+	@Test
+	public void divideShouldHandleSpecialValues() {
+		final long[] specialValues = { 0, 1, -1, 2, -2, 3, Long.MAX_VALUE, Long.MIN_VALUE, Long.MAX_VALUE - 1,
+				Long.MIN_VALUE + 1 };
+		final Int128 dividend = new Int128();
+		final Int128 divisor = new Int128();
+		for (final long h1 : specialValues) {
+			for (final long l1 : specialValues) {
+				for (final long h2 : specialValues) {
+					for (final long l2 : specialValues) {
+						assertDivide(dividend.set(h1, l1), divisor.set(h2, l2));
+					}
+				}
+			}
+		}
+	}
+
+	private void assertDivide(Int128 dividend, Int128 divisor) {
+		final BigInteger n = Expected.toBigInteger(dividend.high(), dividend.low());
+		final BigInteger d = Expected.toBigInteger(divisor.high(), divisor.low());
+		final Object expected = Expected.quotient(n, d, arithmetic);
+		Object actual;
+		try {
+			actual = Int128.divide(dividend, divisor, arithmetic);
+		} catch (ArithmeticException e) {
+			actual = ArithmeticException.class;
+		}
+		assertEquals(n + " / " + d, expected, actual);
+	}
+
+	private static long randomLong() {
+		return RND.nextLong() >> RND.nextInt(64);
+	}
+
+	private static BigInteger wrap(BigInteger value) {
+		final BigInteger wrapped = value.mod(TWO_POW_128);
+		return wrapped.testBit(127) ? wrapped.subtract(TWO_POW_128) : wrapped;
+	}
+}
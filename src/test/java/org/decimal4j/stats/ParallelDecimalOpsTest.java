@@ -0,0 +1,229 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2023 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.stats;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ForkJoinPool;
+
+import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.op.util.LongRandom;
+import org.decimal4j.scale.ScaleMetrics;
+import org.decimal4j.test.TestSettings;
+import org.decimal4j.truncate.FlaggingRounding;
+import org.decimal4j.truncate.SaturatingRounding;
+import org.decimal4j.truncate.StatusFlags;
+import org.decimal4j.truncate.TruncationPolicy;
+import org.junit.AfterClass;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * Unit test for {@link ParallelDecimalOps}.
+ */
+@RunWith(Parameterized.class)
+public class ParallelDecimalOpsTest {
+
+	private static final LongRandom RND = new LongRandom();
+	private static final ForkJoinPool POOL = new ForkJoinPool(4);
+	private static final ForkJoinPool SEQUENTIAL = new ForkJoinPool(1);
+	private static final int[] LENGTHS = { 1, 1000, 3 * ParallelDecimalOps.PARALLEL_THRESHOLD + 17 };
+
+	private final DecimalArithmetic arithmetic;
+
+	public ParallelDecimalOpsTest(ScaleMetrics scaleMetrics, TruncationPolicy truncationPolicy) {
+		this.arithmetic = scaleMetrics.getArithmetic(truncationPolicy);
+	}
+
+	@Parameters(name = "{index}: {0}, {1}")
+	public static Iterable<Object[]> data() {
+		final List<Object[]> data = new ArrayList<Object[]>();
+		for (final ScaleMetrics scaleMetrics : TestSettings.SCALES) {
+			for (final TruncationPolicy policy : TestSettings.POLICIES) {
+				data.add(new Object[] { scaleMetrics, policy });
+			}
+			data.add(new Object[] { scaleMetrics, SaturatingRounding.HALF_EVEN });
+			data.add(new Object[] { scaleMetrics, FlaggingRounding.HALF_EVEN });
+		}
+		return data;
+	}
+
+	@AfterClass
+	public static void shutdownPool() {
+		POOL.shutdown();
+		SEQUENTIAL.shutdown();
+	}
+
+	private static long[] randomValues(int length, boolean large) {
+		final long[] values = new long[length];
+		for (int i = 0; i < length; i++) {
+			values[i] = large ? RND.nextLong() : RND.nextLong() >> 24;
+		}
+		return values;
+	}
+
+	private static Object call(Runnable runnable) {
+		try {
+			runnable.run();
+			return null;
+		} catch (ArithmeticException e) {
+			return ArithmeticException.class;
+		}
+	}
+
+	@Test
+	public void sumAndAverageShouldMatchBigInteger() {
+		for (final int length : LENGTHS) {
+			for (final boolean large : new boolean[] { false, true }) {
+				final long[] values = randomValues(length, large);
+				BigInteger sum = BigInteger.ZERO;
+				for (final long value : values) {
+					sum = sum.add(BigInteger.valueOf(value));
+				}
+				final Object expectedSum = Expected.value(sum, arithmetic);
+				final Object expectedAverage = Expected.quotient(sum, BigInteger.valueOf(length), arithmetic);
+				final long[] actual = new long[2];
+				final Object sumException = call(() -> actual[0] = ParallelDecimalOps.sum(arithmetic, values, POOL));
+				final Object avgException = call(() -> actual[1] = ParallelDecimalOps.average(arithmetic, values, POOL));
+				assertEquals("sum of " + length + " values", expectedSum, result(sumException, actual[0]));
+				assertEquals("average of " + length + " values", expectedAverage, result(avgException, actual[1]));
+			}
+		}
+	}
+
+	private static Object result(Object exception, long value) {
+		return exception != null ? exception : (Object) value;
+	}
+
+	@Test
+	public void minAndMaxShouldMatchSequential() {
+		for (final int length : LENGTHS) {
+			final long[] values = randomValues(length, true);
+			long min = Long.MAX_VALUE;
+			long max = Long.MIN_VALUE;
+			for (final long value : values) {
+				min = Math.min(min, value);
+				max = Math.max(max, value);
+			}
+			assertEquals("min of " + length + " values", min, ParallelDecimalOps.min(values, POOL));
+			assertEquals("max of " + length + " values", max, ParallelDecimalOps.max(values, POOL));
+		}
+	}
+
+	@Test
+	public void prefixSumShouldMatchBigInteger() {
+		for (final int length : LENGTHS) {
+			for (final boolean large : new boolean[] { false, true }) {
+				final long[] values = randomValues(length, large);
+				final long[] expected = new long[length];
+				boolean overflow = false;
+				BigInteger sum = BigInteger.ZERO;
+				for (int i = 0; i < length; i++) {
+					sum = sum.add(BigInteger.valueOf(values[i]));
+					final Object value = Expected.value(sum, arithmetic);
+					if (value == ArithmeticException.class) {
+						overflow = true;
+						break;
+					}
+					expected[i] = (Long) value;
+				}
+				final long[] actual = new long[length];
+				try {
+					ParallelDecimalOps.prefixSum(arithmetic, values, actual, POOL);
+					if (overflow) {
+						fail("prefix sum of " + length + " values should overflow");
+					}
+				} catch (ArithmeticException e) {
+					if (!overflow) {
+						throw e;
+					}
+					continue;
+				}
+				assertArrayEquals("prefix sums of " + length + " values", expected, actual);
+				// in place
+				ParallelDecimalOps.prefixSum(arithmetic, values, values, POOL);
+				assertArrayEquals("in place prefix sums of " + length + " values", expected, values);
+			}
+		}
+	}
+
+	@Test
+	public void prefixSumShouldRaiseSameFlagsAsSequential() {
+		final DecimalArithmetic flagging = arithmetic.getScaleMetrics()
+				.getArithmetic(FlaggingRounding.valueOf(arithmetic.getRoundingMode()));
+		final StatusFlags flags = StatusFlags.current();
+		for (final int length : LENGTHS) {
+			for (final boolean overflow : new boolean[] { false, true }) {
+				final long[] values = randomValues(length, false);
+				if (overflow) {
+					// overflow in the last chunk only
+					values[length - 1] = Long.MAX_VALUE;
+					values[length / 2] = Long.MAX_VALUE / 2;
+				}
+				final long[] expected = new long[length];
+				final long[] actual = new long[length];
+				flags.clear();
+				ParallelDecimalOps.prefixSum(flagging, values, expected, SEQUENTIAL);
+				final int expectedFlags = flags.getAndClear();
+				ParallelDecimalOps.prefixSum(flagging, values, actual, POOL);
+				final int actualFlags = flags.getAndClear();
+				assertEquals("flags of prefix sums of " + length + " values", expectedFlags, actualFlags);
+				assertEquals("overflow flag of prefix sums of " + length + " values", overflow && length > 1,
+						(actualFlags & StatusFlags.OVERFLOW) != 0);
+				assertArrayEquals("prefix sums of " + length + " values", expected, actual);
+			}
+		}
+	}
+
+	@Test
+	public void shouldThrowForEmptyOrMismatchedArrays() {
+		assertEquals("sum of empty array", 0, ParallelDecimalOps.sum(arithmetic, new long[0]));
+		try {
+			ParallelDecimalOps.average(arithmetic, new long[0]);
+			fail("average of empty array should fail");
+		} catch (ArithmeticException e) {
+			// expected
+		}
+		try {
+			ParallelDecimalOps.min(new long[0]);
+			fail("min of empty array should fail");
+		} catch (NoSuchElementException e) {
+			// expected
+		}
+		try {
+			ParallelDecimalOps.prefixSum(arithmetic, new long[2], new long[3]);
+			fail("prefix sum should fail for arrays of different lengths");
+		} catch (IllegalArgumentException e) {
+			// expected
+		}
+	}
+}
@@ -0,0 +1,202 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2023 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.stats;
+
+import static org.junit.Assert.assertEquals;
+
+import java.math.BigInteger;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.op.util.LongRandom;
+import org.decimal4j.scale.ScaleMetrics;
+import org.decimal4j.test.TestSettings;
+import org.decimal4j.truncate.SaturatingRounding;
+import org.decimal4j.truncate.TruncationPolicy;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * Unit test for {@link RollingStatistics}.
+ */
+@RunWith(Parameterized.class)
+public class RollingStatisticsTest {
+
+	private static final LongRandom RND = new LongRandom();
+
+	private final DecimalArithmetic arithmetic;
+
+	public RollingStatisticsTest(ScaleMetrics scaleMetrics, TruncationPolicy truncationPolicy) {
+		this.arithmetic = scaleMetrics.getArithmetic(truncationPolicy);
+	}
+
+	@Parameters(name = "{index}: {0}, {1}")
+	public static Iterable<Object[]> data() {
+		final List<Object[]> data = new ArrayList<Object[]>();
+		for (final ScaleMetrics scaleMetrics : TestSettings.SCALES) {
+			for (final TruncationPolicy policy : TestSettings.POLICIES) {
+				data.add(new Object[] { scaleMetrics, policy });
+			}
+			data.add(new Object[] { scaleMetrics, SaturatingRounding.HALF_EVEN });
+		}
+		return data;
+	}
+
+	@Test
+	public void countWindowShouldMatchBigInteger() {
+		final RollingStatistics stats = new RollingStatistics(arithmetic, Window.ofCount(16));
+		final Deque<long[]> expected = new ArrayDeque<long[]>();
+		for (int i = 0; i < TestSettings.getRandomTestCount(); i++) {
+			final long value = randomValue(i);
+			stats.add(value);
+			expected.addLast(new long[] { 0, value });
+			if (expected.size() > 16) {
+				expected.removeFirst();
+			}
+			assertStatistics(expected, stats);
+		}
+	}
+
+	@Test
+	public void ageWindowShouldMatchBigInteger() {
+		final RollingStatistics stats = new RollingStatistics(arithmetic, Window.ofAge(20));
+		final Deque<long[]> expected = new ArrayDeque<long[]>();
+		long timestamp = RND.nextLong();
+		for (int i = 0; i < TestSettings.getRandomTestCount(); i++) {
+			timestamp += RND.nextInt(i % 100 < 50 ? 3 : 10);
+			final long value = randomValue(i);
+			stats.add(timestamp, value);
+			expected.addLast(new long[] { timestamp, value });
+			while (timestamp - expected.getFirst()[0] >= 20) {
+				expected.removeFirst();
+			}
+			assertStatistics(expected, stats);
+		}
+		stats.advanceTo(timestamp + 20);
+		assertEquals(0, stats.getCount());
+		assertEquals(0, stats.getSum());
+	}
+
+	@Test
+	public void clearShouldResetStatistics() {
+		final RollingStatistics stats = new RollingStatistics(arithmetic, Window.of(4, 100));
+		stats.add(50, arithmetic.one());
+		stats.add(60, arithmetic.one());
+		stats.clear();
+		assertEquals(0, stats.getCount());
+		assertEquals(0, stats.getSum());
+		assertEquals(Long.MIN_VALUE, stats.getLatestTimestamp());
+		stats.add(10, 7);
+		assertEquals(7, stats.getSum());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void decreasingTimestampShouldThrowException() {
+		final RollingStatistics stats = new RollingStatistics(arithmetic, Window.ofAge(100));
+		stats.add(50, 1);
+		stats.add(49, 1);
+	}
+
+	@Test(expected = ArithmeticException.class)
+	public void meanOfEmptyWindowShouldThrowException() {
+		new RollingStatistics(arithmetic, Window.ofCount(4)).getMean();
+	}
+
+	private static long randomValue(int i) {
+		switch (i % 400 / 100) {
+		case 0:
+			// large values with small deviations, sum exceeds long range
+			return (3L << 60) + (RND.nextLong() >> 24);
+		case 1:
+			// values whose squares do not fit into a long
+			return RND.nextLong() >> 8;
+		case 2:
+			return RND.nextLong(2000) - 1000;
+		default:
+			return RND.nextLong() >> RND.nextInt(64);
+		}
+	}
+
+	private void assertStatistics(Deque<long[]> entries, RollingStatistics stats) {
+		assertEquals(entries.size(), stats.getCount());
+		final BigInteger n = BigInteger.valueOf(entries.size());
+		BigInteger sum = BigInteger.ZERO;
+		BigInteger sumOfSquares = BigInteger.ZERO;
+		for (final long[] entry : entries) {
+			final BigInteger value = BigInteger.valueOf(entry[1]);
+			sum = sum.add(value);
+			sumOfSquares = sumOfSquares.add(value.multiply(value));
+		}
+		final BigInteger numerator = n.multiply(sumOfSquares).subtract(sum.multiply(sum));
+		if (numerator.bitLength() >= 127) {
+			// variance accumulator range exceeded
+			return;
+		}
+		final BigInteger scaleFactor = BigInteger.valueOf(arithmetic.getScaleMetrics().getScaleFactor());
+		assertEquals("sum", Expected.value(sum, arithmetic), sum(stats));
+		assertEquals("mean", Expected.quotient(sum, n, arithmetic), mean(stats));
+		assertEquals("variance", Expected.quotient(numerator, n.multiply(n).multiply(scaleFactor), arithmetic),
+				variance(stats));
+		assertEquals("sample variance",
+				Expected.quotient(numerator, n.multiply(n.subtract(BigInteger.ONE)).multiply(scaleFactor), arithmetic),
+				sampleVariance(stats));
+	}
+
+	private static Object sum(RollingStatistics stats) {
+		try {
+			return stats.getSum();
+		} catch (ArithmeticException e) {
+			return ArithmeticException.class;
+		}
+	}
+
+	private static Object mean(RollingStatistics stats) {
+		try {
+			return stats.getMean();
+		} catch (ArithmeticException e) {
+			return ArithmeticException.class;
+		}
+	}
+
+	private static Object variance(RollingStatistics stats) {
+		try {
+			return stats.getVariance();
+		} catch (ArithmeticException e) {
+			return ArithmeticException.class;
+		}
+	}
+
+	private static Object sampleVariance(RollingStatistics stats) {
+		try {
+			return stats.getSampleVariance();
+		} catch (ArithmeticException e) {
+			return ArithmeticException.class;
+		}
+	}
+}
@@ -0,0 +1,148 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2023 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.stats;
+
+import static org.junit.Assert.assertEquals;
+
+import java.math.BigInteger;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.op.util.LongRandom;
+import org.decimal4j.scale.ScaleMetrics;
+import org.decimal4j.test.TestSettings;
+import org.decimal4j.truncate.TruncationPolicy;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * Unit test for {@link RollingVwap}.
+ */
+@RunWith(Parameterized.class)
+public class RollingVwapTest {
+
+	private static final LongRandom RND = new LongRandom();
+
+	private final DecimalArithmetic arithmetic;
+
+	public RollingVwapTest(ScaleMetrics scaleMetrics, TruncationPolicy truncationPolicy) {
+		this.arithmetic = scaleMetrics.getArithmetic(truncationPolicy);
+	}
+
+	@Parameters(name = "{index}: {0}, {1}")
+	public static Iterable<Object[]> data() {
+		final List<Object[]> data = new ArrayList<Object[]>();
+		for (final ScaleMetrics scaleMetrics : TestSettings.SCALES) {
+			for (final TruncationPolicy policy : TestSettings.POLICIES) {
+				data.add(new Object[] { scaleMetrics, policy });
+			}
+		}
+		return data;
+	}
+
+	@Test
+	public void countWindowShouldMatchBigInteger() {
+		final RollingVwap vwap = new RollingVwap(arithmetic, Window.ofCount(10));
+		final Deque<long[]> expected = new ArrayDeque<long[]>();
+		for (int i = 0; i < TestSettings.getRandomTestCount(); i++) {
+			final long price = randomPrice(i);
+			final long quantity = randomQuantity(i);
+			vwap.add(price, quantity);
+			expected.addLast(new long[] { 0, price, quantity });
+			if (expected.size() > 10) {
+				expected.removeFirst();
+			}
+			assertVwap(expected, vwap);
+		}
+	}
+
+	@Test
+	public void windowLimitedByCountAndAgeShouldMatchBigInteger() {
+		final RollingVwap vwap = new RollingVwap(arithmetic, Window.of(50, 1000));
+		final Deque<long[]> expected = new ArrayDeque<long[]>();
+		long timestamp = 0;
+		for (int i = 0; i < TestSettings.getRandomTestCount(); i++) {
+			timestamp += RND.nextInt(100);
+			final long price = randomPrice(i);
+			final long quantity = randomQuantity(i);
+			vwap.add(timestamp, price, quantity);
+			expected.addLast(new long[] { timestamp, price, quantity });
+			while (expected.size() > 50 || timestamp - expected.getFirst()[0] >= 1000) {
+				expected.removeFirst();
+			}
+			assertVwap(expected, vwap);
+		}
+	}
+
+	@Test
+	public void vwapOfEqualPricesShouldBeExact() {
+		final RollingVwap vwap = new RollingVwap(arithmetic, Window.ofCount(3));
+		final long price = arithmetic.fromLong(7) + 1;
+		vwap.add(price, 3);
+		vwap.add(price, Long.MAX_VALUE);
+		vwap.add(price, Long.MAX_VALUE);
+		assertEquals(price, vwap.getVwap());
+	}
+
+	private static long randomPrice(int i) {
+		return i % 3 == 0 ? RND.nextLong() >> RND.nextInt(64) : RND.nextLong(1L << 50);
+	}
+
+	private static long randomQuantity(int i) {
+		return i % 2 == 0 ? RND.nextLong(1L << 62) : RND.nextLong(1000) + 1;
+	}
+
+	private void assertVwap(Deque<long[]> entries, RollingVwap vwap) {
+		assertEquals(entries.size(), vwap.getCount());
+		BigInteger notional = BigInteger.ZERO;
+		BigInteger volume = BigInteger.ZERO;
+		for (final long[] entry : entries) {
+			notional = notional.add(BigInteger.valueOf(entry[1]).multiply(BigInteger.valueOf(entry[2])));
+			volume = volume.add(BigInteger.valueOf(entry[2]));
+		}
+		assertEquals("volume", Expected.value(volume, arithmetic), volume(vwap));
+		assertEquals("vwap", Expected.quotient(notional, volume, arithmetic), vwap(vwap));
+	}
+
+	private static Object volume(RollingVwap vwap) {
+		try {
+			return vwap.getVolume();
+		} catch (ArithmeticException e) {
+			return ArithmeticException.class;
+		}
+	}
+
+	private static Object vwap(RollingVwap vwap) {
+		try {
+			return vwap.getVwap();
+		} catch (ArithmeticException e) {
+			return ArithmeticException.class;
+		}
+	}
+}
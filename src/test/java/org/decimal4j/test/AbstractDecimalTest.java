@@ -59,7 +59,16 @@ abstract public class AbstractDecimalTest {
 	public AbstractDecimalTest(DecimalArithmetic arithmetic) {
 		this.arithmetic = arithmetic;
 		this.mathContextLong64 = new MathContext(19, arithmetic.getRoundingMode());
-		this.mathContextLong128 = new MathContext(39, arithmetic.getRoundingMode());
+		this.mathContextLong128 = new MathContext(39, getIntermediateRoundingMode(arithmetic));
+	}
+
+	private static RoundingMode getIntermediateRoundingMode(DecimalArithmetic arithmetic) {
+		//saturation takes precedence over UNNECESSARY rounding, final rounding is checked in ArithmeticResult
+		final OverflowMode overflowMode = arithmetic.getOverflowMode();
+		if (arithmetic.getRoundingMode() == RoundingMode.UNNECESSARY && (overflowMode == OverflowMode.SATURATING || overflowMode == OverflowMode.FLAGGING)) {
+			return RoundingMode.DOWN;
+		}
+		return arithmetic.getRoundingMode();
 	}
 
 	protected int getScale() {
@@ -91,7 +100,7 @@ abstract public class AbstractDecimalTest {
 		return arithmetic.getRoundingMode() == TruncationPolicy.DEFAULT.getRoundingMode();
 	}
 	protected boolean isUnchecked() {
-		return !arithmetic.getOverflowMode().isChecked();
+		return arithmetic.getOverflowMode() == OverflowMode.UNCHECKED;
 	}
 
 	protected long[] getSpecialValues(ScaleMetrics scaleMetrics) {
@@ -26,10 +26,13 @@ package org.decimal4j.test;
 import static org.junit.Assert.assertEquals;
 
 import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
 
 import org.decimal4j.api.Decimal;
 import org.decimal4j.api.DecimalArithmetic;
 import org.decimal4j.arithmetic.JDKSupport;
+import org.decimal4j.truncate.OverflowMode;
 
 /**
  * Result of an arithmetic operation which can also sometimes lead to an
@@ -76,10 +79,26 @@ public class ArithmeticResult<T> {
 		return new ArithmeticResult<T>(resultString, comparableValue, overflow);
 	}
 	public static ArithmeticResult<Long> forResult(DecimalArithmetic arithmetic, BigDecimal result) {
+		if (isSaturating(arithmetic.getOverflowMode())) {
+			return forSaturatedResult(arithmetic, result);
+		}
 		final BigDecimal rnd = result.setScale(arithmetic.getScale(), arithmetic.getRoundingMode());
 		final long resultUnscaled = arithmetic.getOverflowMode().isChecked() ? JDKSupport.bigIntegerToLongValueExact(rnd.unscaledValue()) : rnd.unscaledValue().longValue();
 		return forResult(result.toPlainString(), resultUnscaled, rnd.unscaledValue().bitLength() > 63);
 	}
+	private static boolean isSaturating(OverflowMode overflowMode) {
+		return overflowMode == OverflowMode.SATURATING || overflowMode == OverflowMode.FLAGGING;
+	}
+	private static ArithmeticResult<Long> forSaturatedResult(DecimalArithmetic arithmetic, BigDecimal result) {
+		//saturate if the truncated value or the rounded value is out of range
+		final BigInteger truncated = result.setScale(arithmetic.getScale(), RoundingMode.DOWN).unscaledValue();
+		final BigInteger rounded = truncated.bitLength() > 63 ? truncated : result.setScale(arithmetic.getScale(), arithmetic.getRoundingMode()).unscaledValue();
+		if (rounded.bitLength() > 63) {
+			final long saturated = rounded.signum() < 0 ? Long.MIN_VALUE : Long.MAX_VALUE;
+			return forResult(result.toPlainString(), saturated, true);
+		}
+		return forResult(result.toPlainString(), rounded.longValue(), false);
+	}
 	public static ArithmeticResult<Long> forResult(Decimal<?> result) {
 		return forResult(result.toString(), result.unscaledValue(), null);
 	}
@@ -102,7 +121,7 @@ public class ArithmeticResult<T> {
 		        throw (AssertionError)new AssertionError(messagePrefix + " = " + expected.resultString + " but lead to an exception: " + exception).initCause(exception);
 			}
 		} else if (expected.exception != null && exception != null) {
-			if (expected.exception.getClass() != exception.getClass()) {
+			if (exceptionType(expected.exception) != exceptionType(exception)) {
 				throw (AssertionError)new AssertionError(messagePrefix + " exception lead to exception " + exception + " but expected was exception type: " + expected.exception).initCause(exception);
 			}
 		} else {
@@ -110,6 +129,11 @@ public class ArithmeticResult<T> {
 		}
 	}
 	
+	private static Class<?> exceptionType(Exception e) {
+		// overflow and rounding necessary are thrown as private subclasses of ArithmeticException
+		return e instanceof ArithmeticException ? ArithmeticException.class : e.getClass();
+	}
+
 	public boolean isException() {
 		return exception != null;
 	}
@@ -0,0 +1,288 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2023 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.math.RoundingMode;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.decimal4j.factory.DecimalFactory;
+import org.decimal4j.factory.Factories;
+import org.decimal4j.immutable.Decimal0f;
+import org.decimal4j.immutable.Decimal18f;
+import org.decimal4j.immutable.Decimal2f;
+import org.decimal4j.scale.ScaleMetrics;
+import org.decimal4j.scale.Scales;
+import org.decimal4j.truncate.TruncationPolicy;
+import org.junit.Test;
+
+/**
+ * Test for the lazily initialized arithmetic instances of {@link ScaleMetrics},
+ * the factories of {@link Factories} and the constant cache behind
+ * {@code valueOf(long)}, asserting that concurrent first access from several
+ * threads sees the same instances and that the instances are stable once
+ * initialized.
+ */
+public class LazyInitTest {
+
+	private static final int THREADS = 8;
+	private static final int ROUNDS = 5;
+	private static final String[] HOLDERS = { "UncheckedHolder", "CheckedHolder", "SaturatingHolder", "FlaggingHolder" };
+
+	@Test
+	public void scaleMetricsShouldCreateArithmeticsOnFirstUse() throws Exception {
+		//given
+		final IsolatedClassLoader loader = newIsolatedClassLoader();
+		try {
+			//when
+			newAccess(loader.loadClass(ScaleMetricsAccess.class.getName()), Scales.MIN_SCALE - 1, null).call();
+			//then
+			for (int scale = Scales.MIN_SCALE; scale <= Scales.MAX_SCALE; scale++) {
+				for (final String holder : HOLDERS) {
+					assertFalse(holder + " of scale " + scale + " should not be loaded", loader.isLoaded(holderName(scale, holder)));
+				}
+			}
+
+			//when
+			newAccess(loader.loadClass(ScaleMetricsAccess.class.getName()), 0, null).call();
+			//then
+			assertTrue("UncheckedHolder of scale 0 should be loaded", loader.isLoaded(holderName(0, "UncheckedHolder")));
+			assertFalse("CheckedHolder of scale 0 should not be loaded", loader.isLoaded(holderName(0, "CheckedHolder")));
+			assertFalse("UncheckedHolder of scale 1 should not be loaded", loader.isLoaded(holderName(1, "UncheckedHolder")));
+		} finally {
+			loader.close();
+		}
+	}
+
+	@Test
+	public void concurrentFirstAccessShouldSeeSameInstances() throws Exception {
+		for (int round = 0; round < ROUNDS; round++) {
+			//given
+			final IsolatedClassLoader loader = newIsolatedClassLoader();
+			final Class<?> accessClass = loader.loadClass(LazyInstances.class.getName());
+			assertNotSame("access class should be loaded in isolation", LazyInstances.class, accessClass);
+			final CyclicBarrier barrier = new CyclicBarrier(THREADS);
+			final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+			try {
+				final List<Future<Object[]>> futures = new ArrayList<Future<Object[]>>(THREADS);
+				//when
+				for (int thread = 0; thread < THREADS; thread++) {
+					futures.add(executor.submit(newAccess(accessClass, thread, barrier)));
+				}
+				final List<Object[]> results = new ArrayList<Object[]>(THREADS);
+				for (final Future<Object[]> future : futures) {
+					results.add(future.get());
+				}
+				//then
+				final Object[] first = results.get(0);
+				for (int i = 0; i < first.length; i++) {
+					assertNotNull("instance " + i + " should not be null", first[i]);
+					assertSame("instance " + i + " should be loaded in isolation", loader, first[i].getClass().getClassLoader());
+				}
+				for (int thread = 1; thread < THREADS; thread++) {
+					assertSameInstances("thread " + thread, first, results.get(thread));
+				}
+
+				//when
+				final Object[] after = newAccess(accessClass, 0, null).call();
+				//then
+				assertSameInstances("access after initialization", first, after);
+			} finally {
+				executor.shutdown();
+				loader.close();
+			}
+		}
+	}
+
+	@Test
+	public void instancesShouldBeStableAfterInitialization() throws Exception {
+		//given
+		final Object[] first = new LazyInstances(0, null).call();
+
+		//when
+		final Object[] second = new LazyInstances(7, null).call();
+
+		//then
+		for (int i = 0; i < first.length; i++) {
+			assertNotNull("instance " + i + " should not be null", first[i]);
+		}
+		assertSameInstances("second access", first, second);
+	}
+
+	@Test
+	public void valueOfShouldReturnConstants() {
+		assertSame("valueOf(0) should be ZERO", Decimal0f.ZERO, Decimal0f.valueOf(0));
+		assertSame("valueOf(1) should be ONE", Decimal0f.ONE, Decimal0f.valueOf(1));
+		assertSame("valueOf(10) should be TEN", Decimal0f.TEN, Decimal0f.valueOf(10));
+		assertSame("valueOf(-1) should be MINUS_ONE", Decimal0f.MINUS_ONE, Decimal0f.valueOf(-1));
+		assertSame("valueOf(1) should be ONE", Decimal2f.ONE, Decimal2f.valueOf(1));
+		assertSame("valueOf(5) should be FIVE", Decimal2f.FIVE, Decimal2f.valueOf(5));
+		assertSame("valueOf(10) should be TEN", Decimal2f.TEN, Decimal2f.valueOf(10));
+		assertSame("valueOf(-1) should be MINUS_ONE", Decimal2f.MINUS_ONE, Decimal2f.valueOf(-1));
+		assertSame("valueOf(1) should be ONE", Decimal18f.ONE, Decimal18f.valueOf(1));
+		assertSame("valueOf(9) should be NINE", Decimal18f.NINE, Decimal18f.valueOf(9));
+		assertSame("valueOf(-1) should be MINUS_ONE", Decimal18f.MINUS_ONE, Decimal18f.valueOf(-1));
+	}
+
+	private static String holderName(int scale, String holder) {
+		return Scales.getScaleMetrics(scale).getClass().getName() + "$" + holder;
+	}
+
+	private static void assertSameInstances(String message, Object[] expected, Object[] actual) {
+		assertEquals(message + ": number of instances", expected.length, actual.length);
+		for (int i = 0; i < expected.length; i++) {
+			assertSame(message + ": instance " + i + " should be identical", expected[i], actual[i]);
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Callable<Object[]> newAccess(Class<?> accessClass, int offset, CyclicBarrier barrier) throws Exception {
+		return (Callable<Object[]>) accessClass.getConstructor(int.class, CyclicBarrier.class).newInstance(offset, barrier);
+	}
+
+	/**
+	 * Returns a class loader which loads all classes of the class path again
+	 * (delegating only to the parent of the application class loader) so that
+	 * the lazily initialized holders have not yet been initialized.
+	 */
+	private static IsolatedClassLoader newIsolatedClassLoader() throws MalformedURLException {
+		final Set<URL> urls = new LinkedHashSet<URL>();
+		for (final String entry : System.getProperty("java.class.path").split(File.pathSeparator)) {
+			if (!entry.isEmpty()) {
+				urls.add(new File(entry).toURI().toURL());
+			}
+		}
+		urls.add(Scales.class.getProtectionDomain().getCodeSource().getLocation());
+		urls.add(LazyInstances.class.getProtectionDomain().getCodeSource().getLocation());
+		return new IsolatedClassLoader(urls.toArray(new URL[urls.size()]));
+	}
+
+	private static final class IsolatedClassLoader extends URLClassLoader {
+		IsolatedClassLoader(URL[] urls) {
+			super(urls, ClassLoader.getSystemClassLoader().getParent());
+		}
+
+		boolean isLoaded(String className) {
+			return findLoadedClass(className) != null;
+		}
+	}
+
+	/**
+	 * Accesses the scale metrics of all scales; if the scale given by the
+	 * arithmetic parameter is valid, the default arithmetic of that scale is
+	 * also accessed.
+	 */
+	public static final class ScaleMetricsAccess implements Callable<Object[]> {
+		private final int arithmeticScale;
+
+		public ScaleMetricsAccess(int arithmeticScale, CyclicBarrier barrier) {
+			this.arithmeticScale = arithmeticScale;
+		}
+
+		@Override
+		public Object[] call() {
+			final Object[] instances = new Object[Scales.VALUES.size() + 1];
+			for (int scale = Scales.MIN_SCALE; scale <= Scales.MAX_SCALE; scale++) {
+				final ScaleMetrics scaleMetrics = Scales.getScaleMetrics(scale);
+				instances[scale - Scales.MIN_SCALE] = scaleMetrics;
+				if (scale == arithmeticScale) {
+					instances[instances.length - 1] = scaleMetrics.getDefaultArithmetic();
+				}
+			}
+			return instances;
+		}
+	}
+
+	/**
+	 * Accesses all lazily initialized instances, starting with the scale given
+	 * by the offset so that different threads trigger the initialization of
+	 * different holders first. The result is always in the same order.
+	 */
+	public static final class LazyInstances implements Callable<Object[]> {
+		private static final int SCALES = Scales.MAX_SCALE - Scales.MIN_SCALE + 1;
+		private static final int ROUNDING_MODES = RoundingMode.values().length;
+		private static final int PER_SCALE = 10 + 2 * ROUNDING_MODES + TruncationPolicy.VALUES.size();
+
+		private final int offset;
+		private final CyclicBarrier barrier;
+
+		public LazyInstances(int offset, CyclicBarrier barrier) {
+			this.offset = offset;
+			this.barrier = barrier;
+		}
+
+		@Override
+		public Object[] call() throws Exception {
+			if (barrier != null) {
+				barrier.await();
+			}
+			final Object[] instances = new Object[SCALES * PER_SCALE + 3];
+			instances[instances.length - 3] = Decimal2f.valueOf(1);
+			instances[instances.length - 2] = Decimal2f.valueOf(-1);
+			instances[instances.length - 1] = Decimal2f.valueOf(7);
+			for (int i = 0; i < SCALES; i++) {
+				final int scale = Scales.MIN_SCALE + (i + offset) % SCALES;
+				int index = (scale - Scales.MIN_SCALE) * PER_SCALE;
+				final ScaleMetrics scaleMetrics = Scales.getScaleMetrics(scale);
+				final DecimalFactory<?> factory = Factories.getDecimalFactory(scale);
+				instances[index++] = factory;
+				instances[index++] = Factories.VALUES.get(scale - Scales.MIN_SCALE);
+				instances[index++] = Factories.getGenericDecimalFactory(scale);
+				instances[index++] = factory.valueOf(1);
+				instances[index++] = scaleMetrics.getDefaultArithmetic();
+				instances[index++] = scaleMetrics.getDefaultCheckedArithmetic();
+				instances[index++] = scaleMetrics.getRoundingDownArithmetic();
+				instances[index++] = scaleMetrics.getRoundingFloorArithmetic();
+				instances[index++] = scaleMetrics.getRoundingHalfEvenArithmetic();
+				instances[index++] = scaleMetrics.getRoundingUnnecessaryArithmetic();
+				for (final RoundingMode roundingMode : RoundingMode.values()) {
+					instances[index++] = scaleMetrics.getArithmetic(roundingMode);
+					instances[index++] = scaleMetrics.getCheckedArithmetic(roundingMode);
+				}
+				for (final TruncationPolicy truncationPolicy : TruncationPolicy.VALUES) {
+					instances[index++] = scaleMetrics.getArithmetic(truncationPolicy);
+				}
+			}
+			return instances;
+		}
+	}
+}
@@ -41,6 +41,7 @@ public class TestSettings {
 	public static final String SYSTEM_PROPERTY_TEST_VARIANT = "testVariant";
 	public static final String SYSTEM_PROPERTY_TEST_SCALES = "testScales";
 	public static final String SYSTEM_PROPERTY_TEST_CASES = "testCases";
+	public static final String SYSTEM_PROPERTY_TEST_OVERLAY = "testOverlay";
 
 	public static final TestScales TEST_SCALES = getTestScales(); 
 	public static final TestTruncationPolicies TEST_POLICIES = getTestTruncationPolicies();
@@ -51,6 +52,12 @@ public class TestSettings {
 	public static final Collection<TruncationPolicy> CHECKED_POLICIES = TestSettings.TEST_POLICIES.getCheckedPolicies();
 	public static final Set<RoundingMode> UNCHECKED_ROUNDING_MODES = TestSettings.TEST_POLICIES.getUncheckedRoundingModes();
 
+	/**
+	 * Java version of the multi-release jar whose overlay classes are on the
+	 * class path, 8 if the tests run with the base classes only.
+	 */
+	public static final int OVERLAY = Integer.getInteger(SYSTEM_PROPERTY_TEST_OVERLAY, 8);
+
 	public static int getRandomTestCount() {
 		switch (TEST_CASES) {
 		case ALL:
@@ -51,7 +51,9 @@ public class FinalTruncateClassTest extends AbstractFinalTest {
 		final List<Object[]> data = new ArrayList<Object[]>();
 		data.add(new Object[] {CheckedRounding.class});
 		data.add(new Object[] {DecimalRounding.class});
+		data.add(new Object[] {FlaggingRounding.class});
 		data.add(new Object[] {OverflowMode.class});
+		data.add(new Object[] {SaturatingRounding.class});
 		data.add(new Object[] {TruncatedPart.class});
 		data.add(new Object[] {UncheckedRounding.class});
 		return data;
@@ -27,6 +27,8 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
+import java.math.RoundingMode;
+
 import org.junit.Test;
 
 /**
@@ -38,6 +40,19 @@ public class OverflowModeTest {
 	public void testIsChecked() {
 		assertTrue("should be checked", OverflowMode.CHECKED.isChecked());
 		assertFalse("should be unchecked", OverflowMode.UNCHECKED.isChecked());
+		assertFalse("should not be checked", OverflowMode.SATURATING.isChecked());
+		assertFalse("should not be checked", OverflowMode.FLAGGING.isChecked());
+	}
+
+	@Test
+	public void testGetTruncationPolicy() {
+		for (final OverflowMode mode : OverflowMode.values()) {
+			for (final RoundingMode roundingMode : RoundingMode.values()) {
+				final TruncationPolicy policy = mode.getTruncationPolicy(roundingMode);
+				assertSame("overflow mode should be " + mode, mode, policy.getOverflowMode());
+				assertSame("rounding mode should be " + roundingMode, roundingMode, policy.getRoundingMode());
+			}
+		}
 	}
 	
 	@Test
@@ -23,7 +23,9 @@
  */
 package org.decimal4j.truncate;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
 import java.math.RoundingMode;
 
@@ -60,6 +62,41 @@ public class TruncationPolicyTest {
 		}
 	}
 	
+	@Test
+	public void testSaturatingPolicies() {
+		for (final SaturatingRounding policy : SaturatingRounding.VALUES) {
+			//then
+			assertSame("overflow mode should be SATURATING", OverflowMode.SATURATING, policy.getOverflowMode());
+			assertEquals("SATURATING/" + policy.name(), policy.toString());
+
+			//when
+			final SaturatingRounding other = SaturatingRounding.valueOf(policy.toUncheckedRounding().getRoundingMode());
+			//then
+			assertSame("should be same policy", policy, other);
+		}
+	}
+
+	@Test
+	public void testFlaggingPolicies() {
+		for (final FlaggingRounding policy : FlaggingRounding.VALUES) {
+			//then
+			assertSame("overflow mode should be FLAGGING", OverflowMode.FLAGGING, policy.getOverflowMode());
+			assertEquals("FLAGGING/" + policy.name(), policy.toString());
+
+			//when
+			final FlaggingRounding other = FlaggingRounding.valueOf(policy.toUncheckedRounding().getRoundingMode());
+			//then
+			assertSame("should be same policy", policy, other);
+		}
+	}
+
+	@Test
+	public void valuesShouldContainAllPolicies() {
+		assertEquals(UncheckedRounding.VALUES.size() + CheckedRounding.VALUES.size() + SaturatingRounding.VALUES.size() + FlaggingRounding.VALUES.size(), TruncationPolicy.VALUES.size());
+		assertTrue(TruncationPolicy.VALUES.containsAll(SaturatingRounding.VALUES));
+		assertTrue(TruncationPolicy.VALUES.containsAll(FlaggingRounding.VALUES));
+	}
+
 	@Test
 	public void testPoliciesByRoundingMode() {
 		for (final DecimalRounding rounding : DecimalRounding.VALUES) {
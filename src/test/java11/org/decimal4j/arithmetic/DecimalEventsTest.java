@@ -0,0 +1,157 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2023 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.arithmetic;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.scale.Scales;
+import org.decimal4j.truncate.OverflowMode;
+import org.junit.Test;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+/**
+ * Unit test for the Java Flight Recorder events committed by the Java 11
+ * version of {@link DecimalEvents}.
+ */
+public class DecimalEventsTest {
+
+	private static final DecimalArithmetic ARITH = Scales.getScaleMetrics(2).getCheckedArithmetic(RoundingMode.HALF_UP);
+
+	@Test
+	public void shouldCommitOverflowEvent() throws IOException {
+		final List<RecordedEvent> events = record("org.decimal4j.Overflow", () -> {
+			try {
+				ARITH.add(Long.MAX_VALUE, 1);
+				fail("expected overflow");
+			} catch (ArithmeticException e) {
+				// expected
+			}
+		});
+		assertEquals("unexpected event count", 1, events.size());
+		assertTrue("unexpected message: " + events.get(0).getString("message"),
+				events.get(0).getString("message").startsWith("Overflow"));
+		assertTrue("event should have stack trace", events.get(0).getStackTrace() != null);
+	}
+
+	@Test
+	public void shouldCommitOneOverflowEventForOverflowWithOverflowCause() throws IOException {
+		final List<RecordedEvent> events = record("org.decimal4j.Overflow", () -> {
+			try {
+				ARITH.addLong(0, Long.MAX_VALUE);
+				fail("expected overflow");
+			} catch (ArithmeticException e) {
+				assertTrue("cause should be an overflow: " + e.getCause(), Exceptions.isOverflow(e.getCause()));
+			}
+		});
+		assertEquals("unexpected event count", 1, events.size());
+	}
+
+	@Test
+	public void shouldNotCommitOverflowEventForSaturatedResult() throws IOException {
+		final List<RecordedEvent> events = record("org.decimal4j.Overflow", () -> {
+			for (final OverflowMode overflowMode : new OverflowMode[] {OverflowMode.SATURATING, OverflowMode.FLAGGING}) {
+				final DecimalArithmetic arith = Scales.getScaleMetrics(0).getArithmetic(overflowMode.getTruncationPolicy(RoundingMode.HALF_UP));
+				//2^32 * 2^31 = 2^63 is at the long range boundary and evaluated with checked arithmetic
+				assertEquals("should saturate", Long.MAX_VALUE, arith.multiply(1L << 32, 1L << 31));
+				assertEquals("should saturate", Long.MIN_VALUE, arith.multiply(-(1L << 32), (1L << 31) + 1));
+			}
+		});
+		assertEquals("unexpected events: " + events, 0, events.size());
+	}
+
+	@Test
+	public void shouldCommitConversionFallbackEvent() throws IOException {
+		final List<RecordedEvent> events = record("org.decimal4j.ConversionFallback",
+				() -> ARITH.fromBigDecimal(new BigDecimal("1.23456789012345678901234")));
+		assertEquals("unexpected event count", 1, events.size());
+		assertEquals("unexpected conversion", "bigDecimalToUnscaled", events.get(0).getString("conversion"));
+		assertEquals("unexpected scale", 2, events.get(0).getInt("scale"));
+	}
+
+	@Test
+	public void shouldCommitSlowPathEvent() throws IOException {
+		final List<RecordedEvent> events = record("org.decimal4j.SlowPath", () -> ARITH.pow(150, 3));
+		assertEquals("unexpected event count", 1, events.size());
+		assertEquals("unexpected operation", "pow", events.get(0).getString("operation"));
+		assertEquals("unexpected scale", 2, events.get(0).getInt("scale"));
+	}
+
+	@Test
+	public void shouldCommitThreadLocalAllocationEvent() throws IOException {
+		final List<RecordedEvent> events = record("org.decimal4j.ThreadLocalAllocation", () -> {
+			ThreadLocals.removeAll();
+			ARITH.toString(12345);
+			ARITH.toString(67890);
+		});
+		assertEquals("unexpected event count", 1, events.size());
+		assertEquals("unexpected type", StringBuilder.class.getName(), events.get(0).getClass("type").getName());
+	}
+
+	@Test
+	public void shouldNotCommitDisabledEvents() throws IOException {
+		final List<RecordedEvent> events = record(null, () -> {
+			try {
+				ARITH.add(Long.MAX_VALUE, 1);
+				fail("expected overflow");
+			} catch (ArithmeticException e) {
+				// expected
+			}
+			ARITH.fromBigDecimal(new BigDecimal("1.23456789012345678901234"));
+			ARITH.pow(150, 3);
+		});
+		assertEquals("unexpected events: " + events, 0, events.size());
+	}
+
+	private static List<RecordedEvent> record(String eventName, Runnable action) throws IOException {
+		final Path file = Files.createTempFile("decimal4j", ".jfr");
+		try (final Recording recording = new Recording()) {
+			if (eventName != null) {
+				recording.enable(eventName);
+			}
+			recording.start();
+			action.run();
+			recording.stop();
+			recording.dump(file);
+			return RecordingFile.readAllEvents(file).stream()//
+					.filter(event -> event.getEventType().getName().startsWith("org.decimal4j."))//
+					.collect(Collectors.toList());
+		} finally {
+			Files.delete(file);
+		}
+	}
+}